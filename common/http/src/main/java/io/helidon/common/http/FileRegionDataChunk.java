@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.http;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of {@link DataChunk} representing a region of a file.
+ * <p>
+ * The file content is not loaded into memory. A transport able to transfer file regions directly
+ * (e.g. using {@code sendfile}) should use {@link #channel()}, {@link #position()} and {@link #count()}
+ * to write the content. Other consumers may still use {@link #data()}, which reads the whole region
+ * into a heap buffer, so this chunk should only be produced when the consumer is known to support it.
+ * <p>
+ * {@link #release() Releasing} this chunk closes the file channel.
+ */
+public final class FileRegionDataChunk implements DataChunk {
+
+    private final FileChannel channel;
+    private final long position;
+    private final long count;
+    private boolean isReleased = false;
+    private ByteBuffer[] data;
+    private CompletableFuture<DataChunk> writeFuture;
+
+    private FileRegionDataChunk(FileChannel channel, long position, long count) {
+        this.channel = Objects.requireNonNull(channel, "channel is null");
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Create a new data chunk for a region of a file.
+     *
+     * @param channel  file channel to read from, closed when this chunk is released
+     * @param position position of the first byte of the region in the file
+     * @param count    number of bytes of the region
+     * @return a new data chunk
+     */
+    public static FileRegionDataChunk create(FileChannel channel, long position, long count) {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("Position and count must not be negative, but are: "
+                                                       + position + ", " + count);
+        }
+        return new FileRegionDataChunk(channel, position, count);
+    }
+
+    /**
+     * File channel of this region.
+     *
+     * @return file channel
+     */
+    public FileChannel channel() {
+        return channel;
+    }
+
+    /**
+     * Position of the first byte of this region in the file.
+     *
+     * @return position in the file
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Number of bytes of this region.
+     *
+     * @return region size
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Reads the whole region into a heap buffer.
+     *
+     * @return a single buffer with the region content
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalStateException if the region is too large to be loaded into memory
+     */
+    @Override
+    public ByteBuffer[] data() {
+        if (data == null) {
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalStateException("File region of " + count + " bytes cannot be loaded into memory");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) count);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read file region", e);
+            }
+            buffer.flip();
+            data = new ByteBuffer[] {buffer};
+        }
+        return data;
+    }
+
+    @Override
+    public int remaining() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isReleased() {
+        return isReleased;
+    }
+
+    @Override
+    public void release() {
+        if (!isReleased) {
+            isReleased = true;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // nothing to do, the content was either written or the write failed already
+            }
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public void writeFuture(CompletableFuture<DataChunk> writeFuture) {
+        this.writeFuture = writeFuture;
+    }
+
+    @Override
+    public Optional<CompletableFuture<DataChunk>> writeFuture() {
+        return Optional.ofNullable(writeFuture);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -196,6 +196,25 @@ public abstract class AbstractStatement<S extends DbStatement<S, R>, R> implemen
         return parameters.indexedParams();
     }
 
+    /**
+     * Discard the parameters configured so far and start a new set of parameters of the same type.
+     * Used by statements executed with more than one set of parameters, such as batch statements.
+     */
+    protected void resetParams() {
+        switch (paramType) {
+        case NAMED:
+            this.parameters = new NamedStatementParameters(clientContext.dbMapperManager());
+            break;
+        case INDEXED:
+            this.parameters = new IndexedStatementParameters(clientContext.dbMapperManager());
+            break;
+        case UNKNOWN:
+        default:
+            // nothing configured yet
+            break;
+        }
+    }
+
     /**
      * Statement name.
      *
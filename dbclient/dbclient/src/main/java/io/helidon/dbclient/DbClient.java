@@ -68,6 +68,7 @@ public interface DbClient {
      * Unwrap database client internals.
      * Only database connection is supported. Any operations based on this connection are <b>blocking</b>.
      * Reactive support must be implemented in user code.
+     * Clients that cache parsed statements also support {@link DbStatementCacheStats}.
      *
      * @param <C> target class to be unwrapped
      * @param cls target class to be unwrapped
@@ -355,6 +355,44 @@ public interface DbExecute {
         return createDmlStatement(statement).params(parameters).execute();
     }
 
+    /*
+     * Batch DML
+     */
+
+    /**
+     * Create a batch data modification statement using a named statement passed as an argument.
+     * The default implementation executes a data modification statement for each set of parameters.
+     *
+     * @param statementName the name of the statement
+     * @param statement the statement text
+     * @return batch data modification statement
+     */
+    default DbStatementBatch createNamedBatch(String statementName, String statement) {
+        return new SequentialStatementBatch(() -> createNamedDmlStatement(statementName, statement));
+    }
+
+    /**
+     * Create a batch data modification statement using a statement defined in the configuration file.
+     * The default implementation executes a data modification statement for each set of parameters.
+     *
+     * @param statementName the name of the configuration node with statement
+     * @return batch data modification statement
+     */
+    default DbStatementBatch createNamedBatch(String statementName) {
+        return new SequentialStatementBatch(() -> createNamedDmlStatement(statementName));
+    }
+
+    /**
+     * Create a batch data modification statement using a statement passed as an argument.
+     * The default implementation executes a data modification statement for each set of parameters.
+     *
+     * @param statement the data modification statement to be executed
+     * @return batch data modification statement
+     */
+    default DbStatementBatch createBatch(String statement) {
+        return new SequentialStatementBatch(() -> createDmlStatement(statement));
+    }
+
     /*
      * Unwrap support
      */
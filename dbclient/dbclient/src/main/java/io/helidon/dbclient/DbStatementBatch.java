@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient;
+
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.reactive.Multi;
+
+/**
+ * Batch DML Database statement.
+ * A batch statement executes the same data modification statement with multiple sets of parameters
+ * in a single round trip to the database and returns the number of modified records.
+ * <p>
+ * Parameters are configured using the {@code params} methods of {@link DbStatement} and added to the batch
+ * using {@link #addBatch()}. Parameters configured but not added to the batch when the statement is executed
+ * are added as the last set of parameters.
+ * <p>
+ * The update counts are reported as provided by the database. A JDBC database reports one count per set of
+ * parameters, MongoDB reports a single count of all the modified documents. A database client without batch
+ * support executes a data modification statement for each set of parameters and reports one count per set.
+ */
+public interface DbStatementBatch extends DbStatement<DbStatementBatch, Multi<Long>> {
+    /**
+     * Add the parameters currently configured on this statement to the batch and clear them,
+     * so the next set of parameters can be configured.
+     *
+     * @return updated db statement
+     */
+    DbStatementBatch addBatch();
+
+    /**
+     * Add a set of indexed parameters to the batch.
+     *
+     * @param parameters ordered parameters
+     * @return updated db statement
+     */
+    default DbStatementBatch addBatch(List<?> parameters) {
+        return params(parameters).addBatch();
+    }
+
+    /**
+     * Add a set of named parameters to the batch.
+     *
+     * @param parameters named parameters
+     * @return updated db statement
+     */
+    default DbStatementBatch addBatch(Map<String, ?> parameters) {
+        return params(parameters).addBatch();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient;
+
+/**
+ * Statistics of a cache of parsed statements kept by a database client.
+ * Available through {@link DbClient#unwrap(Class)} for clients that cache parsed statements.
+ */
+public interface DbStatementCacheStats {
+    /**
+     * Number of statements found in the cache.
+     *
+     * @return number of cache hits
+     */
+    long hits();
+
+    /**
+     * Number of statements that had to be parsed.
+     *
+     * @return number of cache misses
+     */
+    long misses();
+
+    /**
+     * Number of statements evicted from the cache because its capacity was exceeded.
+     *
+     * @return number of evictions
+     */
+    long evictions();
+
+    /**
+     * Number of statements currently cached.
+     *
+     * @return number of cached statements
+     */
+    int size();
+}
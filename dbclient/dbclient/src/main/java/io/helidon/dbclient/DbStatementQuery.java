@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,4 +21,17 @@ import io.helidon.common.reactive.Multi;
  * Database query statement.
  */
 public interface DbStatementQuery extends DbStatement<DbStatementQuery, Multi<DbRow>> {
+    /**
+     * Configure the number of rows fetched from the database in a single round trip when reading the results.
+     * This is a hint to the database driver that overrides the fetch size configured on the client, if any.
+     * The rows are read as requested by the subscriber of the result, so a large result can be processed without
+     * keeping all of it in memory.
+     * The default implementation ignores the hint.
+     *
+     * @param fetchSize number of rows to fetch in a single round trip, {@code 0} to use the default of the driver
+     * @return updated db statement
+     */
+    default DbStatementQuery fetchSize(int fetchSize) {
+        return this;
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.dbclient;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.helidon.common.reactive.Multi;
+
+/**
+ * Batch DML statement for databases without batch support.
+ * Each set of parameters is configured on its own DML statement, the statements are executed one after another
+ * and the number of records modified by each of them is reported.
+ */
+class SequentialStatementBatch implements DbStatementBatch {
+
+    private final List<DbStatementDml> batch = new LinkedList<>();
+    private final Supplier<DbStatementDml> statementFactory;
+    private DbStatementDml current;
+
+    SequentialStatementBatch(Supplier<DbStatementDml> statementFactory) {
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public DbStatementBatch params(List<?> parameters) {
+        current().params(parameters);
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch params(Map<String, ?> parameters) {
+        current().params(parameters);
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch namedParam(Object parameters) {
+        current().namedParam(parameters);
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch indexedParam(Object parameters) {
+        current().indexedParam(parameters);
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch addParam(Object parameter) {
+        current().addParam(parameter);
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch addParam(String name, Object parameter) {
+        current().addParam(name, parameter);
+        return this;
+    }
+
+    @Override
+    public DbStatementBatch addBatch() {
+        batch.add(current());
+        current = null;
+        return this;
+    }
+
+    @Override
+    public Multi<Long> execute() {
+        // parameters configured, but not added to the batch yet
+        if (current != null) {
+            addBatch();
+        }
+        // statements are executed when requested, one at a time
+        return Multi.create(batch)
+                .flatMap(DbStatementDml::execute, 1, false, 1);
+    }
+
+    private DbStatementDml current() {
+        if (current == null) {
+            current = statementFactory.get();
+        }
+        return current;
+    }
+}
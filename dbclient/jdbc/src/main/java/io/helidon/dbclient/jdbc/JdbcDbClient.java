@@ -34,6 +34,8 @@ import io.helidon.dbclient.DbClientException;
 import io.helidon.dbclient.DbClientService;
 import io.helidon.dbclient.DbExecute;
 import io.helidon.dbclient.DbMapperManager;
+import io.helidon.dbclient.DbStatementBatch;
+import io.helidon.dbclient.DbStatementCacheStats;
 import io.helidon.dbclient.DbStatementDml;
 import io.helidon.dbclient.DbStatementGet;
 import io.helidon.dbclient.DbStatementQuery;
@@ -57,6 +59,8 @@ class JdbcDbClient implements DbClient {
     private final DbMapperManager dbMapperManager;
     private final MapperManager mapperManager;
     private final List<DbClientService> clientServices;
+    private final NamedStatementCache statementCache;
+    private final int fetchSize;
 
     JdbcDbClient(JdbcDbClientProviderBuilder builder) {
         this.executorService = builder.executorService();
@@ -65,6 +69,10 @@ class JdbcDbClient implements DbClient {
         this.dbMapperManager = builder.dbMapperManager();
         this.mapperManager = builder.mapperManager();
         this.clientServices = builder.clientServices();
+        this.statementCache = (builder.statementCacheSize() > 0)
+                ? new NamedStatementCache(builder.statementCacheSize())
+                : null;
+        this.fetchSize = builder.fetchSize();
     }
 
     @Override
@@ -77,7 +85,9 @@ class JdbcDbClient implements DbClient {
                 clientServices,
                 connectionPool,
                 dbMapperManager,
-                mapperManager);
+                mapperManager,
+                statementCache,
+                fetchSize);
 
         T result = executor.apply(execute);
 
@@ -167,7 +177,9 @@ class JdbcDbClient implements DbClient {
                                                                         clientServices,
                                                                         connectionPool,
                                                                         dbMapperManager,
-                                                                        mapperManager));
+                                                                        mapperManager,
+                                                                        statementCache,
+                                                                        fetchSize));
 
         Subscribable<U> result;
 
@@ -214,6 +226,8 @@ class JdbcDbClient implements DbClient {
                     CompletableFuture.supplyAsync(
                             connectionPool::connection, executorService))
                     .map(cls::cast);
+        } else if (DbStatementCacheStats.class.equals(cls) && statementCache != null) {
+            return Single.just(cls.cast(statementCache));
         } else {
             throw new UnsupportedOperationException(String.format("Class %s is not supported for unwrap", cls.getName()));
         }
@@ -228,7 +242,9 @@ class JdbcDbClient implements DbClient {
                               List<DbClientService> clientServices,
                               ConnectionPool connectionPool,
                               DbMapperManager dbMapperManager,
-                              MapperManager mapperManager) {
+                              MapperManager mapperManager,
+                              NamedStatementCache statementCache,
+                              int fetchSize) {
             super(statements, JdbcExecuteContext.jdbcBuilder()
                     .statements(statements)
                     .clientServices(clientServices)
@@ -237,6 +253,8 @@ class JdbcDbClient implements DbClient {
                     .dbMapperManager(dbMapperManager)
                     .mapperManager(mapperManager)
                     .executorService(executorService)
+                    .statementCache(statementCache)
+                    .fetchSize(fetchSize)
                     .build());
         }
 
@@ -299,12 +317,15 @@ class JdbcDbClient implements DbClient {
             this.context = context;
         }
 
+        @SuppressWarnings("checkstyle:ParameterNumber")
         private static JdbcExecuteContext createContext(DbStatements statements,
                                                         ExecutorService executorService,
                                                         List<DbClientService> clientServices,
                                                         ConnectionPool connectionPool,
                                                         DbMapperManager dbMapperManager,
-                                                        MapperManager mapperManager) {
+                                                        MapperManager mapperManager,
+                                                        NamedStatementCache statementCache,
+                                                        int fetchSize) {
             CompletionStage<Connection> connection = CompletableFuture.supplyAsync(connectionPool::connection, executorService)
                     .thenApply(conn -> {
                         try {
@@ -323,6 +344,8 @@ class JdbcDbClient implements DbClient {
                     .dbMapperManager(dbMapperManager)
                     .mapperManager(mapperManager)
                     .dbType(connectionPool.dbType())
+                    .statementCache(statementCache)
+                    .fetchSize(fetchSize)
                     .build();
         }
 
@@ -363,6 +386,12 @@ class JdbcDbClient implements DbClient {
                                         DbStatementContext.create(context, DbStatementType.DELETE, statementName, statement));
         }
 
+        @Override
+        public DbStatementBatch createNamedBatch(String statementName, String statement) {
+            return new JdbcStatementBatch(context,
+                                          DbStatementContext.create(context, DbStatementType.DML, statementName, statement));
+        }
+
         JdbcExecuteContext context() {
             return context;
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,6 +39,11 @@ import io.helidon.dbclient.spi.DbMapperProvider;
  * the {@link io.helidon.dbclient.spi.DbClientProviderBuilder} from Helidon DB API.
  */
 public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilder<JdbcDbClientProviderBuilder> {
+    /**
+     * Default number of parsed statements with named parameters kept in the statement cache.
+     */
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 256;
+
     private final DbMapperManager.Builder dbMapperBuilder = DbMapperManager.builder();
 
     private final List<DbClientService> clientServices = new LinkedList<>();
@@ -51,6 +56,8 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
     private DbMapperManager dbMapperManager;
     private Supplier<ExecutorService> executorService;
     private ConnectionPool connectionPool;
+    private int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
+    private int fetchSize;
 
     JdbcDbClientProviderBuilder() {
     }
@@ -98,6 +105,8 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
 
         config.get("statements").as(DbStatements::create).ifPresent(this::statements);
         config.get("executor-service").as(ThreadPoolSupplier::create).ifPresent(this::executorService);
+        config.get("statement-cache-size").asInt().ifPresent(this::statementCacheSize);
+        config.get("fetch-size").asInt().ifPresent(this::fetchSize);
         return this;
     }
 
@@ -124,6 +133,46 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         return this;
     }
 
+    /**
+     * Configure the maximal number of statements with named parameters kept in the statement cache.
+     * Statements with named parameters are converted to JDBC statements when executed, the cache
+     * keeps the result of the conversion.
+     * Use {@code 0} to disable the cache.
+     * Defaults to {@value #DEFAULT_STATEMENT_CACHE_SIZE}.
+     * <p>
+     * Statistics of the cache are available through {@link DbClient#unwrap(Class)}
+     * with {@link io.helidon.dbclient.DbStatementCacheStats}.
+     *
+     * @param statementCacheSize maximal number of cached statements
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder statementCacheSize(int statementCacheSize) {
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Statement cache size must not be negative, but is: " + statementCacheSize);
+        }
+        this.statementCacheSize = statementCacheSize;
+        return this;
+    }
+
+    /**
+     * Configure the number of rows fetched from the database in a single round trip when reading results of queries.
+     * The value is passed to the JDBC driver as a hint using {@link java.sql.Statement#setFetchSize(int)}, and can be
+     * overridden for each query using {@link io.helidon.dbclient.DbStatementQuery#fetchSize(int)}.
+     * Drivers that read the whole result set into memory by default (such as PostgreSQL or MySQL) only stream
+     * the rows when a fetch size is configured; some of them also require a transaction to do so.
+     * Use {@code 0} to use the default of the driver, which is also the default value.
+     *
+     * @param fetchSize number of rows to fetch in a single round trip
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative, but is: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     @Override
     public JdbcDbClientProviderBuilder url(String url) {
         this.url = url;
@@ -225,4 +274,12 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         return connectionPool;
     }
 
+    int statementCacheSize() {
+        return statementCacheSize;
+    }
+
+    int fetchSize() {
+        return fetchSize;
+    }
+
 }
@@ -16,6 +16,7 @@
 package io.helidon.dbclient.jdbc;
 
 import java.sql.Connection;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,12 +33,16 @@ final class JdbcExecuteContext extends DbClientContext {
     private final ExecutorService executorService;
     private final String dbType;
     private final CompletionStage<Connection> connection;
+    private final NamedStatementCache statementCache;
+    private final int fetchSize;
 
     private JdbcExecuteContext(Builder builder) {
         super(builder);
         this.executorService = builder.executorService;
         this.dbType = builder.dbType;
         this.connection = builder.connection;
+        this.statementCache = builder.statementCache;
+        this.fetchSize = builder.fetchSize;
     }
 
     /**
@@ -60,6 +65,14 @@ final class JdbcExecuteContext extends DbClientContext {
         return connection;
     }
 
+    Optional<NamedStatementCache> statementCache() {
+        return Optional.ofNullable(statementCache);
+    }
+
+    int fetchSize() {
+        return fetchSize;
+    }
+
     void addFuture(CompletableFuture<Long> queryFuture) {
         this.futures.add(queryFuture);
     }
@@ -79,6 +92,8 @@ final class JdbcExecuteContext extends DbClientContext {
         private ExecutorService executorService;
         private String dbType;
         private CompletionStage<Connection> connection;
+        private NamedStatementCache statementCache;
+        private int fetchSize;
 
         @Override
         public JdbcExecuteContext build() {
@@ -99,5 +114,15 @@ final class JdbcExecuteContext extends DbClientContext {
             this.connection = connection;
             return this;
         }
+
+        Builder statementCache(NamedStatementCache statementCache) {
+            this.statementCache = statementCache;
+            return this;
+        }
+
+        Builder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
     }
 }
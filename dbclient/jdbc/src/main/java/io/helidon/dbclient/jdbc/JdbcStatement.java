@@ -110,24 +110,9 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
 
         PreparedStatement preparedStatement = null;
         try {
-            // Parameters names must be replaced with ? and names occurence order must be stored.
-            Parser parser = new Parser(statement);
-            String jdbcStatement = parser.convert();
-            LOGGER.finest(() -> String.format("Converted statement: %s", jdbcStatement));
-            preparedStatement = connection.prepareStatement(jdbcStatement);
-            List<String> namesOrder = parser.namesOrder();
-            // Set parameters into prepared statement
-            int i = 1;
-            for (String name : namesOrder) {
-                if (parameters.containsKey(name)) {
-                    Object value = parameters.get(name);
-                    LOGGER.finest(String.format("Mapped parameter %d: %s -> %s", i, name, value));
-                    preparedStatement.setObject(i, value);
-                    i++;
-                } else {
-                    throw new DbClientException(namedStatementErrorMessage(namesOrder, parameters));
-                }
-            }
+            NamedStatementCache.NamedStatement namedStatement = namedStatement(statement);
+            preparedStatement = connection.prepareStatement(namedStatement.jdbcStatement());
+            setNamedParameters(preparedStatement, namedStatement.namesOrder(), parameters);
             return preparedStatement;
         } catch (SQLException e) {
             closePreparedStatement(preparedStatement);
@@ -143,13 +128,7 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         PreparedStatement preparedStatement = null;
         try {
             preparedStatement = connection.prepareStatement(statement);
-            int i = 1; // JDBC set position parameter starts from 1.
-            for (Object value : parameters) {
-                LOGGER.finest(String.format("Indexed parameter %d: %s", i, value));
-                preparedStatement.setObject(i, value);
-                // increase value for next iteration
-                i++;
-            }
+            setIndexedParameters(preparedStatement, parameters);
             return preparedStatement;
         } catch (SQLException e) {
             closePreparedStatement(preparedStatement);
@@ -157,7 +136,48 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         }
     }
 
-    private void closePreparedStatement(final PreparedStatement preparedStatement) {
+    /**
+     * Convert a statement with named parameters to JDBC statement.
+     * Parameters names must be replaced with ? and names occurrence order must be stored.
+     *
+     * @param statement statement with named parameters
+     * @return converted statement
+     */
+    NamedStatementCache.NamedStatement namedStatement(String statement) {
+        NamedStatementCache.NamedStatement namedStatement = executeContext.statementCache()
+                .map(cache -> cache.get(statement))
+                .orElseGet(() -> NamedStatementCache.NamedStatement.parse(statement));
+        LOGGER.finest(() -> String.format("Converted statement: %s", namedStatement.jdbcStatement()));
+        return namedStatement;
+    }
+
+    static void setNamedParameters(PreparedStatement preparedStatement,
+                                   List<String> namesOrder,
+                                   Map<String, Object> parameters) throws SQLException {
+        int i = 1;
+        for (String name : namesOrder) {
+            if (parameters.containsKey(name)) {
+                Object value = parameters.get(name);
+                LOGGER.finest(String.format("Mapped parameter %d: %s -> %s", i, name, value));
+                preparedStatement.setObject(i, value);
+                i++;
+            } else {
+                throw new DbClientException(namedStatementErrorMessage(namesOrder, parameters));
+            }
+        }
+    }
+
+    static void setIndexedParameters(PreparedStatement preparedStatement, List<Object> parameters) throws SQLException {
+        int i = 1; // JDBC set position parameter starts from 1.
+        for (Object value : parameters) {
+            LOGGER.finest(String.format("Indexed parameter %d: %s", i, value));
+            preparedStatement.setObject(i, value);
+            // increase value for next iteration
+            i++;
+        }
+    }
+
+    static void closePreparedStatement(final PreparedStatement preparedStatement) {
         if (preparedStatement != null) {
             try {
                 preparedStatement.close();
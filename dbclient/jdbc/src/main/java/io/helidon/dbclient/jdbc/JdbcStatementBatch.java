@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClientException;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbStatementBatch;
+import io.helidon.dbclient.common.DbStatementContext;
+import io.helidon.dbclient.common.ParamType;
+
+/**
+ * Batch DML statement for JDBC.
+ * All the sets of parameters are added to a single {@link PreparedStatement} and executed
+ * using {@link PreparedStatement#executeLargeBatch()}.
+ */
+class JdbcStatementBatch extends JdbcStatement<DbStatementBatch, Multi<Long>> implements DbStatementBatch {
+
+    private final List<Map<String, Object>> namedBatch = new LinkedList<>();
+    private final List<List<Object>> indexedBatch = new LinkedList<>();
+
+    JdbcStatementBatch(JdbcExecuteContext executeContext,
+                       DbStatementContext statementContext) {
+        super(executeContext, statementContext);
+    }
+
+    @Override
+    public DbStatementBatch addBatch() {
+        switch (paramType()) {
+        case NAMED:
+            namedBatch.add(new HashMap<>(namedParams()));
+            break;
+        case INDEXED:
+            indexedBatch.add(new ArrayList<>(indexedParams()));
+            break;
+        case UNKNOWN:
+        default:
+            // statement without parameters
+            indexedBatch.add(List.of());
+            break;
+        }
+        resetParams();
+        return this;
+    }
+
+    @Override
+    public Multi<Long> execute() {
+        // parameters configured, but not added to the batch yet
+        if ((paramType() == ParamType.NAMED && !namedParams().isEmpty())
+                || (paramType() == ParamType.INDEXED && !indexedParams().isEmpty())) {
+            addBatch();
+        }
+        return super.execute();
+    }
+
+    @Override
+    protected Multi<Long> doExecute(Single<DbClientServiceContext> dbContextFuture,
+                                    CompletableFuture<Void> statementFuture,
+                                    CompletableFuture<Long> queryFuture) {
+
+        executeContext().addFuture(queryFuture);
+
+        // query and statement future must always complete either OK, or exceptionally
+        dbContextFuture.exceptionally(throwable -> {
+            statementFuture.completeExceptionally(throwable);
+            queryFuture.completeExceptionally(throwable);
+            return null;
+        });
+
+        return dbContextFuture
+                .flatMapSingle(dbContext -> Single.create(connection())
+                        .flatMapSingle(connection -> doExecute(dbContext, connection, statementFuture, queryFuture)))
+                .flatMapIterable(counts -> () -> LongStream.of(counts).iterator());
+    }
+
+    private Single<long[]> doExecute(DbClientServiceContext dbContext,
+                                     Connection connection,
+                                     CompletableFuture<Void> statementFuture,
+                                     CompletableFuture<Long> queryFuture) {
+
+        CompletableFuture<long[]> countsFuture = new CompletableFuture<>();
+        executorService().submit(() -> callStatement(dbContext, connection, statementFuture, queryFuture, countsFuture));
+        return Single.create(countsFuture);
+    }
+
+    private void callStatement(DbClientServiceContext dbContext,
+                               Connection connection,
+                               CompletableFuture<Void> statementFuture,
+                               CompletableFuture<Long> queryFuture,
+                               CompletableFuture<long[]> countsFuture) {
+        try {
+            long[] counts = executeBatch(dbContext, connection);
+            statementFuture.complete(null);
+            queryFuture.complete(LongStream.of(counts).sum());
+            countsFuture.complete(counts);
+        } catch (Exception e) {
+            statementFuture.completeExceptionally(e);
+            queryFuture.completeExceptionally(e);
+            countsFuture.completeExceptionally(e);
+        }
+    }
+
+    private long[] executeBatch(DbClientServiceContext dbContext, Connection connection) {
+        if (namedBatch.isEmpty() && indexedBatch.isEmpty()) {
+            return new long[0];
+        }
+        String statement = dbContext.statement();
+        PreparedStatement preparedStatement = null;
+        try {
+            if (namedBatch.isEmpty()) {
+                preparedStatement = connection.prepareStatement(statement);
+                for (List<Object> parameters : indexedBatch) {
+                    setIndexedParameters(preparedStatement, parameters);
+                    preparedStatement.addBatch();
+                }
+            } else {
+                NamedStatementCache.NamedStatement namedStatement = namedStatement(statement);
+                preparedStatement = connection.prepareStatement(namedStatement.jdbcStatement());
+                for (Map<String, Object> parameters : namedBatch) {
+                    setNamedParameters(preparedStatement, namedStatement.namesOrder(), parameters);
+                    preparedStatement.addBatch();
+                }
+            }
+            return preparedStatement.executeLargeBatch();
+        } catch (SQLException e) {
+            throw new DbClientException("Failed to execute batch statement: " + dbContext.statementName(), e);
+        } finally {
+            closePreparedStatement(preparedStatement);
+        }
+    }
+}
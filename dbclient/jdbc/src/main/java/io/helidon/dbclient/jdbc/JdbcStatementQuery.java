@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
@@ -56,11 +57,22 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
     /** Local logger instance. */
     private static final Logger LOGGER = Logger.getLogger(JdbcStatementQuery.class.getName());
 
+    private Integer fetchSize;
+
     JdbcStatementQuery(JdbcExecuteContext executeContext,
                        DbStatementContext statementContext) {
         super(executeContext, statementContext);
     }
 
+    @Override
+    public DbStatementQuery fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative, but is: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     @Override
     protected Multi<DbRow> doExecute(Single<DbClientServiceContext> dbContextFuture,
                                      CompletableFuture<Void> statementFuture,
@@ -93,6 +105,10 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
             try {
                 // first try block is to create a statement
                 statement = super.build(connection, dbContext);
+                int fetchSize = (this.fetchSize == null) ? executeContext().fetchSize() : this.fetchSize;
+                if (fetchSize > 0) {
+                    statement.setFetchSize(fetchSize);
+                }
             } catch (Exception e) {
                 result.completeExceptionally(e);
                 statementFuture.completeExceptionally(e);
@@ -269,18 +285,16 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
                 public void cancel() {
                     cancelled.set(true);
                     requestQueue.clear();
+                    // wake up the reader waiting for requests
+                    requestQueue.add(0L);
                 }
             });
 
-            // TODO
-            // we should only use a thread to read data that was actually requested
-            // I would prefer to use the same thread to process a single query (to make sure we honor thread locals
-            // that may be used by the database)
-
-            // and now we can process the data from the database
+            // the result set is read by a single thread, and only the rows that were actually requested are read,
+            // so the number of rows kept in memory is bounded by the demand of the subscriber (and the fetch size)
             executorService.submit(() -> {
                 //now we have a subscriber, we can handle the processing of result set
-                try (ResultSet rs = this.rs) {
+                try (ResultSet rs = this.rs; Statement statement = rs.getStatement()) {
                     Map<Long, DbColumn> metadata = createMetadata(rs);
                     long count = 0;
 
@@ -299,7 +313,17 @@ class JdbcStatementQuery extends JdbcStatement<DbStatementQuery, Multi<DbRow>> i
                             subscriber.onError(new TimeoutException("No data requested in 10 minutes"));
                             break;
                         }
-                        for (long i = 0; i < nextElement; i++) {
+                        if (cancelled.get()) {
+                            break;
+                        }
+                        if (nextElement <= 0) {
+                            IllegalArgumentException e = new IllegalArgumentException(
+                                    "Rule §3.9 violated: non-positive requests are forbidden");
+                            queryFuture.completeExceptionally(e);
+                            subscriber.onError(e);
+                            return;
+                        }
+                        for (long i = 0; i < nextElement && !cancelled.get(); i++) {
                             if (rs.next()) {
                                 DbRow dbRow = createDbRow(rs, metadata, dbMapperManager, mapperManager);
                                 subscriber.onNext(dbRow);
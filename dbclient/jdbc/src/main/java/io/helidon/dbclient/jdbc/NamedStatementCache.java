@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.dbclient.DbStatementCacheStats;
+
+/**
+ * Bounded cache of statements with named parameters converted to JDBC statements,
+ * evicting the least recently used statements once its capacity is exceeded.
+ */
+final class NamedStatementCache implements DbStatementCacheStats {
+
+    private final int capacity;
+    // access ordered, guarded by this
+    private final LinkedHashMap<String, NamedStatement> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    NamedStatementCache(int capacity) {
+        this.capacity = capacity;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NamedStatement> eldest) {
+                if (size() > NamedStatementCache.this.capacity) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the converted statement, parsing it if not cached.
+     *
+     * @param statement statement with named parameters
+     * @return converted statement
+     */
+    NamedStatement get(String statement) {
+        NamedStatement result;
+        synchronized (this) {
+            result = cache.get(statement);
+        }
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        // parse outside of the lock, concurrent parsing of the same statement is harmless
+        result = NamedStatement.parse(statement);
+        synchronized (this) {
+            cache.put(statement, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Statement with named parameters replaced by {@code ?} and the order of the parameter names.
+     */
+    static final class NamedStatement {
+        private final String jdbcStatement;
+        private final List<String> namesOrder;
+
+        private NamedStatement(String jdbcStatement, List<String> namesOrder) {
+            this.jdbcStatement = jdbcStatement;
+            this.namesOrder = namesOrder;
+        }
+
+        static NamedStatement parse(String statement) {
+            JdbcStatement.Parser parser = new JdbcStatement.Parser(statement);
+            String jdbcStatement = parser.convert();
+            return new NamedStatement(jdbcStatement, List.copyOf(parser.namesOrder()));
+        }
+
+        String jdbcStatement() {
+            return jdbcStatement;
+        }
+
+        List<String> namesOrder() {
+            return namesOrder;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.dbclient.DbClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+/**
+ * Tests {@link JdbcStatementBatch}.
+ */
+class JdbcStatementBatchTest {
+
+    private final ConnectionPool pool = Mockito.mock(ConnectionPool.class);
+    private final Connection conn = Mockito.mock(Connection.class);
+    private final PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+    private DbClient dbClient;
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        Mockito.when(pool.connection()).thenReturn(conn);
+        Mockito.when(conn.prepareStatement("INSERT INTO pokemon VALUES(?, ?)")).thenReturn(statement);
+        Mockito.when(statement.executeLargeBatch()).thenReturn(new long[] {1L, 1L, 1L});
+        dbClient = JdbcDbClientProviderBuilder.create()
+                .connectionPool(pool)
+                .build();
+    }
+
+    @Test
+    void testIndexedBatch() throws SQLException {
+        List<Long> counts = dbClient.execute(exec -> exec.createBatch("INSERT INTO pokemon VALUES(?, ?)")
+                .addBatch(List.of(1, "Pikachu"))
+                .addBatch(List.of(2, "Raichu"))
+                .addParam(3)
+                .addParam("Meowth")
+                .execute())
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(counts, contains(1L, 1L, 1L));
+        Mockito.verify(conn, Mockito.times(1)).prepareStatement("INSERT INTO pokemon VALUES(?, ?)");
+        Mockito.verify(statement, Mockito.times(3)).addBatch();
+        Mockito.verify(statement).setObject(1, 3);
+        Mockito.verify(statement).setObject(2, "Meowth");
+        Mockito.verify(statement).close();
+    }
+
+    @Test
+    void testNamedBatch() throws SQLException {
+        List<Long> counts = dbClient.execute(exec -> exec.createBatch("INSERT INTO pokemon VALUES(:id, :name)")
+                .addBatch(Map.of("id", 1, "name", "Pikachu"))
+                .addBatch(Map.of("name", "Raichu", "id", 2))
+                .addParam("id", 3)
+                .addParam("name", "Meowth")
+                .addBatch()
+                .execute())
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(counts, contains(1L, 1L, 1L));
+        Mockito.verify(statement, Mockito.times(3)).addBatch();
+        Mockito.verify(statement).setObject(1, 2);
+        Mockito.verify(statement).setObject(2, "Raichu");
+    }
+
+    @Test
+    void testEmptyBatch() throws SQLException {
+        List<Long> counts = dbClient.execute(exec -> exec.createBatch("INSERT INTO pokemon VALUES(?, ?)")
+                .execute())
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(counts, empty());
+        Mockito.verify(statement, Mockito.never()).executeLargeBatch();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbRow;
+import io.helidon.dbclient.DbStatementBatch;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Tests fetch size and streaming of results of {@link JdbcStatementQuery}.
+ */
+class JdbcStatementQueryTest {
+
+    private static final int ROWS = 10_000;
+
+    private static DbClient dbClient;
+
+    @BeforeAll
+    static void createDatabase() {
+        dbClient = JdbcDbClientProviderBuilder.create()
+                .url("jdbc:h2:mem:query_test;DB_CLOSE_DELAY=-1")
+                .username("sa")
+                .password("")
+                .fetchSize(100)
+                .build();
+        dbClient.execute(exec -> exec.dml("CREATE TABLE numbers (id INT PRIMARY KEY, name VARCHAR(64))"))
+                .await(10, TimeUnit.SECONDS);
+        dbClient.execute(exec -> {
+            DbStatementBatch batch = exec.createBatch("INSERT INTO numbers VALUES(?, ?)");
+            IntStream.range(0, ROWS).forEach(i -> batch.addBatch(List.of(i, "number " + i)));
+            return batch.execute();
+        }).collectList().await(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testStreaming() throws Exception {
+        DemandSubscriber subscriber = new DemandSubscriber(1);
+        dbClient.execute(exec -> exec.query("SELECT id, name FROM numbers ORDER BY id"))
+                .subscribe(subscriber);
+
+        assertThat(subscriber.completed.get(10, TimeUnit.SECONDS), is((long) ROWS));
+        assertThat(subscriber.maxOutstanding.get(), is(1L));
+    }
+
+    @Test
+    void testRowsReadOnDemand() throws Exception {
+        DemandSubscriber subscriber = new DemandSubscriber(0);
+        dbClient.execute(exec -> exec.createQuery("SELECT id, name FROM numbers ORDER BY id")
+                .fetchSize(10)
+                .execute())
+                .subscribe(subscriber);
+
+        subscriber.request(25);
+        subscriber.received.await(10, TimeUnit.SECONDS);
+        // give the reader a chance to read more rows than requested
+        Thread.sleep(100);
+        assertThat(subscriber.count.get(), is(25L));
+        assertThat(subscriber.maxOutstanding.get(), lessThanOrEqualTo(25L));
+
+        subscriber.subscription.cancel();
+    }
+
+    @Test
+    void testFetchSize() throws SQLException {
+        ConnectionPool pool = Mockito.mock(ConnectionPool.class);
+        Connection conn = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(pool.connection()).thenReturn(conn);
+        Mockito.when(conn.prepareStatement("SELECT 1")).thenReturn(statement);
+        Mockito.when(statement.executeQuery()).thenReturn(resultSet);
+        Mockito.when(resultSet.getMetaData()).thenReturn(metaData);
+
+        DbClient client = JdbcDbClientProviderBuilder.create()
+                .connectionPool(pool)
+                .fetchSize(20)
+                .build();
+
+        client.execute(exec -> exec.query("SELECT 1")).collectList().await(10, TimeUnit.SECONDS);
+        Mockito.verify(statement).setFetchSize(20);
+
+        client.execute(exec -> exec.createQuery("SELECT 1").fetchSize(50).execute())
+                .collectList()
+                .await(10, TimeUnit.SECONDS);
+        Mockito.verify(statement).setFetchSize(50);
+    }
+
+    /**
+     * Subscriber that records the maximal number of rows requested, but not yet received.
+     */
+    private static final class DemandSubscriber implements Flow.Subscriber<DbRow> {
+        private final CompletableFuture<Long> completed = new CompletableFuture<>();
+        private final CountDownLatch received = new CountDownLatch(25);
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong maxOutstanding = new AtomicLong();
+        private final long batch;
+        private volatile Flow.Subscription subscription;
+
+        private DemandSubscriber(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(DbRow item) {
+            long received = count.incrementAndGet();
+            if (received > requested.get()) {
+                completed.completeExceptionally(new IllegalStateException("Received more rows than requested"));
+            }
+            assertThat(item.column("ID").as(Integer.class), is((int) received - 1));
+            this.received.countDown();
+            if (batch > 0) {
+                request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.complete(count.get());
+        }
+
+        private void request(long n) {
+            long outstanding = requested.addAndGet(n) - count.get();
+            maxOutstanding.accumulateAndGet(outstanding, Math::max);
+            subscription.request(n);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.dbclient.DbStatementCacheStats;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link NamedStatementCache}.
+ */
+class NamedStatementCacheTest {
+
+    private static final String STATEMENT = "SELECT * FROM pokemons WHERE name = :name AND type = :type";
+
+    @Test
+    void testHitAndMiss() {
+        NamedStatementCache cache = new NamedStatementCache(10);
+
+        NamedStatementCache.NamedStatement first = cache.get(STATEMENT);
+        assertThat(first.jdbcStatement(), is("SELECT * FROM pokemons WHERE name = ? AND type = ?"));
+        assertThat(first.namesOrder(), is(List.of("name", "type")));
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.hits(), is(0L));
+
+        NamedStatementCache.NamedStatement second = cache.get(STATEMENT);
+        assertThat(second, is(sameInstance(first)));
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    void testEviction() {
+        NamedStatementCache cache = new NamedStatementCache(2);
+
+        cache.get("SELECT :a");
+        cache.get("SELECT :b");
+        cache.get("SELECT :a");
+        cache.get("SELECT :c");
+        assertThat(cache.size(), is(2));
+        assertThat(cache.evictions(), is(1L));
+
+        // least recently used statement was evicted
+        cache.get("SELECT :a");
+        assertThat(cache.hits(), is(2L));
+        cache.get("SELECT :b");
+        assertThat(cache.misses(), is(4L));
+    }
+
+    @Test
+    void testUnwrapStats() {
+        JdbcDbClient dbClient = (JdbcDbClient) JdbcDbClientProviderBuilder.create()
+                .connectionPool(Mockito.mock(ConnectionPool.class))
+                .build();
+        DbStatementCacheStats stats = dbClient.unwrap(DbStatementCacheStats.class).await(1, TimeUnit.SECONDS);
+        assertThat(stats.size(), is(0));
+    }
+
+    @Test
+    void testDisabled() {
+        JdbcDbClient dbClient = (JdbcDbClient) JdbcDbClientProviderBuilder.create()
+                .connectionPool(Mockito.mock(ConnectionPool.class))
+                .statementCacheSize(0)
+                .build();
+        assertThrows(UnsupportedOperationException.class, () -> dbClient.unwrap(DbStatementCacheStats.class));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,16 @@
 
 package io.helidon.dbclient.metrics;
 
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbStatementCacheStats;
+import io.helidon.metrics.RegistryFactory;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+
 /**
  * Utility class to obtain various types of metrics to register
  * with {@link io.helidon.dbclient.DbClient.Builder#addService(io.helidon.dbclient.DbClientService)}.
@@ -29,6 +39,8 @@ package io.helidon.dbclient.metrics;
  * @see io.helidon.dbclient.metrics.DbClientMetricBuilder#errors(boolean)
  */
 public class DbClientMetrics {
+    private static final String STATEMENT_CACHE_PREFIX = "db.statement-cache.";
+
     private DbClientMetrics() {
     }
 
@@ -64,4 +76,52 @@ public class DbClientMetrics {
     public static DbClientMetricBuilder timer() {
         return DbClientTimer.builder();
     }
+
+    /**
+     * Register gauges with statistics of the statement cache of a DB client, if the client caches statements.
+     * The gauges are named {@code db.statement-cache.hits}, {@code db.statement-cache.misses},
+     * {@code db.statement-cache.evictions} and {@code db.statement-cache.size}.
+     *
+     * @param dbClient DB client to register the statement cache gauges for
+     * @see io.helidon.dbclient.DbStatementCacheStats
+     */
+    public static void statementCache(DbClient dbClient) {
+        statementCache(dbClient, STATEMENT_CACHE_PREFIX);
+    }
+
+    /**
+     * Register gauges with statistics of the statement cache of a DB client, if the client caches statements.
+     * The gauges are named {@code hits}, {@code misses}, {@code evictions} and {@code size}, prefixed
+     * with the provided prefix. Use a different prefix for each DB client.
+     *
+     * @param dbClient DB client to register the statement cache gauges for
+     * @param namePrefix prefix of the gauge names, such as {@code db.statement-cache.}
+     * @see io.helidon.dbclient.DbStatementCacheStats
+     */
+    public static void statementCache(DbClient dbClient, String namePrefix) {
+        Single<DbStatementCacheStats> stats;
+        try {
+            stats = dbClient.unwrap(DbStatementCacheStats.class);
+        } catch (UnsupportedOperationException e) {
+            // this client does not cache statements
+            return;
+        }
+        MetricRegistry registry = RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.APPLICATION);
+        stats.forSingle(it -> {
+            gauge(registry, namePrefix + "hits", "Number of statements found in the statement cache", it::hits);
+            gauge(registry, namePrefix + "misses", "Number of statements parsed", it::misses);
+            gauge(registry, namePrefix + "evictions", "Number of statements evicted from the statement cache",
+                  it::evictions);
+            gauge(registry, namePrefix + "size", "Number of statements in the statement cache", it::size);
+        });
+    }
+
+    private static <T extends Number> void gauge(MetricRegistry registry, String name, String description, Gauge<T> gauge) {
+        registry.register(Metadata.builder()
+                                  .withName(name)
+                                  .withDescription(description)
+                                  .withType(MetricType.GAUGE)
+                                  .build(),
+                          gauge);
+    }
 }
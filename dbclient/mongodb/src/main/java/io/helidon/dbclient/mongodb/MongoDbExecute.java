@@ -19,6 +19,7 @@ import java.util.concurrent.CompletableFuture;
 
 import io.helidon.common.reactive.Single;
 import io.helidon.dbclient.DbExecute;
+import io.helidon.dbclient.DbStatementBatch;
 import io.helidon.dbclient.DbStatementDml;
 import io.helidon.dbclient.DbStatementGet;
 import io.helidon.dbclient.DbStatementQuery;
@@ -98,6 +99,15 @@ public class MongoDbExecute extends AbstractDbExecute implements DbExecute {
                                                                  statement));
     }
 
+    @Override
+    public DbStatementBatch createNamedBatch(String statementName, String statement) {
+        return new MongoDbStatementBatch(db,
+                                         DbStatementContext.create(clientContext,
+                                                                   DbStatementType.DML,
+                                                                   statementName,
+                                                                   statement));
+    }
+
     // MongoDB internals are not blocking. Single instance is returned as already completed.
     @Override
     public <C> Single<C> unwrap(Class<C> cls) {
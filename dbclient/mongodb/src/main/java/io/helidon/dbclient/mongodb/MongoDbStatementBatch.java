@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.mongodb;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbStatementBatch;
+import io.helidon.dbclient.DbStatementType;
+import io.helidon.dbclient.common.DbStatementContext;
+import io.helidon.dbclient.common.ParamType;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+/**
+ * Batch DML statement for MongoDB.
+ * All the sets of parameters are executed using a single {@code bulkWrite} operation, so all of them
+ * must target the same collection. The total number of modified documents is returned as a single count.
+ */
+public class MongoDbStatementBatch extends MongoDbStatement<DbStatementBatch, Multi<Long>> implements DbStatementBatch {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(MongoDbStatementBatch.class.getName());
+
+    private final List<MongoStatement> batch = new LinkedList<>();
+
+    MongoDbStatementBatch(MongoDatabase db, DbStatementContext statementContext) {
+        super(db, statementContext);
+    }
+
+    @Override
+    public DbStatementBatch addBatch() {
+        batch.add(new MongoStatement(DbStatementType.DML, READER_FACTORY, build()));
+        resetParams();
+        return this;
+    }
+
+    @Override
+    public Multi<Long> execute() {
+        // parameters configured, but not added to the batch yet
+        if ((paramType() == ParamType.NAMED && !namedParams().isEmpty())
+                || (paramType() == ParamType.INDEXED && !indexedParams().isEmpty())) {
+            addBatch();
+        }
+        return super.execute();
+    }
+
+    @Override
+    protected Multi<Long> doExecute(Single<DbClientServiceContext> dbContextFuture,
+                                    CompletableFuture<Void> statementFuture,
+                                    CompletableFuture<Long> queryFuture) {
+
+        // if the interceptors fail with exception, we must fail as well
+        dbContextFuture.exceptionally(throwable -> {
+            statementFuture.completeExceptionally(throwable);
+            queryFuture.completeExceptionally(throwable);
+            return null;
+        });
+
+        return dbContextFuture
+                .flatMap(dbContext -> executeBatch(statementFuture, queryFuture));
+    }
+
+    private Single<Long> executeBatch(CompletableFuture<Void> statementFuture, CompletableFuture<Long> queryFuture) {
+        if (batch.isEmpty()) {
+            statementFuture.complete(null);
+            queryFuture.complete(0L);
+            if (txManager() != null) {
+                txManager().stmtFinished(this);
+            }
+            return Single.empty();
+        }
+        try {
+            String collection = batch.get(0).getCollection();
+            List<WriteModel<Document>> models = new ArrayList<>(batch.size());
+            for (MongoStatement statement : batch) {
+                if (!collection.equals(statement.getCollection())) {
+                    throw new IllegalStateException("All statements of a batch must use the same collection, "
+                                                            + "expected: " + collection
+                                                            + ", but got: " + statement.getCollection());
+                }
+                models.add(writeModel(statement));
+            }
+            MongoCollection<Document> mc = db().getCollection(collection);
+            Publisher<BulkWriteResult> publisher = noTx()
+                    ? mc.bulkWrite(models)
+                    : mc.bulkWrite(txManager().tx(), models);
+            publisher.subscribe(new BatchResultSubscriber(this, statementFuture, queryFuture));
+        } catch (RuntimeException e) {
+            failed(this, e, statementFuture, queryFuture);
+        }
+        // the query future is reused, as it completes with the number of modified documents
+        return Single.create(queryFuture);
+    }
+
+    private static void failed(MongoDbStatementBatch dbStatement,
+                               Throwable throwable,
+                               CompletableFuture<Void> statementFuture,
+                               CompletableFuture<Long> queryFuture) {
+        statementFuture.completeExceptionally(throwable);
+        queryFuture.completeExceptionally(throwable);
+        if (dbStatement.txManager() != null) {
+            dbStatement.txManager().stmtFailed(dbStatement);
+        }
+        LOGGER.fine(() -> String.format("Batch DML %s execution failed", dbStatement.statementName()));
+    }
+
+    private static WriteModel<Document> writeModel(MongoStatement statement) {
+        switch (statement.getOperation()) {
+        case INSERT:
+            return new InsertOneModel<>(statement.getValue());
+        case UPDATE:
+            return new UpdateManyModel<>(statement.getQuery(), statement.getValue());
+        case DELETE:
+            return new DeleteManyModel<>(statement.getQuery());
+        default:
+            throw new IllegalStateException(
+                    String.format("Unexpected value for DML statement: %s", statement.getOperation()));
+        }
+    }
+
+    private static final class BatchResultSubscriber implements org.reactivestreams.Subscriber<BulkWriteResult> {
+
+        private final MongoDbStatementBatch dbStatement;
+        private final CompletableFuture<Void> statementFuture;
+        private final CompletableFuture<Long> queryFuture;
+        private final LongAdder count = new LongAdder();
+
+        private BatchResultSubscriber(MongoDbStatementBatch dbStatement,
+                                      CompletableFuture<Void> statementFuture,
+                                      CompletableFuture<Long> queryFuture) {
+            this.dbStatement = dbStatement;
+            this.statementFuture = statementFuture;
+            this.queryFuture = queryFuture;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            // no need for flow control, we only add the result
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(BulkWriteResult result) {
+            count.add(result.getInsertedCount() + result.getModifiedCount() + result.getDeletedCount());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            failed(dbStatement, t, statementFuture, queryFuture);
+        }
+
+        @Override
+        public void onComplete() {
+            statementFuture.complete(null);
+            queryFuture.complete(count.sum());
+            if (dbStatement.txManager() != null) {
+                dbStatement.txManager().stmtFinished(dbStatement);
+            }
+            LOGGER.fine(() -> String.format("Batch DML %s execution succeeded", dbStatement.statementName()));
+        }
+    }
+}
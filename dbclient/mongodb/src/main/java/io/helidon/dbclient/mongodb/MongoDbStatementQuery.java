@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,10 +37,21 @@ import org.bson.Document;
 class MongoDbStatementQuery extends MongoDbStatement<DbStatementQuery, Multi<DbRow>> implements DbStatementQuery {
     private static final Logger LOGGER = Logger.getLogger(MongoDbStatementQuery.class.getName());
 
+    private int batchSize;
+
     MongoDbStatementQuery(MongoDatabase db, DbStatementContext statementContext) {
         super(db, statementContext);
     }
 
+    @Override
+    public DbStatementQuery fetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative, but is: " + fetchSize);
+        }
+        this.batchSize = fetchSize;
+        return this;
+    }
+
     @Override
     protected Multi<DbRow> doExecute(Single<DbClientServiceContext> dbContextFuture,
                                      CompletableFuture<Void> statementFuture,
@@ -110,6 +121,9 @@ class MongoDbStatementQuery extends MongoDbStatement<DbStatementQuery, Multi<DbR
         if (projection != null) {
             publisher = publisher.projection(projection);
         }
+        if (batchSize > 0) {
+            publisher = publisher.batchSize(batchSize);
+        }
 
         return Multi.create(new MongoDbRows<>(clientContext(),
                                             publisher,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
+import io.helidon.dbclient.DbStatementBatch;
 import io.helidon.dbclient.DbStatementDml;
 import io.helidon.dbclient.DbStatementGet;
 import io.helidon.dbclient.DbStatementQuery;
@@ -220,6 +221,11 @@ public class MongoDbTransaction extends MongoDbExecute implements DbTransaction
         return ((MongoDbStatementDml) super.createNamedDelete(statementName, statement)).inTransaction(txManager);
     }
 
+    @Override
+    public DbStatementBatch createNamedBatch(String statementName, String statement) {
+        return ((MongoDbStatementBatch) super.createNamedBatch(statementName, statement)).inTransaction(txManager);
+    }
+
     @Override
     public void rollback() {
         this.txManager.rollbackOnly();
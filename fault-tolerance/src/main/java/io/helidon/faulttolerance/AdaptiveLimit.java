@@ -0,0 +1,567 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+
+/**
+ * A concurrency limit of a {@link io.helidon.faulttolerance.Bulkhead} that is adjusted continuously from the observed
+ * round trip time (RTT) of calls and from calls that were dropped.
+ * <p>
+ * A call is considered dropped when it fails with a {@link java.util.concurrent.TimeoutException}, which includes
+ * calls timed out by a {@link io.helidon.faulttolerance.Timeout} handled within the bulkhead.
+ * <p>
+ * Implementations are stateful, each bulkhead must use its own instance. Samples are reported concurrently
+ * by all calls that complete, implementations must be thread safe.
+ *
+ * @see io.helidon.faulttolerance.Bulkhead.Builder#adaptiveLimit(AdaptiveLimit)
+ */
+public interface AdaptiveLimit {
+    /**
+     * Current limit of concurrent executions.
+     *
+     * @return current limit
+     */
+    int limit();
+
+    /**
+     * Update the limit from a completed call.
+     *
+     * @param rttNanos round trip time of the call in nanoseconds
+     * @param inFlight number of concurrent executions when the call started, including the call
+     * @param dropped whether the call was dropped
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+
+    /**
+     * Additive increase, multiplicative decrease limit with default configuration.
+     *
+     * @return a new AIMD limit
+     * @see io.helidon.faulttolerance.AdaptiveLimit.AimdLimit
+     */
+    static AdaptiveLimit aimd() {
+        return AimdLimit.builder().build();
+    }
+
+    /**
+     * TCP Vegas inspired limit with default configuration.
+     *
+     * @return a new Vegas limit
+     * @see io.helidon.faulttolerance.AdaptiveLimit.VegasLimit
+     */
+    static AdaptiveLimit vegas() {
+        return VegasLimit.builder().build();
+    }
+
+    /**
+     * Gradient limit with default configuration.
+     *
+     * @return a new gradient limit
+     * @see io.helidon.faulttolerance.AdaptiveLimit.Gradient2Limit
+     */
+    static AdaptiveLimit gradient2() {
+        return Gradient2Limit.builder().build();
+    }
+
+    /**
+     * A limit that grows by one while calls succeed and the limit is being used, and is reduced by a backoff ratio
+     * when a call is dropped or its round trip time exceeds a timeout.
+     * <p>
+     * This algorithm reacts only to errors, it is the most predictable one and does not need a stable
+     * round trip time of calls.
+     */
+    class AimdLimit implements AdaptiveLimit {
+        private final int minLimit;
+        private final int maxLimit;
+        private final double backoffRatio;
+        private final long timeoutNanos;
+        private volatile int limit;
+
+        private AimdLimit(Builder builder) {
+            this.minLimit = builder.minLimit();
+            this.maxLimit = builder.maxLimit();
+            this.backoffRatio = builder.backoffRatio;
+            this.timeoutNanos = builder.timeout.toNanos();
+            this.limit = builder.initialLimit();
+        }
+
+        /**
+         * A builder to customize configuration of {@link io.helidon.faulttolerance.AdaptiveLimit.AimdLimit}.
+         *
+         * @return a new builder
+         */
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @Override
+        public int limit() {
+            return limit;
+        }
+
+        @Override
+        public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+            int current = limit;
+            if (dropped || rttNanos > timeoutNanos) {
+                limit = Math.max(minLimit, Math.min(current - 1, (int) (current * backoffRatio)));
+            } else if (inFlight * 2 >= current) {
+                // only grow when the limit is actually used
+                limit = Math.min(maxLimit, current + 1);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "AimdLimit{limit=" + limit + '}';
+        }
+
+        /**
+         * Fluent API builder for {@link io.helidon.faulttolerance.AdaptiveLimit.AimdLimit}.
+         */
+        public static class Builder extends AdaptiveLimitBuilder<Builder, AimdLimit> {
+            private double backoffRatio = 0.9;
+            private Duration timeout = Duration.ofSeconds(5);
+
+            private Builder() {
+                super(20, 1, 200);
+            }
+
+            @Override
+            public AimdLimit build() {
+                validate();
+                return new AimdLimit(this);
+            }
+
+            /**
+             * Ratio the limit is multiplied by when a call is dropped.
+             *
+             * @param backoffRatio ratio between {@code 0.5} and {@code 1} (exclusive), default is {@code 0.9}
+             * @return updated builder instance
+             */
+            public Builder backoffRatio(double backoffRatio) {
+                if (backoffRatio < 0.5 || backoffRatio >= 1) {
+                    throw new IllegalArgumentException("Backoff ratio must be in [0.5, 1), but is: " + backoffRatio);
+                }
+                this.backoffRatio = backoffRatio;
+                return this;
+            }
+
+            /**
+             * Round trip time after which a call is considered dropped.
+             *
+             * @param timeout timeout of a call, default is 5 seconds
+             * @return updated builder instance
+             */
+            public Builder timeout(Duration timeout) {
+                if (timeout.isNegative() || timeout.isZero()) {
+                    throw new IllegalArgumentException("Timeout must be positive, but is: " + timeout);
+                }
+                this.timeout = timeout;
+                return this;
+            }
+        }
+    }
+
+    /**
+     * A limit based on TCP Vegas congestion avoidance. The round trip time without load is estimated as the
+     * minimal observed round trip time. The number of calls queued in the protected resource is estimated from the
+     * difference between the observed and the minimal round trip time:
+     * {@code queue = limit * (1 - minRtt / rtt)}.
+     * <p>
+     * The limit grows while the estimated queue is below {@code alpha}, and is reduced once it exceeds {@code beta},
+     * both computed as logarithm of the current limit. Dropped calls reduce the limit.
+     */
+    class VegasLimit implements AdaptiveLimit {
+        private final int minLimit;
+        private final int maxLimit;
+        private final double smoothing;
+        private final int probeInterval;
+        private volatile int limit;
+        private double estimatedLimit;
+        private long minRttNanos;
+        private int samples;
+
+        private VegasLimit(Builder builder) {
+            this.minLimit = builder.minLimit();
+            this.maxLimit = builder.maxLimit();
+            this.smoothing = builder.smoothing;
+            this.probeInterval = builder.probeInterval;
+            this.limit = builder.initialLimit();
+            this.estimatedLimit = builder.initialLimit();
+        }
+
+        /**
+         * A builder to customize configuration of {@link io.helidon.faulttolerance.AdaptiveLimit.VegasLimit}.
+         *
+         * @return a new builder
+         */
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @Override
+        public int limit() {
+            return limit;
+        }
+
+        @Override
+        public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+            if (rttNanos <= 0) {
+                return;
+            }
+            if (++samples >= probeInterval * estimatedLimit) {
+                // periodically forget the minimal RTT, the protected resource may have become slower
+                samples = 0;
+                minRttNanos = rttNanos;
+                return;
+            }
+            if (minRttNanos == 0 || rttNanos < minRttNanos) {
+                minRttNanos = rttNanos;
+                return;
+            }
+
+            double log = Math.max(1, Math.log10(estimatedLimit));
+            double newLimit;
+            if (dropped) {
+                newLimit = estimatedLimit - log;
+            } else if (inFlight * 2 < estimatedLimit) {
+                // not enough load to judge the limit
+                return;
+            } else {
+                double queue = Math.ceil(estimatedLimit * (1 - (double) minRttNanos / rttNanos));
+                if (queue <= 3 * log) {
+                    newLimit = estimatedLimit + 3 * log;
+                } else if (queue >= 6 * log) {
+                    newLimit = estimatedLimit - log;
+                } else {
+                    return;
+                }
+            }
+            newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            estimatedLimit = (1 - smoothing) * estimatedLimit + smoothing * newLimit;
+            limit = (int) estimatedLimit;
+        }
+
+        @Override
+        public String toString() {
+            return "VegasLimit{limit=" + limit + ", minRttNanos=" + minRttNanos + '}';
+        }
+
+        /**
+         * Fluent API builder for {@link io.helidon.faulttolerance.AdaptiveLimit.VegasLimit}.
+         */
+        public static class Builder extends AdaptiveLimitBuilder<Builder, VegasLimit> {
+            private double smoothing = 1.0;
+            private int probeInterval = 1000;
+
+            private Builder() {
+                super(20, 1, 1000);
+            }
+
+            @Override
+            public VegasLimit build() {
+                validate();
+                return new VegasLimit(this);
+            }
+
+            /**
+             * Factor applied to changes of the limit, {@code 1} applies the new limit immediately.
+             *
+             * @param smoothing factor between {@code 0} (exclusive) and {@code 1}, default is {@code 1}
+             * @return updated builder instance
+             */
+            public Builder smoothing(double smoothing) {
+                if (smoothing <= 0 || smoothing > 1) {
+                    throw new IllegalArgumentException("Smoothing must be in (0, 1], but is: " + smoothing);
+                }
+                this.smoothing = smoothing;
+                return this;
+            }
+
+            /**
+             * The minimal round trip time is reset after {@code probeInterval * limit} samples.
+             *
+             * @param probeInterval multiplier of the limit, default is {@code 1000}
+             * @return updated builder instance
+             */
+            public Builder probeInterval(int probeInterval) {
+                if (probeInterval < 1) {
+                    throw new IllegalArgumentException("Probe interval must be at least 1, but is: " + probeInterval);
+                }
+                this.probeInterval = probeInterval;
+                return this;
+            }
+        }
+    }
+
+    /**
+     * A limit driven by the ratio of a long term average round trip time to the current round trip time.
+     * <p>
+     * While the current round trip time stays within {@code rttTolerance} times the long term average, the limit
+     * grows by a queue size headroom. Once calls get slower, the limit is multiplied by the gradient
+     * {@code longRtt / rtt} (at least {@code 0.5}). The long term average adapts to permanent changes of the round
+     * trip time, so the limit does not keep shrinking when the protected resource becomes slower for good.
+     */
+    class Gradient2Limit implements AdaptiveLimit {
+        private final int minLimit;
+        private final int maxLimit;
+        private final double smoothing;
+        private final double rttTolerance;
+        private final int queueSize;
+        private final double longWindowFactor;
+        private final double shortWindowFactor;
+        private volatile int limit;
+        private double estimatedLimit;
+        private double longRttNanos;
+        private double shortRttNanos;
+        private long samples;
+
+        private Gradient2Limit(Builder builder) {
+            this.minLimit = builder.minLimit();
+            this.maxLimit = builder.maxLimit();
+            this.smoothing = builder.smoothing;
+            this.rttTolerance = builder.rttTolerance;
+            this.queueSize = builder.queueSize;
+            this.longWindowFactor = 2.0 / (builder.longWindow + 1);
+            this.shortWindowFactor = 2.0 / (builder.shortWindow + 1);
+            this.limit = builder.initialLimit();
+            this.estimatedLimit = builder.initialLimit();
+        }
+
+        /**
+         * A builder to customize configuration of {@link io.helidon.faulttolerance.AdaptiveLimit.Gradient2Limit}.
+         *
+         * @return a new builder
+         */
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @Override
+        public int limit() {
+            return limit;
+        }
+
+        @Override
+        public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+            if (rttNanos <= 0) {
+                return;
+            }
+            if (samples++ == 0) {
+                longRttNanos = rttNanos;
+                shortRttNanos = rttNanos;
+                return;
+            }
+            shortRttNanos = shortRttNanos + shortWindowFactor * (rttNanos - shortRttNanos);
+            longRttNanos = longRttNanos + longWindowFactor * (rttNanos - longRttNanos);
+            if (longRttNanos / shortRttNanos > 2) {
+                // recovering from a period of high latency, let the long term average catch up
+                longRttNanos = longRttNanos * 0.95;
+            }
+
+            if (!dropped && inFlight * 2 < estimatedLimit) {
+                // not enough load to judge the limit
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+            if (dropped) {
+                gradient = 0.5;
+            }
+            double newLimit = estimatedLimit * gradient + queueSize;
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            limit = (int) estimatedLimit;
+        }
+
+        @Override
+        public String toString() {
+            return "Gradient2Limit{limit=" + limit + ", longRttNanos=" + (long) longRttNanos
+                    + ", shortRttNanos=" + (long) shortRttNanos + '}';
+        }
+
+        /**
+         * Fluent API builder for {@link io.helidon.faulttolerance.AdaptiveLimit.Gradient2Limit}.
+         */
+        public static class Builder extends AdaptiveLimitBuilder<Builder, Gradient2Limit> {
+            private double smoothing = 0.2;
+            private double rttTolerance = 1.5;
+            private int queueSize = 4;
+            private int longWindow = 600;
+            private int shortWindow = 10;
+
+            private Builder() {
+                super(20, 1, 200);
+            }
+
+            @Override
+            public Gradient2Limit build() {
+                validate();
+                return new Gradient2Limit(this);
+            }
+
+            /**
+             * Factor applied to changes of the limit, {@code 1} applies the new limit immediately.
+             *
+             * @param smoothing factor between {@code 0} (exclusive) and {@code 1}, default is {@code 0.2}
+             * @return updated builder instance
+             */
+            public Builder smoothing(double smoothing) {
+                if (smoothing <= 0 || smoothing > 1) {
+                    throw new IllegalArgumentException("Smoothing must be in (0, 1], but is: " + smoothing);
+                }
+                this.smoothing = smoothing;
+                return this;
+            }
+
+            /**
+             * How much slower than the long term average calls may get before the limit is reduced.
+             *
+             * @param rttTolerance tolerance of at least {@code 1}, default is {@code 1.5}
+             * @return updated builder instance
+             */
+            public Builder rttTolerance(double rttTolerance) {
+                if (rttTolerance < 1) {
+                    throw new IllegalArgumentException("RTT tolerance must be at least 1, but is: " + rttTolerance);
+                }
+                this.rttTolerance = rttTolerance;
+                return this;
+            }
+
+            /**
+             * Number of calls added to the limit to allow it to grow.
+             *
+             * @param queueSize headroom of the limit, default is {@code 4}
+             * @return updated builder instance
+             */
+            public Builder queueSize(int queueSize) {
+                if (queueSize < 1) {
+                    throw new IllegalArgumentException("Queue size must be at least 1, but is: " + queueSize);
+                }
+                this.queueSize = queueSize;
+                return this;
+            }
+
+            /**
+             * Number of samples of the long term average round trip time.
+             *
+             * @param longWindow number of samples, default is {@code 600}
+             * @return updated builder instance
+             */
+            public Builder longWindow(int longWindow) {
+                if (longWindow < 1) {
+                    throw new IllegalArgumentException("Long window must be at least 1, but is: " + longWindow);
+                }
+                this.longWindow = longWindow;
+                return this;
+            }
+
+            /**
+             * Number of samples of the current round trip time.
+             *
+             * @param shortWindow number of samples, default is {@code 10}
+             * @return updated builder instance
+             */
+            public Builder shortWindow(int shortWindow) {
+                if (shortWindow < 1) {
+                    throw new IllegalArgumentException("Short window must be at least 1, but is: " + shortWindow);
+                }
+                this.shortWindow = shortWindow;
+                return this;
+            }
+        }
+    }
+
+    /**
+     * Base builder of the adaptive limits provided by Helidon.
+     *
+     * @param <B> type of the builder
+     * @param <T> type of the limit
+     */
+    abstract class AdaptiveLimitBuilder<B extends AdaptiveLimitBuilder<B, T>, T extends AdaptiveLimit>
+            implements io.helidon.common.Builder<T> {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        private AdaptiveLimitBuilder(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        /**
+         * Limit used before any call completes.
+         *
+         * @param initialLimit initial limit
+         * @return updated builder instance
+         */
+        public B initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return me();
+        }
+
+        /**
+         * Lowest value the limit may reach.
+         *
+         * @param minLimit minimal limit, at least {@code 1}
+         * @return updated builder instance
+         */
+        public B minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return me();
+        }
+
+        /**
+         * Highest value the limit may reach.
+         *
+         * @param maxLimit maximal limit
+         * @return updated builder instance
+         */
+        public B maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return me();
+        }
+
+        void validate() {
+            if (minLimit < 1) {
+                throw new IllegalArgumentException("Minimal limit must be at least 1, but is: " + minLimit);
+            }
+            if (maxLimit < minLimit) {
+                throw new IllegalArgumentException("Maximal limit " + maxLimit + " is lower than minimal limit "
+                                                           + minLimit);
+            }
+            initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        }
+
+        int initialLimit() {
+            return initialLimit;
+        }
+
+        int minLimit() {
+            return minLimit;
+        }
+
+        int maxLimit() {
+            return maxLimit;
+        }
+
+        @SuppressWarnings("unchecked")
+        private B me() {
+            return (B) this;
+        }
+    }
+}
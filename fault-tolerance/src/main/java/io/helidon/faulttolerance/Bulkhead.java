@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,9 @@ import io.helidon.common.LazyValue;
  * until the queue length is reached. Once both the limit and queue are full,
  * additional attempts to invoke will end with a failed response with
  * {@link io.helidon.faulttolerance.BulkheadException}.
+ * <p>
+ * The limit is either static, or adjusted continuously from observed latency and dropped calls when configured
+ * with an {@link io.helidon.faulttolerance.AdaptiveLimit}.
  */
 public interface Bulkhead extends FtHandler {
     /**
@@ -51,6 +54,7 @@ public interface Bulkhead extends FtHandler {
         private LazyValue<? extends ExecutorService> executor = FaultTolerance.executor();
         private int limit = DEFAULT_LIMIT;
         private int queueLength = DEFAULT_QUEUE_LENGTH;
+        private AdaptiveLimit adaptiveLimit;
         private String name = "Bulkhead-" + System.identityHashCode(this);
 
         private Builder() {
@@ -84,6 +88,19 @@ public interface Bulkhead extends FtHandler {
             return this;
         }
 
+        /**
+         * Adjust the limit of parallel requests continuously using the provided algorithm, instead of
+         * using a static {@link #limit(int)}.
+         * The adaptive limit instance must not be shared with other bulkheads.
+         *
+         * @param adaptiveLimit adaptive limit, such as {@link io.helidon.faulttolerance.AdaptiveLimit#vegas()}
+         * @return updated builder instance
+         */
+        public Builder adaptiveLimit(AdaptiveLimit adaptiveLimit) {
+            this.adaptiveLimit = Objects.requireNonNull(adaptiveLimit);
+            return this;
+        }
+
         /**
          * Maximal number of enqueued requests waiting for processing.
          * When the limit is reached, additional attempts to invoke
@@ -116,6 +133,10 @@ public interface Bulkhead extends FtHandler {
             return queueLength;
         }
 
+        AdaptiveLimit adaptiveLimit() {
+            return adaptiveLimit;
+        }
+
         LazyValue<? extends ExecutorService> executor() {
             return executor;
         }
@@ -131,6 +152,16 @@ public interface Bulkhead extends FtHandler {
      */
     interface Stats {
 
+        /**
+         * Current limit of concurrent executions, changes over time when an adaptive limit is used.
+         * The default implementation returns {@code -1}, as the limit is not known.
+         *
+         * @return current limit, or {@code -1} if not known
+         */
+        default long limit() {
+            return -1;
+        }
+
         /**
          * Number of concurrent executions at this time.
          *
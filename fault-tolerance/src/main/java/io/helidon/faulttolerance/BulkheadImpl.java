@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,14 @@ package io.helidon.faulttolerance;
 
 import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Flow;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
@@ -37,6 +40,9 @@ class BulkheadImpl implements Bulkhead {
     private final LazyValue<? extends ExecutorService> executor;
     private final Queue<DelayedTask<?>> queue;
     private final Semaphore inProgress;
+    private final AdaptiveLimit adaptiveLimit;
+    private final AtomicInteger adaptivePermits = new AtomicInteger();
+    private final int limit;
     private final String name;
 
     private final AtomicLong concurrentExecutions = new AtomicLong(0L);
@@ -46,6 +52,8 @@ class BulkheadImpl implements Bulkhead {
     BulkheadImpl(Bulkhead.Builder builder) {
         this.executor = builder.executor();
         this.inProgress = new Semaphore(builder.limit(), true);
+        this.adaptiveLimit = builder.adaptiveLimit();
+        this.limit = builder.limit();
         this.name = builder.name();
 
         if (builder.queueLength() == 0) {
@@ -73,6 +81,11 @@ class BulkheadImpl implements Bulkhead {
     @Override
     public Stats stats() {
         return new Stats() {
+            @Override
+            public long limit() {
+                return adaptiveLimit == null ? limit : adaptiveLimit.limit();
+            }
+
             @Override
             public long concurrentExecutions() {
                 return concurrentExecutions.get();
@@ -98,7 +111,7 @@ class BulkheadImpl implements Bulkhead {
     // this method must be called while NOT holding a permit
     @SuppressWarnings("unchecked")
     private <R> R invokeTask(DelayedTask<R> task) {
-        if (inProgress.tryAcquire()) {
+        if (tryAcquire()) {
             LOGGER.finest(() -> name + " invoke immediate: " + task);
 
             // free permit, we can invoke
@@ -109,6 +122,10 @@ class BulkheadImpl implements Bulkhead {
             if (queue.offer(task)) {
                 LOGGER.finest(() -> name + " enqueue: " + task);
                 R result = task.result();
+                if (adaptiveLimit != null) {
+                    // permits may have been released (or the limit raised) since we tried to acquire
+                    drainQueue();
+                }
                 if (result instanceof Single<?>) {
                     Single<Object> single = (Single<Object>) result;
                     return (R) single.onCancel(() -> queue.remove(task));
@@ -125,7 +142,8 @@ class BulkheadImpl implements Bulkhead {
     // this method must be called while holding a permit
     private void execute(DelayedTask<?> task) {
         callsAccepted.incrementAndGet();
-        concurrentExecutions.incrementAndGet();
+        int inFlight = (int) concurrentExecutions.incrementAndGet();
+        long started = System.nanoTime();
 
         task.execute()
                 .handle((it, throwable) -> {
@@ -133,7 +151,11 @@ class BulkheadImpl implements Bulkhead {
                     // we do not care about execution, but let's record it in debug
                     LOGGER.finest(() -> name + " finished execution: " + task
                             + " (" + (throwable == null ? "success" : "failure") + ")");
-                    DelayedTask<?> polled = queue.poll();
+                    if (adaptiveLimit != null) {
+                        adaptiveLimit.onSample(System.nanoTime() - started, inFlight, isDropped(throwable));
+                    }
+                    // when an adaptive limit was lowered, do not pass the permit to the next task
+                    DelayedTask<?> polled = limitExceeded() ? null : queue.poll();
                     if (polled != null) {
                         LOGGER.finest(() -> name + " invoke in executor: " + polled);
                         // chain executions from queue until all are executed
@@ -141,12 +163,64 @@ class BulkheadImpl implements Bulkhead {
                     } else {
                         LOGGER.finest(() -> name + " permit released after: " + task);
                         // nothing in the queue, release permit
-                        inProgress.release();
+                        release();
+                        if (adaptiveLimit != null) {
+                            // the limit may have been raised, start as many queued tasks as it allows
+                            drainQueue();
+                        }
                     }
                     return null;
                 });
     }
 
+    private boolean tryAcquire() {
+        if (adaptiveLimit == null) {
+            return inProgress.tryAcquire();
+        }
+        while (true) {
+            int current = adaptivePermits.get();
+            if (current >= adaptiveLimit.limit()) {
+                return false;
+            }
+            if (adaptivePermits.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        if (adaptiveLimit == null) {
+            inProgress.release();
+        } else {
+            adaptivePermits.decrementAndGet();
+        }
+    }
+
+    private boolean limitExceeded() {
+        return adaptiveLimit != null && adaptivePermits.get() > adaptiveLimit.limit();
+    }
+
+    // this method must be called while NOT holding a permit
+    private void drainQueue() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            DelayedTask<?> polled = queue.poll();
+            if (polled == null) {
+                release();
+                return;
+            }
+            LOGGER.finest(() -> name + " invoke in executor: " + polled);
+            executor.get().submit(() -> execute(polled));
+        }
+    }
+
+    private static boolean isDropped(Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof TimeoutException;
+    }
+
     private static class NoQueue extends ArrayDeque<DelayedTask<?>> {
         @Override
         public boolean offer(DelayedTask delayedTask) {
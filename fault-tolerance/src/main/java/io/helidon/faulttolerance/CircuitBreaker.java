@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.helidon.faulttolerance;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -32,6 +33,10 @@ import io.helidon.common.LazyValue;
  * {@link io.helidon.faulttolerance.CircuitBreakerOpenException} for a period of time.
  * After this period, attempts are made to check if the service is up again - if so, the circuit closes
  * and requests can process as usual again.
+ * <p>
+ * Results are collected either in a window of the last {@link Builder#volume(int)} calls, or in a time based
+ * {@link Builder#slidingWindow(java.time.Duration, int) sliding window}. Calls slower than
+ * {@link Builder#slowCallThreshold(java.time.Duration)} can open the circuit as well as failed calls.
  */
 public interface CircuitBreaker extends FtHandler {
     /**
@@ -63,6 +68,16 @@ public interface CircuitBreaker extends FtHandler {
      */
     void state(State newState);
 
+    /**
+     * Provides access to statistics for this circuit breaker.
+     * The default implementation returns the current {@link #state()} with no calls.
+     *
+     * @return statistics
+     */
+    default Stats stats() {
+        return new CircuitBreakerImpl.StatsImpl(state(), 0, 0, 0, List.of());
+    }
+
     /**
      * A circuit breaker can be in any of 3 possible states as defined by this enum.
      * The {@link State#CLOSED} state is the normal one; an {@link State#OPEN} state
@@ -86,6 +101,53 @@ public interface CircuitBreaker extends FtHandler {
         OPEN
     }
 
+    /**
+     * Results of calls collected by a circuit breaker.
+     * As the values may change within nanoseconds, this is for information only.
+     */
+    interface BucketStats {
+        /**
+         * Number of calls.
+         *
+         * @return number of calls
+         */
+        long calls();
+
+        /**
+         * Number of calls considered failed.
+         *
+         * @return number of failed calls
+         */
+        long failures();
+
+        /**
+         * Number of calls slower than the configured slow call threshold, including failed calls.
+         *
+         * @return number of slow calls
+         */
+        long slowCalls();
+    }
+
+    /**
+     * Provides access to internal stats for a circuit breaker, aggregated over its current window.
+     */
+    interface Stats extends BucketStats {
+        /**
+         * State of the circuit breaker when the statistics were obtained.
+         *
+         * @return circuit breaker state
+         */
+        State state();
+
+        /**
+         * Statistics of each bucket of a time based sliding window, ordered from the oldest to the current one.
+         *
+         * @return bucket statistics, empty if the circuit breaker uses a count based window
+         * @see io.helidon.faulttolerance.CircuitBreaker.Builder#slidingWindow(java.time.Duration, int)
+         */
+        List<BucketStats> buckets();
+    }
+
     /**
      * Fluent API builder for {@link io.helidon.faulttolerance.CircuitBreaker}.
      */
@@ -100,6 +162,13 @@ public interface CircuitBreaker extends FtHandler {
         private int successThreshold = 1;
         // rolling window size to
         private int volume = 10;
+        // time based window, count based window of volume size is used when null
+        private Duration bucketDuration;
+        private int bucketCount;
+        // calls slower than this are slow, slow calls are not tracked when null
+        private Duration slowCallThreshold;
+        // how many percents of slow calls will open the breaker
+        private int slowCallRatio = 100;
         private LazyValue<? extends ScheduledExecutorService> executor = FaultTolerance.scheduledExecutor();
         private String name = "CircuitBreaker-" + System.identityHashCode(this);
 
@@ -160,6 +229,61 @@ public interface CircuitBreaker extends FtHandler {
             return this;
         }
 
+        /**
+         * Use a time based sliding window instead of a window of the last {@link #volume(int)} calls.
+         * Results are collected in {@code bucketCount} buckets of {@code bucketDuration} each, so the circuit
+         * reacts to the results within the last {@code bucketCount * bucketDuration} regardless of the
+         * number of calls. The {@link #volume(int)} is then used as the minimal number of calls within the window
+         * before the circuit can open.
+         *
+         * @param bucketDuration duration of each bucket, such as one second
+         * @param bucketCount number of buckets in the window
+         * @return updated builder instance
+         */
+        public Builder slidingWindow(Duration bucketDuration, int bucketCount) {
+            if (bucketDuration.isNegative() || bucketDuration.isZero()) {
+                throw new IllegalArgumentException("Bucket duration must be positive, but is: " + bucketDuration);
+            }
+            if (bucketCount < 1) {
+                throw new IllegalArgumentException("Bucket count must be at least 1, but is: " + bucketCount);
+            }
+            this.bucketDuration = bucketDuration;
+            this.bucketCount = bucketCount;
+            return this;
+        }
+
+        /**
+         * Calls that take longer than the threshold are considered slow, even if they succeed.
+         * When the percentage of slow calls reaches {@link #slowCallRatio(int)}, the circuit opens.
+         * In half-open state, a slow call opens the circuit again.
+         *
+         * @param slowCallThreshold duration of a call to be considered slow
+         * @return updated builder instance
+         */
+        public Builder slowCallThreshold(Duration slowCallThreshold) {
+            if (slowCallThreshold.isNegative() || slowCallThreshold.isZero()) {
+                throw new IllegalArgumentException("Slow call threshold must be positive, but is: " + slowCallThreshold);
+            }
+            this.slowCallThreshold = slowCallThreshold;
+            return this;
+        }
+
+        /**
+         * How many slow calls out of 100 will trigger the circuit to open.
+         * Only used when {@link #slowCallThreshold(java.time.Duration)} is configured.
+         *
+         * @param slowCallRatio percent of slow calls that trigger the circuit to open, between {@code 1} and {@code 100},
+         *                      defaults to {@code 100}
+         * @return updated builder instance
+         */
+        public Builder slowCallRatio(int slowCallRatio) {
+            if (slowCallRatio < 1 || slowCallRatio > 100) {
+                throw new IllegalArgumentException("Slow call ratio must be between 1 and 100, but is: " + slowCallRatio);
+            }
+            this.slowCallRatio = slowCallRatio;
+            return this;
+        }
+
         /**
          * These throwables will be considered failures, and all other will not.
          * <p>
@@ -270,6 +394,22 @@ public interface CircuitBreaker extends FtHandler {
             return volume;
         }
 
+        Duration bucketDuration() {
+            return bucketDuration;
+        }
+
+        int bucketCount() {
+            return bucketCount;
+        }
+
+        Duration slowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        int slowCallRatio() {
+            return slowCallRatio;
+        }
+
         String name() {
             return name;
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.faulttolerance;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
@@ -42,13 +43,19 @@ class CircuitBreakerImpl implements CircuitBreaker {
     private final long delayMillis;
     // how many successful calls will close a half-open breaker
     private final int successThreshold;
+    // calls slower than this are slow, zero if slow calls are not tracked
+    private final long slowCallNanos;
 
     /*
     Runtime
      */
     private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
-    // rolling window for counting errors to (maybe) open the breaker
+    // rolling window for counting errors to (maybe) open the breaker, null when time based window is used
     private final ResultWindow results;
+    // rolling window for counting slow calls, null when slow calls are not tracked or time based window is used
+    private final ResultWindow slowResults;
+    // time based window for counting errors and slow calls, null when count based window is used
+    private final TimeWindow timeWindow;
     // to close from half-open
     private final AtomicInteger successCounter = new AtomicInteger();
     private final AtomicBoolean halfOpenInProgress = new AtomicBoolean();
@@ -59,7 +66,21 @@ class CircuitBreakerImpl implements CircuitBreaker {
     CircuitBreakerImpl(CircuitBreaker.Builder builder) {
         this.delayMillis = builder.delay().toMillis();
         this.successThreshold = builder.successThreshold();
-        this.results = new ResultWindow(builder.volume(), builder.errorRatio());
+        this.slowCallNanos = builder.slowCallThreshold() == null ? 0 : builder.slowCallThreshold().toNanos();
+        int slowCallRatio = slowCallNanos == 0 ? 0 : builder.slowCallRatio();
+        if (builder.bucketDuration() == null) {
+            this.results = new ResultWindow(builder.volume(), builder.errorRatio());
+            this.slowResults = slowCallNanos == 0 ? null : new ResultWindow(builder.volume(), slowCallRatio);
+            this.timeWindow = null;
+        } else {
+            this.results = null;
+            this.slowResults = null;
+            this.timeWindow = new TimeWindow(builder.bucketDuration(),
+                                             builder.bucketCount(),
+                                             builder.volume(),
+                                             builder.errorRatio(),
+                                             slowCallRatio);
+        }
         this.executor = builder.executor();
         this.errorChecker = ErrorChecker.create(builder.skipOn(), builder.applyOn());
         this.name = builder.name();
@@ -80,19 +101,45 @@ class CircuitBreakerImpl implements CircuitBreaker {
         return invokeTask(DelayedTask.createSingle(supplier));
     }
 
+    @Override
+    public Stats stats() {
+        if (timeWindow == null) {
+            long calls = results.calls();
+            long failures = results.failures();
+            long slowCalls = slowResults == null ? 0 : slowResults.failures();
+            return new StatsImpl(state(), calls, failures, slowCalls, List.of());
+        }
+        List<BucketStats> buckets = timeWindow.buckets();
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (BucketStats bucket : buckets) {
+            calls += bucket.calls();
+            failures += bucket.failures();
+            slowCalls += bucket.slowCalls();
+        }
+        return new StatsImpl(state(), calls, failures, slowCalls, buckets);
+    }
+
     private <U> U invokeTask(DelayedTask<U> task) {
         if (state.get() == State.CLOSED) {
             // run it!
+            long started = System.nanoTime();
             CompletionStage<Void> completion = task.execute();
             completion.handle((it, throwable) -> {
                 Throwable exception = FaultTolerance.cause(throwable);
-                if (exception == null || errorChecker.shouldSkip(exception)) {
-                    results.update(SUCCESS);
+                boolean failure = exception != null && !errorChecker.shouldSkip(exception);
+                boolean slow = isSlow(started);
+                if (timeWindow == null) {
+                    results.update(failure ? FAILURE : SUCCESS);
+                    if (slowResults != null) {
+                        slowResults.update(slow ? FAILURE : SUCCESS);
+                    }
                 } else {
-                    results.update(FAILURE);
+                    timeWindow.update(failure, slow);
                 }
-                if (results.shouldOpen() && state.compareAndSet(State.CLOSED, State.OPEN)) {
-                    results.reset();
+                if (shouldOpen() && state.compareAndSet(State.CLOSED, State.OPEN)) {
+                    resetWindows();
                     // if we successfully switch to open, we need to schedule switch to half-open
                     scheduleHalf();
                 }
@@ -105,10 +152,11 @@ class CircuitBreakerImpl implements CircuitBreaker {
         } else {
             // half-open
             if (halfOpenInProgress.compareAndSet(false, true)) {
+                long started = System.nanoTime();
                 CompletionStage<Void> result = task.execute();
                 result.handle((it, throwable) -> {
                     Throwable exception = FaultTolerance.cause(throwable);
-                    if (exception == null || errorChecker.shouldSkip(exception)) {
+                    if ((exception == null || errorChecker.shouldSkip(exception)) && !isSlow(started)) {
                         // success
                         int successes = successCounter.incrementAndGet();
                         if (successes >= successThreshold) {
@@ -134,6 +182,28 @@ class CircuitBreakerImpl implements CircuitBreaker {
         }
     }
 
+    private boolean isSlow(long started) {
+        return slowCallNanos > 0 && System.nanoTime() - started >= slowCallNanos;
+    }
+
+    private boolean shouldOpen() {
+        if (timeWindow == null) {
+            return results.shouldOpen() || (slowResults != null && slowResults.shouldOpen());
+        }
+        return timeWindow.shouldOpen();
+    }
+
+    private void resetWindows() {
+        if (timeWindow == null) {
+            results.reset();
+            if (slowResults != null) {
+                slowResults.reset();
+            }
+        } else {
+            timeWindow.reset();
+        }
+    }
+
     private void scheduleHalf() {
         schedule.set(executor.get()
                              .schedule(() -> {
@@ -177,7 +247,48 @@ class CircuitBreakerImpl implements CircuitBreaker {
     }
 
     private void resetCounters() {
-        results.reset();
+        resetWindows();
         successCounter.set(0);
     }
+
+    static final class StatsImpl implements Stats {
+        private final State state;
+        private final long calls;
+        private final long failures;
+        private final long slowCalls;
+        private final List<BucketStats> buckets;
+
+        StatsImpl(State state, long calls, long failures, long slowCalls, List<BucketStats> buckets) {
+            this.state = state;
+            this.calls = calls;
+            this.failures = failures;
+            this.slowCalls = slowCalls;
+            this.buckets = buckets;
+        }
+
+        @Override
+        public State state() {
+            return state;
+        }
+
+        @Override
+        public long calls() {
+            return calls;
+        }
+
+        @Override
+        public long failures() {
+            return failures;
+        }
+
+        @Override
+        public long slowCalls() {
+            return slowCalls;
+        }
+
+        @Override
+        public List<BucketStats> buckets() {
+            return buckets;
+        }
+    }
 }
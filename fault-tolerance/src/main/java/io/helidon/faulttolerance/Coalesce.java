@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+/**
+ * Coalesce (single-flight) shares one in-flight execution among identical concurrent calls.
+ * <p>
+ * Calls are identified by a key. While a call with a key is in progress, other calls with an equal key do not
+ * invoke their supplier, but complete with the same result or error. Once the execution completes, the next call
+ * with the key starts a new execution, so results are never cached.
+ * <p>
+ * Example sharing a database query among concurrent requests for the same user:
+ * <pre>{@code
+ * Coalesce coalesce = Coalesce.create();
+ * Single<Optional<DbRow>> user = coalesce.invoke("user-" + id,
+ *                                                () -> dbClient.execute(exec -> exec.namedGet("select-user", id)));
+ * }</pre>
+ * When used through {@link #invoke(java.util.function.Supplier)}, such as from
+ * {@link io.helidon.faulttolerance.FaultTolerance#builder()}, all concurrent calls of this handler share an
+ * execution, so the handler should be dedicated to a single operation.
+ */
+public interface Coalesce extends FtHandler {
+    /**
+     * A new builder for {@link io.helidon.faulttolerance.Coalesce}.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new coalesce with default configuration.
+     *
+     * @return a new coalesce
+     */
+    static Coalesce create() {
+        return builder().build();
+    }
+
+    /**
+     * Invoke the supplier unless a call with an equal key is in progress, in which case the result
+     * of that call is used.
+     *
+     * @param key key identifying identical calls, must implement {@code equals} and {@code hashCode}
+     * @param supplier supplier of the call
+     * @param <T> type of the result
+     * @return result of the shared execution
+     */
+    <T> Single<T> invoke(Object key, Supplier<? extends CompletionStage<T>> supplier);
+
+    /**
+     * Invoke the supplier unless a call with an equal key is in progress, in which case the items
+     * of that call are replayed.
+     * Items are buffered until the shared stream completes, so this is intended for bounded streams, such
+     * as database query results.
+     *
+     * @param key key identifying identical calls, must implement {@code equals} and {@code hashCode}
+     * @param supplier supplier of the call
+     * @param <T> type of the items
+     * @return items of the shared execution
+     */
+    <T> Multi<T> invokeMulti(Object key, Supplier<? extends Flow.Publisher<T>> supplier);
+
+    /**
+     * Provides access to internal stats for this coalesce.
+     *
+     * @return internal stats
+     */
+    Stats stats();
+
+    /**
+     * Fluent API builder for {@link io.helidon.faulttolerance.Coalesce}.
+     */
+    class Builder implements io.helidon.common.Builder<Coalesce> {
+        private String name = "Coalesce-" + System.identityHashCode(this);
+
+        private Builder() {
+        }
+
+        @Override
+        public Coalesce build() {
+            return new CoalesceImpl(this);
+        }
+
+        /**
+         * A name assigned for debugging, error reporting or configuration purposes.
+         *
+         * @param name the name
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        String name() {
+            return name;
+        }
+    }
+
+    /**
+     * Provides access to internal stats for a coalesce.
+     */
+    interface Stats {
+        /**
+         * Number of calls that invoked their supplier.
+         *
+         * @return number of executions
+         */
+        long callsExecuted();
+
+        /**
+         * Number of calls that shared an execution of another call.
+         *
+         * @return number of coalesced calls
+         */
+        long callsCoalesced();
+
+        /**
+         * Number of executions in progress at this time.
+         *
+         * @return number of keys in progress
+         */
+        long inFlight();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+class CoalesceImpl implements Coalesce {
+    private static final Logger LOGGER = Logger.getLogger(CoalesceImpl.class.getName());
+    private static final Object DEFAULT_KEY = new Object();
+
+    private final ConcurrentHashMap<Object, CompletableFuture<?>> singles = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, CompletableFuture<? extends List<?>>> multis = new ConcurrentHashMap<>();
+    private final AtomicLong callsExecuted = new AtomicLong();
+    private final AtomicLong callsCoalesced = new AtomicLong();
+    private final String name;
+
+    CoalesceImpl(Coalesce.Builder builder) {
+        this.name = builder.name();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> Single<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+        return invoke(DEFAULT_KEY, supplier);
+    }
+
+    @Override
+    public <T> Multi<T> invokeMulti(Supplier<? extends Flow.Publisher<T>> supplier) {
+        return invokeMulti(DEFAULT_KEY, supplier);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Single<T> invoke(Object key, Supplier<? extends CompletionStage<T>> supplier) {
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<?> existing = singles.putIfAbsent(key, created);
+        if (existing != null) {
+            LOGGER.finest(() -> name + " coalesced: " + key);
+            callsCoalesced.incrementAndGet();
+            return waiter((CompletableFuture<T>) existing);
+        }
+        callsExecuted.incrementAndGet();
+
+        CompletionStage<T> stage;
+        try {
+            stage = supplier.get();
+        } catch (Exception e) {
+            stage = CompletableFuture.failedStage(e);
+        }
+        stage.whenComplete((value, throwable) -> {
+            // remove before completing, so calls that see the result start a new execution
+            singles.remove(key, created);
+            if (throwable == null) {
+                created.complete(value);
+            } else {
+                created.completeExceptionally(FaultTolerance.cause(throwable));
+            }
+        });
+        return waiter(created);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Multi<T> invokeMulti(Object key, Supplier<? extends Flow.Publisher<T>> supplier) {
+        CompletableFuture<List<T>> created = new CompletableFuture<>();
+        CompletableFuture<? extends List<?>> existing = multis.putIfAbsent(key, created);
+        if (existing != null) {
+            LOGGER.finest(() -> name + " coalesced: " + key);
+            callsCoalesced.incrementAndGet();
+            return waiter((CompletableFuture<List<T>>) existing).flatMapIterable(it -> it);
+        }
+        callsExecuted.incrementAndGet();
+
+        Multi<T> multi;
+        try {
+            multi = Multi.create(supplier.get());
+        } catch (Exception e) {
+            multi = Multi.error(e);
+        }
+        multi.collectList()
+                .whenComplete((value, throwable) -> {
+                    multis.remove(key, created);
+                    if (throwable == null) {
+                        created.complete(value);
+                    } else {
+                        created.completeExceptionally(FaultTolerance.cause(throwable));
+                    }
+                });
+        return waiter(created).flatMapIterable(it -> it);
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats() {
+            @Override
+            public long callsExecuted() {
+                return callsExecuted.get();
+            }
+
+            @Override
+            public long callsCoalesced() {
+                return callsCoalesced.get();
+            }
+
+            @Override
+            public long inFlight() {
+                return singles.size() + multis.size();
+            }
+        };
+    }
+
+    // each caller gets its own future, so cancelling one caller does not affect the others
+    private static <T> Single<T> waiter(CompletableFuture<T> shared) {
+        return Single.create(shared.thenApply(it -> it), true);
+    }
+}
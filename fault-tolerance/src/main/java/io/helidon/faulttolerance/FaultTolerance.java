@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,7 +43,10 @@ import io.helidon.config.Config;
  *     <li>{@link io.helidon.faulttolerance.Bulkhead} - limit number of parallel requests to a resource</li>
  *     <li>{@link io.helidon.faulttolerance.CircuitBreaker} - stop trying to request a failing resource until it becomes
  *     available</li>
+ *     <li>{@link io.helidon.faulttolerance.Coalesce} - share one execution among identical concurrent calls</li>
  *     <li>{@link io.helidon.faulttolerance.Fallback} - fall back to another supplier of result in case the usual one fails</li>
+ *     <li>{@link io.helidon.faulttolerance.Hedge} - send another attempt of a call that takes too long</li>
+ *     <li>{@link io.helidon.faulttolerance.RateLimiter} - limit number of requests to a resource within a period of time</li>
  *     <li>{@link io.helidon.faulttolerance.Retry} - try to call a supplier again if invocation fails</li>
  *     <li>{@link io.helidon.faulttolerance.Timeout} - time out a request if it takes too long</li>
  * </ul>
@@ -195,6 +198,39 @@ public final class FaultTolerance {
             return me();
         }
 
+        /**
+         * Add a coalesce to the list.
+         *
+         * @param coalesce coalesce handler
+         * @return updated builder instance
+         */
+        public B addCoalesce(Coalesce coalesce) {
+            add(coalesce);
+            return me();
+        }
+
+        /**
+         * Add a hedge to the list.
+         *
+         * @param hedge hedge handler
+         * @return updated builder instance
+         */
+        public B addHedge(Hedge hedge) {
+            add(hedge);
+            return me();
+        }
+
+        /**
+         * Add a rate limiter to the list.
+         *
+         * @param rateLimiter rate limiter handler
+         * @return updated builder instance
+         */
+        public B addRateLimiter(RateLimiter rateLimiter) {
+            add(rateLimiter);
+            return me();
+        }
+
         /**
          * Add a handler to the list. This may be a custom handler or one of the predefined ones.
          *
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.helidon.common.LazyValue;
+
+/**
+ * Hedging reduces tail latency by sending another attempt of a call when the first one did not complete within
+ * a delay. The first successful attempt provides the result and the other attempts are cancelled.
+ * <p>
+ * Hedging reacts to slowness, not to failures. When an attempt fails and no other attempt is in progress, the call
+ * fails; use {@link io.helidon.faulttolerance.Retry} to repeat failed calls.
+ * <p>
+ * Only {@link #invoke(java.util.function.Supplier)} is hedged; a stream may not be requested again once it produced
+ * data, so {@link #invokeMulti(java.util.function.Supplier)} calls the supplier once.
+ */
+public interface Hedge extends FtHandler {
+    /**
+     * A new builder for {@link io.helidon.faulttolerance.Hedge}.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Provides access to internal stats for this hedge.
+     *
+     * @return internal stats
+     */
+    Stats stats();
+
+    /**
+     * Fluent API builder for {@link io.helidon.faulttolerance.Hedge}.
+     */
+    class Builder implements io.helidon.common.Builder<Hedge> {
+        private LazyValue<? extends ScheduledExecutorService> executor = FaultTolerance.scheduledExecutor();
+        private Duration delay = Duration.ofMillis(100);
+        private double delayPercentile;
+        private int maxAttempts = 2;
+        private int maxHedgeRatio = 10;
+        private String name = "Hedge-" + System.identityHashCode(this);
+
+        private Builder() {
+        }
+
+        @Override
+        public Hedge build() {
+            return new HedgeImpl(this);
+        }
+
+        /**
+         * Delay after which another attempt is sent if no attempt completed yet.
+         * When {@link #delayPercentile(double)} is configured, this delay is used until enough latencies
+         * are observed.
+         *
+         * @param delay delay of hedged attempts, defaults to 100 milliseconds
+         * @return updated builder instance
+         */
+        public Builder delay(Duration delay) {
+            if (delay.isNegative()) {
+                throw new IllegalArgumentException("Delay must not be negative, but is: " + delay);
+            }
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Compute the delay as a percentile of observed latencies of the first attempts of successful calls,
+         * such as {@code 95} to send another attempt for the slowest five percent of calls.
+         *
+         * @param delayPercentile percentile between {@code 0} and {@code 100} (exclusive), {@code 0} to use the fixed
+         *                        {@link #delay(java.time.Duration)}
+         * @return updated builder instance
+         */
+        public Builder delayPercentile(double delayPercentile) {
+            if (delayPercentile < 0 || delayPercentile >= 100) {
+                throw new IllegalArgumentException("Delay percentile must be in [0, 100), but is: " + delayPercentile);
+            }
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        /**
+         * Maximal number of attempts of a call, including the first one.
+         * Attempts are sent after each {@link #delay(java.time.Duration)}.
+         *
+         * @param maxAttempts number of attempts, defaults to {@code 2}
+         * @return updated builder instance
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1, but is: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Cap of the extra load caused by hedging, as a percentage of calls.
+         * Each call adds a fraction of a hedge to a budget (up to a small burst), each hedged attempt takes one
+         * from it; attempts are not sent when the budget is exhausted.
+         *
+         * @param maxHedgeRatio percent of calls that may be hedged, defaults to {@code 10}
+         * @return updated builder instance
+         */
+        public Builder maxHedgeRatio(int maxHedgeRatio) {
+            if (maxHedgeRatio < 0) {
+                throw new IllegalArgumentException("Max hedge ratio must not be negative, but is: " + maxHedgeRatio);
+            }
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        /**
+         * Executor service to schedule hedged attempts.
+         * By default uses an executor configured on
+         * {@link io.helidon.faulttolerance.FaultTolerance#scheduledExecutor(java.util.function.Supplier)}.
+         *
+         * @param scheduledExecutor executor to use
+         * @return updated builder instance
+         */
+        public Builder executor(ScheduledExecutorService scheduledExecutor) {
+            this.executor = LazyValue.create(scheduledExecutor);
+            return this;
+        }
+
+        /**
+         * A name assigned for debugging, error reporting or configuration purposes.
+         *
+         * @param name the name
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        Duration delay() {
+            return delay;
+        }
+
+        double delayPercentile() {
+            return delayPercentile;
+        }
+
+        int maxAttempts() {
+            return maxAttempts;
+        }
+
+        int maxHedgeRatio() {
+            return maxHedgeRatio;
+        }
+
+        LazyValue<? extends ScheduledExecutorService> executor() {
+            return executor;
+        }
+
+        String name() {
+            return name;
+        }
+    }
+
+    /**
+     * Provides access to internal stats for a hedge.
+     */
+    interface Stats {
+        /**
+         * Number of calls.
+         *
+         * @return number of calls
+         */
+        long calls();
+
+        /**
+         * Number of hedged attempts sent.
+         *
+         * @return number of hedged attempts
+         */
+        long hedgesIssued();
+
+        /**
+         * Number of calls completed by a hedged attempt rather than the first one.
+         *
+         * @return number of hedged attempts that provided the result
+         */
+        long hedgesWon();
+
+        /**
+         * Number of hedged attempts not sent because of the {@link Builder#maxHedgeRatio(int)}.
+         *
+         * @return number of skipped attempts
+         */
+        long hedgesSkipped();
+
+        /**
+         * Current delay of hedged attempts.
+         *
+         * @return delay
+         */
+        Duration delay();
+    }
+}
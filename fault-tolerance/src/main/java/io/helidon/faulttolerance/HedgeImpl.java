@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import io.helidon.common.LazyValue;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+class HedgeImpl implements Hedge {
+    private static final Logger LOGGER = Logger.getLogger(HedgeImpl.class.getName());
+    // budget is kept in thousandths of a hedged attempt
+    private static final long BUDGET_UNIT = 1000;
+    private static final long MAX_BUDGET = 10 * BUDGET_UNIT;
+    private static final int LATENCY_SAMPLES = 1000;
+
+    private final LazyValue<? extends ScheduledExecutorService> executor;
+    private final int maxAttempts;
+    private final long budgetPerCall;
+    private final Latencies latencies;
+    private final String name;
+
+    private final AtomicLong budget = new AtomicLong(MAX_BUDGET);
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedgesIssued = new AtomicLong();
+    private final AtomicLong hedgesWon = new AtomicLong();
+    private final AtomicLong hedgesSkipped = new AtomicLong();
+
+    HedgeImpl(Hedge.Builder builder) {
+        this.executor = builder.executor();
+        this.maxAttempts = builder.maxAttempts();
+        this.budgetPerCall = builder.maxHedgeRatio() * BUDGET_UNIT / 100;
+        this.latencies = new Latencies(builder.delay().toNanos(), builder.delayPercentile());
+        this.name = builder.name();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> Multi<T> invokeMulti(Supplier<? extends Flow.Publisher<T>> supplier) {
+        calls.incrementAndGet();
+        return Multi.create(supplier.get());
+    }
+
+    @Override
+    public <T> Single<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+        calls.incrementAndGet();
+        addBudget();
+
+        HedgedCall<T> call = new HedgedCall<>(supplier);
+        call.attempt(0);
+        long delayNanos = latencies.delayNanos();
+        for (int i = 1; i < maxAttempts; i++) {
+            int index = i;
+            call.schedule(index, executor.get().schedule(() -> call.attempt(index),
+                                                         delayNanos * i,
+                                                         TimeUnit.NANOSECONDS));
+        }
+        return Single.create(call.result, true)
+                .onCancel(call::cancelAll);
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats() {
+            @Override
+            public long calls() {
+                return calls.get();
+            }
+
+            @Override
+            public long hedgesIssued() {
+                return hedgesIssued.get();
+            }
+
+            @Override
+            public long hedgesWon() {
+                return hedgesWon.get();
+            }
+
+            @Override
+            public long hedgesSkipped() {
+                return hedgesSkipped.get();
+            }
+
+            @Override
+            public Duration delay() {
+                return Duration.ofNanos(latencies.delayNanos());
+            }
+        };
+    }
+
+    private void addBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current >= MAX_BUDGET) {
+                return;
+            }
+            if (budget.compareAndSet(current, Math.min(MAX_BUDGET, current + budgetPerCall))) {
+                return;
+            }
+        }
+    }
+
+    private boolean takeBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < BUDGET_UNIT) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private final class HedgedCall<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Supplier<? extends CompletionStage<T>> supplier;
+        private final AtomicReferenceArray<CompletionStage<T>> attempts = new AtomicReferenceArray<>(maxAttempts);
+        private final AtomicReferenceArray<ScheduledFuture<?>> scheduled = new AtomicReferenceArray<>(maxAttempts);
+        private final AtomicInteger inProgress = new AtomicInteger();
+        // set before the other attempts are cancelled and the result completed
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile long firstStarted;
+        private volatile boolean firstFailed;
+
+        private HedgedCall(Supplier<? extends CompletionStage<T>> supplier) {
+            this.supplier = supplier;
+        }
+
+        private void schedule(int index, ScheduledFuture<?> future) {
+            scheduled.set(index, future);
+            if (done.get()) {
+                future.cancel(false);
+            }
+        }
+
+        private void attempt(int index) {
+            if (done.get()) {
+                return;
+            }
+            if (index > 0) {
+                if (!takeBudget()) {
+                    LOGGER.finest(() -> name + " hedge budget exhausted, attempt " + index + " skipped");
+                    hedgesSkipped.incrementAndGet();
+                    return;
+                }
+                LOGGER.finest(() -> name + " hedged attempt " + index);
+                hedgesIssued.incrementAndGet();
+            }
+            inProgress.incrementAndGet();
+            if (index == 0) {
+                firstStarted = System.nanoTime();
+            }
+            CompletionStage<T> attempt;
+            try {
+                attempt = supplier.get();
+            } catch (Exception e) {
+                attempt = CompletableFuture.failedStage(e);
+            }
+            attempts.set(index, attempt);
+            if (done.get()) {
+                // completed while this attempt was starting
+                cancel(attempt);
+                return;
+            }
+            attempt.whenComplete((value, throwable) -> completed(index, value, throwable));
+        }
+
+        private void completed(int index, T value, Throwable throwable) {
+            int remaining = inProgress.decrementAndGet();
+            if (throwable == null) {
+                if (done.compareAndSet(false, true)) {
+                    // only latencies of first attempts are recorded, the latency of a hedged attempt would lower
+                    // the percentile; when a hedge wins, the time the first attempt took so far is its lower bound
+                    if (!firstFailed) {
+                        latencies.record(System.nanoTime() - firstStarted);
+                    }
+                    if (index > 0) {
+                        hedgesWon.incrementAndGet();
+                    }
+                    cancelAll();
+                    result.complete(value);
+                }
+            } else {
+                if (index == 0) {
+                    firstFailed = true;
+                }
+                if (remaining == 0 && done.compareAndSet(false, true)) {
+                    // hedging does not retry failures, fail once no attempt is in progress
+                    cancelAll();
+                    result.completeExceptionally(FaultTolerance.cause(throwable));
+                }
+            }
+        }
+
+        private void cancelAll() {
+            for (int i = 0; i < maxAttempts; i++) {
+                ScheduledFuture<?> future = scheduled.get(i);
+                if (future != null) {
+                    future.cancel(false);
+                }
+                CompletionStage<T> attempt = attempts.get(i);
+                if (attempt != null) {
+                    cancel(attempt);
+                }
+            }
+        }
+
+        private void cancel(CompletionStage<T> attempt) {
+            if (attempt instanceof Single) {
+                ((Single<T>) attempt).cancel();
+            } else {
+                try {
+                    attempt.toCompletableFuture().cancel(true);
+                } catch (UnsupportedOperationException e) {
+                    // the stage cannot be cancelled, its result is ignored
+                    LOGGER.finest(() -> name + " attempt cannot be cancelled: " + attempt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ring of latencies of the first attempts of successful calls, the percentile is computed again after every
+     * tenth of the ring is replaced.
+     */
+    private static final class Latencies {
+        private final AtomicLongArray samples = new AtomicLongArray(LATENCY_SAMPLES);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicBoolean computing = new AtomicBoolean();
+        private final double percentile;
+        private volatile long delayNanos;
+
+        private Latencies(long delayNanos, double percentile) {
+            this.delayNanos = delayNanos;
+            this.percentile = percentile;
+        }
+
+        private long delayNanos() {
+            return delayNanos;
+        }
+
+        private void record(long nanos) {
+            if (percentile == 0) {
+                return;
+            }
+            long current = count.getAndIncrement();
+            samples.set((int) (current % LATENCY_SAMPLES), nanos);
+            long recorded = current + 1;
+            if (recorded % (LATENCY_SAMPLES / 10) == 0) {
+                compute((int) Math.min(recorded, LATENCY_SAMPLES));
+            }
+        }
+
+        private void compute(int size) {
+            if (!computing.compareAndSet(false, true)) {
+                // another thread is computing the delay, this one can be skipped
+                return;
+            }
+            try {
+                long[] sorted = new long[size];
+                for (int i = 0; i < size; i++) {
+                    sorted[i] = samples.get(i);
+                }
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile / 100 * size) - 1;
+                delayNanos = sorted[Math.max(0, index)];
+            } finally {
+                computing.set(false);
+            }
+        }
+    }
+}
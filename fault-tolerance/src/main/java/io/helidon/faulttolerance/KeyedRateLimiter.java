@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A separate {@link io.helidon.faulttolerance.RateLimiter} for each key, such as a client identifier.
+ * <p>
+ * Rate limiters are created on first use of a key. The number of keys is bounded by the configured maximum,
+ * once it is exceeded the rate limiters of the least recently used keys are removed, a tenth of the maximum
+ * at a time. The maximum should be above the number of keys used within a period, as a key that is used again
+ * after its removal gets a new rate limiter.
+ *
+ * @param <K> type of the key
+ */
+public interface KeyedRateLimiter<K> {
+    /**
+     * Default maximal number of keys.
+     */
+    int DEFAULT_MAX_KEYS = 10_000;
+
+    /**
+     * Create a new keyed rate limiter.
+     *
+     * @param factory factory of rate limiters, such as {@code builder::build} of a
+     *                {@link io.helidon.faulttolerance.RateLimiter.Builder}
+     * @param <K> type of the key
+     * @return a new keyed rate limiter
+     */
+    static <K> KeyedRateLimiter<K> create(Supplier<? extends RateLimiter> factory) {
+        return create(factory, DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * Create a new keyed rate limiter.
+     *
+     * @param factory factory of rate limiters, such as {@code builder::build} of a
+     *                {@link io.helidon.faulttolerance.RateLimiter.Builder}
+     * @param maxKeys maximal number of keys, the rate limiters of the least recently used keys are removed
+     *                when a new key exceeds it
+     * @param <K> type of the key
+     * @return a new keyed rate limiter
+     */
+    static <K> KeyedRateLimiter<K> create(Supplier<? extends RateLimiter> factory, int maxKeys) {
+        return new KeyedRateLimiterImpl<>(Objects.requireNonNull(factory), maxKeys);
+    }
+
+    /**
+     * Rate limiter for the key.
+     *
+     * @param key key, such as a client identifier
+     * @return rate limiter of the key
+     */
+    RateLimiter limiter(K key);
+
+    /**
+     * Number of keys that currently have a rate limiter.
+     *
+     * @return number of keys
+     */
+    int size();
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+class KeyedRateLimiterImpl<K> implements KeyedRateLimiter<K> {
+    private final Map<K, Entry> limiters = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Supplier<? extends RateLimiter> factory;
+    private final int maxKeys;
+    private final int evictionBatch;
+
+    KeyedRateLimiterImpl(Supplier<? extends RateLimiter> factory, int maxKeys) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("Maximal number of keys must be positive: " + maxKeys);
+        }
+        this.factory = factory;
+        this.maxKeys = maxKeys;
+        // keys are removed in batches, so that the cost of finding the least recently used keys is amortized
+        this.evictionBatch = maxKeys / 10;
+    }
+
+    @Override
+    public RateLimiter limiter(K key) {
+        Entry entry = limiters.get(key);
+        if (entry == null) {
+            entry = limiters.computeIfAbsent(key, it -> new Entry(factory.get()));
+            if (limiters.size() > maxKeys) {
+                evict();
+            }
+        } else {
+            entry.lastUsed = System.nanoTime();
+        }
+        return entry.limiter;
+    }
+
+    @Override
+    public int size() {
+        return limiters.size();
+    }
+
+    private void evict() {
+        // a single thread evicts at a time, others proceed without waiting
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int toRemove = limiters.size() - maxKeys + evictionBatch;
+            if (toRemove <= evictionBatch) {
+                return;
+            }
+            // the time of last use is captured first, as it changes while sorting
+            List<Map.Entry<K, Long>> lastUsed = new ArrayList<>(limiters.size());
+            limiters.forEach((key, entry) -> lastUsed.add(Map.entry(key, entry.lastUsed)));
+            lastUsed.sort(Map.Entry.comparingByValue());
+            for (int i = 0; i < toRemove && i < lastUsed.size(); i++) {
+                limiters.remove(lastUsed.get(i).getKey());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry {
+        private final RateLimiter limiter;
+        private volatile long lastUsed = System.nanoTime();
+
+        private Entry(RateLimiter limiter) {
+            this.limiter = limiter;
+        }
+    }
+}
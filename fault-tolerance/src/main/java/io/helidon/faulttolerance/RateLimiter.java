@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.helidon.common.LazyValue;
+
+/**
+ * Rate limiter caps the number of calls to a resource within a period of time.
+ * A call that exceeds the rate is delayed until a permit is available, if that happens within
+ * {@link Builder#waitTimeout(java.time.Duration)}. Otherwise it ends with a failed response with
+ * {@link io.helidon.faulttolerance.RateLimiterException}.
+ * <p>
+ * Permits are acquired without locking, so the rate limiter can be shared by many threads.
+ *
+ * @see io.helidon.faulttolerance.KeyedRateLimiter
+ */
+public interface RateLimiter extends FtHandler {
+    /**
+     * A new builder for {@link io.helidon.faulttolerance.RateLimiter}.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Provides access to internal stats for this rate limiter.
+     *
+     * @return internal stats
+     */
+    Stats stats();
+
+    /**
+     * Algorithm used to decide whether a call is within the rate.
+     */
+    enum Algorithm {
+        /**
+         * Token bucket of {@link Builder#limit(int)} tokens, refilled continuously at a rate of
+         * {@code limit / period}. Allows a burst of {@code limit} calls after an idle period.
+         */
+        TOKEN_BUCKET,
+        /**
+         * Sliding log of the last {@link Builder#limit(int)} permits. A call is allowed only if fewer than
+         * {@code limit} permits were given within the last {@code period}, so there are never more calls
+         * than the limit in any period of time.
+         * The log keeps a timestamp for each permit, so memory use grows with the limit.
+         */
+        SLIDING_WINDOW
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.faulttolerance.RateLimiter}.
+     */
+    class Builder implements io.helidon.common.Builder<RateLimiter> {
+        private static final int DEFAULT_LIMIT = 10;
+
+        private LazyValue<? extends ScheduledExecutorService> executor = FaultTolerance.scheduledExecutor();
+        private int limit = DEFAULT_LIMIT;
+        private Duration period = Duration.ofSeconds(1);
+        private Duration waitTimeout = Duration.ZERO;
+        private Algorithm algorithm = Algorithm.TOKEN_BUCKET;
+        private String name = "RateLimiter-" + System.identityHashCode(this);
+
+        private Builder() {
+        }
+
+        @Override
+        public RateLimiter build() {
+            return new RateLimiterImpl(this);
+        }
+
+        /**
+         * Maximal number of calls within a {@link #period(java.time.Duration)}.
+         *
+         * @param limit number of calls
+         * @return updated builder instance
+         */
+        public Builder limit(int limit) {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Limit must be at least 1, but is: " + limit);
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Period of time the {@link #limit(int)} applies to.
+         *
+         * @param period period, defaults to one second
+         * @return updated builder instance
+         */
+        public Builder period(Duration period) {
+            if (period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Period must be positive, but is: " + period);
+            }
+            this.period = period;
+            return this;
+        }
+
+        /**
+         * Maximal time a call waits for a permit. The call is delayed (without blocking a thread)
+         * until its permit is available.
+         *
+         * @param waitTimeout maximal wait, defaults to zero - calls over the rate are rejected immediately
+         * @return updated builder instance
+         */
+        public Builder waitTimeout(Duration waitTimeout) {
+            if (waitTimeout.isNegative()) {
+                throw new IllegalArgumentException("Wait timeout must not be negative, but is: " + waitTimeout);
+            }
+            this.waitTimeout = waitTimeout;
+            return this;
+        }
+
+        /**
+         * Algorithm used to limit the rate.
+         *
+         * @param algorithm algorithm, defaults to {@link Algorithm#TOKEN_BUCKET}
+         * @return updated builder instance
+         */
+        public Builder algorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        /**
+         * Executor service to schedule delayed calls.
+         * By default uses an executor configured on
+         * {@link io.helidon.faulttolerance.FaultTolerance#scheduledExecutor(java.util.function.Supplier)}.
+         *
+         * @param scheduledExecutor executor to use
+         * @return updated builder instance
+         */
+        public Builder executor(ScheduledExecutorService scheduledExecutor) {
+            this.executor = LazyValue.create(scheduledExecutor);
+            return this;
+        }
+
+        /**
+         * A name assigned for debugging, error reporting or configuration purposes.
+         *
+         * @param name the name
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        int limit() {
+            return limit;
+        }
+
+        Duration period() {
+            return period;
+        }
+
+        Duration waitTimeout() {
+            return waitTimeout;
+        }
+
+        Algorithm algorithm() {
+            return algorithm;
+        }
+
+        LazyValue<? extends ScheduledExecutorService> executor() {
+            return executor;
+        }
+
+        String name() {
+            return name;
+        }
+    }
+
+    /**
+     * Provides access to internal stats for a rate limiter.
+     */
+    interface Stats {
+        /**
+         * Number of calls accepted by the rate limiter, including delayed calls.
+         *
+         * @return number of calls accepted
+         */
+        long callsAccepted();
+
+        /**
+         * Number of calls that had to wait for a permit.
+         *
+         * @return number of calls delayed
+         */
+        long callsDelayed();
+
+        /**
+         * Number of calls rejected by the rate limiter.
+         *
+         * @return number of calls rejected
+         */
+        long callsRejected();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import io.helidon.common.LazyValue;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+class RateLimiterImpl implements RateLimiter {
+    private static final Logger LOGGER = Logger.getLogger(RateLimiterImpl.class.getName());
+
+    private final LazyValue<? extends ScheduledExecutorService> executor;
+    private final Permits permits;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoTime;
+    private final String name;
+
+    private final AtomicLong callsAccepted = new AtomicLong(0L);
+    private final AtomicLong callsDelayed = new AtomicLong(0L);
+    private final AtomicLong callsRejected = new AtomicLong(0L);
+
+    RateLimiterImpl(RateLimiter.Builder builder) {
+        this(builder, System::nanoTime);
+    }
+
+    RateLimiterImpl(RateLimiter.Builder builder, LongSupplier nanoTime) {
+        this.executor = builder.executor();
+        this.maxWaitNanos = builder.waitTimeout().toNanos();
+        this.nanoTime = nanoTime;
+        this.name = builder.name();
+
+        long periodNanos = builder.period().toNanos();
+        long now = nanoTime.getAsLong();
+        if (builder.algorithm() == Algorithm.SLIDING_WINDOW) {
+            this.permits = new SlidingLog(builder.limit(), periodNanos, now);
+        } else {
+            this.permits = new TokenBucket(builder.limit(), periodNanos, now);
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> Single<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+        return invokeTask(DelayedTask.createSingle(supplier));
+    }
+
+    @Override
+    public <T> Multi<T> invokeMulti(Supplier<? extends Flow.Publisher<T>> supplier) {
+        return invokeTask(DelayedTask.createMulti(supplier));
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats() {
+            @Override
+            public long callsAccepted() {
+                return callsAccepted.get();
+            }
+
+            @Override
+            public long callsDelayed() {
+                return callsDelayed.get();
+            }
+
+            @Override
+            public long callsRejected() {
+                return callsRejected.get();
+            }
+        };
+    }
+
+    private <R> R invokeTask(DelayedTask<R> task) {
+        long wait = permits.reserve(nanoTime.getAsLong(), maxWaitNanos);
+        if (wait < 0) {
+            LOGGER.finest(() -> name + " reject: " + task);
+            callsRejected.incrementAndGet();
+            return task.error(new RateLimiterException("Rate limit of \"" + name + "\" exceeded",
+                                                       Duration.ofNanos(-wait)));
+        }
+        callsAccepted.incrementAndGet();
+        if (wait == 0) {
+            LOGGER.finest(() -> name + " invoke immediate: " + task);
+            task.execute();
+        } else {
+            LOGGER.finest(() -> name + " invoke delayed by " + wait + " ns: " + task);
+            callsDelayed.incrementAndGet();
+            executor.get().schedule(task::execute, wait, TimeUnit.NANOSECONDS);
+        }
+        return task.result();
+    }
+
+    /**
+     * Lock free permit accounting.
+     */
+    private interface Permits {
+        /**
+         * Reserve a permit.
+         *
+         * @param now current time in nanoseconds
+         * @param maxWaitNanos maximal time to wait for the permit
+         * @return nanoseconds to wait for the reserved permit (zero to proceed immediately), or a negative number
+         *          of nanoseconds after which a permit would be available if none was reserved
+         */
+        long reserve(long now, long maxWaitNanos);
+    }
+
+    /**
+     * Token bucket implemented as a generic cell rate algorithm, so the whole state is a single number - the
+     * theoretical time at which the bucket is full again.
+     */
+    private static final class TokenBucket implements Permits {
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong fullAt;
+
+        private TokenBucket(int limit, long periodNanos, long now) {
+            this.intervalNanos = Math.max(1, periodNanos / limit);
+            // a full bucket allows limit permits at once
+            this.burstNanos = intervalNanos * (limit - 1);
+            this.fullAt = new AtomicLong(now);
+        }
+
+        @Override
+        public long reserve(long now, long maxWaitNanos) {
+            while (true) {
+                long current = fullAt.get();
+                long base = current - now > 0 ? current : now;
+                long wait = base - burstNanos - now;
+                if (wait < 0) {
+                    wait = 0;
+                }
+                if (wait > maxWaitNanos) {
+                    return -wait;
+                }
+                if (fullAt.compareAndSet(current, base + intervalNanos)) {
+                    return wait;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sliding log of the times of the last {@code limit} permits in a ring buffer.
+     * A permit is available when the oldest one in the log is older than the period.
+     */
+    private static final class SlidingLog implements Permits {
+        private final int limit;
+        private final long periodNanos;
+        private final AtomicLongArray log;
+        private final AtomicLong cursor = new AtomicLong();
+
+        private SlidingLog(int limit, long periodNanos, long now) {
+            this.limit = limit;
+            this.periodNanos = periodNanos;
+            this.log = new AtomicLongArray(limit);
+            for (int i = 0; i < limit; i++) {
+                log.set(i, now - periodNanos);
+            }
+        }
+
+        @Override
+        public long reserve(long now, long maxWaitNanos) {
+            while (true) {
+                long position = cursor.get();
+                int index = (int) (position % limit);
+                long availableAt = log.get(index) + periodNanos;
+                long wait = availableAt - now > 0 ? availableAt - now : 0;
+                if (wait > maxWaitNanos) {
+                    return -wait;
+                }
+                if (cursor.compareAndSet(position, position + 1)) {
+                    // the slot is ours until the cursor wraps around the whole log
+                    log.set(index, now + wait);
+                    return wait;
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -73,6 +73,14 @@ final class ResultWindow {
         return totalResults.get() >= results.length && currentSum.get() >= thresholdSum;
     }
 
+    int calls() {
+        return Math.min(totalResults.get(), results.length);
+    }
+
+    int failures() {
+        return currentSum.get();
+    }
+
     void reset() {
         for (int i = 0; i < results.length; i++) {
             results[i].set(Result.SUCCESS.ordinal());
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding window of results split into buckets of equal duration.
+ * Buckets older than the window are reused for new results, so the window only considers calls
+ * that completed within the last {@code bucketCount * bucketDuration}.
+ * <p>
+ * Counters are striped to minimize contention. The same as with {@link io.helidon.faulttolerance.ResultWindow},
+ * the status is eventually consistent, as results recorded while a bucket is being recycled may be lost.
+ */
+final class TimeWindow {
+    private final Bucket[] buckets;
+    private final long bucketNanos;
+    private final int minimumCalls;
+    private final int errorRatio;
+    private final int slowCallRatio;
+    private final LongSupplier nanoTime;
+
+    TimeWindow(Duration bucketDuration, int bucketCount, int minimumCalls, int errorRatio, int slowCallRatio) {
+        this(bucketDuration, bucketCount, minimumCalls, errorRatio, slowCallRatio, System::nanoTime);
+    }
+
+    TimeWindow(Duration bucketDuration,
+               int bucketCount,
+               int minimumCalls,
+               int errorRatio,
+               int slowCallRatio,
+               LongSupplier nanoTime) {
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.bucketNanos = bucketDuration.toNanos();
+        this.minimumCalls = Math.max(1, minimumCalls);
+        this.errorRatio = errorRatio;
+        this.slowCallRatio = slowCallRatio;
+        this.nanoTime = nanoTime;
+    }
+
+    void update(boolean failure, boolean slow) {
+        Bucket bucket = current(epoch());
+        bucket.calls.increment();
+        if (failure) {
+            bucket.failures.increment();
+        }
+        if (slow) {
+            bucket.slowCalls.increment();
+        }
+    }
+
+    /**
+     * Open if we have seen enough results within the window and either the failures or the slow calls
+     * are at or over their threshold.
+     *
+     * @return outcome of test.
+     */
+    boolean shouldOpen() {
+        long epoch = epoch();
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (Bucket bucket : buckets) {
+            if (isActive(bucket, epoch)) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                slowCalls += bucket.slowCalls.sum();
+            }
+        }
+        if (calls < minimumCalls) {
+            return false;
+        }
+        return failures * 100 >= calls * errorRatio
+                || (slowCallRatio > 0 && slowCalls * 100 >= calls * slowCallRatio);
+    }
+
+    void reset() {
+        for (Bucket bucket : buckets) {
+            synchronized (bucket) {
+                bucket.reset(Long.MIN_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Statistics of buckets within the window, ordered from the oldest to the current one.
+     *
+     * @return bucket statistics
+     */
+    List<CircuitBreaker.BucketStats> buckets() {
+        long epoch = epoch();
+        List<CircuitBreaker.BucketStats> result = new ArrayList<>(buckets.length);
+        for (long i = epoch - buckets.length + 1; i <= epoch; i++) {
+            Bucket bucket = buckets[index(i)];
+            if (bucket.epoch == i) {
+                result.add(new BucketStatsImpl(bucket.calls.sum(), bucket.failures.sum(), bucket.slowCalls.sum()));
+            } else {
+                result.add(new BucketStatsImpl(0, 0, 0));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private boolean isActive(Bucket bucket, long epoch) {
+        long bucketEpoch = bucket.epoch;
+        return bucketEpoch <= epoch && bucketEpoch > epoch - buckets.length;
+    }
+
+    private Bucket current(long epoch) {
+        Bucket bucket = buckets[index(epoch)];
+        if (bucket.epoch != epoch) {
+            synchronized (bucket) {
+                if (bucket.epoch != epoch) {
+                    // bucket contains results of a previous round, recycle it
+                    bucket.reset(epoch);
+                }
+            }
+        }
+        return bucket;
+    }
+
+    private long epoch() {
+        return Math.floorDiv(nanoTime.getAsLong(), bucketNanos);
+    }
+
+    private int index(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length);
+    }
+
+    private static final class Bucket {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private volatile long epoch = Long.MIN_VALUE;
+
+        private void reset(long epoch) {
+            calls.reset();
+            failures.reset();
+            slowCalls.reset();
+            this.epoch = epoch;
+        }
+    }
+
+    private static final class BucketStatsImpl implements CircuitBreaker.BucketStats {
+        private final long calls;
+        private final long failures;
+        private final long slowCalls;
+
+        private BucketStatsImpl(long calls, long failures, long slowCalls) {
+            this.calls = calls;
+            this.failures = failures;
+            this.slowCalls = slowCalls;
+        }
+
+        @Override
+        public long calls() {
+            return calls;
+        }
+
+        @Override
+        public long failures() {
+            return failures;
+        }
+
+        @Override
+        public long slowCalls() {
+            return slowCalls;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,14 @@
 
 package io.helidon.faulttolerance;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
@@ -128,6 +130,61 @@ class BulkheadTest {
         assertThat(cause.getMessage(), is("Bulkhead queue \"" + name + "\" is full"));
     }
 
+    @Test
+    void testAdaptiveBulkhead() throws InterruptedException {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .adaptiveLimit(AdaptiveLimit.AimdLimit.builder()
+                                       .initialLimit(2)
+                                       .build())
+                .queueLength(0)
+                .build();
+
+        assertThat(bulkhead.stats().limit(), is(2L));
+
+        // dropped calls lower the limit
+        Single<Object> dropped = bulkhead.invoke(() -> Single.error(new TimeoutException("Dropped")));
+        FaultToleranceTest.completionException(dropped, TimeoutException.class);
+        assertThat(bulkhead.stats().limit(), is(1L));
+
+        // successful calls that use the limit raise it
+        assertThat(bulkhead.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS), is(1));
+        assertThat(bulkhead.stats().limit(), is(2L));
+
+        dropped = bulkhead.invoke(() -> Single.error(new TimeoutException("Dropped")));
+        FaultToleranceTest.completionException(dropped, TimeoutException.class);
+        assertThat(bulkhead.stats().limit(), is(1L));
+
+        Request inProgress = new Request(0);
+        Single<Integer> inProgressResult = bulkhead.invoke(inProgress::invoke);
+        if (!inProgress.invokedCdl.await(1, TimeUnit.SECONDS)) {
+            fail("Invoke method of inProgress was not called");
+        }
+        Single<Integer> rejectedResult = bulkhead.invoke(() -> Single.just(1));
+        FaultToleranceTest.completionException(rejectedResult, BulkheadException.class);
+
+        inProgress.releaseCdl.countDown();
+        assertThat(inProgressResult.await(1, TimeUnit.SECONDS), is(0));
+    }
+
+    @Test
+    void testAdaptiveLimitTimeout() {
+        AdaptiveLimit.AimdLimit.Builder builder = AdaptiveLimit.AimdLimit.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.timeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.timeout(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void testAdaptiveLimitWindows() {
+        AdaptiveLimit.VegasLimit.Builder vegas = AdaptiveLimit.VegasLimit.builder();
+        assertThrows(IllegalArgumentException.class, () -> vegas.probeInterval(0));
+
+        AdaptiveLimit.Gradient2Limit.Builder gradient = AdaptiveLimit.Gradient2Limit.builder();
+        assertThrows(IllegalArgumentException.class, () -> gradient.queueSize(0));
+        assertThrows(IllegalArgumentException.class, () -> gradient.longWindow(-1));
+        assertThrows(IllegalArgumentException.class, () -> gradient.shortWindow(0));
+    }
+
     @Test
     void testBulkheadWithError() {
         Bulkhead bulkhead = Bulkhead.builder()
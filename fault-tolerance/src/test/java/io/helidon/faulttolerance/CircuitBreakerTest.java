@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
@@ -94,6 +96,95 @@ class CircuitBreakerTest {
         assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
     }
 
+    @Test
+    void testSlowCallsOpenBreaker() throws InterruptedException {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .volume(2)
+                .slidingWindow(Duration.ofSeconds(1), 10)
+                .slowCallThreshold(Duration.ofMillis(20))
+                .slowCallRatio(50)
+                .delay(Duration.ofSeconds(10))
+                .build();
+
+        good(breaker);
+        slow(breaker);
+
+        // the result is completed before the breaker processes it
+        int count = 0;
+        while (count++ < 10 && breaker.state() == CircuitBreaker.State.CLOSED) {
+            Thread.sleep(50);
+        }
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        breakerOpen(breaker);
+    }
+
+    @Test
+    void testSlidingWindowStats() {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .volume(10)
+                .slidingWindow(Duration.ofSeconds(10), 6)
+                .build();
+
+        good(breaker);
+        bad(breaker);
+        good(breaker);
+
+        CircuitBreaker.Stats stats = breaker.stats();
+        assertThat(stats.calls(), is(3L));
+        assertThat(stats.failures(), is(1L));
+        assertThat(stats.slowCalls(), is(0L));
+        assertThat(stats.buckets().size(), is(6));
+        assertThat(stats.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void testDefaultStats() {
+        CircuitBreaker delegate = CircuitBreaker.builder().build();
+        CircuitBreaker breaker = new CircuitBreaker() {
+            @Override
+            public State state() {
+                return delegate.state();
+            }
+
+            @Override
+            public void state(State newState) {
+                delegate.state(newState);
+            }
+
+            @Override
+            public String name() {
+                return delegate.name();
+            }
+
+            @Override
+            public <T> Single<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+                return delegate.invoke(supplier);
+            }
+
+            @Override
+            public <T> Multi<T> invokeMulti(Supplier<? extends Flow.Publisher<T>> supplier) {
+                return delegate.invokeMulti(supplier);
+            }
+        };
+        breaker.state(CircuitBreaker.State.OPEN);
+
+        CircuitBreaker.Stats stats = breaker.stats();
+        assertThat(stats.state(), is(CircuitBreaker.State.OPEN));
+        assertThat(stats.calls(), is(0L));
+        assertThat(stats.buckets(), is(List.of()));
+    }
+
+    @Test
+    void testSlowCallValidation() {
+        CircuitBreaker.Builder builder = CircuitBreaker.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallThreshold(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallThreshold(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallRatio(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallRatio(101));
+    }
+
     private void breakerOpen(CircuitBreaker breaker) {
         Request good = new Request();
         Single<Integer> result = breaker.invoke(good::invoke);
@@ -143,6 +234,17 @@ class CircuitBreakerTest {
 
     }
 
+    private void slow(CircuitBreaker breaker) {
+        Single<Integer> result = breaker.invoke(() -> CompletableFuture.supplyAsync(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+            }
+            return 1;
+        }));
+        assertThat(result.await(1, TimeUnit.SECONDS), is(1));
+    }
+
     private void good(CircuitBreaker breaker) {
         Request good = new Request();
         Single<Integer> result = breaker.invoke(good::invoke);
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+class CoalesceTest {
+    @Test
+    void testCoalesceSingle() {
+        Coalesce coalesce = Coalesce.create();
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> shared = new CompletableFuture<>();
+
+        Single<String> first = coalesce.invoke("key", () -> {
+            executions.incrementAndGet();
+            return shared;
+        });
+        Single<String> second = coalesce.invoke("key", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture("second");
+        });
+        Single<String> other = coalesce.invoke("other", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        assertThat(other.await(1, TimeUnit.SECONDS), is("other"));
+        assertThat(coalesce.stats().inFlight(), is(1L));
+
+        shared.complete("shared");
+        assertThat(first.await(1, TimeUnit.SECONDS), is("shared"));
+        assertThat(second.await(1, TimeUnit.SECONDS), is("shared"));
+        assertThat(executions.get(), is(2));
+
+        Coalesce.Stats stats = coalesce.stats();
+        assertThat(stats.callsExecuted(), is(2L));
+        assertThat(stats.callsCoalesced(), is(1L));
+        assertThat(stats.inFlight(), is(0L));
+
+        // completed executions are not reused
+        Single<String> next = coalesce.invoke("key", () -> CompletableFuture.completedFuture("next"));
+        assertThat(next.await(1, TimeUnit.SECONDS), is("next"));
+    }
+
+    @Test
+    void testCoalesceError() {
+        Coalesce coalesce = Coalesce.create();
+        CompletableFuture<String> shared = new CompletableFuture<>();
+
+        Single<String> first = coalesce.invoke(() -> shared);
+        Single<String> second = coalesce.invoke(() -> CompletableFuture.completedFuture("second"));
+        shared.completeExceptionally(new IllegalStateException("Failed"));
+
+        FaultToleranceTest.completionException(first, IllegalStateException.class);
+        FaultToleranceTest.completionException(second, IllegalStateException.class);
+    }
+
+    @Test
+    void testCancelWaiter() {
+        Coalesce coalesce = Coalesce.create();
+        CompletableFuture<String> shared = new CompletableFuture<>();
+
+        Single<String> first = coalesce.invoke("key", () -> shared);
+        Single<String> second = coalesce.invoke("key", () -> shared);
+        second.cancel();
+        shared.complete("shared");
+
+        assertThat(shared.isCancelled(), is(false));
+        assertThat(first.await(1, TimeUnit.SECONDS), is("shared"));
+    }
+
+    @Test
+    void testCoalesceMulti() {
+        Coalesce coalesce = Coalesce.create();
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<Integer> last = new CompletableFuture<>();
+
+        Multi<Integer> first = coalesce.invokeMulti("key", () -> {
+            executions.incrementAndGet();
+            return Multi.concat(Multi.just(1, 2), Single.create(last));
+        });
+        Multi<Integer> second = coalesce.invokeMulti("key", () -> {
+            executions.incrementAndGet();
+            return Multi.just(4);
+        });
+        last.complete(3);
+
+        List<Integer> firstItems = first.collectList().await(1, TimeUnit.SECONDS);
+        List<Integer> secondItems = second.collectList().await(1, TimeUnit.SECONDS);
+        assertThat(firstItems, contains(1, 2, 3));
+        assertThat(secondItems, contains(1, 2, 3));
+        assertThat(executions.get(), is(1));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.reactive.Single;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+class HedgeTest {
+    @Test
+    void testNoHedgeForFastCall() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofSeconds(10))
+                .build();
+
+        assertThat(hedge.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS), is(1));
+
+        Hedge.Stats stats = hedge.stats();
+        assertThat(stats.calls(), is(1L));
+        assertThat(stats.hedgesIssued(), is(0L));
+    }
+
+    @Test
+    void testHedgeWinsOverSlowAttempt() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofMillis(50))
+                .build();
+
+        List<CompletableFuture<Integer>> attempts = new CopyOnWriteArrayList<>();
+        Single<Integer> result = hedge.invoke(() -> {
+            CompletableFuture<Integer> attempt = new CompletableFuture<>();
+            if (!attempts.isEmpty()) {
+                // the hedged attempt is fast
+                attempt.complete(attempts.size());
+            }
+            attempts.add(attempt);
+            return attempt;
+        });
+
+        assertThat(result.await(1, TimeUnit.SECONDS), is(1));
+        assertThat(attempts.size(), is(2));
+        assertThat("Slow attempt should be cancelled", attempts.get(0).isCancelled(), is(true));
+
+        Hedge.Stats stats = hedge.stats();
+        assertThat(stats.hedgesIssued(), is(1L));
+        assertThat(stats.hedgesWon(), is(1L));
+    }
+
+    @Test
+    void testFailureNotHedged() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofMillis(50))
+                .build();
+
+        AtomicInteger attempts = new AtomicInteger();
+        Single<Integer> result = hedge.invoke(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("Failed"));
+        });
+
+        FaultToleranceTest.completionException(result, IllegalStateException.class);
+        assertThat(attempts.get(), is(1));
+        assertThat(hedge.stats().hedgesIssued(), is(0L));
+    }
+
+    @Test
+    void testHedgeBudget() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ZERO)
+                .maxHedgeRatio(0)
+                .build();
+
+        // initial budget allows a burst of hedges
+        for (int i = 0; i < 10; i++) {
+            hedge.invoke(CompletableFuture::new);
+        }
+        Single<Object> result = hedge.invoke(CompletableFuture::new);
+
+        Hedge.Stats stats = hedge.stats();
+        long deadline = System.currentTimeMillis() + 1000;
+        while (stats.hedgesIssued() + stats.hedgesSkipped() < 11 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        // cancelled once the hedged attempt was skipped, as cancelling cancels the scheduled attempt
+        result.cancel();
+        assertThat(stats.hedgesIssued(), is(10L));
+        assertThat(stats.hedgesSkipped(), is(1L));
+    }
+
+    @Test
+    void testDelayFromPercentile() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofSeconds(10))
+                .delayPercentile(50)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            hedge.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS);
+        }
+
+        assertThat(hedge.stats().delay().compareTo(Duration.ofSeconds(10)) < 0, is(true));
+    }
+
+    @Test
+    void testDelayFromFirstAttempts() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofMillis(20))
+                .delayPercentile(50)
+                .maxHedgeRatio(100)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            // the first attempt never completes, the hedged attempt is fast
+            hedge.invoke(() -> attempts.getAndIncrement() == 0
+                    ? new CompletableFuture<>()
+                    : CompletableFuture.completedFuture(1))
+                    .await(1, TimeUnit.SECONDS);
+        }
+
+        // latencies of the hedged attempts would lower the delay
+        assertThat(hedge.stats().delay(), is(greaterThanOrEqualTo(Duration.ofMillis(20))));
+    }
+
+    @Test
+    void testCancelStageWithoutCompletableFuture() {
+        Hedge hedge = Hedge.builder()
+                .delay(Duration.ofSeconds(10))
+                .build();
+
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        // a stage that does not support toCompletableFuture
+        CompletionStage<?> stage = (CompletionStage<?>) Proxy.newProxyInstance(
+                CompletionStage.class.getClassLoader(),
+                new Class<?>[] {CompletionStage.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("toCompletableFuture")) {
+                        throw new UnsupportedOperationException("toCompletableFuture");
+                    }
+                    return method.invoke(future, args);
+                });
+
+        Single<?> result = hedge.invoke(() -> stage);
+        result.cancel();
+        future.complete(1);
+
+        assertThat(future.isCancelled(), is(false));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Throughput of {@link RateLimiter} algorithms with a rate limiter shared by all cores.
+ * The limit is high enough that most calls are accepted, so the benchmark measures contention on the permits.
+ * The keyed benchmark uses more keys than the maximum of {@link KeyedRateLimiter}, so that keys are also removed.
+ */
+@State(Scope.Benchmark)
+public class RateLimiterJMH {
+
+    private static final CompletableFuture<Integer> RESULT = CompletableFuture.completedFuture(1);
+
+    @Param({"TOKEN_BUCKET", "SLIDING_WINDOW"})
+    String algorithm;
+
+    private RateLimiter limiter;
+    private KeyedRateLimiter<Integer> keyed;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(RateLimiterJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        limiter = RateLimiter.builder()
+                // 100 million calls per second, the sliding log keeps one long per permit of the period
+                .limit(1_000_000)
+                .period(Duration.ofMillis(10))
+                .algorithm(RateLimiter.Algorithm.valueOf(algorithm))
+                .build();
+        keyed = KeyedRateLimiter.create(() -> RateLimiter.builder()
+                // a lower limit per key, as the sliding logs of all the keys are kept
+                .limit(10_000)
+                .period(Duration.ofMillis(10))
+                .algorithm(RateLimiter.Algorithm.valueOf(algorithm))
+                .build(), 1_000);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void invokeSingleThread(Blackhole bh) {
+        bh.consume(limiter.invoke(() -> RESULT));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void invokeAllCores(Blackhole bh) {
+        bh.consume(limiter.invoke(() -> RESULT));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void invokeKeyedAllCores(Blackhole bh) {
+        bh.consume(keyed.limiter(ThreadLocalRandom.current().nextInt(1_100)).invoke(() -> RESULT));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.common.reactive.Single;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class RateLimiterTest {
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testTokenBucket() {
+        RateLimiter limiter = limiter(RateLimiter.Algorithm.TOKEN_BUCKET);
+
+        // full bucket allows a burst
+        accepted(limiter);
+        accepted(limiter);
+        accepted(limiter);
+        accepted(limiter);
+        RateLimiterException exception = rejected(limiter);
+        assertThat(exception.retryAfter(), is(Duration.ofMillis(25)));
+
+        // one token is refilled every 25 millis
+        now.addAndGet(25 * MILLI);
+        accepted(limiter);
+        rejected(limiter);
+
+        RateLimiter.Stats stats = limiter.stats();
+        assertThat(stats.callsAccepted(), is(5L));
+        assertThat(stats.callsRejected(), is(2L));
+        assertThat(stats.callsDelayed(), is(0L));
+    }
+
+    @Test
+    void testSlidingWindow() {
+        RateLimiter limiter = limiter(RateLimiter.Algorithm.SLIDING_WINDOW);
+
+        accepted(limiter);
+        now.addAndGet(50 * MILLI);
+        accepted(limiter);
+        accepted(limiter);
+        accepted(limiter);
+        RateLimiterException exception = rejected(limiter);
+        assertThat(exception.retryAfter(), is(Duration.ofMillis(50)));
+
+        // the first call left the window
+        now.addAndGet(50 * MILLI);
+        accepted(limiter);
+        rejected(limiter);
+
+        // the remaining calls left the window as well
+        now.addAndGet(50 * MILLI);
+        accepted(limiter);
+        accepted(limiter);
+        accepted(limiter);
+        rejected(limiter);
+    }
+
+    @Test
+    void testWaitForPermit() {
+        RateLimiter limiter = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofMillis(100))
+                .waitTimeout(Duration.ofSeconds(1))
+                .build();
+
+        long started = System.nanoTime();
+        assertThat(limiter.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS), is(1));
+        assertThat(limiter.invoke(() -> Single.just(2)).await(1, TimeUnit.SECONDS), is(2));
+        long elapsed = System.nanoTime() - started;
+
+        assertThat(elapsed, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90)));
+        assertThat(limiter.stats().callsDelayed(), is(1L));
+    }
+
+    @Test
+    void testKeyed() {
+        RateLimiter.Builder builder = RateLimiter.builder()
+                .limit(1);
+        KeyedRateLimiter<String> keyed = KeyedRateLimiter.create(builder::build);
+
+        RateLimiter first = keyed.limiter("first");
+        assertThat(keyed.limiter("first"), sameInstance(first));
+        assertThat(keyed.limiter("second"), not(sameInstance(first)));
+        assertThat(keyed.size(), is(2));
+
+        accepted(first);
+        rejected(first);
+        accepted(keyed.limiter("second"));
+    }
+
+    @Test
+    void testKeyedRemovesLeastRecentlyUsed() {
+        KeyedRateLimiter<String> keyed = KeyedRateLimiter.create(() -> limiter(RateLimiter.Algorithm.TOKEN_BUCKET), 2);
+
+        RateLimiter first = keyed.limiter("first");
+        RateLimiter second = keyed.limiter("second");
+        assertThat(keyed.limiter("first"), sameInstance(first));
+        keyed.limiter("third");
+
+        assertThat(keyed.size(), is(2));
+        assertThat(keyed.limiter("first"), sameInstance(first));
+        // "second" was the least recently used key
+        assertThat(keyed.limiter("second"), not(sameInstance(second)));
+    }
+
+    @Test
+    void testKeyedBoundedUnderChurn() {
+        int maxKeys = 100;
+        KeyedRateLimiter<Integer> keyed = KeyedRateLimiter.create(() -> limiter(RateLimiter.Algorithm.TOKEN_BUCKET),
+                                                                  maxKeys);
+
+        for (int i = 0; i < 10_000; i++) {
+            // every key is in use, none of them is idle
+            accepted(keyed.limiter(i));
+            assertThat(keyed.size(), is(lessThanOrEqualTo(maxKeys)));
+        }
+        // the least recently used keys are removed a tenth of the maximum at a time
+        assertThat(keyed.size(), is(greaterThanOrEqualTo(maxKeys - maxKeys / 10)));
+    }
+
+    private RateLimiter limiter(RateLimiter.Algorithm algorithm) {
+        return new RateLimiterImpl(RateLimiter.builder()
+                                           .limit(4)
+                                           .period(Duration.ofMillis(100))
+                                           .algorithm(algorithm),
+                                   now::get);
+    }
+
+    private static void accepted(RateLimiter limiter) {
+        assertThat(limiter.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS), is(1));
+    }
+
+    private static RateLimiterException rejected(RateLimiter limiter) {
+        return FaultToleranceTest.completionException(limiter.invoke(() -> Single.just(1)), RateLimiterException.class);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TimeWindowTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testNotOpenBeforeMinimumCalls() {
+        TimeWindow window = window(0);
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+        window.update(true, false);
+        window.update(true, false);
+        window.update(true, false);
+        assertThat("Should not open before minimum calls", window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testOpenOnFailures() {
+        TimeWindow window = window(0);
+        window.update(true, false);
+        window.update(false, false);
+        window.update(false, false);
+        window.update(true, false);
+        assertThat("Should open at 50% failures", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testOpenOnSlowCalls() {
+        TimeWindow window = window(75);
+        window.update(false, true);
+        window.update(false, true);
+        window.update(false, true);
+        window.update(false, false);
+        assertThat("Should open at 75% slow calls", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testSlowCallsIgnoredWhenDisabled() {
+        TimeWindow window = window(0);
+        window.update(false, true);
+        window.update(false, true);
+        window.update(false, true);
+        window.update(false, true);
+        assertThat("Should not open on slow calls", window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testOldResultsExpire() {
+        TimeWindow window = window(0);
+        window.update(true, false);
+        window.update(true, false);
+        now.addAndGet(2 * SECOND);
+        window.update(true, false);
+        window.update(false, false);
+        assertThat("Should open with results within the window", window.shouldOpen(), is(true));
+
+        now.addAndGet(2 * SECOND);
+        window.update(false, false);
+        window.update(false, false);
+        assertThat("Should not open once failures left the window", window.shouldOpen(), is(false));
+
+        List<CircuitBreaker.BucketStats> buckets = window.buckets();
+        assertThat(buckets.size(), is(3));
+        assertThat(buckets.get(0).calls(), is(2L));
+        assertThat(buckets.get(0).failures(), is(1L));
+        assertThat(buckets.get(1).calls(), is(0L));
+        assertThat(buckets.get(2).calls(), is(2L));
+        assertThat(buckets.get(2).failures(), is(0L));
+    }
+
+    @Test
+    void testReset() {
+        TimeWindow window = window(0);
+        window.update(true, false);
+        window.update(true, false);
+        window.update(true, false);
+        window.update(true, false);
+        assertThat("Should open at 100% failures", window.shouldOpen(), is(true));
+        window.reset();
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+    }
+
+    private TimeWindow window(int slowCallRatio) {
+        return new TimeWindow(Duration.ofSeconds(1), 3, 4, 50, slowCallRatio, now::get);
+    }
+}
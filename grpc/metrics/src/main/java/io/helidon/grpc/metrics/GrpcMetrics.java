@@ -26,6 +26,8 @@ import javax.annotation.Priority;
 
 import io.helidon.grpc.core.GrpcHelper;
 import io.helidon.grpc.core.InterceptorPriorities;
+import io.helidon.grpc.server.GrpcExecutorStats;
+import io.helidon.grpc.server.GrpcServer;
 import io.helidon.grpc.server.MethodDescriptor;
 import io.helidon.grpc.server.ServiceDescriptor;
 import io.helidon.metrics.RegistryFactory;
@@ -39,6 +41,7 @@ import io.grpc.ServerInterceptor;
 import io.grpc.Status;
 import org.eclipse.microprofile.metrics.ConcurrentGauge;
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
 import org.eclipse.microprofile.metrics.Histogram;
 import org.eclipse.microprofile.metrics.MetadataBuilder;
 import org.eclipse.microprofile.metrics.Meter;
@@ -246,6 +249,40 @@ public class GrpcMetrics
         return new GrpcMetrics(new MetricsRules(MetricType.SIMPLE_TIMER));
     }
 
+    /**
+     * Register vendor gauges with the statistics of the executors a gRPC server offloads calls to.
+     * The gauges are named {@code grpc.executor.queued-tasks}, {@code grpc.executor.executed-tasks},
+     * {@code grpc.executor.wait-time.total} and {@code grpc.executor.wait-time.max}, and are tagged
+     * with the name of the server. The gauges should be registered only once per server.
+     *
+     * @param server the gRPC server
+     * @see GrpcServer#executorStats()
+     */
+    public static void executor(GrpcServer server) {
+        GrpcExecutorStats stats = server.executorStats();
+        Tag tag = new Tag("server", server.configuration().name());
+
+        gauge("grpc.executor.queued-tasks", "Number of call tasks waiting for an executor thread",
+              MetricUnits.NONE, stats::queuedTasks, tag);
+        gauge("grpc.executor.executed-tasks", "Number of call tasks executed by an executor",
+              MetricUnits.NONE, stats::executedTasks, tag);
+        gauge("grpc.executor.wait-time.total", "Total time call tasks waited for an executor thread",
+              MetricUnits.MILLISECONDS, () -> stats.totalWaitTime().toMillis(), tag);
+        gauge("grpc.executor.wait-time.max", "Longest time a call task waited for an executor thread",
+              MetricUnits.MILLISECONDS, () -> stats.maxWaitTime().toMillis(), tag);
+    }
+
+    private static <T extends Number> void gauge(String name, String description, String unit, Gauge<T> gauge, Tag tag) {
+        VENDOR_REGISTRY.register(org.eclipse.microprofile.metrics.Metadata.builder()
+                                         .withName(name)
+                                         .withDescription(description)
+                                         .withType(MetricType.GAUGE)
+                                         .withUnit(unit)
+                                         .build(),
+                                 gauge,
+                                 tag);
+    }
+
     @Override
     public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
                                                                  Metadata headers,
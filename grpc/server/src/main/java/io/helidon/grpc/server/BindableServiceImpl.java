@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -51,9 +52,24 @@ class BindableServiceImpl implements BindableService {
      */
     private final PriorityBag<ServerInterceptor> globalInterceptors;
 
-    private BindableServiceImpl(ServiceDescriptor descriptor, PriorityBag<ServerInterceptor> interceptors) {
+    /**
+     * The executor of the server, {@code null} to run the calls on the transport thread.
+     */
+    private final Executor serverExecutor;
+
+    /**
+     * The statistics of the executors.
+     */
+    private final GrpcExecutorStatsImpl executorStats;
+
+    private BindableServiceImpl(ServiceDescriptor descriptor,
+                                PriorityBag<ServerInterceptor> interceptors,
+                                Executor serverExecutor,
+                                GrpcExecutorStatsImpl executorStats) {
         this.descriptor = descriptor;
         this.globalInterceptors = interceptors.copyMe();
+        this.serverExecutor = serverExecutor;
+        this.executorStats = executorStats;
     }
 
     /**
@@ -65,7 +81,24 @@ class BindableServiceImpl implements BindableService {
      * @return a {@link BindableServiceImpl} for the gRPC service
      */
     static BindableServiceImpl create(ServiceDescriptor descriptor, PriorityBag<ServerInterceptor> interceptors) {
-        return new BindableServiceImpl(descriptor, interceptors);
+        return create(descriptor, interceptors, null, new GrpcExecutorStatsImpl());
+    }
+
+    /**
+     * Create a {@link BindableServiceImpl} for a gRPC service.
+     *
+     * @param descriptor      the service descriptor
+     * @param interceptors    the bag of interceptors to apply to the service
+     * @param serverExecutor  the executor of the server, {@code null} to run the calls on the transport thread
+     * @param executorStats   the statistics to update when calls are offloaded to an executor
+     *
+     * @return a {@link BindableServiceImpl} for the gRPC service
+     */
+    static BindableServiceImpl create(ServiceDescriptor descriptor,
+                                      PriorityBag<ServerInterceptor> interceptors,
+                                      Executor serverExecutor,
+                                      GrpcExecutorStatsImpl executorStats) {
+        return new BindableServiceImpl(descriptor, interceptors, serverExecutor, executorStats);
     }
 
     // ---- BindableService implementation ----------------------------------
@@ -114,7 +147,18 @@ class BindableServiceImpl implements BindableService {
             }
         }
 
-        return handler;
+        // the interceptors run on the same executor as the method
+        return OffloadingCallHandler.wrap(executor(method), executorStats, handler);
+    }
+
+    private Executor executor(MethodDescriptor<?, ?> method) {
+        if (method.directExecution() || method.executor().isPresent()) {
+            return method.executor().orElse(null);
+        }
+        if (descriptor.directExecution() || descriptor.executor().isPresent()) {
+            return descriptor.executor().orElse(null);
+        }
+        return serverExecutor;
     }
 
     static <T> Supplier<T> createSupplier(Callable<T> callable) {
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the call tasks a {@link GrpcServer} submits to executors, for calls that are
+ * not executed directly on the transport threads.
+ *
+ * @see GrpcServer#executorStats()
+ */
+public interface GrpcExecutorStats {
+
+    /**
+     * Number of tasks submitted to an executor that did not start yet.
+     *
+     * @return number of queued tasks
+     */
+    long queuedTasks();
+
+    /**
+     * Number of tasks started since the server was created.
+     *
+     * @return number of executed tasks
+     */
+    long executedTasks();
+
+    /**
+     * Total time the executed tasks waited for an executor thread.
+     *
+     * @return total wait time
+     */
+    Duration totalWaitTime();
+
+    /**
+     * Longest time a task waited for an executor thread.
+     *
+     * @return maximum wait time
+     */
+    Duration maxWaitTime();
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the call tasks submitted to executors.
+ */
+final class GrpcExecutorStatsImpl implements GrpcExecutorStats {
+
+    private final AtomicLong queued = new AtomicLong();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    void submitted() {
+        queued.incrementAndGet();
+    }
+
+    void rejected() {
+        queued.decrementAndGet();
+    }
+
+    void started(long waitNanos) {
+        queued.decrementAndGet();
+        executed.increment();
+        totalWaitNanos.add(waitNanos);
+        if (waitNanos > maxWaitNanos.get()) {
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+    }
+
+    @Override
+    public long queuedTasks() {
+        return queued.get();
+    }
+
+    @Override
+    public long executedTasks() {
+        return executed.sum();
+    }
+
+    @Override
+    public Duration totalWaitTime() {
+        return Duration.ofNanos(totalWaitNanos.sum());
+    }
+
+    @Override
+    public Duration maxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+}
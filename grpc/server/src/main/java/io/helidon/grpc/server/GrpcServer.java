@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -93,6 +93,16 @@ public interface GrpcServer {
      */
     Map<String, ServiceDescriptor> services();
 
+    /**
+     * Obtain the statistics of the executors the calls of the services are offloaded to.
+     *
+     * @return the statistics of the executors of this server, with no tasks by default
+     * @see GrpcServerConfiguration#executorService()
+     */
+    default GrpcExecutorStats executorStats() {
+        return new GrpcExecutorStatsImpl();
+    }
+
     /**
      * Returns {@code true} if the server is currently running. A running server
      * in the stopping phase returns {@code true} until it is fully stopped.
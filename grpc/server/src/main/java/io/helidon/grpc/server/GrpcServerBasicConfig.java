@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package io.helidon.grpc.server;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
 import io.helidon.common.context.Context;
 import io.helidon.grpc.core.GrpcTlsDescriptor;
 
@@ -43,6 +47,8 @@ public class GrpcServerBasicConfig
 
     private final Context context;
 
+    private final Supplier<? extends ExecutorService> executorService;
+
     /**
      * Construct {@link GrpcServerBasicConfig} instance.
      *
@@ -58,6 +64,7 @@ public class GrpcServerBasicConfig
         this.tracingConfig = builder.tracingConfig();
         this.workers = builder.workers();
         this.tlsConfig = builder.tlsConfig();
+        this.executorService = builder.executorService();
     }
 
     /**
@@ -133,4 +140,9 @@ public class GrpcServerBasicConfig
     public GrpcTlsDescriptor tlsConfig() {
         return tlsConfig;
     }
+
+    @Override
+    public Optional<Supplier<? extends ExecutorService>> executorService() {
+        return Optional.ofNullable(executorService);
+    }
 }
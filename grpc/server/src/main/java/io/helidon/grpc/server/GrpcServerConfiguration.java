@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,12 @@
  */
 package io.helidon.grpc.server;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import io.helidon.common.configurable.ServerThreadPoolSupplier;
 import io.helidon.common.context.Context;
 import io.helidon.config.Config;
 import io.helidon.grpc.core.GrpcTlsDescriptor;
@@ -106,6 +109,22 @@ public interface GrpcServerConfiguration {
      */
     GrpcTlsDescriptor tlsConfig();
 
+    /**
+     * Returns the supplier of the executor service running the calls of services and methods
+     * that do not specify their own executor.
+     * <p>
+     * If empty, such calls are executed directly on the transport threads, which is only suitable
+     * for services that never block.
+     * The executor service is obtained once by the server, and shut down when the server is shut down.
+     *
+     * @return the executor service supplier, empty by default
+     * @see ServiceDescriptor.Rules#executor(java.util.concurrent.Executor)
+     * @see MethodDescriptor.Rules#executor(java.util.concurrent.Executor)
+     */
+    default Optional<Supplier<? extends ExecutorService>> executorService() {
+        return Optional.empty();
+    }
+
     /**
      * Creates new instance with default values for all configuration properties.
      *
@@ -166,6 +185,8 @@ public interface GrpcServerConfiguration {
 
         private Context context;
 
+        private Supplier<? extends ExecutorService> executorService;
+
         private Builder() {
         }
 
@@ -178,6 +199,12 @@ public interface GrpcServerConfiguration {
             port = config.get("port").asInt().orElse(DEFAULT_PORT);
             useNativeTransport = config.get("native").asBoolean().orElse(false);
             config.get("workers").asInt().ifPresent(this::workersCount);
+            config.get("executor-service").ifExists(executorConfig -> executorService(
+                    ServerThreadPoolSupplier.builder()
+                            .name("grpc-server")
+                            .threadNamePrefix("grpc-")
+                            .config(executorConfig)
+                            .build()));
 
             return this;
         }
@@ -278,6 +305,23 @@ public interface GrpcServerConfiguration {
             return this;
         }
 
+        /**
+         * Sets the supplier of the executor service running the calls of services and methods
+         * that do not specify their own executor. If not set, such calls are executed directly
+         * on the transport threads. The executor service obtained from the supplier is owned by the server
+         * and shut down when the server is shut down.
+         * <p>
+         * Configuration key: {@code executor-service}, the thread pool is created by
+         * {@link ServerThreadPoolSupplier} if the key exists.
+         *
+         * @param executorService the executor service supplier
+         * @return an updated builder
+         */
+        public Builder executorService(Supplier<? extends ExecutorService> executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         String name() {
             return name;
         }
@@ -310,6 +354,10 @@ public interface GrpcServerConfiguration {
             return workers;
         }
 
+        Supplier<? extends ExecutorService> executorService() {
+            return executorService;
+        }
+
         @Override
         public GrpcServerConfiguration build() {
             if (name == null || name.isEmpty()) {
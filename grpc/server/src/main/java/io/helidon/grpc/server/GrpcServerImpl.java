@@ -29,6 +29,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,6 +45,7 @@ import io.helidon.grpc.core.ContextKeys;
 import io.helidon.grpc.core.GrpcTlsDescriptor;
 import io.helidon.grpc.core.InterceptorPriorities;
 import io.helidon.grpc.core.PriorityBag;
+import io.helidon.grpc.server.internal.HandlerRegistryProvider;
 
 import io.grpc.BindableService;
 import io.grpc.HandlerRegistry;
@@ -78,7 +81,7 @@ import static java.lang.String.format;
 /**
  * A gRPC Server implementation.
  */
-public class GrpcServerImpl implements GrpcServer {
+public class GrpcServerImpl implements GrpcServer, HandlerRegistryProvider {
 
     private CompletableFuture<GrpcServer> startFuture = new CompletableFuture<>();
 
@@ -126,6 +129,17 @@ public class GrpcServerImpl implements GrpcServer {
 
     private final Context context;
 
+    /**
+     * The executor to run the calls on, {@code null} to run them on the transport threads.
+     * The executor is created by this server and shut down with it.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The statistics of the executors the calls are offloaded to.
+     */
+    private final GrpcExecutorStatsImpl executorStats = new GrpcExecutorStatsImpl();
+
     // ---- constructors ----------------------------------------------------
 
     /**
@@ -136,7 +150,9 @@ public class GrpcServerImpl implements GrpcServer {
     private GrpcServerImpl(GrpcServerConfiguration config) {
         this.config = config;
         this.context = config.context();
-
+        this.executor = config.executorService()
+                .map(Supplier::get)
+                .orElse(null);
     }
 
     /**
@@ -179,6 +195,7 @@ public class GrpcServerImpl implements GrpcServer {
 
             HandlerRegistry handlerRegistry = this.handlerRegistry;
 
+            // the calls of services that are not executed directly are offloaded by the call handlers
             server = configureNetty(builder)
                     .directExecutor()
                     .addService(healthService)
@@ -224,6 +241,10 @@ public class GrpcServerImpl implements GrpcServer {
 
                 shutdownFuture.complete(this);
             }
+            // the executor is also used by servers that are never started, such as the one of the WebServer gRPC support
+            if (executor != null) {
+                executor.shutdown();
+            }
         } catch (Throwable e) {
             LOGGER.log(Level.SEVERE, format("gRPC server [%s]: server failed to shut down", name), e);
             shutdownFuture.completeExceptionally(e);
@@ -267,6 +288,16 @@ public class GrpcServerImpl implements GrpcServer {
         return Collections.unmodifiableMap(services);
     }
 
+    @Override
+    public GrpcExecutorStats executorStats() {
+        return executorStats;
+    }
+
+    @Override
+    public HandlerRegistry handlerRegistry() {
+        return handlerRegistry;
+    }
+
     // ---- helper methods --------------------------------------------------
 
     private NettyServerBuilder configureNetty(NettyServerBuilder builder) {
@@ -309,7 +340,7 @@ public class GrpcServerImpl implements GrpcServer {
         globalInterceptors.add(new ContextAwareServerInterceptor());
 
         String serverName = config.name();
-        BindableService service = serviceDescriptor.bindableService(globalInterceptors);
+        BindableService service = serviceDescriptor.bindableService(globalInterceptors, executor, executorStats);
         ServerServiceDefinition ssd = service.bindService();
         String serviceName = ssd.getServiceDescriptor().getName();
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import io.helidon.grpc.core.InterceptorPriorities;
 import io.helidon.grpc.core.MarshallerSupplier;
@@ -42,17 +44,23 @@ public class MethodDescriptor<ReqT, ResT> {
     private final ServerCallHandler<ReqT, ResT> callHandler;
     private final Map<Context.Key, Object> context;
     private final PriorityBag<ServerInterceptor> interceptors;
+    private final Executor executor;
+    private final boolean directExecution;
 
     private MethodDescriptor(String name,
                              io.grpc.MethodDescriptor<ReqT, ResT> descriptor,
                              ServerCallHandler<ReqT, ResT> callHandler,
                              Map<Context.Key, Object> context,
-                             PriorityBag<ServerInterceptor> interceptors) {
+                             PriorityBag<ServerInterceptor> interceptors,
+                             Executor executor,
+                             boolean directExecution) {
         this.name = name;
         this.descriptor = descriptor;
         this.callHandler = callHandler;
         this.context = context;
         this.interceptors = interceptors.copyMe();
+        this.executor = executor;
+        this.directExecution = directExecution;
     }
 
     /**
@@ -99,6 +107,28 @@ public class MethodDescriptor<ReqT, ResT> {
         return interceptors.readOnly();
     }
 
+    /**
+     * Obtain the {@link Executor} to run the calls of this method on.
+     * <p>
+     * If not set, and the calls are not {@link #directExecution() executed directly}, the executor
+     * of the service, or else of the server, is used.
+     *
+     * @return the {@link Executor} to run the calls of this method on
+     */
+    public Optional<Executor> executor() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * Return whether the calls of this method are executed directly on the transport thread,
+     * even if an executor is configured for the service or for the server.
+     *
+     * @return {@code true} if the calls of this method are executed directly on the transport thread
+     */
+    public boolean directExecution() {
+        return directExecution;
+    }
+
     static <ReqT, ResT> Builder<ReqT, ResT> builder(String serviceName,
                                                     String name,
                                                     io.grpc.MethodDescriptor.Builder<ReqT, ResT> descriptor,
@@ -203,6 +233,36 @@ public class MethodDescriptor<ReqT, ResT> {
          *         for fluent call chaining
          */
         <Rnew> Rules<ReqT, Rnew> responseType(Class<Rnew> responseType);
+
+        /**
+         * Set the {@link Executor} to run the calls of the method on, instead of the
+         * executor of the service or of the server.
+         * <p>
+         * The method implementation, and the interceptors of the method, will be called
+         * on a thread of the executor, so they may block without stalling the transport.
+         * The executor is not shut down by the server.
+         * Implementations that do not support executors ignore the setting, and the calls run on the
+         * executor of the server.
+         *
+         * @param executor the {@link Executor} to run the calls of the method on
+         * @return this builder to allow fluent method chaining
+         */
+        default Rules<ReqT, ResT> executor(Executor executor) {
+            return this;
+        }
+
+        /**
+         * Run the calls of the method directly on the transport thread, even if an executor
+         * is configured for the service or for the server.
+         * <p>
+         * Only use for methods that never block.
+         * Implementations that do not support executors ignore the setting.
+         *
+         * @return this builder to allow fluent method chaining
+         */
+        default Rules<ReqT, ResT> directExecutor() {
+            return this;
+        }
     }
 
     /**
@@ -245,6 +305,9 @@ public class MethodDescriptor<ReqT, ResT> {
         private MarshallerSupplier defaultMarshallerSupplier = MarshallerSupplier.defaultInstance();
         private MarshallerSupplier marshallerSupplier;
 
+        private Executor executor;
+        private boolean directExecution;
+
         Builder(String serviceName,
                 String name,
                 io.grpc.MethodDescriptor.Builder<ReqT, ResT> descriptor,
@@ -295,6 +358,20 @@ public class MethodDescriptor<ReqT, ResT> {
             return this;
         }
 
+        @Override
+        public Builder<ReqT, ResT> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "The executor cannot be null");
+            this.directExecution = false;
+            return this;
+        }
+
+        @Override
+        public Builder<ReqT, ResT> directExecutor() {
+            this.executor = null;
+            this.directExecution = true;
+            return this;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public <Rnew> Builder<Rnew, ResT> requestType(Class<Rnew> requestType) {
@@ -330,7 +407,9 @@ public class MethodDescriptor<ReqT, ResT> {
                                           descriptor.build(),
                                           callHandler,
                                           context,
-                                          interceptors);
+                                          interceptors,
+                                          executor,
+                                          directExecution);
         }
 
         @SuppressWarnings("unchecked")
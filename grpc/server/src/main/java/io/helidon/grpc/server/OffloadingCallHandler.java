@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.common.context.Contexts;
+
+import io.grpc.Context;
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * A {@link ServerCallHandler} that starts the call, and runs all the callbacks of its listener,
+ * on an executor instead of the transport thread.
+ * <p>
+ * The callbacks of a call are executed one at a time and in the order they were received,
+ * within the gRPC and Helidon contexts of the transport thread.
+ * If a callback fails, or the executor rejects the call, the call is closed and the listener of the call
+ * is notified with {@link ServerCall.Listener#onCancel()} in place of the callbacks that were not executed.
+ * Operations on the call are serialized, so that closing the call does not race with the threads of the application.
+ *
+ * @param <ReqT>  the request type
+ * @param <RespT> the response type
+ */
+final class OffloadingCallHandler<ReqT, RespT> implements ServerCallHandler<ReqT, RespT> {
+
+    private static final Logger LOGGER = Logger.getLogger(OffloadingCallHandler.class.getName());
+
+    private final Executor executor;
+    private final GrpcExecutorStatsImpl stats;
+    private final ServerCallHandler<ReqT, RespT> next;
+
+    private OffloadingCallHandler(Executor executor, GrpcExecutorStatsImpl stats, ServerCallHandler<ReqT, RespT> next) {
+        this.executor = executor;
+        this.stats = stats;
+        this.next = next;
+    }
+
+    /**
+     * Wrap a call handler to run its calls on an executor.
+     *
+     * @param executor the executor, {@code null} to run the calls on the transport thread
+     * @param stats    the statistics to update
+     * @param next     the call handler to wrap
+     * @param <ReqT>   the request type
+     * @param <RespT>  the response type
+     * @return the wrapped call handler, or {@code next} if the calls are not offloaded
+     */
+    static <ReqT, RespT> ServerCallHandler<ReqT, RespT> wrap(Executor executor,
+                                                             GrpcExecutorStatsImpl stats,
+                                                             ServerCallHandler<ReqT, RespT> next) {
+        if (executor == null) {
+            return next;
+        }
+        return new OffloadingCallHandler<>(executor, stats, next);
+    }
+
+    @Override
+    public ServerCall.Listener<ReqT> startCall(ServerCall<ReqT, RespT> call, Metadata headers) {
+        SerializedCall<ReqT, RespT> serializedCall = new SerializedCall<>(call);
+        OffloadingListener<ReqT, RespT> listener = new OffloadingListener<>(serializedCall, executor, stats);
+        listener.execute(() -> listener.delegate = next.startCall(serializedCall, headers));
+        return listener;
+    }
+
+    /**
+     * A {@link ServerCall.Listener} queueing the callbacks, and draining the queue on the executor.
+     * The queue is drained by at most one thread at a time, which makes it a serializing executor of the callbacks
+     * and of the close of the call when a callback fails.
+     */
+    private static final class OffloadingListener<ReqT, RespT> extends ServerCall.Listener<ReqT> implements Runnable {
+        private final SerializedCall<ReqT, RespT> call;
+        private final Executor executor;
+        private final GrpcExecutorStatsImpl stats;
+        private final Queue<Runnable> callbacks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long submittedNanos;
+        // only accessed by the thread draining the queue
+        private ServerCall.Listener<ReqT> delegate;
+        private boolean completed;
+
+        private OffloadingListener(SerializedCall<ReqT, RespT> call, Executor executor, GrpcExecutorStatsImpl stats) {
+            this.call = call;
+            this.executor = executor;
+            this.stats = stats;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            execute(() -> delegate.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            execute(() -> delegate.onHalfClose());
+        }
+
+        @Override
+        public void onCancel() {
+            execute(() -> {
+                completed = true;
+                delegate.onCancel();
+            });
+        }
+
+        @Override
+        public void onComplete() {
+            execute(() -> {
+                completed = true;
+                delegate.onComplete();
+            });
+        }
+
+        @Override
+        public void onReady() {
+            execute(() -> delegate.onReady());
+        }
+
+        @Override
+        public void run() {
+            stats.started(System.nanoTime() - submittedNanos);
+            try {
+                Runnable callback = callbacks.poll();
+                while (callback != null && !closed) {
+                    callback.run();
+                    callback = callbacks.poll();
+                }
+            } catch (Throwable t) {
+                LOGGER.log(Level.WARNING, t, () -> "Call to " + call.getMethodDescriptor().getFullMethodName() + " failed");
+                close(Status.UNKNOWN.withCause(t));
+            } finally {
+                scheduled.set(false);
+            }
+            // callbacks received after the queue was found empty
+            if (!callbacks.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void execute(Runnable callback) {
+            if (closed) {
+                return;
+            }
+            Context grpcContext = Context.current();
+            Optional<io.helidon.common.context.Context> helidonContext = Contexts.context();
+            callbacks.add(grpcContext.wrap(() -> {
+                if (helidonContext.isPresent()) {
+                    Contexts.runInContext(helidonContext.get(), callback);
+                } else {
+                    callback.run();
+                }
+            }));
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            stats.submitted();
+            submittedNanos = System.nanoTime();
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                stats.rejected();
+                // no other thread drains the queue until the flag is reset, so the call is closed in order
+                try {
+                    close(Status.RESOURCE_EXHAUSTED
+                                  .withDescription("Executor of " + call.getMethodDescriptor().getFullMethodName() + " is full")
+                                  .withCause(e));
+                } finally {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        // must be invoked by the thread draining the queue
+        private void close(Status status) {
+            closed = true;
+            callbacks.clear();
+            call.close(status, new Metadata());
+            // the callbacks of the call are no longer delivered, including the one for this close
+            if (delegate != null && !completed) {
+                completed = true;
+                try {
+                    delegate.onCancel();
+                } catch (Throwable t) {
+                    LOGGER.log(Level.WARNING, t, () -> "Cancellation of " + call.getMethodDescriptor().getFullMethodName()
+                            + " failed");
+                }
+            }
+        }
+    }
+
+    /**
+     * A {@link ServerCall} that serializes its operations, as they may be invoked by the threads of the application
+     * and by the {@link OffloadingListener} closing a failed call.
+     * Operations invoked once the call is closed are ignored.
+     */
+    private static final class SerializedCall<ReqT, RespT> extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+        private boolean closed;
+
+        private SerializedCall(ServerCall<ReqT, RespT> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public synchronized void request(int numMessages) {
+            if (!closed) {
+                super.request(numMessages);
+            }
+        }
+
+        @Override
+        public synchronized void sendHeaders(Metadata headers) {
+            if (!closed) {
+                super.sendHeaders(headers);
+            }
+        }
+
+        @Override
+        public synchronized void sendMessage(RespT message) {
+            if (!closed) {
+                super.sendMessage(message);
+            }
+        }
+
+        @Override
+        public synchronized void close(Status status, Metadata trailers) {
+            if (!closed) {
+                closed = true;
+                super.close(status, trailers);
+            }
+        }
+
+        @Override
+        public synchronized void setMessageCompression(boolean enabled) {
+            super.setMessageCompression(enabled);
+        }
+
+        @Override
+        public synchronized void setCompression(String compressor) {
+            super.setCompression(compressor);
+        }
+
+        @Override
+        public synchronized boolean isReady() {
+            return !closed && super.isReady();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import io.helidon.grpc.core.InterceptorPriorities;
 import io.helidon.grpc.core.MarshallerSupplier;
@@ -58,19 +60,25 @@ public class ServiceDescriptor {
     private final Map<Context.Key<?>, Object> context;
     private final HealthCheck healthCheck;
     private final Descriptors.FileDescriptor proto;
+    private final Executor executor;
+    private final boolean directExecution;
 
     private ServiceDescriptor(String name,
                               Map<String, MethodDescriptor> methods,
                               PriorityBag<ServerInterceptor> interceptors,
                               Map<Context.Key<?>, Object> context,
                               HealthCheck healthCheck,
-                              Descriptors.FileDescriptor proto) {
+                              Descriptors.FileDescriptor proto,
+                              Executor executor,
+                              boolean directExecution) {
         this.name = Objects.requireNonNull(name);
         this.methods = methods;
         this.context = Collections.unmodifiableMap(context);
         this.healthCheck = healthCheck;
         this.interceptors = interceptors.copyMe();
         this.proto = proto;
+        this.executor = executor;
+        this.directExecution = directExecution;
     }
 
     /**
@@ -131,8 +139,36 @@ public class ServiceDescriptor {
         return proto;
     }
 
+    /**
+     * Return the {@link Executor} to run the calls of this service on.
+     * <p>
+     * If not set, and the calls are not {@link #directExecution() executed directly}, the executor
+     * of the server is used.
+     *
+     * @return the {@link Executor} to run the calls of this service on
+     */
+    public Optional<Executor> executor() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * Return whether the calls of this service are executed directly on the transport thread,
+     * even if an executor is configured for the server.
+     *
+     * @return {@code true} if the calls of this service are executed directly on the transport thread
+     */
+    public boolean directExecution() {
+        return directExecution;
+    }
+
     BindableService bindableService(PriorityBag<ServerInterceptor> interceptors) {
-        return BindableServiceImpl.create(this, interceptors);
+        return bindableService(interceptors, null, new GrpcExecutorStatsImpl());
+    }
+
+    BindableService bindableService(PriorityBag<ServerInterceptor> interceptors,
+                                    Executor serverExecutor,
+                                    GrpcExecutorStatsImpl executorStats) {
+        return BindableServiceImpl.create(this, interceptors, serverExecutor, executorStats);
     }
 
     @Override
@@ -398,6 +434,38 @@ public class ServiceDescriptor {
          * @return this {@link io.helidon.grpc.server.ServiceDescriptor.Rules} instance for fluent call chaining
          */
         Rules healthCheck(HealthCheck healthCheck);
+
+        /**
+         * Set the {@link Executor} to run the calls of the service on, instead of the
+         * executor of the server.
+         * <p>
+         * The service methods, and the service interceptors, will be called on a thread
+         * of the executor, so they may block without stalling the transport.
+         * The executor is not shut down by the server.
+         * Implementations that do not support executors ignore the setting, and the calls run on the
+         * executor of the server.
+         *
+         * @param executor the {@link Executor} to run the calls of the service on
+         * @return this {@link io.helidon.grpc.server.ServiceDescriptor.Rules} instance for fluent call chaining
+         * @see MethodDescriptor.Rules#executor(java.util.concurrent.Executor)
+         */
+        default Rules executor(Executor executor) {
+            return this;
+        }
+
+        /**
+         * Run the calls of the service directly on the transport thread, even if an executor
+         * is configured for the server.
+         * <p>
+         * Only use for services that never block.
+         * Implementations that do not support executors ignore the setting.
+         *
+         * @return this {@link io.helidon.grpc.server.ServiceDescriptor.Rules} instance for fluent call chaining
+         * @see MethodDescriptor.Rules#directExecutor()
+         */
+        default Rules directExecutor() {
+            return this;
+        }
     }
 
     // ---- inner class: Configurer -----------------------------------------
@@ -446,6 +514,8 @@ public class ServiceDescriptor {
         private PriorityBag<ServerInterceptor> interceptors = PriorityBag.withDefaultPriority(InterceptorPriorities.USER);
         private Map<Context.Key<?>, Object> context = new HashMap<>();
         private HealthCheck healthCheck;
+        private Executor executor;
+        private boolean directExecution;
 
         Builder(Class<?> serviceClass, String name) {
             this.name         = name == null || name.trim().isEmpty() ? serviceClass.getSimpleName() : name.trim();
@@ -636,6 +706,20 @@ public class ServiceDescriptor {
             return this;
         }
 
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+            this.directExecution = false;
+            return this;
+        }
+
+        @Override
+        public Builder directExecutor() {
+            this.executor = null;
+            this.directExecution = true;
+            return this;
+        }
+
         @Override
         public ServiceDescriptor build() {
             Map<String, MethodDescriptor> methods = new LinkedHashMap<>();
@@ -644,7 +728,7 @@ public class ServiceDescriptor {
                 methods.put(entry.getKey(), entry.getValue().build());
             }
 
-            return new ServiceDescriptor(name, methods, interceptors, context, healthCheck, proto);
+            return new ServiceDescriptor(name, methods, interceptors, context, healthCheck, proto, executor, directExecution);
         }
 
         @Override
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server.internal;
+
+import io.grpc.HandlerRegistry;
+
+/**
+ * Provider of the registry of the services deployed to a gRPC server.
+ * This is an internal API used by the WebServer gRPC support, to dispatch calls received by the WebServer
+ * to the same call handlers (and interceptors) as the calls received by the server.
+ */
+public interface HandlerRegistryProvider {
+    /**
+     * Obtain the registry of the deployed services.
+     *
+     * @return the registry of the services deployed to the server
+     */
+    HandlerRegistry handlerRegistry();
+}
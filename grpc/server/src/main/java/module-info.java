@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,10 @@
  */
 module io.helidon.grpc.server {
     exports io.helidon.grpc.server;
+    exports io.helidon.grpc.server.internal to io.helidon.webserver.grpc;
 
     requires io.helidon.common;
+    requires io.helidon.common.configurable;
     requires io.helidon.common.context;
     requires io.helidon.common.pki;
     requires io.helidon.config;
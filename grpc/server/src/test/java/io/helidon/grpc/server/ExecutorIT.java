@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.LogConfig;
+import io.helidon.grpc.server.test.Echo;
+import io.helidon.grpc.server.test.EchoServiceGrpc;
+
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.grpc.core.ResponseHelper.complete;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Tests the execution of the calls on the executors of the server, services and methods.
+ */
+public class ExecutorIT {
+
+    private static final String SERVER_THREAD = "grpc-server-executor";
+
+    private static final String METHOD_THREAD = "grpc-method-executor";
+
+    private static ExecutorService serverExecutor;
+
+    private static ExecutorService methodExecutor;
+
+    private static GrpcServer grpcServer;
+
+    private static ManagedChannel channel;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        LogConfig.configureRuntime();
+
+        serverExecutor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, SERVER_THREAD));
+        methodExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, METHOD_THREAD));
+
+        GrpcRouting routing = GrpcRouting.builder()
+                .register(new ThreadNameService("EchoService", rules -> { }, method -> { }))
+                .register(new ThreadNameService("DirectService", ServiceDescriptor.Rules::directExecutor, method -> { }))
+                .register(new ThreadNameService("MethodService",
+                                                ServiceDescriptor.Rules::directExecutor,
+                                                method -> method.executor(methodExecutor)))
+                .build();
+
+        GrpcServerConfiguration serverConfig = GrpcServerConfiguration.builder()
+                .port(0)
+                .executorService(() -> serverExecutor)
+                .build();
+
+        grpcServer = GrpcServer.create(serverConfig, routing)
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.port())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterAll
+    public static void cleanup() throws Exception {
+        channel.shutdownNow();
+        grpcServer.shutdown()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        // the executor of the server is owned by the server, the executors of the methods are not
+        assertThat(serverExecutor.isShutdown(), is(true));
+        assertThat(methodExecutor.isShutdown(), is(false));
+        methodExecutor.shutdown();
+    }
+
+    @Test
+    public void shouldRunOnServerExecutor() {
+        long executed = grpcServer.executorStats().executedTasks();
+
+        assertThat(echo("EchoService"), is(SERVER_THREAD));
+        assertThat(grpcServer.executorStats().executedTasks(), is(greaterThan(executed)));
+    }
+
+    @Test
+    public void shouldRunDirectly() {
+        String thread = echo("DirectService");
+
+        assertThat(thread, not(startsWith(SERVER_THREAD)));
+        assertThat(thread, not(startsWith(METHOD_THREAD)));
+    }
+
+    @Test
+    public void shouldRunOnMethodExecutor() {
+        assertThat(echo("MethodService"), is(METHOD_THREAD));
+    }
+
+    private static String echo(String serviceName) {
+        io.grpc.MethodDescriptor<Echo.EchoRequest, Echo.EchoResponse> method = EchoServiceGrpc.getEchoMethod()
+                .toBuilder()
+                .setFullMethodName(serviceName + "/Echo")
+                .build();
+        Echo.EchoRequest request = Echo.EchoRequest.newBuilder().setMessage("thread").build();
+
+        return ClientCalls.blockingUnaryCall(channel, method, CallOptions.DEFAULT, request).getMessage();
+    }
+
+    /**
+     * A test gRPC service that responds with the name of the thread the call runs on.
+     */
+    private static class ThreadNameService implements GrpcService {
+        private final String name;
+        private final ServiceDescriptor.Configurer serviceConfigurer;
+        private final MethodDescriptor.Configurer<Echo.EchoRequest, Echo.EchoResponse> methodConfigurer;
+
+        private ThreadNameService(String name,
+                                  ServiceDescriptor.Configurer serviceConfigurer,
+                                  MethodDescriptor.Configurer<Echo.EchoRequest, Echo.EchoResponse> methodConfigurer) {
+            this.name = name;
+            this.serviceConfigurer = serviceConfigurer;
+            this.methodConfigurer = methodConfigurer;
+        }
+
+        @Override
+        public void update(ServiceDescriptor.Rules rules) {
+            // the method types are resolved from the proto by the service name, the service is renamed afterwards
+            rules.proto(Echo.getDescriptor())
+                    .name("EchoService")
+                    .unary("Echo", ThreadNameService::echo, methodConfigurer)
+                    .name(name);
+            serviceConfigurer.configure(rules);
+        }
+
+        private static void echo(Echo.EchoRequest request, StreamObserver<Echo.EchoResponse> observer) {
+            complete(observer, Echo.EchoResponse.newBuilder().setMessage(Thread.currentThread().getName()).build());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,12 @@
 
 package io.helidon.grpc.server;
 
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
+import io.helidon.common.configurable.ThreadPoolSupplier;
 import io.helidon.config.Config;
 import io.helidon.config.ConfigSources;
 
@@ -25,6 +29,7 @@ import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -224,4 +229,40 @@ public class GrpcServerConfigurationTest {
         assertThat(serverConfig.useNativeTransport(), is(true));
         assertThat(serverConfig.workers(), is(51));
     }
+
+    @Test
+    public void shouldHaveNoExecutorServiceByDefault() {
+        GrpcServerConfiguration configuration = GrpcServerConfiguration.builder().build();
+
+        assertThat(configuration.executorService().isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldSetExecutorService() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Supplier<ExecutorService> supplier = () -> executorService;
+            GrpcServerConfiguration configuration = GrpcServerConfiguration.builder()
+                    .executorService(supplier)
+                    .build();
+
+            assertThat(configuration.executorService().get(), is(sameInstance(supplier)));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldBuildExecutorServiceFromConfig() {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("grpcserver.executor-service.core-pool-size", "3")))
+                .disableEnvironmentVariablesSource()
+                .disableSystemPropertiesSource()
+                .build();
+        GrpcServerConfiguration serverConfig = config.get("grpcserver").as(GrpcServerConfiguration::create).get();
+
+        Supplier<? extends ExecutorService> supplier = serverConfig.executorService().get();
+        assertThat(supplier, is(instanceOf(ThreadPoolSupplier.class)));
+        assertThat(((ThreadPoolSupplier) supplier).corePoolSize(), is(3));
+    }
 }
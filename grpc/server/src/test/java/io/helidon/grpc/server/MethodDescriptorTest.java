@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package io.helidon.grpc.server;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
 import io.helidon.grpc.server.test.EchoServiceGrpc;
 
 import io.grpc.Context;
@@ -160,4 +163,32 @@ public class MethodDescriptorTest {
         assertThat(descriptor.name(), is("foo"));
         assertThat(descriptor.descriptor().getFullMethodName(), is("Test/bar"));
     }
+
+    @Test
+    public void shouldSetDirectExecution() {
+        ServerCallHandler handler = mock(ServerCallHandler.class);
+        io.grpc.MethodDescriptor grpcDescriptor = EchoServiceGrpc.getServiceDescriptor()
+                .getMethods()
+                .stream()
+                .filter(md -> md.getFullMethodName().equals("EchoService/Echo"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Could not find echo method"));
+        Executor executor = mock(Executor.class);
+
+        MethodDescriptor<?, ?> direct = MethodDescriptor
+                .builder("EchoService", "foo", grpcDescriptor.toBuilder(), handler)
+                .executor(executor)
+                .directExecutor()
+                .build();
+        MethodDescriptor<?, ?> offloaded = MethodDescriptor
+                .builder("EchoService", "foo", grpcDescriptor.toBuilder(), handler)
+                .directExecutor()
+                .executor(executor)
+                .build();
+
+        assertThat(direct.directExecution(), is(true));
+        assertThat(direct.executor(), is(Optional.empty()));
+        assertThat(offloaded.directExecution(), is(false));
+        assertThat(offloaded.executor(), is(Optional.of(executor)));
+    }
 }
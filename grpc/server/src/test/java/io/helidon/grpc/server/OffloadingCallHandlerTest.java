@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the close of the calls that fail in {@link OffloadingCallHandler}.
+ */
+@SuppressWarnings("unchecked")
+public class OffloadingCallHandlerTest {
+
+    private ServerCall<String, String> call;
+    private ServerCall.Listener<String> delegate;
+    private ServerCallHandler<String, String> next;
+
+    @BeforeEach
+    public void setup() {
+        MethodDescriptor<String, String> method = MethodDescriptor.<String, String>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName("EchoService/Echo")
+                .setRequestMarshaller(new StubMarshaller<>())
+                .setResponseMarshaller(new StubMarshaller<>())
+                .build();
+        call = mock(ServerCall.class);
+        when(call.getMethodDescriptor()).thenReturn(method);
+        delegate = mock(ServerCall.Listener.class);
+        next = mock(ServerCallHandler.class);
+        when(next.startCall(any(), any())).thenReturn(delegate);
+    }
+
+    @Test
+    public void shouldCancelListenerWhenCallbackFails() {
+        doThrow(new IllegalStateException("failed")).when(delegate).onMessage("message");
+
+        ServerCall.Listener<String> listener = start(Runnable::run);
+        listener.onMessage("message");
+        listener.onHalfClose();
+        listener.onComplete();
+
+        assertThat(closeStatus().getCode(), is(Status.Code.UNKNOWN));
+        verify(delegate).onCancel();
+        verify(delegate, never()).onHalfClose();
+        verify(delegate, never()).onComplete();
+    }
+
+    @Test
+    public void shouldCancelListenerWhenExecutorRejects() {
+        AtomicInteger accepted = new AtomicInteger(1);
+        ServerCall.Listener<String> listener = start(task -> {
+            if (accepted.getAndDecrement() <= 0) {
+                throw new RejectedExecutionException("full");
+            }
+            task.run();
+        });
+        listener.onMessage("message");
+        listener.onCancel();
+
+        assertThat(closeStatus().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+        verify(delegate, never()).onMessage(any());
+        verify(delegate, times(1)).onCancel();
+    }
+
+    @Test
+    public void shouldIgnoreCloseByApplicationAfterFailure() {
+        doThrow(new IllegalStateException("failed")).when(delegate).onHalfClose();
+
+        ServerCall.Listener<String> listener = start(Runnable::run);
+        listener.onHalfClose();
+        // the application responds from its own thread after the call was closed
+        ArgumentCaptor<ServerCall<String, String>> serverCall = ArgumentCaptor.forClass(ServerCall.class);
+        verify(next).startCall(serverCall.capture(), any());
+        serverCall.getValue().sendMessage("late");
+        serverCall.getValue().close(Status.OK, new Metadata());
+
+        assertThat(closeStatus().getCode(), is(Status.Code.UNKNOWN));
+        verify(call, never()).sendMessage(any());
+    }
+
+    private ServerCall.Listener<String> start(Executor executor) {
+        return OffloadingCallHandler.wrap(executor, new GrpcExecutorStatsImpl(), next)
+                .startCall(call, new Metadata());
+    }
+
+    private Status closeStatus() {
+        ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+        verify(call, times(1)).close(status.capture(), any());
+        return status.getValue();
+    }
+}
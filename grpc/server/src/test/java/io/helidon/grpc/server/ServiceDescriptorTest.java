@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package io.helidon.grpc.server;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import io.helidon.grpc.core.JavaMarshaller;
@@ -63,6 +65,29 @@ public class ServiceDescriptorTest {
         assertThat(descriptor.name(), is(service.name()));
     }
 
+    @Test
+    public void shouldSetDirectExecution() {
+        Executor executor = mock(Executor.class);
+
+        ServiceDescriptor direct = ServiceDescriptor.builder(createMockService())
+                .executor(executor)
+                .directExecutor()
+                .build();
+        ServiceDescriptor offloaded = ServiceDescriptor.builder(createMockService())
+                .directExecutor()
+                .executor(executor)
+                .build();
+        ServiceDescriptor defaults = ServiceDescriptor.builder(createMockService())
+                .build();
+
+        assertThat(direct.directExecution(), is(true));
+        assertThat(direct.executor(), is(Optional.empty()));
+        assertThat(offloaded.directExecution(), is(false));
+        assertThat(offloaded.executor(), is(Optional.of(executor)));
+        assertThat(defaults.directExecution(), is(false));
+        assertThat(defaults.executor(), is(Optional.empty()));
+    }
+
     @Test
     public void shouldHaveZeroContextValuesByDefault() {
         ServiceDescriptor descriptor = ServiceDescriptor.builder(createMockService())
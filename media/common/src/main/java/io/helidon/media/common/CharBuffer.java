@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import io.helidon.common.http.DataChunk;
+
 /**
  * A character buffer that acts as a {@link Writer} and uses cached {@code char[]} arrays.
  * <p>
@@ -73,6 +75,29 @@ public class CharBuffer extends Writer {
         return result;
     }
 
+    /**
+     * Returns the content encoded into the given character set as a chunk
+     * created by the given factory.
+     *
+     * @param charset The character set.
+     * @param factory The factory of the chunk.
+     * @param flush The flush flag of the chunk.
+     * @return The encoded content.
+     */
+    public DataChunk encode(Charset charset, DataChunkFactory factory, boolean flush) {
+        DataChunkOutputStream out = factory.outputStream(count);
+        try {
+            out.write(java.nio.CharBuffer.wrap(buffer, 0, count), charset);
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        } finally {
+            POOL.release(buffer);
+            buffer = null;
+        }
+        return out.toDataChunk(flush);
+    }
+
     private void ensureCapacity(int minCapacity) {
         if (minCapacity - buffer.length > 0) {
             grow(minCapacity);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.media.common;
 
+import java.nio.charset.Charset;
 import java.util.concurrent.Flow;
 
 import io.helidon.common.GenericType;
@@ -39,7 +40,13 @@ final class CharSequenceBodyStreamWriter implements MessageBodyStreamWriter<Char
                                            final GenericType<? extends CharSequence> type,
                                            final MessageBodyWriterContext context) {
         context.contentType(MediaType.TEXT_PLAIN);
-        return Multi.create(publisher).map(s -> DataChunk.create(true, context.charset().encode(s.toString())));
+        Charset charset = context.charset();
+        DataChunkFactory chunkFactory = context.dataChunkFactory();
+        return Multi.create(publisher).map(s -> {
+            DataChunkOutputStream out = chunkFactory.outputStream(s.length());
+            out.write(s, charset);
+            return out.toDataChunk(true);
+        });
     }
 
     @Override
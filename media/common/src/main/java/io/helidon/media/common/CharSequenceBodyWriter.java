@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,7 +48,7 @@ final class CharSequenceBodyWriter implements MessageBodyWriter<CharSequence> {
                                       MessageBodyWriterContext context) {
 
         context.contentType(MediaType.TEXT_PLAIN);
-        return content.flatMap(new CharSequenceToChunks(context.charset()));
+        return content.flatMap(new CharSequenceToChunks(context.charset(), context.dataChunkFactory()));
     }
 
     /**
@@ -63,14 +63,16 @@ final class CharSequenceBodyWriter implements MessageBodyWriter<CharSequence> {
     private static final class CharSequenceToChunks implements Mapper<CharSequence, Publisher<DataChunk>> {
 
         private final Charset charset;
+        private final DataChunkFactory chunkFactory;
 
-        CharSequenceToChunks(Charset charset) {
+        CharSequenceToChunks(Charset charset, DataChunkFactory chunkFactory) {
             this.charset = charset;
+            this.chunkFactory = chunkFactory;
         }
 
         @Override
         public Publisher<DataChunk> map(CharSequence content) {
-            return ContentWriters.writeCharSequence(content, charset);
+            return ContentWriters.writeCharSequence(content, charset, chunkFactory);
         }
     }
 }
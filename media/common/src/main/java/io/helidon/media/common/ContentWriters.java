@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,11 @@
 
 package io.helidon.media.common;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Objects;
@@ -26,6 +28,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileRegionDataChunk;
 import io.helidon.common.reactive.IoMulti;
 import io.helidon.common.reactive.RetrySchema;
 import io.helidon.common.reactive.Single;
@@ -88,6 +91,41 @@ public final class ContentWriters {
         return Single.just(DataChunk.create(false, buffer.encode(charset)));
     }
 
+    /**
+     * Create a publisher of {@link DataChunk} with the given
+     * {@link CharSequence} / {@link Charset} encoded into a chunk
+     * created by the given factory and return a {@link Single}.
+     *
+     * @param cs the char sequence
+     * @param charset the charset to use to encode the char sequence
+     * @param factory the factory of the chunk
+     * @return Single
+     */
+    public static Single<DataChunk> writeCharSequence(CharSequence cs, Charset charset, DataChunkFactory factory) {
+        DataChunkOutputStream out = factory.outputStream(cs.length());
+        try {
+            out.write(cs, charset);
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        }
+        return Single.just(out.toDataChunk(false));
+    }
+
+    /**
+     * Create a a publisher {@link DataChunk} with the given
+     * {@link CharBuffer} / {@link Charset} encoded into a chunk
+     * created by the given factory and return a {@link Single}.
+     *
+     * @param buffer the char buffer
+     * @param charset the charset to use to encode the char sequence
+     * @param factory the factory of the chunk
+     * @return Single
+     */
+    public static Single<DataChunk> writeCharBuffer(CharBuffer buffer, Charset charset, DataChunkFactory factory) {
+        return Single.just(buffer.encode(charset, factory, false));
+    }
+
     /**
      * Create a a publisher {@link DataChunk} with the given
      * {@link Throwable} / {@link Charset} and return a {@link Single}.
@@ -116,6 +154,31 @@ public final class ContentWriters {
         return returnValue;
     }
 
+    /**
+     * Create a publisher of {@link DataChunk} with the content of the given
+     * region of a file.
+     * <p>
+     * If the context {@link MessageBodyWriterContext#fileRegionSupported()
+     * supports file regions} and has no filter registered, a single
+     * {@link FileRegionDataChunk} is published. Otherwise the region is read
+     * into chunks. The channel is closed once the region is written.
+     *
+     * @param channel the file channel
+     * @param position position of the first byte of the region in the file
+     * @param count number of bytes of the region
+     * @param context writer context of the published content
+     * @return publisher
+     */
+    public static Publisher<DataChunk> writeFileRegion(FileChannel channel,
+                                                       long position,
+                                                       long count,
+                                                       MessageBodyWriterContext context) {
+        if (context.fileRegionSupported() && !context.hasFilters()) {
+            return Single.just(FileRegionDataChunk.create(channel, position, count));
+        }
+        return IoMulti.multiFromByteChannel(new FileRegionChannel(channel, position, count)).map(DataChunk::create);
+    }
+
     /**
      * Returns a writer function for {@code byte[]}.
      * <p>
@@ -199,4 +262,51 @@ public final class ContentWriters {
         return channel -> IoMulti.multiFromByteChannel(channel).map(DataChunk::create);
     }
 
+    /**
+     * Readable channel limited to a region of a file.
+     */
+    private static final class FileRegionChannel implements ReadableByteChannel {
+
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        FileRegionChannel(FileChannel channel, long position, long count) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = count;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int limit = dst.limit();
+            if (dst.remaining() > remaining) {
+                dst.limit(dst.position() + (int) remaining);
+            }
+            int read;
+            try {
+                read = channel.read(dst, position);
+            } finally {
+                dst.limit(limit);
+            }
+            if (read > 0) {
+                position += read;
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.common;
+
+/**
+ * Allocates the memory of {@link io.helidon.common.http.DataChunk data chunks} created by message body writers.
+ * <p>
+ * The transport of the published chunks may provide a factory, for example backed by pooled direct memory,
+ * so that writers can encode the content directly into the memory that is written, and that is returned
+ * to the pool once the chunk is released.
+ *
+ * @see MessageBodyWriterContext#dataChunkFactory()
+ */
+@FunctionalInterface
+public interface DataChunkFactory {
+
+    /**
+     * Factory of chunks backed by heap byte arrays.
+     *
+     * @return heap factory
+     */
+    static DataChunkFactory heap() {
+        return HeapDataChunkFactory.INSTANCE;
+    }
+
+    /**
+     * Create a stream to write the content of a single data chunk to.
+     *
+     * @param sizeHint expected number of bytes, {@code 0} if unknown
+     * @return new output stream
+     */
+    DataChunkOutputStream outputStream(int sizeHint);
+}
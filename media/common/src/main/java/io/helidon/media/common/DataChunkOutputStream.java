@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.common;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import io.helidon.common.http.DataChunk;
+
+/**
+ * Output stream collecting the content of a single {@link DataChunk}.
+ * <p>
+ * The stream must be either turned into a chunk with {@link #toDataChunk(boolean)}, or released
+ * with {@link #release()}, it must not be used afterwards. Closing the stream has no effect.
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe.
+ *
+ * @see DataChunkFactory
+ */
+public abstract class DataChunkOutputStream extends OutputStream {
+
+    /**
+     * Constructor for subclasses.
+     */
+    protected DataChunkOutputStream() {
+    }
+
+    /**
+     * Write the characters encoded into the given character set.
+     *
+     * @param chars characters to write
+     * @param charset character set
+     */
+    public void write(CharSequence chars, Charset charset) {
+        ByteBuffer encoded = charset.encode(java.nio.CharBuffer.wrap(chars));
+        write(encoded.array(), encoded.arrayOffset() + encoded.position(), encoded.remaining());
+    }
+
+    @Override
+    public abstract void write(byte[] b, int off, int len);
+
+    @Override
+    public abstract void write(int b);
+
+    /**
+     * Create a chunk of the bytes written to this stream. Releasing the chunk releases its memory.
+     *
+     * @param flush a signal that the chunk should be written and flushed from any cache if possible
+     * @return new chunk
+     */
+    public abstract DataChunk toDataChunk(boolean flush);
+
+    /**
+     * Release the memory of this stream without creating a chunk, for example when the content
+     * could not be written.
+     */
+    public abstract void release();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,10 @@
 package io.helidon.media.common;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.channels.FileChannel;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.concurrent.Flow.Publisher;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
-import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
 
@@ -77,15 +71,7 @@ final class FileBodyWriter implements MessageBodyWriter<File> {
 
         @Override
         public Publisher<DataChunk> map(File file) {
-            try {
-                Path path = file.toPath();
-                context.contentType(MediaType.APPLICATION_OCTET_STREAM);
-                context.contentLength(Files.size(path));
-                FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
-                return ContentWriters.byteChannelWriter().apply(fc);
-            } catch (IOException ex) {
-                return Single.<DataChunk>error(ex);
-            }
+            return new PathBodyWriter.PathToChunks(context).map(file.toPath());
         }
     }
 }
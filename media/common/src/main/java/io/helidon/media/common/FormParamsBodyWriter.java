@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,22 +67,24 @@ class FormParamsBodyWriter implements MessageBodyWriter<FormParams> {
         });
         Charset charset = mediaType.charset().map(Charset::forName).orElse(StandardCharsets.UTF_8);
 
-        return single.flatMap(new FormParamsToChunks(mediaType, charset));
+        return single.flatMap(new FormParamsToChunks(mediaType, charset, context.dataChunkFactory()));
     }
 
     static final class FormParamsToChunks implements Mapper<FormParams, Flow.Publisher<DataChunk>> {
 
         private final MediaType mediaType;
         private final Charset charset;
+        private final DataChunkFactory chunkFactory;
 
-        FormParamsToChunks(MediaType mediaType, Charset charset) {
+        FormParamsToChunks(MediaType mediaType, Charset charset, DataChunkFactory chunkFactory) {
             this.mediaType = mediaType;
             this.charset = charset;
+            this.chunkFactory = chunkFactory;
         }
 
         @Override
         public Flow.Publisher<DataChunk> map(FormParams formParams) {
-            return ContentWriters.writeCharSequence(transform(formParams), charset);
+            return ContentWriters.writeCharSequence(transform(formParams), charset, chunkFactory);
         }
 
         private String transform(FormParams formParams) {
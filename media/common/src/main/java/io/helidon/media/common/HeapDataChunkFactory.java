@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import io.helidon.common.http.DataChunk;
+
+/**
+ * Factory of chunks backed by heap byte arrays, the arrays are wrapped without copying.
+ */
+final class HeapDataChunkFactory implements DataChunkFactory {
+
+    static final HeapDataChunkFactory INSTANCE = new HeapDataChunkFactory();
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private HeapDataChunkFactory() {
+    }
+
+    @Override
+    public DataChunkOutputStream outputStream(int sizeHint) {
+        return new HeapOutputStream(sizeHint > 0 ? sizeHint : DEFAULT_CAPACITY);
+    }
+
+    private static final class HeapOutputStream extends DataChunkOutputStream {
+
+        private final int initialCapacity;
+        private byte[] buffer;
+        private int count;
+
+        private HeapOutputStream(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+        }
+
+        @Override
+        public void write(CharSequence chars, Charset charset) {
+            if (buffer == null) {
+                // first write, the encoded array is used as is
+                ByteBuffer encoded = charset.encode(java.nio.CharBuffer.wrap(chars));
+                if (encoded.arrayOffset() == 0 && encoded.position() == 0) {
+                    buffer = encoded.array();
+                    count = encoded.limit();
+                    return;
+                }
+                write(encoded.array(), encoded.arrayOffset() + encoded.position(), encoded.remaining());
+                return;
+            }
+            super.write(chars, charset);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public DataChunk toDataChunk(boolean flush) {
+            ByteBuffer data = buffer == null ? ByteBuffer.allocate(0) : ByteBuffer.wrap(buffer, 0, count);
+            buffer = null;
+            return DataChunk.create(flush, data);
+        }
+
+        @Override
+        public void release() {
+            buffer = null;
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (buffer == null) {
+                buffer = new byte[Math.max(initialCapacity, minCapacity)];
+            } else if (minCapacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, minCapacity));
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -223,6 +223,15 @@ public abstract class MessageBodyContext implements MessageBodyFilters {
         return this;
     }
 
+    /**
+     * Test if any filter is registered in this context or its parents.
+     *
+     * @return {@code true} if at least one filter is registered
+     */
+    boolean hasFilters() {
+        return !filters.isEmpty();
+    }
+
     /**
      * Apply the filters on the given input publisher to form a publisher chain.
      *
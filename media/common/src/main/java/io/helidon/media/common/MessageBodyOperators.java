@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -123,6 +123,26 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
         return assignableOperator;
     }
 
+    /**
+     * Test if this registry or any of its parents has a registered operator.
+     * @return {@code true} if no operator is registered, {@code false} otherwise
+     */
+    boolean isEmpty() {
+        MessageBodyOperators<T> current = this;
+        while (current != null) {
+            try {
+                current.lock.readLock().lock();
+                if (!current.operators.isEmpty()) {
+                    return false;
+                }
+            } finally {
+                current.lock.readLock().unlock();
+            }
+            current = current.parent;
+        }
+        return true;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new ParentedIterator<>(this);
@@ -58,6 +58,8 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
     private boolean contentTypeCached;
     private Optional<MediaType> contentTypeCache;
     private boolean charsetCached;
+    private volatile boolean fileRegionSupported;
+    private volatile DataChunkFactory dataChunkFactory;
     private Charset charsetCache;
 
     /**
@@ -385,6 +387,58 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         }
     }
 
+    /**
+     * Set whether the consumer of the published chunks can transfer
+     * {@link io.helidon.common.http.FileRegionDataChunk file regions} without
+     * reading their content into memory. Such chunks are only produced if no
+     * filter is registered.
+     * <p>
+     * This setting is not inherited by derived contexts.
+     *
+     * @param fileRegionSupported {@code true} if file regions are supported
+     */
+    public void fileRegionSupported(boolean fileRegionSupported) {
+        this.fileRegionSupported = fileRegionSupported;
+    }
+
+    /**
+     * Test whether the consumer of the published chunks can transfer
+     * {@link io.helidon.common.http.FileRegionDataChunk file regions}.
+     *
+     * @return {@code true} if file regions are supported, {@code false} by default
+     */
+    public boolean fileRegionSupported() {
+        return fileRegionSupported;
+    }
+
+    /**
+     * Set the factory of the chunks created by the writers, typically provided by the consumer
+     * of the published chunks to allocate them in the memory it writes from. Chunks created
+     * by the factory must be released once consumed.
+     * <p>
+     * This setting is not inherited by derived contexts.
+     *
+     * @param dataChunkFactory data chunk factory, {@code null} to use {@link DataChunkFactory#heap()}
+     */
+    public void dataChunkFactory(DataChunkFactory dataChunkFactory) {
+        this.dataChunkFactory = dataChunkFactory;
+    }
+
+    /**
+     * Get the factory of the chunks created by the writers. Filters are not required to
+     * release the chunks they consume, hence {@link DataChunkFactory#heap()} is returned
+     * if any filter is registered.
+     *
+     * @return data chunk factory, {@link DataChunkFactory#heap()} by default
+     */
+    public DataChunkFactory dataChunkFactory() {
+        DataChunkFactory factory = dataChunkFactory;
+        if (factory == null || hasFilters()) {
+            return DataChunkFactory.heap();
+        }
+        return factory;
+    }
+
     /**
      * Get the underlying headers.
      *
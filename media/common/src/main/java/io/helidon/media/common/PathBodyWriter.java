@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,7 +65,7 @@ final class PathBodyWriter implements MessageBodyWriter<Path> {
      * Implementation of {@link Mapper} that converts a {@link Path} to a
      * publisher of {@link DataChunk}.
      */
-    private static final class PathToChunks implements Mapper<Path, Publisher<DataChunk>> {
+    static final class PathToChunks implements Mapper<Path, Publisher<DataChunk>> {
 
         private final MessageBodyWriterContext context;
 
@@ -77,9 +77,10 @@ final class PathBodyWriter implements MessageBodyWriter<Path> {
         public Publisher<DataChunk> map(Path path) {
             try {
                 context.contentType(MediaType.APPLICATION_OCTET_STREAM);
-                context.contentLength(Files.size(path));
+                long size = Files.size(path);
+                context.contentLength(size);
                 FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
-                return ContentWriters.byteChannelWriter().apply(fc);
+                return ContentWriters.writeFileRegion(fc, 0, size, context);
             } catch (IOException ex) {
                 return Single.<DataChunk>error(ex);
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,10 +21,13 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.TimeUnit;
 
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -64,4 +67,47 @@ public class ContentWritersTest {
         byte[] result = ContentReaders.readBytes(publisher).get(5, TimeUnit.SECONDS);
         assertThat(new String(result, StandardCharsets.UTF_8), is(data));
     }
+
+    @Test
+    public void charSequenceFactoryWriter() throws Exception {
+        String data = "abc\u010d";
+        Publisher<DataChunk> publisher = ContentWriters.writeCharSequence(data, StandardCharsets.UTF_8,
+                                                                          DataChunkFactory.heap());
+        byte[] result = ContentReaders.readBytes(publisher).get(5, TimeUnit.SECONDS);
+        assertThat(new String(result, StandardCharsets.UTF_8), is(data));
+    }
+
+    @Test
+    public void charBufferFactoryWriter() throws Exception {
+        String data = "abc".repeat(10_000);
+        CharBuffer buffer = new CharBuffer();
+        buffer.write(data);
+        Publisher<DataChunk> publisher = ContentWriters.writeCharBuffer(buffer, StandardCharsets.UTF_8,
+                                                                        DataChunkFactory.heap());
+        byte[] result = ContentReaders.readBytes(publisher).get(5, TimeUnit.SECONDS);
+        assertThat(new String(result, StandardCharsets.UTF_8), is(data));
+    }
+
+    @Test
+    public void heapOutputStream() throws Exception {
+        DataChunkOutputStream out = DataChunkFactory.heap().outputStream(0);
+        out.write("ab", StandardCharsets.UTF_8);
+        out.write('c');
+        out.write("d".repeat(1000).getBytes(StandardCharsets.UTF_8), 0, 1000);
+        out.write("e", StandardCharsets.UTF_8);
+        byte[] result = ContentReaders.readBytes(Multi.just(out.toDataChunk(false))).get(5, TimeUnit.SECONDS);
+        assertThat(new String(result, StandardCharsets.UTF_8), is("abc" + "d".repeat(1000) + "e"));
+    }
+
+    @Test
+    public void dataChunkFactoryWithFilters() {
+        DataChunkFactory factory = sizeHint -> DataChunkFactory.heap().outputStream(sizeHint);
+        MessageBodyWriterContext context = MessageBodyWriterContext.create();
+        assertThat(context.dataChunkFactory(), is(sameInstance(DataChunkFactory.heap())));
+        context.dataChunkFactory(factory);
+        assertThat(context.dataChunkFactory(), is(sameInstance(factory)));
+        assertThat(MessageBodyWriterContext.create(context).dataChunkFactory(), is(not(sameInstance(factory))));
+        context.registerFilter(publisher -> publisher);
+        assertThat(context.dataChunkFactory(), is(sameInstance(DataChunkFactory.heap())));
+    }
 }
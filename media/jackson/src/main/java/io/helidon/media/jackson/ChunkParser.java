@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import io.helidon.common.http.DataChunk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Feeds chunks to the non-blocking Jackson parser and hands over every token as soon as it is parsed.
+ * Chunks are released once all their available tokens are parsed.
+ */
+abstract class ChunkParser {
+
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    // only used for chunks that are not backed by an array
+    private byte[] copyBuffer;
+
+    ChunkParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Handle a parsed token.
+     *
+     * @param parser parser positioned at the token
+     * @param token parsed token
+     * @throws IOException if the token cannot be handled
+     */
+    abstract void token(JsonParser parser, JsonToken token) throws IOException;
+
+    /**
+     * Parse the chunk and release it.
+     *
+     * @param chunk chunk to parse
+     */
+    void feed(DataChunk chunk) {
+        try {
+            for (ByteBuffer byteBuffer : chunk.data()) {
+                feed(byteBuffer);
+            }
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        } finally {
+            chunk.release();
+        }
+    }
+
+    /**
+     * Parse the tokens that could not be completed before the end of input was known,
+     * such as a number at the end of the entity.
+     */
+    void endOfInput() {
+        try {
+            feeder.endOfInput();
+            parseAvailable();
+            parser.close();
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Create a buffer to copy the parsed tokens to.
+     *
+     * @return new token buffer
+     */
+    TokenBuffer tokenBuffer() {
+        TokenBuffer tokens = new TokenBuffer(parser);
+        tokens.forceUseOfBigDecimal(objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        return tokens;
+    }
+
+    /**
+     * Bind the buffered tokens to an object.
+     *
+     * @param tokens buffered tokens
+     * @param type type to bind
+     * @param <T> type to bind
+     * @return bound object
+     */
+    <T> T bind(TokenBuffer tokens, JavaType type) {
+        try {
+            return objectMapper.readValue(tokens.asParser(objectMapper), type);
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private void feed(ByteBuffer byteBuffer) throws IOException {
+        if (!byteBuffer.hasRemaining()) {
+            return;
+        }
+        if (byteBuffer.hasArray()) {
+            // the parser only references the array until all the available tokens are parsed
+            int start = byteBuffer.arrayOffset() + byteBuffer.position();
+            feeder.feedInput(byteBuffer.array(), start, start + byteBuffer.remaining());
+            parseAvailable();
+            return;
+        }
+        if (copyBuffer == null) {
+            copyBuffer = new byte[COPY_BUFFER_SIZE];
+        }
+        ByteBuffer source = byteBuffer.duplicate();
+        while (source.hasRemaining()) {
+            int length = Math.min(source.remaining(), copyBuffer.length);
+            source.get(copyBuffer, 0, length);
+            feeder.feedInput(copyBuffer, 0, length);
+            parseAvailable();
+        }
+    }
+
+    private void parseAvailable() throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.NOT_AVAILABLE) {
+            token(parser, token);
+            token = parser.nextToken();
+        }
+    }
+}
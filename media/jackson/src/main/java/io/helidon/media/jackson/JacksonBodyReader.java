@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,25 +24,36 @@ import java.util.concurrent.Flow.Publisher;
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.mapper.Mapper;
+import io.helidon.common.reactive.Collector;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.ContentReaders;
 import io.helidon.media.common.MessageBodyReader;
 import io.helidon.media.common.MessageBodyReaderContext;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Message body reader supporting object binding with Jackson.
+ * <p>
+ * By default the whole entity is read into a {@code byte[]} before it is parsed. A streaming reader
+ * feeds the chunks to the non-blocking Jackson parser as they arrive instead, and binds the object
+ * once the last chunk is parsed.
  */
 final class JacksonBodyReader implements MessageBodyReader<Object> {
 
     private final ObjectMapper objectMapper;
+    private final boolean streaming;
 
-    private JacksonBodyReader(ObjectMapper objectMapper) {
+    private JacksonBodyReader(ObjectMapper objectMapper, boolean streaming) {
         Objects.requireNonNull(objectMapper);
         this.objectMapper = objectMapper;
+        this.streaming = streaming;
     }
 
     @Override
@@ -58,6 +69,9 @@ final class JacksonBodyReader implements MessageBodyReader<Object> {
     public <U extends Object> Single<U> read(Publisher<DataChunk> publisher,
             GenericType<U> type, MessageBodyReaderContext context) {
 
+        if (streaming) {
+            return Multi.create(publisher).collect(new ChunksToObject<>(type, objectMapper));
+        }
         return ContentReaders.readBytes(publisher).map(new BytesToObject<>(type, objectMapper));
     }
 
@@ -67,7 +81,16 @@ final class JacksonBodyReader implements MessageBodyReader<Object> {
      * @return JacksonBodyWriter
      */
     public static JacksonBodyReader create(ObjectMapper objectMapper) {
-        return new JacksonBodyReader(objectMapper);
+        return new JacksonBodyReader(objectMapper, false);
+    }
+
+    /**
+     * Create a new {@link JacksonBodyReader} instance parsing the entity chunk by chunk.
+     * @param objectMapper object mapper to use
+     * @return JacksonBodyReader
+     */
+    static JacksonBodyReader createStreaming(ObjectMapper objectMapper) {
+        return new JacksonBodyReader(objectMapper, true);
     }
 
     private static final class BytesToObject<T> implements Mapper<byte[], T> {
@@ -100,4 +123,36 @@ final class JacksonBodyReader implements MessageBodyReader<Object> {
             }
         }
     }
+
+    /**
+     * Implementation of {@link Collector} that feeds the chunks to a non-blocking parser
+     * and buffers the parsed tokens, the object is bound from the tokens once all chunks are collected.
+     */
+    private static final class ChunksToObject<T> extends ChunkParser implements Collector<DataChunk, T> {
+
+        private final JavaType type;
+        private final TokenBuffer tokens;
+
+        ChunksToObject(GenericType<T> type, ObjectMapper objectMapper) {
+            super(objectMapper);
+            this.type = objectMapper.constructType(type.type());
+            this.tokens = tokenBuffer();
+        }
+
+        @Override
+        void token(JsonParser parser, JsonToken token) throws IOException {
+            tokens.copyCurrentEvent(parser);
+        }
+
+        @Override
+        public void collect(DataChunk chunk) {
+            feed(chunk);
+        }
+
+        @Override
+        public T value() {
+            endOfInput();
+            return bind(tokens, type);
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jackson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Message body stream reader supporting object binding with Jackson.
+ * Each element of a top-level JSON array, or each value of {@link MediaType#APPLICATION_X_NDJSON} content,
+ * is bound and emitted as soon as it is parsed. Chunks are only requested and parsed on demand.
+ */
+class JacksonBodyStreamReader implements MessageBodyStreamReader<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    private JacksonBodyStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    static JacksonBodyStreamReader create(ObjectMapper objectMapper) {
+        return new JacksonBodyStreamReader(objectMapper);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        Class<?> clazz = type.rawType();
+        if (CharSequence.class.isAssignableFrom(clazz)
+                || !objectMapper.canDeserialize(objectMapper.constructType(type.type()))) {
+            return PredicateResult.NOT_SUPPORTED;
+        }
+        return context.contentType()
+                .map(mediaType -> MediaType.JSON_PREDICATE.test(mediaType)
+                        || MediaType.APPLICATION_X_NDJSON.test(mediaType))
+                .orElse(true)
+                ? PredicateResult.COMPATIBLE
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public <U extends Object> Publisher<U> read(Publisher<DataChunk> publisher,
+                                                GenericType<U> type,
+                                                MessageBodyReaderContext context) {
+        boolean ndJson = context.contentType()
+                .filter(MediaType.APPLICATION_X_NDJSON)
+                .isPresent();
+        JavaType javaType = objectMapper.constructType(type.type());
+        return Multi.defer(() -> {
+            ChunksToElements<U> elements = new ChunksToElements<>(objectMapper, javaType, ndJson);
+            // prefetch a single chunk, the next one is parsed once the elements of the previous one are consumed
+            return Multi.create(publisher)
+                    .flatMapIterable(elements::parse, 1)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.just(elements.remaining())));
+        });
+    }
+
+    /**
+     * Binds the elements parsed from each chunk.
+     * Elements of a top-level array are emitted one by one, any other top-level value is emitted as a single element.
+     * With newline delimited JSON every top-level value is an element, even an array.
+     */
+    private static final class ChunksToElements<T> extends ChunkParser {
+
+        private final JavaType type;
+        private final boolean ndJson;
+        private List<T> elements = new ArrayList<>();
+        private TokenBuffer tokens;
+        // depth of the elements, 1 inside a top-level array
+        private int elementDepth = -1;
+        private int depth;
+
+        private ChunksToElements(ObjectMapper objectMapper, JavaType type, boolean ndJson) {
+            super(objectMapper);
+            this.type = type;
+            this.ndJson = ndJson;
+        }
+
+        @Override
+        void token(JsonParser parser, JsonToken token) throws IOException {
+            if (elementDepth < 0) {
+                elementDepth = !ndJson && token == JsonToken.START_ARRAY ? 1 : 0;
+                if (elementDepth == 1) {
+                    depth = 1;
+                    return;
+                }
+            }
+            if (depth == 1 && elementDepth == 1 && token == JsonToken.END_ARRAY) {
+                // end of the top-level array
+                depth = 0;
+                return;
+            }
+            if (depth < elementDepth) {
+                throw new JacksonRuntimeException("Unexpected content after the top-level array: " + token, null);
+            }
+            if (tokens == null) {
+                tokens = tokenBuffer();
+            }
+            tokens.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == elementDepth) {
+                elements.add(bind(tokens, type));
+                tokens = null;
+            }
+        }
+
+        private List<T> parse(DataChunk chunk) {
+            feed(chunk);
+            return parsed();
+        }
+
+        private List<T> remaining() {
+            endOfInput();
+            if (depth > 0) {
+                throw new JacksonRuntimeException("Unexpected end of JSON content", null);
+            }
+            return parsed();
+        }
+
+        private List<T> parsed() {
+            if (elements.isEmpty()) {
+                return List.of();
+            }
+            List<T> parsed = elements;
+            elements = new ArrayList<>();
+            return parsed;
+        }
+    }
+}
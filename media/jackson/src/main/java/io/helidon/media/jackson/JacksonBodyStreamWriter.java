@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -62,7 +62,9 @@ class JacksonBodyStreamWriter implements MessageBodyStreamWriter<Object> {
         context.contentType(contentType);
 
         AtomicBoolean first = new AtomicBoolean(true);
-        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
+        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper,
+                                                                                               context.charset(),
+                                                                                               context.dataChunkFactory());
 
         return Multi.create(publisher)
                 .flatMap(objectToChunks)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -68,7 +68,9 @@ class JacksonEsBodyStreamWriter implements MessageBodyStreamWriter<Object> {
                 .or(() -> findMediaType(context))
                 .orElse(TEXT_EVENT_STREAM_JSON);
         context.contentType(contentType);
-        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
+        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper,
+                                                                                               context.charset(),
+                                                                                               context.dataChunkFactory());
         return Multi.create(publisher)
                 .flatMap(objectToChunks)
                 .flatMap(chunk -> Multi.just(
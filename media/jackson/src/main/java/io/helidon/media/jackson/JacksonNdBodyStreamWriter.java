@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,7 +65,9 @@ class JacksonNdBodyStreamWriter implements MessageBodyStreamWriter<Object> {
     public Multi<DataChunk> write(Flow.Publisher<?> publisher, GenericType<?> type, MessageBodyWriterContext context) {
         MediaType contentType = MediaType.APPLICATION_X_NDJSON;
         context.contentType(contentType);
-        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
+        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper,
+                                                                                               context.charset(),
+                                                                                               context.dataChunkFactory());
         AtomicBoolean first = new AtomicBoolean(true);
         return Multi.create(publisher)
                 .flatMap(objectToChunks)
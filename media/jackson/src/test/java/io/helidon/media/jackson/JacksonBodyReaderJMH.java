@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jackson;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Heap allocation of reading a JSON array of books, either read into a single {@code byte[]} first,
+ * or parsed chunk by chunk. Run with the GC profiler, see {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+public class JacksonBodyReaderJMH {
+    private static final GenericType<List<JacksonBodyReaderTest.Book>> BOOKS =
+            new GenericType<List<JacksonBodyReaderTest.Book>>() { };
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"1024", "1048576", "52428800"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean streaming;
+
+    private byte[] entity;
+    private JacksonBodyReader reader;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(JacksonBodyReaderJMH.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        reader = streaming
+                ? JacksonBodyReader.createStreaming(objectMapper)
+                : JacksonBodyReader.create(objectMapper);
+
+        StringBuilder json = new StringBuilder(size + 64).append('[');
+        int i = 0;
+        while (json.length() < size) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"title\":\"Book number ").append(i++).append("\"}");
+        }
+        entity = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<JacksonBodyReaderTest.Book> read() throws Exception {
+        DataChunk[] chunks = new DataChunk[(entity.length + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        for (int i = 0; i < chunks.length; i++) {
+            int offset = i * CHUNK_SIZE;
+            chunks[i] = DataChunk.create(ByteBuffer.wrap(entity, offset, Math.min(CHUNK_SIZE, entity.length - offset)));
+        }
+        return reader.read(Multi.just(chunks), BOOKS, MessageBodyReaderContext.create()).get();
+    }
+}
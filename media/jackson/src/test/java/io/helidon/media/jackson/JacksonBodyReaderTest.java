@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,20 +15,27 @@
  */
 package io.helidon.media.jackson;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.MessageBodyReaderContext;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonBodyReaderTest {
 
@@ -44,6 +51,80 @@ public class JacksonBodyReaderTest {
         assertThat(books.get(0), notNullValue());
     }
 
+    @Test
+    void testStreamingSplitChunks() throws Exception {
+        JacksonBodyReader reader = JacksonBodyReader.createStreaming(new ObjectMapper());
+        String json = "[{\"title\":\"\u017elu\u0165ou\u010dk\u00fd k\u016f\u0148\"},{\"title\":\"The Stand\"}]";
+        List<Book> books = reader.read(byteChunks(json), new GenericType<List<Book>>() {
+        }, MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(books.size(), is(2));
+        assertThat(books.get(0).getTitle(), is("\u017elu\u0165ou\u010dk\u00fd k\u016f\u0148"));
+        assertThat(books.get(1).getTitle(), is("The Stand"));
+    }
+
+    @Test
+    void testStreamingDirectBuffer() throws Exception {
+        JacksonBodyReader reader = JacksonBodyReader.createStreaming(new ObjectMapper());
+        byte[] bytes = "{\"title\":\"The Stand\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        Book book = reader.read(Single.just(DataChunk.create(buffer)), GenericType.create(Book.class),
+                                MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(book.getTitle(), is("The Stand"));
+    }
+
+    @Test
+    void testStreamingScalar() throws Exception {
+        // a root number is only complete once the end of input is known
+        JacksonBodyReader reader = JacksonBodyReader.createStreaming(new ObjectMapper());
+        Integer value = reader.read(byteChunks("4242"), GenericType.create(Integer.class), MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(value, is(4242));
+    }
+
+    @Test
+    void testStreamingBigDecimal() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        JacksonBodyReader reader = JacksonBodyReader.createStreaming(objectMapper);
+        Map<String, Object> value = reader.read(byteChunks("{\"price\":12345678901234567.89}"),
+                                                new GenericType<Map<String, Object>>() { },
+                                                MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(value.get("price"), is(new BigDecimal("12345678901234567.89")));
+    }
+
+    @Test
+    void testStreamingInvalid() {
+        JacksonBodyReader reader = JacksonBodyReader.createStreaming(new ObjectMapper());
+
+        assertThrows(ExecutionException.class,
+                     () -> reader.read(byteChunks("{\"title\":\"The Stand\""), GenericType.create(Book.class),
+                                       MessageBodyReaderContext.create())
+                             .get());
+        assertThrows(ExecutionException.class,
+                     () -> reader.read(byteChunks("{\"title\":}"), GenericType.create(Book.class),
+                                       MessageBodyReaderContext.create())
+                             .get());
+    }
+
+    /**
+     * Each byte in its own chunk, so that tokens and multi-byte characters are split across chunks.
+     */
+    private static Multi<DataChunk> byteChunks(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        DataChunk[] chunks = new DataChunk[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            chunks[i] = DataChunk.create(new byte[] {bytes[i]});
+        }
+        return Multi.just(chunks);
+    }
+
     public static class Book {
         private String title;
 
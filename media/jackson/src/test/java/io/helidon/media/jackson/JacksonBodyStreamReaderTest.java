@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jackson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MediaContext;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JacksonBodyStreamReaderTest {
+
+    private static final JacksonBodyStreamReader READER = JacksonBodyStreamReader.create(new ObjectMapper());
+    private static final GenericType<JacksonBodyReaderTest.Book> BOOK = GenericType.create(JacksonBodyReaderTest.Book.class);
+
+    @Test
+    void testArray() throws Exception {
+        List<String> titles = titles(READER.read(chunks("[{\"title\":\"The Stand\"}", ",", "{\"title\":\"It\"},{\"ti",
+                                                        "tle\":\"Misery\"}", "]"),
+                                                 BOOK,
+                                                 MessageBodyReaderContext.create()));
+
+        assertThat(titles, contains("The Stand", "It", "Misery"));
+    }
+
+    @Test
+    void testEmptyArray() throws Exception {
+        List<String> titles = titles(READER.read(chunks(" [ ", " ] "), BOOK, MessageBodyReaderContext.create()));
+
+        assertThat(titles, is(empty()));
+    }
+
+    @Test
+    void testSingleValue() throws Exception {
+        List<String> titles = titles(READER.read(chunks("{\"title\":", "\"The Stand\"}"), BOOK,
+                                                 MessageBodyReaderContext.create()));
+
+        assertThat(titles, contains("The Stand"));
+    }
+
+    @Test
+    void testNdJson() throws Exception {
+        List<List<Integer>> numbers = Multi.create(READER.read(chunks("[1,2]\n[3", "]\n", "[4]"),
+                                                               new GenericType<List<Integer>>() { },
+                                                               ndJsonContext()))
+                .collectList()
+                .get();
+
+        assertThat(numbers, is(List.of(List.of(1, 2), List.of(3), List.of(4))));
+    }
+
+    @Test
+    void testOnDemand() throws Exception {
+        AtomicInteger emitted = new AtomicInteger();
+        String[] parts = new String[12];
+        parts[0] = "[";
+        for (int i = 1; i <= 10; i++) {
+            parts[i] = "{\"title\":\"Book " + i + "\"}" + (i < 10 ? "," : "");
+        }
+        parts[11] = "]";
+
+        JacksonBodyReaderTest.Book first = Multi.create(READER.read(chunks(parts).peek(chunk -> emitted.incrementAndGet()),
+                                                                    BOOK,
+                                                                    MessageBodyReaderContext.create()))
+                .first()
+                .get();
+
+        assertThat(first.getTitle(), is("Book 1"));
+        assertThat(emitted.get(), is(lessThan(parts.length)));
+    }
+
+    @Test
+    void testTruncated() {
+        assertThrows(ExecutionException.class,
+                     () -> titles(READER.read(chunks("[{\"title\":\"The Stand\"}", ",{"), BOOK,
+                                              MessageBodyReaderContext.create())));
+    }
+
+    private static MessageBodyReaderContext ndJsonContext() {
+        return MessageBodyReaderContext.create((MediaContext) null, null, ReadOnlyParameters.empty(),
+                                               Optional.of(MediaType.APPLICATION_X_NDJSON));
+    }
+
+    private static List<String> titles(Publisher<JacksonBodyReaderTest.Book> books) throws Exception {
+        return Multi.create(books)
+                .map(JacksonBodyReaderTest.Book::getTitle)
+                .collectList()
+                .get();
+    }
+
+    private static Multi<DataChunk> chunks(String... chunks) {
+        return Multi.just(chunks)
+                .map(chunk -> DataChunk.create(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,7 +65,7 @@ class JsonbBodyStreamWriter implements MessageBodyStreamWriter<Object> {
 
         AtomicBoolean first = new AtomicBoolean(true);
 
-        ObjectToChunks jsonToChunks = new ObjectToChunks(jsonb, context.charset());
+        ObjectToChunks jsonToChunks = new ObjectToChunks(jsonb, context.charset(), context.dataChunkFactory());
 
         return Multi.create(publisher)
                 .flatMap(jsonToChunks)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.CharBuffer;
 import io.helidon.media.common.ContentWriters;
+import io.helidon.media.common.DataChunkFactory;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -58,7 +59,7 @@ class JsonbBodyWriter implements MessageBodyWriter<Object> {
 
         MediaType contentType = context.findAccepted(MediaType.JSON_PREDICATE, MediaType.APPLICATION_JSON);
         context.contentType(contentType);
-        return content.flatMap(new ObjectToChunks(jsonb, context.charset()));
+        return content.flatMap(new ObjectToChunks(jsonb, context.charset(), context.dataChunkFactory()));
     }
 
     /**
@@ -78,10 +79,12 @@ class JsonbBodyWriter implements MessageBodyWriter<Object> {
 
         private final Jsonb jsonb;
         private final Charset charset;
+        private final DataChunkFactory chunkFactory;
 
-        ObjectToChunks(Jsonb jsonb, Charset charset) {
+        ObjectToChunks(Jsonb jsonb, Charset charset, DataChunkFactory chunkFactory) {
             this.jsonb = jsonb;
             this.charset = charset;
+            this.chunkFactory = chunkFactory;
         }
 
         @Override
@@ -89,7 +92,7 @@ class JsonbBodyWriter implements MessageBodyWriter<Object> {
             CharBuffer buffer = new CharBuffer();
             try {
                 jsonb.toJson(item, buffer);
-                return ContentWriters.writeCharBuffer(buffer, charset);
+                return ContentWriters.writeCharBuffer(buffer, charset, chunkFactory);
             } catch (IllegalStateException | JsonbException ex) {
                 return Single.<DataChunk>error(ex);
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,13 @@ package io.helidon.media.jsonp;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Enumeration;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.Flow.Publisher;
 
 import javax.json.JsonException;
@@ -29,8 +34,9 @@ import javax.json.JsonStructure;
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.mapper.Mapper;
+import io.helidon.common.reactive.Collector;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
-import io.helidon.media.common.ContentReaders;
 import io.helidon.media.common.MessageBodyReader;
 import io.helidon.media.common.MessageBodyReaderContext;
 
@@ -55,17 +61,58 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
     public <U extends JsonStructure> Single<U> read(Publisher<DataChunk> publisher, GenericType<U> type,
             MessageBodyReaderContext context) {
 
-        return ContentReaders.readBytes(publisher)
-                .map(new BytesToJsonStructure<>(jsonFactory, type, context.charset()));
+        return Multi.create(publisher)
+                .collect(new ChunksCollector())
+                .map(new StreamToJsonStructure<>(jsonFactory, type, context.charset()));
     }
 
-    private static final class BytesToJsonStructure<T extends JsonStructure> implements Mapper<byte[], T> {
+    /**
+     * Implementation of {@link Collector} that copies each chunk into its own {@code byte[]} and releases it.
+     * JSON-P has no non-blocking parser, so the entity is still parsed once complete, but it is not copied
+     * again into a single array, and the parsed segments can be collected while parsing.
+     */
+    private static final class ChunksCollector implements Collector<DataChunk, InputStream> {
+
+        private final Queue<InputStream> segments = new ArrayDeque<>();
+
+        @Override
+        public void collect(DataChunk chunk) {
+            try {
+                for (ByteBuffer byteBuffer : chunk.data()) {
+                    if (byteBuffer.hasRemaining()) {
+                        byte[] segment = new byte[byteBuffer.remaining()];
+                        byteBuffer.duplicate().get(segment);
+                        segments.add(new ByteArrayInputStream(segment));
+                    }
+                }
+            } finally {
+                chunk.release();
+            }
+        }
+
+        @Override
+        public InputStream value() {
+            return new SequenceInputStream(new Enumeration<>() {
+                @Override
+                public boolean hasMoreElements() {
+                    return !segments.isEmpty();
+                }
+
+                @Override
+                public InputStream nextElement() {
+                    return segments.remove();
+                }
+            });
+        }
+    }
+
+    private static final class StreamToJsonStructure<T extends JsonStructure> implements Mapper<InputStream, T> {
 
         private final JsonReaderFactory jsonFactory;
         private final GenericType<T> type;
         private final Charset charset;
 
-        BytesToJsonStructure(JsonReaderFactory jsonFactory, GenericType<T> type, Charset charset) {
+        StreamToJsonStructure(JsonReaderFactory jsonFactory, GenericType<T> type, Charset charset) {
             this.jsonFactory = jsonFactory;
             this.type = type;
             this.charset = charset;
@@ -73,8 +120,7 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
 
         @Override
         @SuppressWarnings("unchecked")
-        public T map(byte[] bytes) {
-            InputStream is = new ByteArrayInputStream(bytes);
+        public T map(InputStream is) {
             JsonReader reader = jsonFactory.createReader(is, charset);
             JsonStructure json = reader.read();
             if (!type.rawType().isAssignableFrom(json.getClass())) {
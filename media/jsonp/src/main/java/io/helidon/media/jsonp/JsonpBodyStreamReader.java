@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jsonp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
+
+import javax.json.JsonException;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonStructure;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+/**
+ * Message body stream reader for {@link JsonStructure} sub-classes (JSON-P).
+ * Each element of a top-level JSON array, or each value of {@link MediaType#APPLICATION_X_NDJSON} content,
+ * is emitted as soon as all its bytes are received. Chunks are only requested and parsed on demand.
+ * <p>
+ * JSON-P has no non-blocking parser, so the boundaries of the elements are found by scanning the bytes
+ * for structural characters, which requires an ASCII compatible charset such as {@code UTF-8}.
+ */
+class JsonpBodyStreamReader implements MessageBodyStreamReader<JsonStructure> {
+
+    private static final String STRUCTURAL = "{}[],\"\\ \t\r\n";
+    private static final byte[] STRUCTURAL_BYTES = STRUCTURAL.getBytes(StandardCharsets.US_ASCII);
+
+    private final JsonReaderFactory jsonFactory;
+
+    JsonpBodyStreamReader(JsonReaderFactory jsonFactory) {
+        this.jsonFactory = Objects.requireNonNull(jsonFactory);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        if (!JsonStructure.class.isAssignableFrom(type.rawType())) {
+            return PredicateResult.NOT_SUPPORTED;
+        }
+        return context.contentType()
+                .map(mediaType -> MediaType.JSON_PREDICATE.test(mediaType)
+                        || MediaType.APPLICATION_X_NDJSON.test(mediaType))
+                .orElse(true)
+                ? PredicateResult.COMPATIBLE
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public <U extends JsonStructure> Publisher<U> read(Publisher<DataChunk> publisher,
+                                                       GenericType<U> type,
+                                                       MessageBodyReaderContext context) {
+        Charset charset = context.charset();
+        if (!Arrays.equals(STRUCTURAL_BYTES, STRUCTURAL.getBytes(charset))) {
+            return Multi.error(new JsonException("Streaming JSON is not supported with charset " + charset));
+        }
+        boolean ndJson = context.contentType()
+                .filter(MediaType.APPLICATION_X_NDJSON)
+                .isPresent();
+        return Multi.defer(() -> {
+            ChunksToStructures<U> structures = new ChunksToStructures<>(jsonFactory, type, charset, ndJson);
+            // prefetch a single chunk, the next one is parsed once the elements of the previous one are consumed
+            return Multi.create(publisher)
+                    .flatMapIterable(structures::parse, 1)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.just(structures.remaining())));
+        });
+    }
+
+    /**
+     * Splits the chunks into the bytes of each element, and reads every element once complete.
+     * Elements of a top-level array are emitted one by one, any other top-level value is emitted as a single element.
+     * With newline delimited JSON every top-level value is an element, even an array.
+     */
+    private static final class ChunksToStructures<T extends JsonStructure> {
+
+        private final JsonReaderFactory jsonFactory;
+        private final GenericType<T> type;
+        private final Charset charset;
+        private final boolean ndJson;
+        private final ByteArrayOutputStream element = new ByteArrayOutputStream();
+        private List<T> elements = new ArrayList<>();
+        // depth of the elements, 1 inside a top-level array
+        private int elementDepth = -1;
+        private int depth;
+        private boolean inString;
+        private boolean escaped;
+        // an element of the top-level array was read, a comma or the end of the array is expected
+        private boolean separatorExpected;
+
+        private ChunksToStructures(JsonReaderFactory jsonFactory, GenericType<T> type, Charset charset, boolean ndJson) {
+            this.jsonFactory = jsonFactory;
+            this.type = type;
+            this.charset = charset;
+            this.ndJson = ndJson;
+        }
+
+        private List<T> parse(DataChunk chunk) {
+            try {
+                for (ByteBuffer byteBuffer : chunk.data()) {
+                    parse(byteBuffer);
+                }
+            } finally {
+                chunk.release();
+            }
+            return parsed();
+        }
+
+        private List<T> remaining() {
+            if (depth > 0) {
+                throw new JsonException("Unexpected end of JSON content");
+            }
+            return parsed();
+        }
+
+        private void parse(ByteBuffer byteBuffer) {
+            int start = byteBuffer.position();
+            int end = byteBuffer.limit();
+            // start of the bytes of the current element in this buffer
+            int elementStart = elementDepth >= 0 && depth > elementDepth ? start : -1;
+            for (int i = start; i < end; i++) {
+                byte b = byteBuffer.get(i);
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (elementDepth >= 0 && depth > elementDepth) {
+                    // inside of an element
+                    if (b == '"') {
+                        inString = true;
+                    } else if (b == '{' || b == '[') {
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        depth--;
+                        if (depth == elementDepth) {
+                            append(byteBuffer, elementStart, i + 1);
+                            elementStart = -1;
+                            elements.add(read());
+                            separatorExpected = elementDepth == 1;
+                        }
+                    }
+                    continue;
+                }
+                if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                    continue;
+                }
+                if (elementDepth < 0) {
+                    elementDepth = !ndJson && b == '[' ? 1 : 0;
+                    if (elementDepth == 1) {
+                        depth = 1;
+                        continue;
+                    }
+                }
+                if (depth < elementDepth) {
+                    throw new JsonException("Unexpected content after the top-level array");
+                }
+                if (elementDepth == 1 && b == ']') {
+                    // end of the top-level array
+                    depth = 0;
+                } else if (separatorExpected && b == ',') {
+                    separatorExpected = false;
+                } else if (!separatorExpected && (b == '{' || b == '[')) {
+                    depth++;
+                    elementStart = i;
+                } else {
+                    throw new JsonException("Unexpected character '" + (char) b + "', JSON object or array expected");
+                }
+            }
+            if (elementStart >= 0) {
+                append(byteBuffer, elementStart, end);
+            }
+        }
+
+        private void append(ByteBuffer byteBuffer, int from, int to) {
+            if (byteBuffer.hasArray()) {
+                element.write(byteBuffer.array(), byteBuffer.arrayOffset() + from, to - from);
+            } else {
+                byte[] bytes = new byte[to - from];
+                byteBuffer.duplicate().position(from).get(bytes);
+                element.write(bytes, 0, bytes.length);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T read() {
+            JsonReader reader = jsonFactory.createReader(new ByteArrayInputStream(element.toByteArray()), charset);
+            element.reset();
+            JsonStructure json = reader.read();
+            if (!type.rawType().isAssignableFrom(json.getClass())) {
+                throw new JsonException("Unable to convert " + json.getClass() + " to " + type.rawType());
+            }
+            return (T) json;
+        }
+
+        private List<T> parsed() {
+            if (elements.isEmpty()) {
+                return List.of();
+            }
+            List<T> parsed = elements;
+            elements = new ArrayList<>();
+            return parsed;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.CharBuffer;
+import io.helidon.media.common.DataChunkFactory;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -54,22 +55,25 @@ class JsonpBodyWriter implements MessageBodyWriter<JsonStructure> {
 
         MediaType contentType = context.findAccepted(MediaType.JSON_PREDICATE, MediaType.APPLICATION_JSON);
         context.contentType(contentType);
-        return content.map(new JsonStructureToChunks(jsonWriterFactory, context.charset()));
+        return content.map(new JsonStructureToChunks(jsonWriterFactory, context.charset(), context.dataChunkFactory()));
     }
 
     static final class JsonStructureToChunks implements Mapper<JsonStructure, DataChunk> {
         private final JsonWriterFactory factory;
         private final Charset charset;
+        private final DataChunkFactory chunkFactory;
         private boolean flush = false;
 
-        JsonStructureToChunks(JsonWriterFactory factory, Charset charset) {
+        JsonStructureToChunks(JsonWriterFactory factory, Charset charset, DataChunkFactory chunkFactory) {
             this.factory = factory;
             this.charset = charset;
+            this.chunkFactory = chunkFactory;
         }
 
-        JsonStructureToChunks(boolean flush, JsonWriterFactory factory, Charset charset) {
+        JsonStructureToChunks(boolean flush, JsonWriterFactory factory, Charset charset, DataChunkFactory chunkFactory) {
             this.factory = factory;
             this.charset = charset;
+            this.chunkFactory = chunkFactory;
             this.flush = flush;
         }
 
@@ -78,7 +82,7 @@ class JsonpBodyWriter implements MessageBodyWriter<JsonStructure> {
             CharBuffer buffer = new CharBuffer();
             try (JsonWriter writer = factory.createWriter(buffer)) {
                 writer.write(item);
-                return DataChunk.create(flush, buffer.encode(charset));
+                return buffer.encode(charset, chunkFactory, flush);
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -72,7 +72,8 @@ class JsonpNdBodyStreamWriter implements MessageBodyStreamWriter<JsonStructure>
 
         JsonStructureToChunks jsonToChunks = new JsonStructureToChunks(true,
                                                                        jsonWriterFactory,
-                                                                       context.charset());
+                                                                       context.charset(),
+                                                                       context.dataChunkFactory());
 
         AtomicBoolean first = new AtomicBoolean(true);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import javax.json.JsonWriterFactory;
 import io.helidon.common.LazyValue;
 import io.helidon.media.common.MediaSupport;
 import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyStreamReader;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriter;
 
@@ -42,6 +43,7 @@ public final class JsonpSupport implements MediaSupport {
                                                     Builder.writerFactory(null)));
 
     private final JsonpBodyReader reader;
+    private final JsonpBodyStreamReader streamReader;
     private final JsonpBodyWriter writer;
     private final JsonpBodyStreamWriter streamWriter;
     private final JsonpEsBodyStreamWriter esStreamWriter;
@@ -49,6 +51,7 @@ public final class JsonpSupport implements MediaSupport {
 
     private JsonpSupport(JsonReaderFactory readerFactory, JsonWriterFactory writerFactory) {
         reader = new JsonpBodyReader(readerFactory);
+        streamReader = new JsonpBodyStreamReader(readerFactory);
         writer = new JsonpBodyWriter(writerFactory);
         streamWriter = new JsonpBodyStreamWriter(writerFactory);
         esStreamWriter = new JsonpEsBodyStreamWriter(writerFactory);
@@ -102,6 +105,28 @@ public final class JsonpSupport implements MediaSupport {
         return new JsonpBodyReader(readerFactory);
     }
 
+    /**
+     * Return a default JSON-P entity stream reader.
+     * Each element of a top-level JSON array, or each value of {@link io.helidon.common.http.MediaType#APPLICATION_X_NDJSON}
+     * content, is emitted as soon as it is received.
+     *
+     * @return default JSON-P body stream reader instance
+     */
+    public static MessageBodyStreamReader<JsonStructure> streamReader() {
+        return DEFAULT.get().streamReader;
+    }
+
+    /**
+     * Create a new JSON-P entity stream reader based on {@link JsonReaderFactory}.
+     *
+     * @param readerFactory json reader factory
+     * @return new JSON-P body stream reader instance
+     * @see #streamReader()
+     */
+    public static MessageBodyStreamReader<JsonStructure> streamReader(JsonReaderFactory readerFactory) {
+        return new JsonpBodyStreamReader(readerFactory);
+    }
+
     /**
      * Return a default JSON-P entity writer.
      *
@@ -191,6 +216,15 @@ public final class JsonpSupport implements MediaSupport {
         return reader;
     }
 
+    /**
+     * Return JSON-P stream reader instance.
+     *
+     * @return JSON-P stream reader instance
+     */
+    public MessageBodyStreamReader<JsonStructure> streamReaderInstance() {
+        return streamReader;
+    }
+
     /**
      * Return JSON-P entity writer.
      *
@@ -258,6 +292,11 @@ public final class JsonpSupport implements MediaSupport {
         return List.of(reader);
     }
 
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return List.of(streamReader);
+    }
+
     @Override
     public Collection<MessageBodyWriter<?>> writers() {
         return List.of(writer);
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jsonp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonStructure;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MediaContext;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link JsonpBodyStreamReader}.
+ */
+public class JsonpBodyStreamReaderTest {
+
+    private static final MessageBodyStreamReader<JsonStructure> READER = JsonpSupport.streamReader();
+    private static final MessageBodyReaderContext CONTEXT = MessageBodyReaderContext.create();
+
+    @Test
+    public void array() throws Exception {
+        List<String> values = values(chunks("[{\"p\":\"a\"}", " , ", "{\"p\":\"b]}\\\"\"},{\"", "p\":\"c\"}", "]"), CONTEXT);
+
+        assertThat(values, contains("a", "b]}\"", "c"));
+    }
+
+    @Test
+    public void emptyArray() throws Exception {
+        assertThat(values(chunks(" [ ", " ] "), CONTEXT), is(empty()));
+    }
+
+    @Test
+    public void singleObject() throws Exception {
+        assertThat(values(chunks("{\"p\":", "\"a\"}"), CONTEXT), contains("a"));
+    }
+
+    @Test
+    public void ndJson() throws Exception {
+        MessageBodyReaderContext context = MessageBodyReaderContext.create((MediaContext) null, null, ReadOnlyParameters.empty(),
+                                                                           Optional.of(MediaType.APPLICATION_X_NDJSON));
+        List<JsonArray> arrays = Multi.create(READER.read(chunks("[1,2]\n[3", "]\n", "[4]"),
+                                                          GenericType.create(JsonArray.class),
+                                                          context))
+                .collectList()
+                .get();
+
+        assertThat(arrays.size(), is(3));
+        assertThat(arrays.get(0).getInt(1), is(2));
+        assertThat(arrays.get(1).getInt(0), is(3));
+        assertThat(arrays.get(2).getInt(0), is(4));
+    }
+
+    @Test
+    public void onDemand() throws Exception {
+        AtomicInteger emitted = new AtomicInteger();
+        String[] parts = new String[12];
+        parts[0] = "[";
+        for (int i = 1; i <= 10; i++) {
+            parts[i] = "{\"p\":\"" + i + "\"}" + (i < 10 ? "," : "");
+        }
+        parts[11] = "]";
+
+        JsonObject first = Multi.create(READER.read(chunks(parts).peek(chunk -> emitted.incrementAndGet()),
+                                                    GenericType.create(JsonObject.class),
+                                                    CONTEXT))
+                .first()
+                .get();
+
+        assertThat(first.getString("p"), is("1"));
+        assertThat(emitted.get(), is(lessThan(parts.length)));
+    }
+
+    @Test
+    public void invalid() {
+        assertThrows(ExecutionException.class, () -> values(chunks("[{\"p\":\"a\"}", ",{"), CONTEXT));
+        assertThrows(ExecutionException.class, () -> values(chunks("[{\"p\":\"a\"}{\"p\":\"b\"}]"), CONTEXT));
+        assertThrows(ExecutionException.class, () -> values(chunks("[\"a\"]"), CONTEXT));
+        assertThrows(ExecutionException.class, () -> values(chunks("[{\"p\":\"a\"}] {}"), CONTEXT));
+    }
+
+    private static List<String> values(Multi<DataChunk> chunks, MessageBodyReaderContext context) throws Exception {
+        return Multi.create(READER.read(chunks, GenericType.create(JsonObject.class), context))
+                .map(json -> json.getString("p"))
+                .collectList()
+                .get();
+    }
+
+    private static Multi<DataChunk> chunks(String... chunks) {
+        return Multi.just(chunks)
+                .map(chunk -> DataChunk.create(chunk.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.media.jsonp;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutionException;
 
 import javax.json.JsonArray;
@@ -24,6 +25,7 @@ import javax.json.JsonStructure;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.MessageBodyReader;
 import io.helidon.media.common.MessageBodyReaderContext;
@@ -69,6 +71,20 @@ public class JsonpReaderTest {
         assertThrows(ExecutionException.class, () -> readJsonObject("{ \"p\" : \"val\" "));
     }
 
+    @Test
+    public void splitChunks() throws Exception {
+        // each byte in its own chunk, so that multi-byte characters are split across chunks
+        byte[] bytes = "{ \"p\" : \"\u017elu\u0165ou\u010dk\u00fd\" }".getBytes(StandardCharsets.UTF_8);
+        DataChunk[] chunks = new DataChunk[bytes.length + 1];
+        for (int i = 0; i < bytes.length; i++) {
+            chunks[i] = DataChunk.create(new byte[] {bytes[i]});
+        }
+        chunks[bytes.length] = DataChunk.create(new byte[0]);
+
+        JsonObject jsonObject = READER.read(Multi.just(chunks), GenericType.create(JsonObject.class), CONTEXT).get();
+        assertThat(jsonObject.getString("p"), is(equalTo("\u017elu\u0165ou\u010dk\u00fd")));
+    }
+
     private static JsonObject readJsonObject(String json) throws Exception {
         return READER.read(Single.just(DataChunk.create(json.getBytes())), GenericType.create(JsonObject.class), CONTEXT).get();
     }
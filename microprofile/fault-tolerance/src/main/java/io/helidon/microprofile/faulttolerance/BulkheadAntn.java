@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package io.helidon.microprofile.faulttolerance;
 
 import java.lang.reflect.Method;
 
+import io.helidon.faulttolerance.AdaptiveLimit;
+
 import org.eclipse.microprofile.faulttolerance.Bulkhead;
 import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
 
@@ -46,6 +48,7 @@ class BulkheadAntn extends MethodAntn implements Bulkhead {
             throw new FaultToleranceDefinitionException("Invalid @Bulkhead annotation, "
                                                         + "waitingTaskQueue must be > 0");
         }
+        adaptiveLimit();
     }
 
     @Override
@@ -61,4 +64,29 @@ class BulkheadAntn extends MethodAntn implements Bulkhead {
         final String override = getParamOverride("waitingTaskQueue", lookupResult.getType());
         return override != null ? Integer.parseInt(override) : lookupResult.getAnnotation().waitingTaskQueue();
     }
+
+    /**
+     * Helidon specific adaptive limit configured through parameter {@code adaptiveLimit} with one of
+     * {@code aimd}, {@code vegas} or {@code gradient2}. The annotation {@link #value()} is used as the initial limit.
+     *
+     * @return a new adaptive limit or {@code null} if the limit is static
+     */
+    AdaptiveLimit adaptiveLimit() {
+        LookupResult<Bulkhead> lookupResult = lookupAnnotation(Bulkhead.class);
+        final String override = getParamOverride("adaptiveLimit", lookupResult.getType());
+        if (override == null || override.isEmpty() || "none".equals(override)) {
+            return null;
+        }
+        switch (override) {
+            case "aimd":
+                return AdaptiveLimit.AimdLimit.builder().initialLimit(value()).build();
+            case "vegas":
+                return AdaptiveLimit.VegasLimit.builder().initialLimit(value()).build();
+            case "gradient2":
+                return AdaptiveLimit.Gradient2Limit.builder().initialLimit(value()).build();
+            default:
+                throw new FaultToleranceDefinitionException("Invalid @Bulkhead adaptiveLimit \"" + override
+                                                            + "\", must be one of aimd, vegas, gradient2");
+        }
+    }
 }
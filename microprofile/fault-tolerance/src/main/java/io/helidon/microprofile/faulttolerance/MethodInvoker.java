@@ -33,6 +33,7 @@ import javax.interceptor.InvocationContext;
 import io.helidon.common.context.Context;
 import io.helidon.common.context.Contexts;
 import io.helidon.common.reactive.Single;
+import io.helidon.faulttolerance.AdaptiveLimit;
 import io.helidon.faulttolerance.Async;
 import io.helidon.faulttolerance.Bulkhead;
 import io.helidon.faulttolerance.CircuitBreaker;
@@ -449,10 +450,15 @@ class MethodInvoker implements FtSupplier<Object> {
      */
     private void initMethodHandler(MethodState methodState) {
         if (introspector.hasBulkhead()) {
-            methodState.bulkhead = Bulkhead.builder()
-                    .limit(introspector.getBulkhead().value())
-                    .queueLength(introspector.isAsynchronous() ? introspector.getBulkhead().waitingTaskQueue() : 0)
-                    .build();
+            BulkheadAntn bulkheadAntn = introspector.getBulkhead();
+            Bulkhead.Builder bulkheadBuilder = Bulkhead.builder()
+                    .limit(bulkheadAntn.value())
+                    .queueLength(introspector.isAsynchronous() ? bulkheadAntn.waitingTaskQueue() : 0);
+            AdaptiveLimit adaptiveLimit = bulkheadAntn.adaptiveLimit();
+            if (adaptiveLimit != null) {
+                bulkheadBuilder.adaptiveLimit(adaptiveLimit);
+            }
+            methodState.bulkhead = bulkheadBuilder.build();
         }
 
         if (introspector.hasTimeout()) {
@@ -19,7 +19,9 @@ package io.helidon.security.jwt;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
 import java.time.Instant;
@@ -232,6 +234,38 @@ public final class JwtUtil {
         }
     }
 
+    /**
+     * Hash of a token, to be used as the key of a cache of tokens without keeping the token itself in memory.
+     *
+     * @param token token to hash
+     * @return base64 encoded SHA-256 hash of the token
+     * @throws JwtException in case SHA-256 is not supported by this JVM
+     */
+    public static String tokenHash(String token) throws JwtException {
+        try {
+            // message digest is not thread safe, and is cheap to obtain
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new JwtException("SHA-256 must be supported for security to work", e);
+        }
+    }
+
+    /**
+     * Whether a token expired. Can be used as the evictor of a cache of verified tokens keyed by
+     * {@link #tokenHash(String)}.
+     *
+     * @param tokenHash hash of the token
+     * @param signedJwt the token
+     * @return {@code true} if the token has an expiration time in the past
+     */
+    public static boolean expired(String tokenHash, SignedJwt signedJwt) {
+        return signedJwt.getJwt()
+                .expirationTime()
+                .map(exp -> exp.isBefore(Instant.now()))
+                .orElse(false);
+    }
+
     /**
      * Transform a map of strings to objects to a map of string to JSON values.
      * Each object is checked for type and if supported, transformed to appropriate
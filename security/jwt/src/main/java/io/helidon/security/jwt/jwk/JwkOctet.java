@@ -71,6 +71,8 @@ public class JwkOctet extends Jwk {
     }
 
     private final byte[] keyBytes;
+    // Mac is not thread safe, each thread reuses an instance initialized with this key
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
 
     private JwkOctet(Builder builder) {
         super(builder, ALG_HS256);
@@ -127,6 +129,19 @@ public class JwkOctet extends Jwk {
             return EMPTY_BYTES;
         }
 
+        Mac mac = macs.get();
+        try {
+            // doFinal resets the Mac, so it can be used again with the same key
+            return mac.doFinal(bytesToSign);
+        } catch (RuntimeException e) {
+            // state of the Mac is not defined after an exception
+            macs.remove();
+            throw e;
+        }
+    }
+
+    private Mac createMac() {
+        String alg = getSignatureAlgorithm();
         Mac mac = JwtUtil.getMac(alg);
         SecretKeySpec secretKey = new SecretKeySpec(keyBytes, alg);
         try {
@@ -134,8 +149,7 @@ public class JwkOctet extends Jwk {
         } catch (InvalidKeyException e) {
             throw new JwtException("Failed to init Mac for algorithm: " + alg, e);
         }
-
-        return mac.doFinal(bytesToSign);
+        return mac;
     }
 
     private String getSignatureAlgorithm() {
@@ -18,6 +18,7 @@ package io.helidon.security.jwt.jwk;
 
 import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.security.InvalidKeyException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
@@ -71,6 +72,8 @@ abstract class JwkPki extends Jwk {
     private final Optional<List<X509Certificate>> certificateChain;
     private final Optional<byte[]> sha1Thumbprint;
     private final Optional<byte[]> sha256Thumbprint;
+    // Signature is not thread safe, each thread reuses an instance initialized to verify with this key
+    private final ThreadLocal<Signature> verifiers = ThreadLocal.withInitial(this::createVerifier);
 
     JwkPki(Builder<?> builder, PrivateKey privKey, PublicKey pubKey, String defaultAlgorithm) {
         super(builder, defaultAlgorithm);
@@ -112,15 +115,27 @@ abstract class JwkPki extends Jwk {
             return verifyNoneAlg(signatureToVerify);
         }
 
-        Signature signature = JwtUtil.getSignature(alg);
+        Signature signature = verifiers.get();
 
         try {
-            signature.initVerify(publicKey);
+            // verify resets the signature to the state after initVerify, so it can be used again
             signature.update(signedBytes);
             return signature.verify(signatureToVerify);
         } catch (Exception e) {
+            // state of the signature is not defined after an exception
+            verifiers.remove();
+            throw new JwtException("Failed to verify signature. It may still be valid, but an exception was thrown", e);
+        }
+    }
+
+    private Signature createVerifier() {
+        Signature signature = JwtUtil.getSignature(signatureAlgorithm());
+        try {
+            signature.initVerify(publicKey);
+        } catch (InvalidKeyException e) {
             throw new JwtException("Failed to verify signature. It may still be valid, but an exception was thrown", e);
         }
+        return signature;
     }
 
     @Override
@@ -249,6 +249,28 @@ public class JwkKeysTest {
                               + "jwk_data.json file"));
     }
 
+    @Test
+    public void testRepeatedVerification() {
+        byte[] bytes = "someTextToSign 3232".getBytes(StandardCharsets.UTF_8);
+        byte[] otherBytes = "someOtherText 3232".getBytes(StandardCharsets.UTF_8);
+
+        for (String keyId : List.of("cc34c0a0-bd5a-4a3c-a50d-a2a7db7643df", "ec-secret-001", "HS_384")) {
+            Jwk key = customKeys.forKeyId(keyId).orElseThrow();
+            byte[] sig = key.sign(bytes);
+
+            // verification instances are reused, make sure each verification starts from a clean state
+            assertThat(keyId, key.verifySignature(bytes, sig), is(true));
+            assertThat(keyId, key.verifySignature(otherBytes, sig), is(false));
+            assertThat(keyId, key.verifySignature(bytes, sig), is(true));
+            try {
+                assertThat(keyId, key.verifySignature(bytes, new byte[] {1, 2, 3}), is(false));
+            } catch (JwtException ignored) {
+                // signature with an invalid format may fail with an exception
+            }
+            assertThat(keyId, key.verifySignature(bytes, sig), is(true));
+        }
+    }
+
     @Test
     public void testCustomOct() {
         String keyId = "hmac-secret-001";
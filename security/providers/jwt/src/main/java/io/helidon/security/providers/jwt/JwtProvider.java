@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,7 @@ import io.helidon.security.jwt.JwtUtil;
 import io.helidon.security.jwt.SignedJwt;
 import io.helidon.security.jwt.jwk.Jwk;
 import io.helidon.security.jwt.jwk.JwkKeys;
+import io.helidon.security.providers.common.EvictableCache;
 import io.helidon.security.providers.common.OutboundConfig;
 import io.helidon.security.providers.common.OutboundTarget;
 import io.helidon.security.providers.common.TokenCredential;
@@ -60,6 +61,9 @@ import io.helidon.security.util.TokenHandler;
  * JWT or by propagating the existing token "as is".
  * Verification and signatures of tokens is done through JWK standard - two separate
  * JWK files are expected (one for verification, one for signatures).
+ * <p>
+ * Tokens with a verified signature may be cached (see {@link Builder#verifiedTokenCache(EvictableCache)}), so a token
+ * sent repeatedly is verified only once within its lifetime.
  */
 public final class JwtProvider extends SynchronousProvider implements AuthenticationProvider, OutboundSecurityProvider {
     private static final Logger LOGGER = Logger.getLogger(JwtProvider.class.getName());
@@ -85,6 +89,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
     private final Map<OutboundTarget, JwtOutboundTarget> targetToJwtConfig = new IdentityHashMap<>();
     private final Jwk defaultJwk;
     private final boolean useJwtGroups;
+    private final Optional<EvictableCache<String, SignedJwt>> verifiedTokenCache;
 
     private JwtProvider(Builder builder) {
         this.optional = builder.optional;
@@ -100,6 +105,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         this.expectedAudience = builder.expectedAudience;
         this.verifySignature = builder.verifySignature;
         this.useJwtGroups = builder.useJwtGroups;
+        this.verifiedTokenCache = Optional.ofNullable(builder.verifiedTokenCache);
 
         if (null == atnTokenHandler) {
             defaultTokenHandler = TokenHandler.builder()
@@ -169,6 +175,13 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
     }
 
     private AuthenticationResponse authenticateToken(String token) {
+        Optional<String> cacheKey = verifySignature ? verifiedTokenCache.map(it -> JwtUtil.tokenHash(token)) : Optional.empty();
+        Optional<SignedJwt> verified = cacheKey.flatMap(key -> verifiedTokenCache.get().get(key));
+        if (verified.isPresent()) {
+            // signature was already verified, claims may have changed validity since
+            return validateClaims(verified.get());
+        }
+
         SignedJwt signedJwt;
         try {
             signedJwt = SignedJwt.parseToken(token);
@@ -179,14 +192,8 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         if (verifySignature) {
             Errors errors = signedJwt.verifySignature(verifyKeys, defaultJwk);
             if (errors.isValid()) {
-                Jwt jwt = signedJwt.getJwt();
-                // verify the audience is correct
-                Errors validate = jwt.validate(null, expectedAudience);
-                if (validate.isValid()) {
-                    return AuthenticationResponse.success(buildSubject(jwt, signedJwt));
-                } else {
-                    return AuthenticationResponse.failed("Audience is invalid or missing: " + expectedAudience);
-                }
+                cacheKey.ifPresent(key -> verifiedTokenCache.get().computeValue(key, () -> Optional.of(signedJwt)));
+                return validateClaims(signedJwt);
             } else {
                 return AuthenticationResponse.failed(errors.toString());
             }
@@ -195,6 +202,17 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         }
     }
 
+    private AuthenticationResponse validateClaims(SignedJwt signedJwt) {
+        Jwt jwt = signedJwt.getJwt();
+        // verify the audience is correct
+        Errors validate = jwt.validate(null, expectedAudience);
+        if (validate.isValid()) {
+            return AuthenticationResponse.success(buildSubject(jwt, signedJwt));
+        } else {
+            return AuthenticationResponse.failed("Audience is invalid or missing: " + expectedAudience);
+        }
+    }
+
     Subject buildSubject(Jwt jwt, SignedJwt signedJwt) {
         Principal principal = buildPrincipal(jwt);
 
@@ -606,6 +624,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         private String issuer;
         private String expectedAudience;
         private boolean useJwtGroups = true;
+        private EvictableCache<String, SignedJwt> verifiedTokenCache;
 
         private Builder() {
         }
@@ -793,6 +812,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
             config.get("atn-token").ifExists(this::verifyKeys);
             config.get("atn-token.jwt-audience").asString().ifPresent(this::expectedAudience);
             config.get("atn-token.verify-signature").asBoolean().ifPresent(this::verifySignature);
+            config.get("atn-token.verified-token-cache").ifExists(this::verifiedTokenCacheConfig);
             config.get("sign-token").ifExists(outbound -> outboundConfig(OutboundConfig.create(outbound)));
             config.get("sign-token").ifExists(this::outbound);
             config.get("allow-unsigned").asBoolean().ifPresent(this::allowUnsigned);
@@ -822,6 +842,31 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
             return this;
         }
 
+        /**
+         * Cache of tokens with a verified signature, so the (expensive) signature verification is done only once for
+         * each token. Claims of a cached token are still validated for each request.
+         * The cache is keyed by a hash of the token; use an
+         * {@link EvictableCache.Builder#evictor(java.util.function.BiFunction) evictor} to remove expired tokens.
+         * When configured from config (key {@code atn-token.verified-token-cache}, see
+         * {@link EvictableCache.Builder#config(Config)}), tokens are evicted once expired.
+         * <p>
+         * Tokens are not cached by default.
+         *
+         * @param cache cache to use
+         * @return updated builder instance
+         */
+        public Builder verifiedTokenCache(EvictableCache<String, SignedJwt> cache) {
+            this.verifiedTokenCache = cache;
+            return this;
+        }
+
+        private void verifiedTokenCacheConfig(Config config) {
+            verifiedTokenCache(EvictableCache.<String, SignedJwt>builder()
+                                       .evictor(JwtUtil::expired)
+                                       .config(config)
+                                       .build());
+        }
+
         private void verifyKeys(Config config) {
             config.get("jwk.resource").as(Resource::create).ifPresent(this::verifyJwk);
 
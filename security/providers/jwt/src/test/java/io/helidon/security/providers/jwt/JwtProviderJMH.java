@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.providers.jwt;
+
+import java.net.URI;
+import java.util.Optional;
+
+import io.helidon.config.Config;
+import io.helidon.security.EndpointConfig;
+import io.helidon.security.Principal;
+import io.helidon.security.ProviderRequest;
+import io.helidon.security.SecurityContext;
+import io.helidon.security.SecurityEnvironment;
+import io.helidon.security.Subject;
+import io.helidon.security.jwt.SignedJwt;
+import io.helidon.security.providers.common.EvictableCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Authentication of the same token repeatedly, with and without the verified token cache,
+ * for RSA and EC signed tokens.
+ */
+@State(Scope.Benchmark)
+public class JwtProviderJMH {
+    @Param({"rsa", "ec"})
+    String target;
+
+    @Param({"false", "true"})
+    boolean cache;
+
+    private EvictableCache<String, SignedJwt> verifiedTokenCache;
+    private JwtProvider provider;
+    private ProviderRequest atnRequest;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(JwtProviderJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        JwtProvider.Builder builder = JwtProvider.builder()
+                .config(Config.create().get("jwt"));
+        if (cache) {
+            verifiedTokenCache = EvictableCache.create();
+            builder.verifiedTokenCache(verifiedTokenCache);
+        }
+        provider = builder.build();
+
+        Subject subject = Subject.create(Principal.builder()
+                                                 .name("user1")
+                                                 .id("user1-id")
+                                                 .build());
+        SecurityContext context = mock(SecurityContext.class);
+        when(context.user()).thenReturn(Optional.of(subject));
+        ProviderRequest request = mock(ProviderRequest.class);
+        when(request.securityContext()).thenReturn(context);
+        SecurityEnvironment outboundEnv = SecurityEnvironment.builder()
+                .path("/" + target)
+                .transport("http")
+                .targetUri(URI.create("http://localhost:8080/" + target))
+                .build();
+
+        String token = provider.syncOutbound(request, outboundEnv, EndpointConfig.create())
+                .requestHeaders()
+                .get("Authorization")
+                .get(0);
+
+        // stub only, so the mock does not remember each invocation of the benchmark
+        atnRequest = mock(ProviderRequest.class, withSettings().stubOnly());
+        when(atnRequest.env()).thenReturn(SecurityEnvironment.builder()
+                                                  .header("Authorization", token)
+                                                  .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void authenticateSingleThread(Blackhole bh) {
+        bh.consume(provider.syncAuthenticate(atnRequest));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void authenticateAllCores(Blackhole bh) {
+        bh.consume(provider.syncAuthenticate(atnRequest));
+    }
+}
@@ -41,6 +41,7 @@ import io.helidon.security.jwt.jwk.JwkEC;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.jwt.jwk.JwkOctet;
 import io.helidon.security.jwt.jwk.JwkRSA;
+import io.helidon.security.providers.common.EvictableCache;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -489,4 +490,53 @@ public class JwtProviderTest {
                     assertThat(atnPrincipal.abacAttribute("locale"), is(Optional.of(locale)));
                 }, () -> fail("User must be present in response"));
     }
+
+    @Test
+    public void testVerifiedTokenCache() {
+        EvictableCache<String, SignedJwt> cache = EvictableCache.create();
+        JwtProvider provider = JwtProvider.builder()
+                .config(providersConfig.get("jwt"))
+                .verifiedTokenCache(cache)
+                .build();
+
+        Subject subject = Subject.create(Principal.builder()
+                                                 .name("user1")
+                                                 .id("user1-id")
+                                                 .build());
+        SecurityContext context = Mockito.mock(SecurityContext.class);
+        when(context.user()).thenReturn(Optional.of(subject));
+        ProviderRequest request = mock(ProviderRequest.class);
+        when(request.securityContext()).thenReturn(context);
+        SecurityEnvironment outboundEnv = SecurityEnvironment.builder()
+                .path("/ec")
+                .transport("http")
+                .targetUri(URI.create("http://localhost:8080/ec"))
+                .build();
+
+        OutboundSecurityResponse response = provider.syncOutbound(request, outboundEnv, EndpointConfig.create());
+        String signedToken = response.requestHeaders().get("Authorization").get(0);
+
+        ProviderRequest atnRequest = mock(ProviderRequest.class);
+        when(atnRequest.env()).thenReturn(SecurityEnvironment.builder()
+                                                  .header("Authorization", signedToken)
+                                                  .build());
+
+        AuthenticationResponse first = provider.syncAuthenticate(atnRequest);
+        assertThat(first.status(), is(SecurityResponse.SecurityStatus.SUCCESS));
+        assertThat(cache.size(), is(1));
+
+        AuthenticationResponse second = provider.syncAuthenticate(atnRequest);
+        assertThat(second.status(), is(SecurityResponse.SecurityStatus.SUCCESS));
+        assertThat(second.user().map(Subject::principal).map(Principal::id), is(Optional.of("user1-id")));
+        assertThat(cache.size(), is(1));
+
+        // tokens that fail verification are not cached
+        ProviderRequest wrongRequest = mock(ProviderRequest.class);
+        when(wrongRequest.env()).thenReturn(SecurityEnvironment.builder()
+                                                   .header("Authorization", "bearer " + WRONG_TOKEN)
+                                                   .build());
+        assertThat(provider.syncAuthenticate(wrongRequest).status(), is(SecurityResponse.SecurityStatus.FAILURE));
+        assertThat(cache.size(), is(1));
+        cache.close();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,9 @@
 package io.helidon.security.providers.oidc.common;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.logging.Logger;
 
@@ -29,10 +32,14 @@ import javax.ws.rs.client.WebTarget;
 
 import io.helidon.common.Errors;
 import io.helidon.common.configurable.Resource;
+import io.helidon.common.http.Http;
 import io.helidon.config.Config;
+import io.helidon.media.jsonp.JsonpSupport;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.providers.common.OutboundConfig;
 import io.helidon.security.util.TokenHandler;
+import io.helidon.webclient.Proxy;
+import io.helidon.webclient.WebClient;
 
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
@@ -218,6 +225,17 @@ import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
  *     <td>When validate-with-jwk is set to "false", this is the endpoint used</td>
  * </tr>
  * <tr>
+ *     <td>introspect-cache-size</td>
+ *     <td>{@value DEFAULT_INTROSPECT_CACHE_SIZE}</td>
+ *     <td>Maximal number of active tokens remembered from introspection, {@code 0} to introspect each request</td>
+ * </tr>
+ * <tr>
+ *     <td>introspect-cache-ttl</td>
+ *     <td>{@value DEFAULT_INTROSPECT_CACHE_TTL_SECONDS} seconds</td>
+ *     <td>Maximal time a token is considered active without introspecting it again, never longer than the
+ *     token expiration. This is the longest time a revoked token may still be accepted.</td>
+ * </tr>
+ * <tr>
  *     <td>base-scopes</td>
  *     <td>{@value DEFAULT_BASE_SCOPES}</td>
  *     <td>Configure scopes to be requested by default. If the scope has a qualifier, it must be included here</td>
@@ -281,6 +299,8 @@ public final class OidcConfig {
     static final String DEFAULT_REALM = "helidon";
     static final String DEFAULT_ATTEMPT_PARAM = "h_ra";
     static final int DEFAULT_MAX_REDIRECTS = 5;
+    static final int DEFAULT_INTROSPECT_CACHE_SIZE = 1000;
+    static final long DEFAULT_INTROSPECT_CACHE_TTL_SECONDS = 60;
 
     private final String redirectUri;
     private final boolean useCookie;
@@ -302,10 +322,14 @@ public final class OidcConfig {
     private final String baseScopes;
     private final boolean validateJwtWithJwk;
     private final WebTarget introspectEndpoint;
+    private final URI introspectUri;
+    private final int introspectCacheSize;
+    private final Duration introspectCacheTtl;
     private final String issuer;
     private final String audience;
     private final Client appClient;
     private final Client generalClient;
+    private final WebClient appWebClient;
     private final boolean redirect;
     private final String realm;
     private final String redirectAttemptParam;
@@ -334,6 +358,10 @@ public final class OidcConfig {
         this.appClient = builder.appClient;
         this.tokenEndpoint = builder.tokenEndpoint;
         this.generalClient = builder.generalClient;
+        this.appWebClient = builder.appWebClient;
+        this.introspectUri = builder.introspectUri;
+        this.introspectCacheSize = builder.introspectCacheSize;
+        this.introspectCacheTtl = builder.introspectCacheTtl;
 
         if (null == builder.signJwk) {
             this.signJwk = JwkKeys.builder().build();
@@ -589,6 +617,36 @@ public final class OidcConfig {
         return introspectEndpoint;
     }
 
+    /**
+     * Token introspection endpoint URI.
+     *
+     * @return introspection endpoint URI, {@code null} when tokens are validated with JWK
+     * @see Builder#introspectEndpointUri(URI)
+     */
+    public URI introspectUri() {
+        return introspectUri;
+    }
+
+    /**
+     * Maximal number of active tokens cached from introspection.
+     *
+     * @return cache size, {@code 0} if introspection results are not cached
+     * @see Builder#introspectCacheSize(int)
+     */
+    public int introspectCacheSize() {
+        return introspectCacheSize;
+    }
+
+    /**
+     * Maximal time an introspection result is cached.
+     *
+     * @return time to live of cached introspection results
+     * @see Builder#introspectCacheTtl(java.time.Duration)
+     */
+    public Duration introspectCacheTtl() {
+        return introspectCacheTtl;
+    }
+
     /**
      * Token issuer.
      *
@@ -637,6 +695,15 @@ public final class OidcConfig {
         return appClient;
     }
 
+    /**
+     * Reactive client with configured proxy and security of this OIDC client.
+     *
+     * @return web client for communication with OIDC server
+     */
+    public WebClient appWebClient() {
+        return appWebClient;
+    }
+
     /**
      * Whether to redirect to identity server if user is not authenticated.
      *
@@ -723,6 +790,8 @@ public final class OidcConfig {
 
         private boolean validateJwtWithJwk = DEFAULT_JWT_VALIDATE_JWK;
         private URI introspectUri;
+        private int introspectCacheSize = DEFAULT_INTROSPECT_CACHE_SIZE;
+        private Duration introspectCacheTtl = Duration.ofSeconds(DEFAULT_INTROSPECT_CACHE_TTL_SECONDS);
         private boolean redirect = DEFAULT_REDIRECT;
         private String realm = DEFAULT_REALM;
         private String redirectAttemptParam = DEFAULT_ATTEMPT_PARAM;
@@ -732,6 +801,7 @@ public final class OidcConfig {
         private Client generalClient;
         private WebTarget tokenEndpoint;
         private Client appClient;
+        private WebClient appWebClient;
 
         @Override
         public OidcConfig build() {
@@ -831,6 +901,24 @@ public final class OidcConfig {
 
             tokenEndpoint = appClient.target(tokenEndpointUri);
 
+            String credentials = Base64.getEncoder()
+                    .encodeToString((clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8));
+            WebClient.Builder webClientBuilder = WebClient.builder()
+                    // do not propagate security of the current request to the identity server
+                    .useSystemServiceLoader(false)
+                    .addMediaSupport(JsonpSupport.create())
+                    .addHeader(Http.Header.AUTHORIZATION, "Basic " + credentials);
+
+            if (proxyHost != null) {
+                webClientBuilder.proxy(Proxy.builder()
+                                               .type(Proxy.ProxyType.HTTP)
+                                               .host(proxyHost)
+                                               .port(proxyPort)
+                                               .build());
+            }
+
+            appWebClient = webClientBuilder.build();
+
             if (validateJwtWithJwk) {
                 if (null == signJwk) {
                     // not configured - use default location
@@ -955,6 +1043,8 @@ public final class OidcConfig {
             config.get("authorization-endpoint-uri").as(URI.class).ifPresent(this::authorizationEndpointUri);
 
             config.get("introspect-endpoint-uri").as(URI.class).ifPresent(this::introspectEndpointUri);
+            config.get("introspect-cache-size").asInt().ifPresent(this::introspectCacheSize);
+            config.get("introspect-cache-ttl").as(Duration.class).ifPresent(this::introspectCacheTtl);
             config.get("validate-with-jwk").asBoolean().ifPresent(this::validateJwtWithJwk);
             config.get("issuer").asString().ifPresent(this::issuer);
             config.get("audience").asString().ifPresent(this::audience);
@@ -1042,6 +1132,37 @@ public final class OidcConfig {
             return this;
         }
 
+        /**
+         * Maximal number of active tokens to remember when validating tokens with the introspection endpoint.
+         * Tokens are cached by their hash, so the cache does not contain the tokens themselves.
+         *
+         * @param size maximal number of cached introspection results, {@code 0} to introspect each request
+         * @return updated builder instance
+         */
+        public Builder introspectCacheSize(int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Introspect cache size must not be negative, but is: " + size);
+            }
+            this.introspectCacheSize = size;
+            return this;
+        }
+
+        /**
+         * Maximal time an active token is accepted without introspecting it again. A token is never cached
+         * longer than its expiration time.
+         * A token revoked on the identity server may still be accepted within this time.
+         *
+         * @param ttl time to live of cached introspection results
+         * @return updated builder instance
+         */
+        public Builder introspectCacheTtl(Duration ttl) {
+            if (ttl.isNegative()) {
+                throw new IllegalArgumentException("Introspect cache TTL must not be negative, but is: " + ttl);
+            }
+            this.introspectCacheTtl = ttl;
+            return this;
+        }
+
         /**
          * Configure base scopes.
          * By default this is {@value DEFAULT_BASE_SCOPES}.
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.providers.oidc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.helidon.common.configurable.LruCache;
+import io.helidon.security.jwt.JwtUtil;
+
+/**
+ * Bounded cache of tokens found active by the introspection endpoint.
+ * Tokens are stored as their SHA-256 hash, each entry expires after the configured time to live,
+ * or when the token expires, whichever comes first.
+ * <p>
+ * Only active tokens are cached, an inactive token is introspected again, as it may be a new token
+ * with an error, or a forged one.
+ */
+final class IntrospectionCache {
+    private final LruCache<String, Instant> cache;
+    private final Duration ttl;
+    private final Supplier<Instant> clock;
+
+    private IntrospectionCache(int size, Duration ttl, Supplier<Instant> clock) {
+        this.cache = LruCache.<String, Instant>builder()
+                .capacity(size)
+                .build();
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    static Optional<IntrospectionCache> create(int size, Duration ttl) {
+        return create(size, ttl, Instant::now);
+    }
+
+    static Optional<IntrospectionCache> create(int size, Duration ttl, Supplier<Instant> clock) {
+        if (size == 0 || ttl.isZero()) {
+            return Optional.empty();
+        }
+        return Optional.of(new IntrospectionCache(size, ttl, clock));
+    }
+
+    /**
+     * Whether the token was found active and its cached result did not expire yet.
+     *
+     * @param token token content
+     * @return {@code true} if the token does not have to be introspected
+     */
+    boolean isActive(String token) {
+        String key = JwtUtil.tokenHash(token);
+        Optional<Instant> validUntil = cache.get(key);
+        if (validUntil.isEmpty()) {
+            return false;
+        }
+        if (clock.get().isBefore(validUntil.get())) {
+            return true;
+        }
+        cache.remove(key);
+        return false;
+    }
+
+    /**
+     * Remember a token found active by the introspection endpoint.
+     *
+     * @param token token content
+     * @param expiration expiration time of the token if known
+     */
+    void active(String token, Optional<Instant> expiration) {
+        Instant now = clock.get();
+        Instant validUntil = now.plus(ttl);
+        if (expiration.isPresent() && expiration.get().isBefore(validUntil)) {
+            validUntil = expiration.get();
+        }
+        if (now.isBefore(validUntil)) {
+            cache.put(JwtUtil.tokenHash(token), validUntil);
+        }
+    }
+
+    int size() {
+        return cache.size();
+    }
+}
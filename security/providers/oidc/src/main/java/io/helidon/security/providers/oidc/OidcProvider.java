@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Annotation;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -30,22 +31,25 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import javax.json.JsonNumber;
 import javax.json.JsonObject;
-import javax.ws.rs.client.Entity;
-import javax.ws.rs.core.CacheControl;
-import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.MultivaluedHashMap;
-import javax.ws.rs.core.Response;
+import javax.json.JsonValue;
 
 import io.helidon.common.Errors;
+import io.helidon.common.http.FormParams;
 import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.Single;
 import io.helidon.config.Config;
 import io.helidon.config.DeprecatedConfig;
 import io.helidon.security.AuthenticationResponse;
@@ -66,14 +70,15 @@ import io.helidon.security.jwt.JwtException;
 import io.helidon.security.jwt.JwtUtil;
 import io.helidon.security.jwt.SignedJwt;
 import io.helidon.security.jwt.jwk.JwkKeys;
+import io.helidon.security.providers.common.EvictableCache;
 import io.helidon.security.providers.common.OutboundConfig;
 import io.helidon.security.providers.common.OutboundTarget;
 import io.helidon.security.providers.common.TokenCredential;
 import io.helidon.security.providers.oidc.common.OidcConfig;
 import io.helidon.security.spi.AuthenticationProvider;
 import io.helidon.security.spi.OutboundSecurityProvider;
-import io.helidon.security.spi.SynchronousProvider;
 import io.helidon.security.util.TokenHandler;
+import io.helidon.webclient.WebClientResponse;
 
 /**
  * Open ID Connect authentication provider.
@@ -87,14 +92,21 @@ import io.helidon.security.util.TokenHandler;
  * application configuration, as well as "Grant the client access to Identity Cloud Service Admin APIs." configured to "User
  * Administrator"</li>
  * </ul>
+ * <p>
+ * When tokens are validated using the introspection endpoint, the endpoint is invoked without blocking the current
+ * thread, and active tokens are cached as configured in {@link OidcConfig.Builder#introspectCacheSize(int)}.
+ * When tokens are validated using JWK, tokens with a verified signature may be cached, see
+ * {@link Builder#verifiedTokenCache(EvictableCache)}.
  */
-public final class OidcProvider extends SynchronousProvider implements AuthenticationProvider, OutboundSecurityProvider {
+public final class OidcProvider implements AuthenticationProvider, OutboundSecurityProvider {
     private static final Logger LOGGER = Logger.getLogger(OidcProvider.class.getName());
 
     private final OidcConfig oidcConfig;
     private final TokenHandler paramHeaderHandler;
 
-    private final BiConsumer<SignedJwt, Errors.Collector> jwtValidator;
+    private final BiFunction<SignedJwt, Errors.Collector, Single<Errors.Collector>> jwtValidator;
+    private final Optional<IntrospectionCache> introspectionCache;
+    private final Optional<EvictableCache<String, SignedJwt>> verifiedTokenCache;
     private final Pattern attemptPattern;
     private final boolean propagate;
     private final OidcOutboundConfig outboundConfig;
@@ -132,9 +144,15 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
         }
 
         if (oidcConfig.validateJwtWithJwk()) {
+            this.introspectionCache = Optional.empty();
+            this.verifiedTokenCache = Optional.ofNullable(builder.verifiedTokenCache);
             this.jwtValidator = (signedJwt, collector) -> {
                 JwkKeys jwk = oidcConfig.signJwk();
                 Errors errors = signedJwt.verifySignature(jwk);
+                if (errors.isValid()) {
+                    verifiedTokenCache.ifPresent(cache -> cache.computeValue(JwtUtil.tokenHash(signedJwt.tokenContent()),
+                                                                             () -> Optional.of(signedJwt)));
+                }
                 errors.forEach(errorMessage -> {
                     switch (errorMessage.getSeverity()) {
                     case FATAL:
@@ -150,30 +168,13 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
                     }
 
                 });
+                return Single.just(collector);
             };
         } else {
-            this.jwtValidator = (signedJwt, collector) -> {
-
-                MultivaluedHashMap<String, String> formValues = new MultivaluedHashMap<>();
-                formValues.putSingle("token", signedJwt.tokenContent());
-                Response response = oidcConfig.introspectEndpoint().request()
-                        .accept(MediaType.APPLICATION_JSON_TYPE)
-                        .cacheControl(CacheControl.valueOf("no-cache, no-store, must-revalidate"))
-                        .post(Entity.form(formValues));
-
-                if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-                    JsonObject jsonResponse = response.readEntity(JsonObject.class);
-                    if (jsonResponse.getBoolean("active")) {
-                        // fine
-                        return;
-                    }
-                    collector.fatal(jsonResponse, "Token is not active");
-                } else {
-                    collector.fatal(response,
-                                    "Failed to validate token, response code: " + response.getStatus() + ", entity. " + response
-                                            .readEntity(String.class));
-                }
-            };
+            this.introspectionCache = IntrospectionCache.create(oidcConfig.introspectCacheSize(),
+                                                                oidcConfig.introspectCacheTtl());
+            this.verifiedTokenCache = Optional.empty();
+            this.jwtValidator = this::introspect;
         }
     }
 
@@ -212,7 +213,7 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
     }
 
     @Override
-    protected AuthenticationResponse syncAuthenticate(ProviderRequest providerRequest) {
+    public CompletionStage<AuthenticationResponse> authenticate(ProviderRequest providerRequest) {
         /*
         1. Get token from request - if available, validate it and continue
         2. If not - Redirect to login page
@@ -249,16 +250,18 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
                 }
             }
         } catch (SecurityException e) {
-            return AuthenticationResponse.failed("Failed to extract one of the configured tokens", e);
+            return CompletableFuture.completedFuture(
+                    AuthenticationResponse.failed("Failed to extract one of the configured tokens", e));
         }
 
         if (token.isPresent()) {
             return validateToken(providerRequest, token.get());
         } else {
-            return errorResponse(providerRequest,
-                                 Http.Status.UNAUTHORIZED_401,
-                                 null,
-                                 "Missing token, could not find in either of: " + missingLocations);
+            return CompletableFuture.completedFuture(
+                    errorResponse(providerRequest,
+                                  Http.Status.UNAUTHORIZED_401,
+                                  null,
+                                  "Missing token, could not find in either of: " + missingLocations));
         }
     }
 
@@ -417,19 +420,93 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
         }
     }
 
-    private AuthenticationResponse validateToken(ProviderRequest providerRequest, String token) {
+    private Single<Errors.Collector> introspect(SignedJwt signedJwt, Errors.Collector collector) {
+        String token = signedJwt.tokenContent();
+        if (introspectionCache.map(it -> it.isActive(token)).orElse(false)) {
+            return Single.just(collector);
+        }
+
+        return oidcConfig.appWebClient()
+                .post()
+                .uri(oidcConfig.introspectUri())
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    headers.add(Http.Header.CACHE_CONTROL, "no-cache, no-store, must-revalidate");
+                    return headers;
+                })
+                .submit(FormParams.builder()
+                                .add("token", token)
+                                .build())
+                .flatMapSingle(response -> processIntrospection(signedJwt, response, collector))
+                .onErrorResume(throwable -> {
+                    collector.fatal(throwable, "Failed to validate token: " + throwable.getMessage());
+                    return collector;
+                });
+    }
+
+    private Single<Errors.Collector> processIntrospection(SignedJwt signedJwt,
+                                                         WebClientResponse response,
+                                                         Errors.Collector collector) {
+        if (response.status().family() == Http.ResponseStatus.Family.SUCCESSFUL) {
+            return response.content()
+                    .as(JsonObject.class)
+                    .map(jsonResponse -> {
+                        if (jsonResponse.getBoolean("active")) {
+                            introspectionCache.ifPresent(it -> it.active(signedJwt.tokenContent(),
+                                                                         expiration(signedJwt, jsonResponse)));
+                        } else {
+                            collector.fatal(jsonResponse, "Token is not active");
+                        }
+                        return collector;
+                    });
+        }
+        return response.content()
+                .as(String.class)
+                .map(entity -> {
+                    collector.fatal(response,
+                                    "Failed to validate token, response code: " + response.status().code()
+                                            + ", entity. " + entity);
+                    return collector;
+                });
+    }
+
+    private static Optional<Instant> expiration(SignedJwt signedJwt, JsonObject introspectResponse) {
+        Optional<Instant> expiration = signedJwt.getJwt().expirationTime();
+        JsonValue exp = introspectResponse.get("exp");
+        if (exp instanceof JsonNumber) {
+            Instant introspectExpiration = Instant.ofEpochSecond(((JsonNumber) exp).longValue());
+            if (expiration.isEmpty() || introspectExpiration.isBefore(expiration.get())) {
+                return Optional.of(introspectExpiration);
+            }
+        }
+        return expiration;
+    }
+
+    private CompletionStage<AuthenticationResponse> validateToken(ProviderRequest providerRequest, String token) {
+        Optional<SignedJwt> verified = verifiedTokenCache.flatMap(cache -> cache.get(JwtUtil.tokenHash(token)));
+        if (verified.isPresent()) {
+            // signature was already verified, claims may have changed validity since
+            return CompletableFuture.completedFuture(processValidationResult(providerRequest,
+                                                                             verified.get(),
+                                                                             Errors.collector()));
+        }
+
         SignedJwt signedJwt;
         try {
             signedJwt = SignedJwt.parseToken(token);
         } catch (Exception e) {
             //invalid token
-            return AuthenticationResponse.failed("Invalid token", e);
+            return CompletableFuture.completedFuture(AuthenticationResponse.failed("Invalid token", e));
         }
 
-        Jwt jwt = signedJwt.getJwt();
-        Errors.Collector collector = Errors.collector();
-        jwtValidator.accept(signedJwt, collector);
+        return jwtValidator.apply(signedJwt, Errors.collector())
+                .map(collector -> processValidationResult(providerRequest, signedJwt, collector));
+    }
 
+    private AuthenticationResponse processValidationResult(ProviderRequest providerRequest,
+                                                           SignedJwt signedJwt,
+                                                           Errors.Collector collector) {
+        Jwt jwt = signedJwt.getJwt();
         Errors errors = collector.collect();
         Errors validationErrors = jwt.validate(oidcConfig.issuer(), oidcConfig.audience());
 
@@ -483,9 +560,15 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
     }
 
     @Override
-    protected OutboundSecurityResponse syncOutbound(ProviderRequest providerRequest,
-                                                    SecurityEnvironment outboundEnv,
-                                                    EndpointConfig outboundEndpointConfig) {
+    public CompletionStage<OutboundSecurityResponse> outboundSecurity(ProviderRequest providerRequest,
+                                                                      SecurityEnvironment outboundEnv,
+                                                                      EndpointConfig outboundEndpointConfig) {
+        return CompletableFuture.completedFuture(syncOutbound(providerRequest, outboundEnv, outboundEndpointConfig));
+    }
+
+    OutboundSecurityResponse syncOutbound(ProviderRequest providerRequest,
+                                          SecurityEnvironment outboundEnv,
+                                          EndpointConfig outboundEndpointConfig) {
         Optional<Subject> user = providerRequest.securityContext().user();
 
         if (user.isPresent()) {
@@ -579,6 +662,7 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
                 .tokenHeader("Authorization")
                 .tokenPrefix("bearer ")
                 .build();
+        private EvictableCache<String, SignedJwt> verifiedTokenCache;
 
         @Override
         public OidcProvider build() {
@@ -627,6 +711,12 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
          *     and {@code token} to configure outbound {@link io.helidon.security.util.TokenHandler} for an
          *     outbound target. Default token handler uses {@code Authorization} header with a {@code bearer } prefix</td>
          * </tr>
+         * <tr>
+         *     <td>verified-token-cache</td>
+         *     <td>&nbsp;</td>
+         *     <td>Configuration of {@link io.helidon.security.providers.common.EvictableCache} of tokens with a verified
+         *     signature, tokens are evicted once expired. Tokens are not cached if not configured.</td>
+         * </tr>
          * </table>
          *
          * @param config OIDC provider configuration
@@ -644,6 +734,7 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
                 config.get("outbound").ifExists(outbound -> outboundConfig(OutboundConfig.create(config)));
             }
             config.get("use-jwt-groups").asBoolean().ifPresent(this::useJwtGroups);
+            config.get("verified-token-cache").ifExists(this::verifiedTokenCacheConfig);
 
             return this;
         }
@@ -694,6 +785,30 @@ public final class OidcProvider extends SynchronousProvider implements Authentic
             this.useJwtGroups = useJwtGroups;
             return this;
         }
+
+        /**
+         * Cache of tokens with a verified signature, so the (expensive) signature verification is done only once for
+         * each token. Claims of a cached token are still validated for each request.
+         * The cache is keyed by a hash of the token; use an
+         * {@link EvictableCache.Builder#evictor(java.util.function.BiFunction) evictor} to remove expired tokens.
+         * Only used when tokens are validated with JWK, see {@link OidcConfig#validateJwtWithJwk()}.
+         * <p>
+         * Tokens are not cached by default.
+         *
+         * @param cache cache to use
+         * @return updated builder instance
+         */
+        public Builder verifiedTokenCache(EvictableCache<String, SignedJwt> cache) {
+            this.verifiedTokenCache = cache;
+            return this;
+        }
+
+        private void verifiedTokenCacheConfig(Config config) {
+            verifiedTokenCache(EvictableCache.<String, SignedJwt>builder()
+                                       .evictor(JwtUtil::expired)
+                                       .config(config)
+                                       .build());
+        }
     }
 
     private static final class OidcOutboundConfig {
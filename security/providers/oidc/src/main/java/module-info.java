@@ -20,6 +20,9 @@
 module io.helidon.security.providers.oidc {
     requires io.helidon.config;
     requires io.helidon.common;
+    requires io.helidon.common.configurable;
+    requires io.helidon.common.http;
+    requires io.helidon.common.reactive;
     requires io.helidon.security;
     requires java.logging;
 
@@ -32,6 +35,7 @@ module io.helidon.security.providers.oidc {
     requires java.ws.rs;
     requires io.helidon.webserver;
     requires io.helidon.security.integration.webserver;
+    requires io.helidon.webclient;
 
     exports io.helidon.security.providers.oidc;
 
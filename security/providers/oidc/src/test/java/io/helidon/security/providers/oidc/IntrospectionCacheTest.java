@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.providers.oidc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link IntrospectionCache}.
+ */
+class IntrospectionCacheTest {
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2021-01-01T10:00:00Z"));
+
+    @Test
+    void testDisabled() {
+        assertThat(IntrospectionCache.create(0, Duration.ofMinutes(1)).isPresent(), is(false));
+        assertThat(IntrospectionCache.create(10, Duration.ZERO).isPresent(), is(false));
+    }
+
+    @Test
+    void testTtl() {
+        IntrospectionCache cache = IntrospectionCache.create(10, Duration.ofSeconds(60), now::get).orElseThrow();
+
+        assertThat(cache.isActive("token"), is(false));
+        cache.active("token", Optional.empty());
+        assertThat(cache.isActive("token"), is(true));
+        assertThat(cache.isActive("other"), is(false));
+
+        now.set(now.get().plusSeconds(59));
+        assertThat(cache.isActive("token"), is(true));
+        now.set(now.get().plusSeconds(1));
+        assertThat(cache.isActive("token"), is(false));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testTokenExpiration() {
+        IntrospectionCache cache = IntrospectionCache.create(10, Duration.ofSeconds(60), now::get).orElseThrow();
+
+        cache.active("token", Optional.of(now.get().plusSeconds(10)));
+        assertThat(cache.isActive("token"), is(true));
+        now.set(now.get().plusSeconds(10));
+        assertThat(cache.isActive("token"), is(false));
+
+        // already expired tokens are not cached
+        cache.active("expired", Optional.of(now.get().minusSeconds(1)));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testBounded() {
+        IntrospectionCache cache = IntrospectionCache.create(2, Duration.ofSeconds(60), now::get).orElseThrow();
+
+        cache.active("first", Optional.empty());
+        cache.active("second", Optional.empty());
+        cache.active("third", Optional.empty());
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.isActive("first"), is(false));
+        assertThat(cache.isActive("second"), is(true));
+        assertThat(cache.isActive("third"), is(true));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.providers.oidc;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.security.AuthenticationResponse;
+import io.helidon.security.EndpointConfig;
+import io.helidon.security.ProviderRequest;
+import io.helidon.security.SecurityEnvironment;
+import io.helidon.security.SecurityResponse;
+import io.helidon.security.jwt.Jwt;
+import io.helidon.security.jwt.SignedJwt;
+import io.helidon.security.jwt.jwk.Jwk;
+import io.helidon.security.providers.oidc.common.OidcConfig;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+import io.helidon.webserver.WebServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test of token validation by {@link OidcProvider} against a stub introspection endpoint.
+ * The stub reports tokens with the {@code inactive} subject as not active, fails with an internal server error
+ * for tokens with the {@code error} subject, and reports any other token as active.
+ */
+class OidcProviderIntrospectionTest {
+    private static final String AUDIENCE = "http://localhost/audience";
+    private static final AtomicInteger INTROSPECTIONS = new AtomicInteger();
+
+    private static WebServer webServer;
+    private static OidcProvider provider;
+
+    @BeforeAll
+    static void startServer() {
+        webServer = WebServer.builder()
+                .routing(Routing.builder()
+                                 .post("/introspect", OidcProviderIntrospectionTest::introspect)
+                                 .build())
+                .build()
+                .start()
+                .await(10, TimeUnit.SECONDS);
+
+        OidcConfig oidcConfig = OidcConfig.builder()
+                .clientId("id")
+                .clientSecret("secret")
+                .identityUri(URI.create("http://localhost:" + webServer.port() + "/identity"))
+                .tokenEndpointUri(URI.create("http://localhost:" + webServer.port() + "/token"))
+                .authorizationEndpointUri(URI.create("http://localhost:" + webServer.port() + "/authorize"))
+                .introspectEndpointUri(URI.create("http://localhost:" + webServer.port() + "/introspect"))
+                .validateJwtWithJwk(false)
+                .oidcMetadataWellKnown(false)
+                .audience(AUDIENCE)
+                .useCookie(false)
+                .useHeader(true)
+                .redirect(false)
+                .build();
+
+        provider = OidcProvider.create(oidcConfig);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (webServer != null) {
+            webServer.shutdown().await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @BeforeEach
+    void resetIntrospections() {
+        INTROSPECTIONS.set(0);
+    }
+
+    @Test
+    void testActiveToken() {
+        AuthenticationResponse response = authenticate(token("active"));
+
+        assertThat(response.status(), is(SecurityResponse.SecurityStatus.SUCCESS));
+        assertThat(response.user().orElseThrow().principal().id(), is("active"));
+        assertThat(INTROSPECTIONS.get(), is(1));
+    }
+
+    @Test
+    void testInactiveToken() {
+        String token = token("inactive");
+
+        assertThat(authenticate(token).status(), is(SecurityResponse.SecurityStatus.FAILURE));
+        // inactive tokens are not cached
+        assertThat(authenticate(token).status(), is(SecurityResponse.SecurityStatus.FAILURE));
+        assertThat(INTROSPECTIONS.get(), is(2));
+    }
+
+    @Test
+    void testCacheHit() {
+        String token = token("cached");
+
+        assertThat(authenticate(token).status(), is(SecurityResponse.SecurityStatus.SUCCESS));
+        assertThat(authenticate(token).status(), is(SecurityResponse.SecurityStatus.SUCCESS));
+        assertThat(INTROSPECTIONS.get(), is(1));
+    }
+
+    @Test
+    void testHttpError() {
+        String token = token("error");
+
+        assertThat(authenticate(token).status(), is(SecurityResponse.SecurityStatus.FAILURE));
+        // failed introspections are not cached
+        assertThat(authenticate(token).status(), is(SecurityResponse.SecurityStatus.FAILURE));
+        assertThat(INTROSPECTIONS.get(), is(2));
+    }
+
+    private static void introspect(ServerRequest req, ServerResponse res) {
+        req.content()
+                .as(String.class)
+                .forSingle(form -> {
+                    INTROSPECTIONS.incrementAndGet();
+                    String token = form.substring(form.indexOf("token=") + "token=".length());
+                    String subject = SignedJwt.parseToken(token).getJwt().subject().orElseThrow();
+                    switch (subject) {
+                    case "error":
+                        res.status(Http.Status.INTERNAL_SERVER_ERROR_500).send("Introspection failed");
+                        break;
+                    case "inactive":
+                        res.headers().contentType(MediaType.APPLICATION_JSON);
+                        res.send("{\"active\": false}");
+                        break;
+                    default:
+                        res.headers().contentType(MediaType.APPLICATION_JSON);
+                        res.send("{\"active\": true, \"sub\": \"" + subject + "\"}");
+                    }
+                })
+                .exceptionallyAccept(res::send);
+    }
+
+    private static String token(String subject) {
+        Jwt jwt = Jwt.builder()
+                .algorithm(Jwk.ALG_NONE)
+                .subject(subject)
+                .audience(AUDIENCE)
+                .expirationTime(Instant.now().plusSeconds(60))
+                .build();
+        return SignedJwt.sign(jwt, Jwk.NONE_JWK).tokenContent();
+    }
+
+    private static AuthenticationResponse authenticate(String token) {
+        ProviderRequest providerRequest = Mockito.mock(ProviderRequest.class);
+        when(providerRequest.env()).thenReturn(SecurityEnvironment.builder()
+                                                       .header("Authorization", "bearer " + token)
+                                                       .build());
+        when(providerRequest.endpointConfig()).thenReturn(EndpointConfig.builder().build());
+
+        return provider.authenticate(providerRequest)
+                .toCompletableFuture()
+                .join();
+    }
+}
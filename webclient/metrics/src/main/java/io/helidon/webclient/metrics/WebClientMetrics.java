@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,17 +20,27 @@ import java.util.List;
 
 import io.helidon.common.reactive.Single;
 import io.helidon.config.Config;
+import io.helidon.metrics.RegistryFactory;
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientConnectionPoolStats;
 import io.helidon.webclient.WebClientException;
 import io.helidon.webclient.WebClientRequestBuilder;
 import io.helidon.webclient.WebClientServiceRequest;
 import io.helidon.webclient.WebClientServiceResponse;
 import io.helidon.webclient.spi.WebClientService;
 
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+
 /**
  * Container object for all metrics created by the config.
  */
 public class WebClientMetrics implements WebClientService {
 
+    private static final String CONNECTION_POOL_PREFIX = "client.connection-pool.";
+
     private final List<WebClientMetric> metrics;
 
     private WebClientMetrics(Builder builder) {
@@ -73,6 +83,27 @@ public class WebClientMetrics implements WebClientService {
         return WebClientMetric.builder(WebClientMetricType.GAUGE_IN_PROGRESS);
     }
 
+    /**
+     * Register gauges with statistics of the connection pools of all web clients.
+     * The gauges are named {@code client.connection-pool.connections}, {@code client.connection-pool.idle-connections},
+     * {@code client.connection-pool.pending-acquires} and {@code client.connection-pool.acquire-timeouts}.
+     * The gauges should be registered only once.
+     *
+     * @see WebClient#connectionPoolStats()
+     */
+    public static void connectionPool() {
+        MetricRegistry registry = RegistryFactory.getInstance().getRegistry(MetricRegistry.Type.APPLICATION);
+        WebClientConnectionPoolStats stats = WebClient.connectionPoolStats();
+        gauge(registry, CONNECTION_POOL_PREFIX + "connections", "Number of open pooled connections",
+              stats::connections);
+        gauge(registry, CONNECTION_POOL_PREFIX + "idle-connections", "Number of pooled connections not in use",
+              stats::idleConnections);
+        gauge(registry, CONNECTION_POOL_PREFIX + "pending-acquires", "Number of requests waiting for a connection",
+              stats::pendingAcquires);
+        gauge(registry, CONNECTION_POOL_PREFIX + "acquire-timeouts",
+              "Number of requests that timed out waiting for a connection", stats::acquireTimeouts);
+    }
+
     /**
      * Creates new client metrics based on config.
      *
@@ -103,6 +134,15 @@ public class WebClientMetrics implements WebClientService {
         }
     }
 
+    private static <T extends Number> void gauge(MetricRegistry registry, String name, String description, Gauge<T> gauge) {
+        registry.register(Metadata.builder()
+                                  .withName(name)
+                                  .withDescription(description)
+                                  .withType(MetricType.GAUGE)
+                                  .build(),
+                          gauge);
+    }
+
     @Override
     public Single<WebClientServiceRequest> request(WebClientServiceRequest request) {
         metrics.forEach(clientMetric -> clientMetric.request(request));
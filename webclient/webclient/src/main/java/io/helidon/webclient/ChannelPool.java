@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import static io.helidon.webclient.WebClientRequestBuilderImpl.IN_USE;
+import static io.helidon.webclient.WebClientRequestBuilderImpl.RETURN;
+
+/**
+ * Pool of keep-alive connections to a single host.
+ * <p>
+ * Idle channels are kept in a lock-free deque and reused in LIFO order, so the least recently used channels
+ * reach the idle timeout and get closed. When the number of connections is limited, requests that cannot obtain
+ * a channel wait in a queue and are served as channels are returned or closed.
+ * <p>
+ * A pool is removed once its last connection is closed and no request waits for a channel. As idle connections
+ * are closed after the idle timeout, pools of hosts that are no longer used are released after that timeout.
+ */
+final class ChannelPool {
+
+    private static final Logger LOGGER = Logger.getLogger(ChannelPool.class.getName());
+    private static final Map<ConnectionIdent, ChannelPool> POOLS = new ConcurrentHashMap<>();
+    private static final AttributeKey<ChannelPool> POOL = AttributeKey.valueOf("pool");
+    private static final AttributeKey<Long> CREATED = AttributeKey.valueOf("created");
+
+    private final ConnectionIdent connectionIdent;
+    private final Bootstrap bootstrap;
+    private final int maxConnections;
+    private final int maxPending;
+    private final long acquireTimeoutMillis;
+    private final long maxLifetimeNanos;
+    private final Deque<Channel> idle = new ConcurrentLinkedDeque<>();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private volatile boolean retired;
+
+    private ChannelPool(ConnectionIdent connectionIdent, Bootstrap bootstrap) {
+        WebClientConnectionPool config = connectionIdent.pool;
+        this.connectionIdent = connectionIdent;
+        this.bootstrap = bootstrap;
+        this.maxConnections = config.maxConnectionsPerHost();
+        this.maxPending = config.maxPendingAcquires();
+        this.acquireTimeoutMillis = config.acquireTimeout().toMillis();
+        this.maxLifetimeNanos = config.maxLifetime().toNanos();
+    }
+
+    /**
+     * Pool of connections to the host of the request.
+     *
+     * @param configuration request configuration
+     * @param bootstrap creates the bootstrap used to open the connections of a new pool
+     * @return channel pool
+     */
+    static ChannelPool get(RequestConfiguration configuration, Supplier<Bootstrap> bootstrap) {
+        return POOLS.computeIfAbsent(new ConnectionIdent(configuration), ident -> new ChannelPool(ident, bootstrap.get()));
+    }
+
+    /**
+     * Hosts that currently have a pool.
+     *
+     * @return base URIs of the pooled hosts
+     */
+    static Set<URI> hosts() {
+        return POOLS.keySet().stream()
+                .map(ConnectionIdent::base)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Return the channel to its pool after the response has been fully read.
+     *
+     * @param channel channel to return
+     */
+    static void release(Channel channel) {
+        channel.attr(POOL).get().releaseChannel(channel);
+    }
+
+    /**
+     * Statistics aggregated over all pools.
+     *
+     * @return pool statistics
+     */
+    static WebClientConnectionPoolStats stats() {
+        return Stats.INSTANCE;
+    }
+
+    /**
+     * Obtain a channel with {@link WebClientRequestBuilderImpl#IN_USE} set to {@code true}.
+     *
+     * @return future completed with the channel
+     */
+    CompletableFuture<Channel> acquire() {
+        Channel channel = pollIdle();
+        if (channel != null) {
+            LOGGER.finest(() -> "Reusing -> " + channel.hashCode());
+            return CompletableFuture.completedFuture(channel);
+        }
+        if (reserveConnection()) {
+            return connect();
+        }
+        if (pending.incrementAndGet() > maxPending && maxPending >= 0) {
+            pending.decrementAndGet();
+            return CompletableFuture.failedFuture(new WebClientException("Too many requests waiting for a connection to "
+                                                                                 + connectionIdent.base));
+        }
+        Waiter waiter = new Waiter();
+        waiters.offer(waiter);
+        waiter.timeout = bootstrap.config().group().schedule(() -> timeout(waiter),
+                                                             acquireTimeoutMillis,
+                                                             TimeUnit.MILLISECONDS);
+        // a channel may have been released before the waiter was queued
+        drain();
+        return waiter.future;
+    }
+
+    /**
+     * Open new connections until the pool holds the requested number of connections, and return them to the pool
+     * once connected (and TLS handshake completed).
+     *
+     * @param count number of connections the pool should hold
+     * @return future completed once all connections are established
+     */
+    CompletableFuture<Void> warmUp(int count) {
+        int limit = maxConnections < 0 ? count : Math.min(count, maxConnections);
+        List<CompletableFuture<Channel>> opened = new ArrayList<>();
+        while (reserveConnection(limit)) {
+            opened.add(connect()
+                               .thenCompose(ChannelPool::handshake)
+                               .whenComplete((channel, throwable) -> {
+                                   if (throwable == null) {
+                                       releaseChannel(channel);
+                                   }
+                               }));
+        }
+        LOGGER.finest(() -> "Warming up " + opened.size() + " connections to -> " + connectionIdent);
+        return CompletableFuture.allOf(opened.toArray(new CompletableFuture[0]));
+    }
+
+    private void releaseChannel(Channel channel) {
+        if (retired || !isHealthy(channel)) {
+            // a removed pool does not keep idle channels, the next request opens them in a new pool
+            LOGGER.finest(() -> "Closing expired channel -> " + channel.hashCode());
+            // slot is freed by the close listener
+            channel.close();
+            return;
+        }
+        Waiter waiter = pollWaiter();
+        if (waiter == null) {
+            channel.attr(IN_USE).get().set(false);
+            idle.offerLast(channel);
+            drain();
+        } else {
+            handOver(waiter, channel);
+        }
+    }
+
+    private void timeout(Waiter waiter) {
+        if (waiters.remove(waiter)) {
+            pending.decrementAndGet();
+            acquireTimeouts.increment();
+            waiter.future.completeExceptionally(new WebClientException("Timed out after " + acquireTimeoutMillis
+                                                                               + " ms waiting for a connection to "
+                                                                               + connectionIdent.base));
+        }
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty()) {
+            Channel channel = pollIdle();
+            if (channel == null && !reserveConnection()) {
+                // nothing available, waiters are served once a channel is released or closed
+                return;
+            }
+            Waiter waiter = pollWaiter();
+            if (waiter == null) {
+                // waiter timed out or was served concurrently, give back and check again
+                if (channel == null) {
+                    connections.decrementAndGet();
+                } else {
+                    channel.attr(IN_USE).get().set(false);
+                    idle.offerLast(channel);
+                }
+            } else if (channel == null) {
+                cancelTimeout(waiter);
+                connect().whenComplete((newChannel, throwable) -> {
+                    if (throwable == null) {
+                        waiter.future.complete(newChannel);
+                    } else {
+                        waiter.future.completeExceptionally(throwable);
+                    }
+                });
+            } else {
+                handOver(waiter, channel);
+            }
+        }
+    }
+
+    private void retireIfUnused() {
+        POOLS.computeIfPresent(connectionIdent, (ident, pool) -> {
+            if (pool == this && connections.get() == 0 && pending.get() == 0) {
+                LOGGER.finest(() -> "Removing unused pool -> " + connectionIdent);
+                retired = true;
+                return null;
+            }
+            return pool;
+        });
+    }
+
+    private void handOver(Waiter waiter, Channel channel) {
+        cancelTimeout(waiter);
+        LOGGER.finest(() -> "Handing over -> " + channel.hashCode());
+        waiter.future.complete(channel);
+    }
+
+    private void cancelTimeout(Waiter waiter) {
+        // may not be set yet, if served by the drain of its own acquire; the timeout then finds nothing to remove
+        ScheduledFuture<?> timeout = waiter.timeout;
+        if (timeout != null) {
+            timeout.cancel(false);
+        }
+    }
+
+    private Waiter pollWaiter() {
+        Waiter waiter = waiters.poll();
+        if (waiter != null) {
+            pending.decrementAndGet();
+        }
+        return waiter;
+    }
+
+    private Channel pollIdle() {
+        Channel channel;
+        while ((channel = idle.pollLast()) != null) {
+            // the flag may have been claimed by the idle handler that is closing the channel
+            if (channel.attr(IN_USE).get().compareAndSet(false, true)) {
+                if (isHealthy(channel)) {
+                    return channel;
+                }
+                LOGGER.finest(() -> "Closing stale channel");
+                channel.close();
+            }
+        }
+        return null;
+    }
+
+    private boolean isHealthy(Channel channel) {
+        if (!channel.isActive()) {
+            return false;
+        }
+        return maxLifetimeNanos == 0 || System.nanoTime() - channel.attr(CREATED).get() < maxLifetimeNanos;
+    }
+
+    private boolean reserveConnection() {
+        return reserveConnection(maxConnections);
+    }
+
+    private boolean reserveConnection(int limit) {
+        if (limit < 0) {
+            connections.incrementAndGet();
+            return true;
+        }
+        int current;
+        do {
+            current = connections.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!connections.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private CompletableFuture<Channel> connect() {
+        LOGGER.finest(() -> "New connection to -> " + connectionIdent);
+        URI uri = connectionIdent.base;
+        ChannelFuture connect = bootstrap.connect(uri.getHost(), uri.getPort());
+        Channel channel = connect.channel();
+        channel.attr(IN_USE).set(new AtomicBoolean(true));
+        channel.attr(RETURN).set(new AtomicBoolean(false));
+        channel.attr(POOL).set(this);
+        channel.attr(CREATED).set(System.nanoTime());
+
+        AtomicBoolean freed = new AtomicBoolean();
+        Runnable freeConnection = () -> {
+            if (freed.compareAndSet(false, true)) {
+                LOGGER.finest(() -> "Channel closed -> " + channel.hashCode());
+                connections.decrementAndGet();
+                idle.remove(channel);
+                drain();
+                retireIfUnused();
+            }
+        };
+        channel.closeFuture().addListener(future -> freeConnection.run());
+
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        connect.addListener(future -> {
+            if (future.isSuccess()) {
+                result.complete(channel);
+            } else {
+                freeConnection.run();
+                result.completeExceptionally(future.cause());
+            }
+        });
+        return result;
+    }
+
+    private static CompletableFuture<Channel> handshake(Channel channel) {
+        SslHandler sslHandler = channel.pipeline().get(SslHandler.class);
+        if (sslHandler == null) {
+            return CompletableFuture.completedFuture(channel);
+        }
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (future.isSuccess()) {
+                result.complete(channel);
+            } else {
+                result.completeExceptionally(future.cause());
+            }
+        });
+        return result;
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<Channel> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeout;
+    }
+
+    private static final class Stats implements WebClientConnectionPoolStats {
+        private static final Stats INSTANCE = new Stats();
+
+        @Override
+        public int connections() {
+            return POOLS.values().stream().mapToInt(pool -> pool.connections.get()).sum() + Http2ChannelPool.connections();
+        }
+
+        @Override
+        public int idleConnections() {
+            return POOLS.values().stream().mapToInt(pool -> pool.idle.size()).sum();
+        }
+
+        @Override
+        public int pendingAcquires() {
+            return POOLS.values().stream().mapToInt(pool -> pool.pending.get()).sum();
+        }
+
+        @Override
+        public long acquireTimeouts() {
+            return POOLS.values().stream().mapToLong(pool -> pool.acquireTimeouts.sum()).sum();
+        }
+    }
+
+    static final class ConnectionIdent {
+
+        private final URI base;
+        private final Duration connectTimeout;
+        private final Duration readTimeout;
+        private final Proxy proxy;
+        private final WebClientTls tls;
+        private final WebClientConnectionPool pool;
+
+        ConnectionIdent(RequestConfiguration requestConfiguration) {
+            URI uri = requestConfiguration.requestURI();
+            this.base = URI.create(uri.getScheme() + "://" + uri.getAuthority());
+            this.connectTimeout = requestConfiguration.connectTimeout();
+            this.readTimeout = requestConfiguration.readTimout();
+            this.proxy = requestConfiguration.proxy().orElse(null);
+            this.tls = requestConfiguration.tls();
+            this.pool = requestConfiguration.connectionPool();
+        }
+
+        URI base() {
+            return base;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ConnectionIdent that = (ConnectionIdent) o;
+            return Objects.equals(base, that.base)
+                    && Objects.equals(connectTimeout, that.connectTimeout)
+                    && Objects.equals(readTimeout, that.readTimeout)
+                    && Objects.equals(proxy, that.proxy)
+                    && Objects.equals(tls, that.tls)
+                    && Objects.equals(pool, that.pool);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(base, connectTimeout, readTimeout, proxy, tls, pool);
+        }
+
+        @Override
+        public String toString() {
+            return "ConnectionIdent{"
+                    + "base=" + base
+                    + ", connectTimeout=" + connectTimeout
+                    + ", readTimeout=" + readTimeout
+                    + ", proxy=" + proxy
+                    + ", tls=" + tls
+                    + ", pool=" + pool
+                    + '}';
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.util.concurrent.FutureListener;
+
+/**
+ * HTTP/2 connection to a single host, shared by all requests to the host.
+ * <p>
+ * Each request is sent on its own stream channel, created on the shared connection. Streams over the limit of
+ * concurrent streams announced by the server are buffered until other streams complete.
+ * If the server does not support HTTP/2, this and all further requests to the host use HTTP/1.1.
+ * <p>
+ * The pool is removed once its connection is closed, so that hosts that are no longer used are released after
+ * the idle timeout of the connection. Hosts that do not support HTTP/2 keep their pool for the idle timeout
+ * (or a minute if idle connections are kept open), after which the protocol is negotiated again.
+ */
+final class Http2ChannelPool {
+
+    private static final Logger LOGGER = Logger.getLogger(Http2ChannelPool.class.getName());
+    private static final Map<ChannelPool.ConnectionIdent, Http2ChannelPool> POOLS = new ConcurrentHashMap<>();
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger();
+    private static final Duration HTTP1_ONLY_TTL = Duration.ofMinutes(1);
+
+    private final ChannelPool.ConnectionIdent connectionIdent;
+    private final Bootstrap bootstrap;
+    private final AtomicReference<CompletableFuture<Channel>> connection = new AtomicReference<>();
+    private volatile boolean http1Only;
+
+    private Http2ChannelPool(ChannelPool.ConnectionIdent connectionIdent, Bootstrap bootstrap) {
+        this.connectionIdent = connectionIdent;
+        this.bootstrap = bootstrap;
+    }
+
+    /**
+     * HTTP/2 connection to the host of the request.
+     *
+     * @param configuration request configuration
+     * @param bootstrap creates the bootstrap used to open the connection of a new pool
+     * @return channel pool
+     */
+    static Http2ChannelPool get(RequestConfiguration configuration, Supplier<Bootstrap> bootstrap) {
+        return POOLS.computeIfAbsent(new ChannelPool.ConnectionIdent(configuration),
+                                     ident -> new Http2ChannelPool(ident, bootstrap.get()));
+    }
+
+    /**
+     * Hosts that currently have a pool.
+     *
+     * @return base URIs of the pooled hosts
+     */
+    static Set<URI> hosts() {
+        return POOLS.keySet().stream()
+                .map(ChannelPool.ConnectionIdent::base)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Number of HTTP/2 connections currently open, or being opened.
+     *
+     * @return number of connections
+     */
+    static int connections() {
+        return CONNECTIONS.get();
+    }
+
+    /**
+     * Open a new stream channel on the connection to the host, connecting if needed.
+     *
+     * @param configuration request configuration
+     * @param http1 obtains an HTTP/1.1 channel if the host does not support HTTP/2
+     * @return future completed with the stream channel, or HTTP/1.1 channel
+     */
+    CompletableFuture<Channel> acquire(RequestConfiguration configuration, Supplier<CompletableFuture<Channel>> http1) {
+        if (http1Only) {
+            return http1.get();
+        }
+        return connection(configuration)
+                .thenCompose(parent -> parent == null ? http1.get() : openStream(parent, configuration));
+    }
+
+    /**
+     * Open the connection to the host ahead of the first request.
+     *
+     * @param configuration request configuration
+     * @param http1 opens HTTP/1.1 connections if the host does not support HTTP/2
+     * @return future completed once the connection is established and the protocol negotiated
+     */
+    CompletableFuture<Void> warmUp(RequestConfiguration configuration, Supplier<CompletableFuture<Void>> http1) {
+        if (http1Only) {
+            return http1.get();
+        }
+        return connection(configuration)
+                .thenCompose(parent -> parent == null ? http1.get() : CompletableFuture.completedFuture(null));
+    }
+
+    private CompletableFuture<Channel> connection(RequestConfiguration configuration) {
+        while (true) {
+            CompletableFuture<Channel> current = connection.get();
+            if (current != null && isUsable(current)) {
+                return current;
+            }
+            CompletableFuture<Channel> created = new CompletableFuture<>();
+            if (connection.compareAndSet(current, created)) {
+                connect(configuration, created);
+                return created;
+            }
+        }
+    }
+
+    private void connect(RequestConfiguration configuration, CompletableFuture<Channel> ready) {
+        LOGGER.finest(() -> "New HTTP/2 connection to -> " + connectionIdent);
+        URI uri = connectionIdent.base();
+        ChannelFuture connect = bootstrap.clone()
+                .handler(new Http2ClientInitializer(configuration, ready, this::http1Only))
+                .connect(uri.getHost(), uri.getPort());
+        CONNECTIONS.incrementAndGet();
+        connect.channel().closeFuture().addListener(future -> {
+            LOGGER.finest(() -> "HTTP/2 connection closed -> " + connect.channel().hashCode());
+            CONNECTIONS.decrementAndGet();
+            ready.completeExceptionally(new WebClientException("Connection to " + uri + " closed"));
+            if (!ready.isCompletedExceptionally() && ready.join() == null) {
+                // the host does not support HTTP/2, negotiate again once the HTTP/1.1 connections could be idle
+                Duration idleTimeout = configuration.connectionPool().idleTimeout();
+                Duration ttl = idleTimeout.isZero() ? HTTP1_ONLY_TTL : idleTimeout;
+                bootstrap.config().group().schedule(() -> remove(ready), ttl.toMillis(), TimeUnit.MILLISECONDS);
+            } else {
+                remove(ready);
+            }
+        });
+        connect.addListener(future -> {
+            if (!future.isSuccess()) {
+                ready.completeExceptionally(future.cause());
+            }
+        });
+    }
+
+    private void remove(CompletableFuture<Channel> closed) {
+        // a newer connection keeps the pool
+        if (connection.get() == closed && POOLS.remove(connectionIdent, this)) {
+            LOGGER.finest(() -> "Removing HTTP/2 pool -> " + connectionIdent);
+        }
+    }
+
+    private void http1Only() {
+        LOGGER.fine(() -> "HTTP/2 not supported by " + connectionIdent.base() + ", using HTTP/1.1");
+        http1Only = true;
+    }
+
+    private static boolean isUsable(CompletableFuture<Channel> connection) {
+        if (!connection.isDone()) {
+            return true;
+        }
+        if (connection.isCompletedExceptionally()) {
+            return false;
+        }
+        Channel channel = connection.join();
+        if (channel == null) {
+            // HTTP/1.1 only
+            return true;
+        }
+        if (!channel.isActive()) {
+            return false;
+        }
+        // new streams cannot be opened once the server started graceful shutdown of the connection
+        Http2FrameCodec codec = channel.pipeline().get(Http2FrameCodec.class);
+        return codec != null && !codec.connection().goAwayReceived();
+    }
+
+    private static CompletableFuture<Channel> openStream(Channel parent, RequestConfiguration configuration) {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        new Http2StreamChannelBootstrap(parent)
+                .handler(new Http2ClientInitializer.StreamInitializer(configuration))
+                .open()
+                .addListener((FutureListener<Http2StreamChannel>) future -> {
+                    if (future.isSuccess()) {
+                        result.complete(future.getNow());
+                    } else {
+                        result.completeExceptionally(future.cause());
+                    }
+                });
+        return result;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpClientUpgradeHandler;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2ClientUpgradeCodec;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.logging.LogLevel;
+import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Initializer of HTTP/2 connections.
+ * <p>
+ * HTTP/2 is negotiated using ALPN on TLS connections, and using upgrade from HTTP/1.1 on cleartext connections,
+ * unless the server is known to support HTTP/2. Requests are then sent on stream channels initialized by
+ * {@link StreamInitializer}.
+ * <p>
+ * The negotiation is bounded by the read timeout. If ALPN is not completed in time, the connection fails,
+ * if the server does not respond to the upgrade request in time, HTTP/1.1 is used instead.
+ */
+class Http2ClientInitializer extends ChannelInitializer<SocketChannel> {
+
+    private static final int MAX_UPGRADE_RESPONSE_LENGTH = 65536;
+
+    private final RequestConfiguration configuration;
+    private final CompletableFuture<Channel> ready;
+    private final Runnable http1Only;
+
+    /**
+     * Creates new instance.
+     *
+     * @param configuration request configuration
+     * @param ready completed with the connection once HTTP/2 is established, or with {@code null} if the server
+     *              does not support HTTP/2
+     * @param http1Only invoked if the server does not support HTTP/2
+     */
+    Http2ClientInitializer(RequestConfiguration configuration, CompletableFuture<Channel> ready, Runnable http1Only) {
+        this.configuration = configuration;
+        this.ready = ready;
+        this.http1Only = http1Only;
+    }
+
+    @Override
+    protected void initChannel(SocketChannel channel) {
+        ChannelPipeline pipeline = channel.pipeline();
+
+        NettyClientInitializer.addProxyHandler(pipeline, configuration);
+
+        long idleTimeout = configuration.connectionPool().idleTimeout().toMillis();
+        if (idleTimeout > 0) {
+            pipeline.addLast("idleStateHandler", new IdleStateHandler(0, 0, idleTimeout, TimeUnit.MILLISECONDS));
+            pipeline.addLast("idleConnectionHandler", new IdleConnectionHandler());
+        }
+
+        if (configuration.requestURI().toString().startsWith("https")) {
+            configuration.sslContext(true).ifPresent(ctx -> {
+                pipeline.addLast("negotiationTimeout", new NegotiationTimeoutHandler(this::alpnTimedOut));
+                pipeline.addLast("ssl", NettyClientInitializer.sslHandler(channel, configuration, ctx));
+                pipeline.addLast("alpn", new AlpnHandler());
+            });
+        } else if (configuration.http2PriorKnowledge()) {
+            addHttp2Handlers(pipeline);
+            pipeline.addLast("http2Ready", new PriorKnowledgeHandler());
+        } else {
+            pipeline.addLast("negotiationTimeout", new NegotiationTimeoutHandler(this::notSupported));
+            HttpClientCodec sourceCodec = new HttpClientCodec();
+            // the response to the upgrade request is received on the upgrade stream and discarded
+            Http2ConnectionHandler frameCodec = frameCodec();
+            Http2MultiplexHandler multiplexHandler = new Http2MultiplexHandler(DiscardHandler.INSTANCE,
+                                                                               DiscardHandler.INSTANCE);
+            Http2ClientUpgradeCodec upgradeCodec = new Http2ClientUpgradeCodec(frameCodec, multiplexHandler);
+            pipeline.addLast("httpCodec", sourceCodec);
+            pipeline.addLast("upgrade", new HttpClientUpgradeHandler(sourceCodec, upgradeCodec, MAX_UPGRADE_RESPONSE_LENGTH));
+            pipeline.addLast("http2Upgrade", new UpgradeHandler());
+        }
+    }
+
+    private void addHttp2Handlers(ChannelPipeline pipeline) {
+        pipeline.addLast("http2Codec", frameCodec());
+        // server push is disabled, no streams are expected to be opened by the server
+        pipeline.addLast("http2Multiplex", new Http2MultiplexHandler(DiscardHandler.INSTANCE));
+    }
+
+    private Http2FrameCodec frameCodec() {
+        return Http2FrameCodecBuilder.forClient()
+                .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                .validateHeaders(configuration.validateHeaders())
+                .encoderEnforceMaxConcurrentStreams(true)
+                .build();
+    }
+
+    private void notSupported(Channel channel) {
+        http1Only.run();
+        ready.complete(null);
+        channel.close();
+    }
+
+    private void alpnTimedOut(Channel channel) {
+        ready.completeExceptionally(new WebClientException("Protocol negotiation with " + configuration.requestURI()
+                                                                   + " timed out"));
+        channel.close();
+    }
+
+    /**
+     * Initializer of a stream channel, which converts HTTP/2 frames to HTTP/1.1 objects processed by
+     * {@link NettyClientHandler}, in the same way as on HTTP/1.1 connections.
+     */
+    static final class StreamInitializer extends ChannelInitializer<Channel> {
+
+        private final RequestConfiguration configuration;
+
+        StreamInitializer(RequestConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        protected void initChannel(Channel channel) {
+            ChannelPipeline pipeline = channel.pipeline();
+            long readTimeout = configuration.readTimout().toMillis();
+            pipeline.addLast("readTimeout", new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS));
+            pipeline.addLast("logger", new LoggingHandler(NettyClientInitializer.ClientNettyLog.class, LogLevel.TRACE));
+            pipeline.addLast("http2StreamCodec", new Http2StreamFrameToHttpObjectCodec(false,
+                                                                                       configuration.validateHeaders()));
+            pipeline.addLast("httpDecompressor", new HttpContentDecompressor());
+            pipeline.addLast("helidonHandler", new NettyClientHandler());
+        }
+    }
+
+    private final class AlpnHandler extends ApplicationProtocolNegotiationHandler {
+
+        private AlpnHandler() {
+            super(ApplicationProtocolNames.HTTP_1_1);
+        }
+
+        @Override
+        protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+            if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                addHttp2Handlers(ctx.pipeline());
+                ready.complete(ctx.channel());
+            } else {
+                notSupported(ctx.channel());
+            }
+        }
+
+        @Override
+        protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) {
+            ready.completeExceptionally(cause);
+            ctx.close();
+        }
+    }
+
+    private final class NegotiationTimeoutHandler extends ChannelInboundHandlerAdapter {
+
+        private final Consumer<Channel> timedOut;
+
+        private NegotiationTimeoutHandler(Consumer<Channel> timedOut) {
+            this.timedOut = timedOut;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            long timeout = configuration.readTimout().toMillis();
+            if (timeout > 0) {
+                ScheduledFuture<?> task = ctx.executor().schedule(() -> {
+                    if (!ready.isDone()) {
+                        timedOut.accept(ctx.channel());
+                    }
+                }, timeout, TimeUnit.MILLISECONDS);
+                ready.whenComplete((channel, throwable) -> task.cancel(false));
+            }
+            super.channelActive(ctx);
+            ctx.pipeline().remove(this);
+        }
+    }
+
+    private final class PriorKnowledgeHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            // the connection preface has been written by the codec
+            super.channelActive(ctx);
+            ctx.pipeline().remove(this);
+            ready.complete(ctx.channel());
+        }
+    }
+
+    private final class UpgradeHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            // upgrade headers are added by the upgrade handler, the response is discarded
+            URI uri = configuration.requestURI();
+            DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.OPTIONS, "*");
+            request.headers().set(HttpHeaderNames.HOST, uri.getHost() + ":" + uri.getPort());
+            ctx.writeAndFlush(request);
+            super.channelActive(ctx);
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt == HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_SUCCESSFUL) {
+                ctx.pipeline().remove(this);
+                ready.complete(ctx.channel());
+            } else if (evt == HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_REJECTED) {
+                notSupported(ctx.channel());
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            // response to a rejected upgrade request
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    private static final class IdleConnectionHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                Http2FrameCodec codec = ctx.pipeline().get(Http2FrameCodec.class);
+                if (codec == null || codec.connection().numActiveStreams() == 0) {
+                    ctx.close();
+                    return;
+                }
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private static final class DiscardHandler extends ChannelInboundHandlerAdapter {
+
+        private static final DiscardHandler INSTANCE = new DiscardHandler();
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.helidon.webclient;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -24,6 +25,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.helidon.common.LazyValue;
 import io.helidon.common.Version;
 import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Single;
 import io.helidon.config.Config;
 import io.helidon.media.common.MediaContext;
 
@@ -48,6 +50,7 @@ final class NettyClient implements WebClient {
     private static final Proxy DEFAULT_PROXY = Proxy.noProxy();
     private static final MediaContext DEFAULT_MEDIA_SUPPORT = MediaContext.create();
     private static final WebClientTls DEFAULT_TLS = WebClientTls.builder().build();
+    private static final WebClientConnectionPool DEFAULT_CONNECTION_POOL = WebClientConnectionPool.create();
 
     private static final AtomicBoolean DEFAULTS_CONFIGURED = new AtomicBoolean();
 
@@ -63,6 +66,7 @@ final class NettyClient implements WebClient {
                     .writerContextParent(DEFAULT_MEDIA_SUPPORT.writerContext())
                     .proxy(DEFAULT_PROXY)
                     .tls(DEFAULT_TLS)
+                    .connectionPool(DEFAULT_CONNECTION_POOL)
                     .keepAlive(DEFAULT_KEEP_ALIVE)
                     .validateHeaders(DEFAULT_VALIDATE_HEADERS)
                     .build();
@@ -140,6 +144,16 @@ final class NettyClient implements WebClient {
         return WebClientRequestBuilderImpl.create(eventGroup, configuration, method);
     }
 
+    @Override
+    public Single<Void> warmUp(int connections) {
+        return WebClientRequestBuilderImpl.warmUp(eventGroup, configuration, null, connections);
+    }
+
+    @Override
+    public Single<Void> warmUp(String uri, int connections) {
+        return WebClientRequestBuilderImpl.warmUp(eventGroup, configuration, URI.create(uri), connections);
+    }
+
     static void configureDefaults(Config globalConfig) {
         if (DEFAULTS_CONFIGURED.compareAndSet(false, true)) {
             Config config = globalConfig.get("client");
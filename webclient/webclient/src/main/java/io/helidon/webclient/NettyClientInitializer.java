@@ -17,12 +17,14 @@ package io.helidon.webclient;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import java.util.logging.Logger;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 
+import io.helidon.common.LazyValue;
+
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -34,13 +36,13 @@ import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.proxy.ProxyHandler;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.concurrent.FutureListener;
 
-import static io.helidon.webclient.WebClientRequestBuilderImpl.CONNECTION_IDENT;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.IN_USE;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.RESULT;
 
@@ -50,6 +52,7 @@ import static io.helidon.webclient.WebClientRequestBuilderImpl.RESULT;
 class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
 
     private final RequestConfiguration configuration;
+    private final LazyValue<Optional<SslContext>> sslContext;
 
     /**
      * Creates new instance.
@@ -58,6 +61,8 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
      */
     NettyClientInitializer(RequestConfiguration configuration) {
         this.configuration = configuration;
+        // the initializer is shared by all connections of a bootstrap, so the context is only created once
+        this.sslContext = LazyValue.create(configuration::sslContext);
     }
 
     @Override
@@ -71,33 +76,21 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
         pipeline.addLast("readTimeout", new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
 
         // proxy configuration
-        configuration.proxy()
-                .flatMap(proxy -> proxy.handler(address))
-                .ifPresent(it -> {
-                    ProxyHandler proxyHandler = (ProxyHandler) it;
-                    proxyHandler.setConnectTimeoutMillis(configuration.connectTimeout().toMillis());
-                    pipeline.addLast(proxyHandler);
-                });
+        addProxyHandler(pipeline, configuration);
 
         // TLS configuration
         if (address.toString().startsWith("https")) {
-            configuration.sslContext().ifPresent(ctx -> {
-                SslHandler sslHandler = ctx.newHandler(channel.alloc(), address.getHost(), address.getPort());
-
-                //This is how to enable hostname verification in netty
-                if (!configuration.tls().disableHostnameVerification()) {
-                    SSLEngine sslEngine = sslHandler.engine();
-                    SSLParameters sslParameters = sslEngine.getSSLParameters();
-                    sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
-                    sslEngine.setSSLParameters(sslParameters);
-                }
-
+            sslContext.get().ifPresent(ctx -> {
+                SslHandler sslHandler = sslHandler(channel, configuration, ctx);
                 pipeline.addLast("ssl", sslHandler);
                 sslHandler.handshakeFuture().addListener((FutureListener<Channel>) channelFuture -> {
                     //Check if ssl handshake has been successful. Without this check will this exception be replaced by
                     //netty and therefore it will be lost.
                     if (channelFuture.cause() != null) {
-                        channel.attr(RESULT).get().completeExceptionally(channelFuture.cause());
+                        // no request is bound to connections opened by warm up
+                        if (channel.hasAttr(RESULT)) {
+                            channel.attr(RESULT).get().completeExceptionally(channelFuture.cause());
+                        }
                         channel.close();
                     }
                 });
@@ -107,14 +100,39 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
         pipeline.addLast("logger", new LoggingHandler(ClientNettyLog.class, LogLevel.TRACE));
         pipeline.addLast("httpCodec", new HttpClientCodec());
         pipeline.addLast("httpDecompressor", new HttpContentDecompressor());
-        pipeline.addLast("idleStateHandler", new IdleStateHandler(0, 0, 50));
+        long idleTimeout = configuration.connectionPool().idleTimeout().toMillis();
+        if (idleTimeout > 0) {
+            pipeline.addLast("idleStateHandler", new IdleStateHandler(0, 0, idleTimeout, TimeUnit.MILLISECONDS));
+        }
         pipeline.addLast("idleConnectionHandler", new IdleConnectionHandler());
         pipeline.addLast("helidonHandler", new NettyClientHandler());
     }
 
-    private static class IdleConnectionHandler extends ChannelDuplexHandler {
+    static void addProxyHandler(ChannelPipeline pipeline, RequestConfiguration configuration) {
+        configuration.proxy()
+                .flatMap(proxy -> proxy.handler(configuration.requestURI()))
+                .ifPresent(it -> {
+                    ProxyHandler proxyHandler = (ProxyHandler) it;
+                    proxyHandler.setConnectTimeoutMillis(configuration.connectTimeout().toMillis());
+                    pipeline.addLast(proxyHandler);
+                });
+    }
+
+    static SslHandler sslHandler(Channel channel, RequestConfiguration configuration, SslContext sslContext) {
+        URI address = configuration.requestURI();
+        SslHandler sslHandler = sslContext.newHandler(channel.alloc(), address.getHost(), address.getPort());
+
+        //This is how to enable hostname verification in netty
+        if (!configuration.tls().disableHostnameVerification()) {
+            SSLEngine sslEngine = sslHandler.engine();
+            SSLParameters sslParameters = sslEngine.getSSLParameters();
+            sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+            sslEngine.setSSLParameters(sslParameters);
+        }
+        return sslHandler;
+    }
 
-        private static final Logger LOGGER = Logger.getLogger(IdleConnectionHandler.class.getName());
+    private static class IdleConnectionHandler extends ChannelDuplexHandler {
 
         @Override
         public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
@@ -126,22 +144,9 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
             }
             super.userEventTriggered(ctx, evt);
         }
-
-        @Override
-        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-            if (ctx.channel().hasAttr(CONNECTION_IDENT)) {
-                Channel channel = ctx.channel();
-                WebClientRequestBuilderImpl.ConnectionIdent key = channel.attr(CONNECTION_IDENT).get();
-                LOGGER.finest(() -> "Channel closed -> " + channel.hashCode());
-                if (key != null) {
-                    WebClientRequestBuilderImpl.removeChannelFromCache(key, channel);
-                }
-            }
-            super.channelInactive(ctx);
-        }
     }
 
     // this class is only used to create a log handler in NettyLogHandler, to distinguish from webserver
-    private static final class ClientNettyLog {
+    static final class ClientNettyLog {
     }
 }
@@ -28,6 +28,7 @@ import java.util.function.Supplier;
 
 import io.helidon.common.context.Context;
 import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Single;
 import io.helidon.common.serviceloader.HelidonServiceLoader;
 import io.helidon.config.Config;
 import io.helidon.media.common.MediaContext;
@@ -74,6 +75,15 @@ public interface WebClient {
         return new Builder();
     }
 
+    /**
+     * Statistics of the keep-alive connections pooled by all clients.
+     *
+     * @return connection pool statistics
+     */
+    static WebClientConnectionPoolStats connectionPoolStats() {
+        return ChannelPool.stats();
+    }
+
     /**
      * Create a request builder for a put method.
      *
@@ -139,6 +149,36 @@ public interface WebClient {
      */
     WebClientRequestBuilder method(Http.RequestMethod method);
 
+    /**
+     * Open connections to the host of the base uri of this client ahead of the first requests, including the TLS
+     * handshake for {@code https}.
+     * The default implementation opens no connection, they are opened by the first requests instead.
+     *
+     * @param connections number of connections the pool should hold
+     * @return single completed when the connections are established
+     * @see #warmUp(String, int)
+     */
+    default Single<Void> warmUp(int connections) {
+        return Single.empty();
+    }
+
+    /**
+     * Open connections to the host of the uri ahead of the first requests, including the TLS handshake
+     * for {@code https}. The connections are added to the {@link WebClientConnectionPool connection pool}
+     * until it holds the requested number of connections to the host, never exceeding
+     * {@link WebClientConnectionPool.Builder#maxConnectionsPerHost(int)}. When {@link Builder#httpVersion(Http.Version)
+     * HTTP/2} is used, a single connection is opened, as all requests to the host share it.
+     * Nothing is opened when {@link Builder#keepAlive(boolean) keep alive} is disabled.
+     * The default implementation opens no connection, they are opened by the first requests instead.
+     *
+     * @param uri uri of the host
+     * @param connections number of connections the pool should hold
+     * @return single completed when the connections are established, or with the first failure
+     */
+    default Single<Void> warmUp(String uri, int connections) {
+        return Single.empty();
+    }
+
     /**
      * Fluent API builder for {@link io.helidon.webclient.WebClient}.
      */
@@ -287,6 +327,17 @@ public interface WebClient {
             return this;
         }
 
+        /**
+         * Sets new {@link WebClientConnectionPool} instance which configures the pool of keep-alive connections.
+         *
+         * @param connectionPool connection pool configuration
+         * @return updated builder instance
+         */
+        public Builder connectionPool(WebClientConnectionPool connectionPool) {
+            configuration.connectionPool(connectionPool);
+            return this;
+        }
+
         /**
          * Sets specific context which should be used in requests.
          *
@@ -391,6 +442,36 @@ public interface WebClient {
             return this;
         }
 
+        /**
+         * Default HTTP version of the requests, can be changed per request using
+         * {@link WebClientRequestBuilder#httpVersion(Http.Version)}.
+         * With {@link Http.Version#V2_0}, requests to the same host are multiplexed over a single connection.
+         * HTTP/2 is negotiated using ALPN for {@code https}, and using upgrade from HTTP/1.1 for {@code http}
+         * unless {@link #http2PriorKnowledge(boolean)} is set. Requests fall back to HTTP/1.1 if the server does not
+         * support HTTP/2.
+         * Defaults to {@link Http.Version#V1_1}.
+         *
+         * @param httpVersion default HTTP version
+         * @return updated builder instance
+         */
+        public Builder httpVersion(Http.Version httpVersion) {
+            configuration.httpVersion(httpVersion);
+            return this;
+        }
+
+        /**
+         * Whether HTTP/2 is used on cleartext ({@code http}) connections right away, without upgrade from HTTP/1.1.
+         * Only use with servers known to support HTTP/2.
+         * Defaults to {@code false}.
+         *
+         * @param http2PriorKnowledge whether the server is known to support HTTP/2
+         * @return updated builder instance
+         */
+        public Builder http2PriorKnowledge(boolean http2PriorKnowledge) {
+            configuration.http2PriorKnowledge(http2PriorKnowledge);
+            return this;
+        }
+
         /**
          * Whether to validate header names.
          * Defaults to {@code true}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ import javax.net.ssl.SSLException;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.context.Context;
+import io.helidon.common.http.Http;
 import io.helidon.config.Config;
 import io.helidon.config.DeprecatedConfig;
 import io.helidon.media.common.MediaContext;
@@ -48,6 +49,8 @@ import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.media.common.ParentingMediaContextBuilder;
 import io.helidon.webclient.spi.WebClientService;
 
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
@@ -61,6 +64,13 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
  */
 class WebClientConfiguration {
 
+    private static final ApplicationProtocolConfig HTTP2_ALPN =
+            new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                                          ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                                          ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                                          ApplicationProtocolNames.HTTP_2,
+                                          ApplicationProtocolNames.HTTP_1_1);
+
     private final WebClientRequestHeaders clientHeaders;
     private final WebClientCookieManager cookieManager;
     private final CookiePolicy cookiePolicy;
@@ -78,8 +88,11 @@ class WebClientConfiguration {
     private final MessageBodyReaderContext readerContext;
     private final MessageBodyWriterContext writerContext;
     private final WebClientTls webClientTls;
+    private final WebClientConnectionPool connectionPool;
     private final URI uri;
     private final boolean validateHeaders;
+    private final Http.Version httpVersion;
+    private final boolean http2PriorKnowledge;
 
     /**
      * Creates a new instance of client configuration.
@@ -93,6 +106,7 @@ class WebClientConfiguration {
         this.userAgent = builder.userAgent;
         this.proxy = builder.proxy;
         this.webClientTls = builder.webClientTls;
+        this.connectionPool = builder.connectionPool;
         this.maxRedirects = builder.maxRedirects;
         this.clientHeaders = builder.clientHeaders;
         this.cookiePolicy = builder.cookiePolicy;
@@ -109,6 +123,8 @@ class WebClientConfiguration {
         this.uri = builder.uri;
         this.keepAlive = builder.keepAlive;
         this.validateHeaders = builder.validateHeaders;
+        this.httpVersion = builder.httpVersion;
+        this.http2PriorKnowledge = builder.http2PriorKnowledge;
     }
 
     /**
@@ -130,14 +146,26 @@ class WebClientConfiguration {
     }
 
     Optional<SslContext> sslContext() {
+        return sslContext(false);
+    }
+
+    /**
+     * SSL context, optionally negotiating HTTP/2 using ALPN.
+     *
+     * @param http2 whether to offer {@code h2} and {@code http/1.1} protocols using ALPN
+     * @return ssl context
+     */
+    Optional<SslContext> sslContext(boolean http2) {
+        ApplicationProtocolConfig alpn = http2 ? HTTP2_ALPN : null;
         SslContext sslContext;
         try {
             if (webClientTls.sslContext().isPresent()) {
-                sslContext = nettySslFromJavaNet(webClientTls.sslContext().get());
+                sslContext = nettySslFromJavaNet(webClientTls.sslContext().get(), alpn);
             } else {
                 SslContextBuilder sslContextBuilder = SslContextBuilder
                         .forClient()
-                        .sslProvider(SslProvider.JDK);
+                        .sslProvider(SslProvider.JDK)
+                        .applicationProtocolConfig(alpn);
                 if (webClientTls.certificates().size() > 0) {
                     sslContextBuilder.trustManager(webClientTls.certificates().toArray(new X509Certificate[0]));
                 }
@@ -158,10 +186,10 @@ class WebClientConfiguration {
         return Optional.of(sslContext);
     }
 
-    private SslContext nettySslFromJavaNet(SSLContext javaNetContext) {
+    private SslContext nettySslFromJavaNet(SSLContext javaNetContext, ApplicationProtocolConfig alpn) {
         return new JdkSslContext(
                 javaNetContext, true, null,
-                IdentityCipherSuiteFilter.INSTANCE, null,
+                IdentityCipherSuiteFilter.INSTANCE, alpn,
                 ClientAuth.OPTIONAL, null, false);
     }
 
@@ -241,6 +269,10 @@ class WebClientConfiguration {
         return webClientTls;
     }
 
+    WebClientConnectionPool connectionPool() {
+        return connectionPool;
+    }
+
     Optional<Context> context() {
         return Optional.ofNullable(context);
     }
@@ -273,6 +305,24 @@ class WebClientConfiguration {
         return validateHeaders;
     }
 
+    /**
+     * Default HTTP version of the requests.
+     *
+     * @return http version
+     */
+    Http.Version httpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Whether HTTP/2 is used without upgrade from HTTP/1.1 on cleartext connections.
+     *
+     * @return whether the server is known to support HTTP/2
+     */
+    boolean http2PriorKnowledge() {
+        return http2PriorKnowledge;
+    }
+
     /**
      * A fluent API builder for {@link WebClientConfiguration}.
      */
@@ -297,11 +347,14 @@ class WebClientConfiguration {
         private boolean enableAutomaticCookieStore;
         private boolean keepAlive;
         private WebClientTls webClientTls;
+        private WebClientConnectionPool connectionPool;
         private URI uri;
         private MessageBodyReaderContext readerContext;
         private MessageBodyWriterContext writerContext;
         private List<WebClientService> clientServices;
         private boolean validateHeaders;
+        private Http.Version httpVersion = Http.Version.V1_1;
+        private boolean http2PriorKnowledge;
         @SuppressWarnings("unchecked")
         private B me = (B) this;
 
@@ -396,6 +449,17 @@ class WebClientConfiguration {
             return me;
         }
 
+        /**
+         * New configuration of the pool of keep-alive connections.
+         *
+         * @param connectionPool connection pool configuration
+         * @return updated builder instance
+         */
+        public B connectionPool(WebClientConnectionPool connectionPool) {
+            this.connectionPool = connectionPool;
+            return me;
+        }
+
         /**
          * Sets max number of followed redirects.
          *
@@ -571,6 +635,16 @@ class WebClientConfiguration {
             return me;
         }
 
+        B httpVersion(Http.Version httpVersion) {
+            this.httpVersion = Objects.requireNonNull(httpVersion);
+            return me;
+        }
+
+        B http2PriorKnowledge(boolean http2PriorKnowledge) {
+            this.http2PriorKnowledge = http2PriorKnowledge;
+            return me;
+        }
+
         /**
          * Configures this {@link WebClientConfiguration.Builder} from the supplied {@link Config}.
          * <table class="config">
@@ -608,6 +682,14 @@ class WebClientConfiguration {
          *     <td>Whether connection should be kept alive</td>
          * </tr>
          * <tr>
+         *     <td>http-version</td>
+         *     <td>Default HTTP version of the requests, {@code HTTP/1.1} or {@code HTTP/2.0}</td>
+         * </tr>
+         * <tr>
+         *     <td>http2-prior-knowledge</td>
+         *     <td>Whether HTTP/2 is used on cleartext connections without upgrade from HTTP/1.1</td>
+         * </tr>
+         * <tr>
          *     <td>cookies</td>
          *     <td>Default cookies which should be used</td>
          * </tr>
@@ -623,6 +705,10 @@ class WebClientConfiguration {
          *     <td>proxy</td>
          *     <td>Proxy configuration. See {@link Proxy.Builder#config(Config)}</td>
          * </tr>
+         * <tr>
+         *     <td>connection-pool</td>
+         *     <td>Connection pool configuration. See {@link WebClientConnectionPool.Builder#config(Config)}</td>
+         * </tr>
          * </table>
          *
          * @param config config
@@ -638,6 +724,8 @@ class WebClientConfiguration {
             config.get("max-redirects").asInt().ifPresent(this::maxRedirects);
             config.get("user-agent").asString().ifPresent(this::userAgent);
             config.get("keep-alive").asBoolean().ifPresent(this::keepAlive);
+            config.get("http-version").asString().map(Http.Version::create).ifPresent(this::httpVersion);
+            config.get("http2-prior-knowledge").asBoolean().ifPresent(this::http2PriorKnowledge);
             config.get("cookies").asNode().ifPresent(this::cookies);
             config.get("headers").asNode().ifPresent(this::headers);
             DeprecatedConfig.get(config, "tls", "ssl")
@@ -648,6 +736,9 @@ class WebClientConfiguration {
                     .as(Proxy.builder()::config)
                     .map(Proxy.Builder::build)
                     .ifPresent(this::proxy);
+            config.get("connection-pool")
+                    .as(WebClientConnectionPool::create)
+                    .ifPresent(this::connectionPool);
             config.get("media-support").as(MediaContext::create).ifPresent(this::mediaContext);
             return me;
         }
@@ -665,6 +756,7 @@ class WebClientConfiguration {
             userAgent(configuration.userAgent);
             proxy(configuration.proxy);
             tls(configuration.webClientTls);
+            connectionPool(configuration.connectionPool);
             maxRedirects(configuration.maxRedirects);
             clientHeaders(configuration.clientHeaders);
             enableAutomaticCookieStore(configuration.enableAutomaticCookieStore);
@@ -676,12 +768,35 @@ class WebClientConfiguration {
             context(configuration.context);
             keepAlive(configuration.keepAlive);
             validateHeaders(configuration.validateHeaders);
+            httpVersion(configuration.httpVersion);
+            http2PriorKnowledge(configuration.http2PriorKnowledge);
             configuration.cookieManager.defaultCookies().forEach(this::defaultCookie);
             config = configuration.config;
 
             return me;
         }
 
+        /**
+         * Updates builder with the settings of the connections of an existing client configuration only.
+         * Settings of the requests, such as headers, cookies, services and context, are not copied.
+         *
+         * @param configuration client configuration
+         * @return updated builder instance
+         */
+        B updateConnection(WebClientConfiguration configuration) {
+            connectTimeout(configuration.connectTimeout);
+            readTimeout(configuration.readTimeout);
+            proxy(configuration.proxy);
+            tls(configuration.webClientTls);
+            connectionPool(configuration.connectionPool);
+            keepAlive(configuration.keepAlive);
+            validateHeaders(configuration.validateHeaders);
+            httpVersion(configuration.httpVersion);
+            http2PriorKnowledge(configuration.http2PriorKnowledge);
+
+            return me;
+        }
+
         private void headers(Config configHeaders) {
             configHeaders.asNodeList()
                     .ifPresent(headers -> headers
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import io.helidon.config.Config;
+
+/**
+ * Configuration of the pool of keep-alive connections used by {@link WebClient}.
+ * <p>
+ * A separate pool is maintained for each combination of host, proxy and TLS configuration. By default the number
+ * of connections is not limited; once {@link Builder#maxConnectionsPerHost(int)} is configured, requests exceeding
+ * the limit wait for a connection to be returned to the pool, at most for {@link Builder#acquireTimeout(Duration)}.
+ */
+public class WebClientConnectionPool {
+
+    private final int maxConnectionsPerHost;
+    private final int maxPendingAcquires;
+    private final Duration acquireTimeout;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+
+    private WebClientConnectionPool(Builder builder) {
+        this.maxConnectionsPerHost = builder.maxConnectionsPerHost;
+        this.maxPendingAcquires = builder.maxPendingAcquires;
+        this.acquireTimeout = builder.acquireTimeout;
+        this.idleTimeout = builder.idleTimeout;
+        this.maxLifetime = builder.maxLifetime;
+    }
+
+    /**
+     * Fluent API builder for new instances.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create connection pool configuration with default values.
+     *
+     * @return a new connection pool configuration
+     */
+    public static WebClientConnectionPool create() {
+        return builder().build();
+    }
+
+    /**
+     * Create connection pool configuration from configuration.
+     *
+     * @param config configuration
+     * @return a new connection pool configuration
+     * @see Builder#config(Config)
+     */
+    public static WebClientConnectionPool create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Maximal number of connections opened to a single host, {@code -1} if not limited.
+     *
+     * @return max number of connections
+     */
+    int maxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Maximal number of requests waiting for a connection, {@code -1} if not limited.
+     *
+     * @return max number of pending acquires
+     */
+    int maxPendingAcquires() {
+        return maxPendingAcquires;
+    }
+
+    /**
+     * How long a request waits for a connection to become available.
+     *
+     * @return acquire timeout
+     */
+    Duration acquireTimeout() {
+        return acquireTimeout;
+    }
+
+    /**
+     * How long a connection may stay unused before it is closed.
+     *
+     * @return idle timeout
+     */
+    Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * How long a connection may be reused since it was opened, {@link Duration#ZERO} if not limited.
+     *
+     * @return max lifetime of a connection
+     */
+    Duration maxLifetime() {
+        return maxLifetime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WebClientConnectionPool that = (WebClientConnectionPool) o;
+        return maxConnectionsPerHost == that.maxConnectionsPerHost
+                && maxPendingAcquires == that.maxPendingAcquires
+                && acquireTimeout.equals(that.acquireTimeout)
+                && idleTimeout.equals(that.idleTimeout)
+                && maxLifetime.equals(that.maxLifetime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxConnectionsPerHost, maxPendingAcquires, acquireTimeout, idleTimeout, maxLifetime);
+    }
+
+    @Override
+    public String toString() {
+        return "WebClientConnectionPool{"
+                + "maxConnectionsPerHost=" + maxConnectionsPerHost
+                + ", maxPendingAcquires=" + maxPendingAcquires
+                + ", acquireTimeout=" + acquireTimeout
+                + ", idleTimeout=" + idleTimeout
+                + ", maxLifetime=" + maxLifetime
+                + '}';
+    }
+
+    /**
+     * Fluent API builder for {@link WebClientConnectionPool} instance.
+     */
+    public static final class Builder implements io.helidon.common.Builder<WebClientConnectionPool> {
+
+        private int maxConnectionsPerHost = -1;
+        private int maxPendingAcquires = -1;
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+        private Duration idleTimeout = Duration.ofSeconds(50);
+        private Duration maxLifetime = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximal number of connections opened to a single host.
+         * Defaults to {@code -1} (not limited).
+         *
+         * @param maxConnectionsPerHost max number of connections, {@code -1} for no limit
+         * @return updated builder instance
+         */
+        public Builder maxConnectionsPerHost(int maxConnectionsPerHost) {
+            if (maxConnectionsPerHost == 0 || maxConnectionsPerHost < -1) {
+                throw new IllegalArgumentException("Max connections per host must be positive or -1, but is: "
+                                                           + maxConnectionsPerHost);
+            }
+            this.maxConnectionsPerHost = maxConnectionsPerHost;
+            return this;
+        }
+
+        /**
+         * Maximal number of requests waiting for a connection when all connections to the host are in use.
+         * Requests over this limit fail immediately.
+         * Defaults to {@code -1} (not limited).
+         *
+         * @param maxPendingAcquires max number of pending acquires, {@code -1} for no limit
+         * @return updated builder instance
+         */
+        public Builder maxPendingAcquires(int maxPendingAcquires) {
+            if (maxPendingAcquires < -1) {
+                throw new IllegalArgumentException("Max pending acquires must be zero or more, or -1, but is: "
+                                                           + maxPendingAcquires);
+            }
+            this.maxPendingAcquires = maxPendingAcquires;
+            return this;
+        }
+
+        /**
+         * How long a request waits for a connection when all connections to the host are in use.
+         * Defaults to 30 seconds.
+         *
+         * @param acquireTimeout acquire timeout
+         * @return updated builder instance
+         */
+        public Builder acquireTimeout(Duration acquireTimeout) {
+            Objects.requireNonNull(acquireTimeout);
+            if (acquireTimeout.isNegative() || acquireTimeout.isZero()) {
+                throw new IllegalArgumentException("Acquire timeout must be positive, but is: " + acquireTimeout);
+            }
+            this.acquireTimeout = acquireTimeout;
+            return this;
+        }
+
+        /**
+         * How long a connection may stay unused before it is closed.
+         * Defaults to 50 seconds.
+         *
+         * @param idleTimeout idle timeout, {@link Duration#ZERO} to keep idle connections open
+         * @return updated builder instance
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            Objects.requireNonNull(idleTimeout);
+            if (idleTimeout.isNegative()) {
+                throw new IllegalArgumentException("Idle timeout must not be negative, but is: " + idleTimeout);
+            }
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * How long a connection may be reused since it was opened. Older connections are closed when returned
+         * to the pool, or when found in the pool.
+         * Defaults to {@link Duration#ZERO} (not limited).
+         *
+         * @param maxLifetime max lifetime of a connection, {@link Duration#ZERO} for no limit
+         * @return updated builder instance
+         */
+        public Builder maxLifetime(Duration maxLifetime) {
+            Objects.requireNonNull(maxLifetime);
+            if (maxLifetime.isNegative()) {
+                throw new IllegalArgumentException("Max lifetime must not be negative, but is: " + maxLifetime);
+            }
+            this.maxLifetime = maxLifetime;
+            return this;
+        }
+
+        /**
+         * Configure connection pool from configuration.
+         *
+         * <table class="config">
+         * <caption>Connection pool configuration</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default value</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>max-connections-per-host</td>
+         *     <td>{@code -1}</td>
+         *     <td>Maximal number of connections to a single host, {@code -1} for no limit</td>
+         * </tr>
+         * <tr>
+         *     <td>max-pending-acquires</td>
+         *     <td>{@code -1}</td>
+         *     <td>Maximal number of requests waiting for a connection, {@code -1} for no limit</td>
+         * </tr>
+         * <tr>
+         *     <td>acquire-timeout-millis</td>
+         *     <td>{@code 30000}</td>
+         *     <td>How long a request waits for a connection</td>
+         * </tr>
+         * <tr>
+         *     <td>idle-timeout-millis</td>
+         *     <td>{@code 50000}</td>
+         *     <td>How long a connection may stay unused before it is closed, {@code 0} to keep it open</td>
+         * </tr>
+         * <tr>
+         *     <td>max-lifetime-millis</td>
+         *     <td>{@code 0}</td>
+         *     <td>How long a connection may be reused since it was opened, {@code 0} for no limit</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of the connection pool
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("max-connections-per-host").asInt().ifPresent(this::maxConnectionsPerHost);
+            config.get("max-pending-acquires").asInt().ifPresent(this::maxPendingAcquires);
+            config.get("acquire-timeout-millis").asLong()
+                    .ifPresent(timeout -> acquireTimeout(Duration.ofMillis(timeout)));
+            config.get("idle-timeout-millis").asLong()
+                    .ifPresent(timeout -> idleTimeout(Duration.ofMillis(timeout)));
+            config.get("max-lifetime-millis").asLong()
+                    .ifPresent(lifetime -> maxLifetime(Duration.ofMillis(lifetime)));
+            return this;
+        }
+
+        @Override
+        public WebClientConnectionPool build() {
+            return new WebClientConnectionPool(this);
+        }
+    }
+}
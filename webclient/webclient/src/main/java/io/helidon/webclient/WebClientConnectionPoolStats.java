@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+/**
+ * Statistics of the keep-alive connections pooled by all {@link WebClient} instances.
+ * Available through {@link WebClient#connectionPoolStats()}.
+ */
+public interface WebClientConnectionPoolStats {
+    /**
+     * Number of pooled connections currently open, or being opened, including HTTP/2 connections.
+     *
+     * @return number of connections
+     */
+    int connections();
+
+    /**
+     * Number of open connections not used by any request.
+     *
+     * @return number of idle connections
+     */
+    int idleConnections();
+
+    /**
+     * Number of requests waiting for a connection.
+     *
+     * @return number of pending acquires
+     */
+    int pendingAcquires();
+
+    /**
+     * Number of requests that failed because no connection became available within the acquire timeout.
+     *
+     * @return number of acquire timeouts
+     */
+    long acquireTimeouts();
+}
@@ -24,16 +24,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -62,7 +59,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
@@ -83,7 +79,6 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
 
     private static final Logger LOGGER = Logger.getLogger(WebClientRequestBuilderImpl.class.getName());
 
-    private static final Map<ConnectionIdent, Set<ChannelRecord>> CHANNEL_CACHE = new ConcurrentHashMap<>();
     static final AttributeKey<WebClientRequestImpl> REQUEST = AttributeKey.valueOf("request");
     static final AttributeKey<CompletableFuture<WebClientServiceResponse>> RECEIVED = AttributeKey.valueOf("received");
     static final AttributeKey<CompletableFuture<WebClientServiceResponse>> COMPLETED = AttributeKey.valueOf("completed");
@@ -91,7 +86,6 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
     static final AttributeKey<AtomicBoolean> IN_USE = AttributeKey.valueOf("inUse");
     static final AttributeKey<AtomicBoolean> RETURN = AttributeKey.valueOf("finished");
     static final AttributeKey<WebClientResponse> RESPONSE = AttributeKey.valueOf("response");
-    static final AttributeKey<ConnectionIdent> CONNECTION_IDENT = AttributeKey.valueOf("connectionIdent");
     static final AttributeKey<Long> REQUEST_ID = AttributeKey.valueOf("requestID");
 
     private static final AtomicLong REQUEST_NUMBER = new AtomicLong(0);
@@ -144,7 +138,7 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         //Default headers added to the current headers of the request
         this.headers = new WebClientRequestHeadersImpl(this.configuration.headers());
         this.queryParams = new WebClientQueryParams();
-        this.httpVersion = Http.Version.V1_1;
+        this.httpVersion = configuration.httpVersion();
         this.redirectionCount = 0;
         this.services = configuration.clientServices();
         this.readerContext = MessageBodyReaderContext.create(configuration.readerContext());
@@ -167,6 +161,26 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         return new WebClientRequestBuilderImpl(eventGroup, configuration, method);
     }
 
+    /**
+     * Opens connections to the host of the uri, see {@link WebClient#warmUp(String, int)}.
+     *
+     * @param eventGroup event loop group
+     * @param configuration client configuration
+     * @param uri uri of the host, or {@code null} to use the base uri of the client
+     * @param connections number of connections the pool should hold
+     * @return single completed when the connections are established
+     */
+    static Single<Void> warmUp(LazyValue<NioEventLoopGroup> eventGroup,
+                               WebClientConfiguration configuration,
+                               URI uri,
+                               int connections) {
+        WebClientRequestBuilderImpl builder = new WebClientRequestBuilderImpl(eventGroup, configuration, Http.Method.GET);
+        if (uri != null) {
+            builder.uri(uri);
+        }
+        return builder.warmUp(connections);
+    }
+
     /**
      * Creates new instance of {@link WebClientRequestBuilder} based on previous request.
      *
@@ -191,40 +205,47 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         return builder;
     }
 
-    private static ChannelFuture obtainChannelFuture(RequestConfiguration configuration,
-                                                     Bootstrap bootstrap) {
-        ConnectionIdent connectionIdent = new ConnectionIdent(configuration);
-        Set<ChannelRecord> channels = CHANNEL_CACHE.computeIfAbsent(connectionIdent,
-                                                                    s -> Collections.synchronizedSet(new HashSet<>()));
-        synchronized (channels) {
-            for (ChannelRecord channelRecord : channels) {
-                Channel channel = channelRecord.channel;
-                if (channel.isOpen() && channel.attr(IN_USE).get().compareAndSet(false, true)) {
-                    LOGGER.finest(() -> "Reusing -> " + channel.hashCode());
-                    LOGGER.finest(() -> "Setting in use -> true");
-                    return channelRecord.channelFuture;
-                }
-                LOGGER.finest(() -> "Not accepted -> " + channel.hashCode());
-                LOGGER.finest(() -> "Open -> " + channel.isOpen());
-                LOGGER.finest(() -> "In use -> " + channel.attr(IN_USE).get());
-            }
-            LOGGER.finest(() -> "New connection to -> " + connectionIdent);
-            URI uri = connectionIdent.base;
-            ChannelFuture connect = bootstrap.connect(uri.getHost(), uri.getPort());
-            Channel channel = connect.channel();
-            channel.attr(IN_USE).set(new AtomicBoolean(true));
-            channel.attr(RETURN).set(new AtomicBoolean(false));
-            channel.attr(CONNECTION_IDENT).set(connectionIdent);
-            channels.add(new ChannelRecord(connect));
-            return connect;
-        }
+    private boolean useHttp2() {
+        // cleartext requests to a proxy are sent using HTTP/1.1, TLS is tunneled through the proxy
+        return httpVersion == Http.Version.V2_0
+                && ("https".equals(finalUri.getScheme()) || proxy == Proxy.noProxy());
+    }
+
+    private Bootstrap bootstrap(boolean keepAlive) {
+        // pooled connections share the bootstrap of their pool, which is released with the pool
+        return new Bootstrap()
+                .group(eventGroup.get())
+                .channel(NioSocketChannel.class)
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .handler(new NettyClientInitializer(connectionConfiguration()));
+    }
+
+    private RequestConfiguration connectionConfiguration() {
+        // the bootstrap outlives the request, do not retain the parts specific to the request
+        URI uri = requestConfiguration.requestURI();
+        return RequestConfiguration.builder(URI.create(uri.getScheme() + "://" + uri.getAuthority()))
+                .updateConnection(requestConfiguration)
+                .build();
+    }
+
+    private CompletableFuture<Channel> http1Channel(boolean keepAlive) {
+        return keepAlive
+                ? ChannelPool.get(requestConfiguration, () -> bootstrap(true)).acquire()
+                : connect(bootstrap(false));
     }
 
-    static void removeChannelFromCache(ConnectionIdent key, Channel channel) {
-        LOGGER.finest(() -> "Removing from channel cache.");
-        LOGGER.finest(() -> "Connection ident -> " + key);
-        LOGGER.finest(() -> "Channel -> " + channel.hashCode());
-        CHANNEL_CACHE.get(key).remove(new ChannelRecord(channel));
+    private CompletableFuture<Channel> connect(Bootstrap bootstrap) {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        ChannelFuture connect = bootstrap.connect(finalUri.getHost(), finalUri.getPort());
+        connect.addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                result.complete(future.channel());
+            } else {
+                result.completeExceptionally(future.cause());
+            }
+        });
+        return result;
     }
 
     @Override
@@ -569,30 +590,25 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
 
             CompletableFuture<WebClientResponse> result = new CompletableFuture<>();
 
-            EventLoopGroup group = eventGroup.get();
-            Bootstrap bootstrap = new Bootstrap();
-            bootstrap.group(group)
-                    .channel(NioSocketChannel.class)
-                    .handler(new NettyClientInitializer(requestConfiguration))
-                    .option(ChannelOption.SO_KEEPALIVE, keepAlive)
-                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
-
-            ChannelFuture channelFuture = keepAlive
-                    ? obtainChannelFuture(requestConfiguration, bootstrap)
-                    : bootstrap.connect(finalUri.getHost(), finalUri.getPort());
-
-            channelFuture.addListener((ChannelFutureListener) future -> {
-                LOGGER.finest(() -> "(client reqID: " + requestId + ") "
-                        + "Channel hashcode -> " + channelFuture.channel().hashCode());
-                channelFuture.channel().attr(REQUEST).set(clientRequest);
-                channelFuture.channel().attr(RECEIVED).set(responseReceived);
-                channelFuture.channel().attr(COMPLETED).set(complete);
-                channelFuture.channel().attr(RESULT).set(result);
-                channelFuture.channel().attr(REQUEST_ID).set(requestId);
-                Throwable cause = future.cause();
+            CompletableFuture<Channel> channelFuture;
+            if (useHttp2()) {
+                channelFuture = Http2ChannelPool.get(requestConfiguration, () -> bootstrap(true))
+                        .acquire(requestConfiguration, () -> http1Channel(keepAlive));
+            } else {
+                channelFuture = http1Channel(keepAlive);
+            }
+
+            channelFuture.whenComplete((channel, cause) -> {
                 if (null == cause) {
+                    LOGGER.finest(() -> "(client reqID: " + requestId + ") "
+                            + "Channel hashcode -> " + channel.hashCode());
+                    channel.attr(REQUEST).set(clientRequest);
+                    channel.attr(RECEIVED).set(responseReceived);
+                    channel.attr(COMPLETED).set(complete);
+                    channel.attr(RESULT).set(result);
+                    channel.attr(REQUEST_ID).set(requestId);
                     RequestContentSubscriber requestContentSubscriber = new RequestContentSubscriber(request,
-                                                                                                     channelFuture.channel(),
+                                                                                                     channel,
                                                                                                      result,
                                                                                                      sent,
                                                                                                      allowChunkedEncoding);
@@ -608,6 +624,34 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         }));
     }
 
+    private Single<Void> warmUp(int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("Number of connections must be at least 1, but is: " + connections);
+        }
+        finalUri = prepareFinalURI();
+        if (!keepAlive) {
+            // connections are not reused
+            return Single.empty();
+        }
+        // must match the configuration of requests, so that they use the same pool
+        requestConfiguration = RequestConfiguration.builder(finalUri)
+                .update(configuration)
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .proxy(proxy)
+                .keepAlive(true)
+                .build();
+        CompletableFuture<Void> result;
+        if (useHttp2()) {
+            result = Http2ChannelPool.get(requestConfiguration, () -> bootstrap(true))
+                    .warmUp(requestConfiguration,
+                            () -> ChannelPool.get(requestConfiguration, () -> bootstrap(true)).warmUp(connections));
+        } else {
+            result = ChannelPool.get(requestConfiguration, () -> bootstrap(true)).warmUp(connections);
+        }
+        return Single.create(result, true);
+    }
+
     private MessageBodyReadableContent getContentFromClientResponse(WebClientResponse response) {
         //If the response status is greater then 300, ask user to change requested entity to ClientResponse
         if (response.status().code() >= Http.Status.MOVED_PERMANENTLY_301.code()) {
@@ -743,6 +787,10 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
     }
 
     private HttpVersion toNettyHttpVersion(Http.Version version) {
+        if (version == Http.Version.V2_0) {
+            // converted to HTTP/2 frames on HTTP/2 connections, sent as is if the server does not support HTTP/2
+            return HttpVersion.HTTP_1_1;
+        }
         return HttpVersion.valueOf(version.value());
     }
 
@@ -876,85 +924,4 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
             }
         }
     }
-
-    private static class ChannelRecord {
-
-        private final ChannelFuture channelFuture;
-        private final Channel channel;
-
-        private ChannelRecord(ChannelFuture channelFuture) {
-            this.channelFuture = channelFuture;
-            this.channel = channelFuture.channel();
-        }
-
-        private ChannelRecord(Channel channel) {
-            this.channelFuture = null;
-            this.channel = channel;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            ChannelRecord that = (ChannelRecord) o;
-            //Intentional comparison without equals
-            return channel == that.channel;
-        }
-
-        @Override
-        public int hashCode() {
-            return channel.hashCode();
-        }
-    }
-
-    static class ConnectionIdent {
-
-        private final URI base;
-        private final Duration readTimeout;
-        private final Proxy proxy;
-        private final WebClientTls tls;
-
-        private ConnectionIdent(RequestConfiguration requestConfiguration) {
-            URI uri = requestConfiguration.requestURI();
-            this.base = URI.create(uri.getScheme() + "://" + uri.getAuthority());
-            this.readTimeout = requestConfiguration.readTimout();
-            this.proxy = requestConfiguration.proxy().orElse(null);
-            this.tls = requestConfiguration.tls();
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            ConnectionIdent that = (ConnectionIdent) o;
-            return Objects.equals(base, that.base)
-                    && Objects.equals(readTimeout, that.readTimeout)
-                    && Objects.equals(proxy, that.proxy)
-                    && Objects.equals(tls, that.tls);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(base, readTimeout, proxy, tls);
-        }
-
-        @Override
-        public String toString() {
-            return "ConnectionIdent{"
-                    + "base=" + base
-                    + ", readTimeout=" + readTimeout
-                    + ", proxy=" + proxy
-                    + ", tls=" + tls
-                    + '}';
-        }
-    }
-
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link WebClientConnectionPool} and {@link ChannelPool}.
+ */
+class ConnectionPoolTest {
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger accepted = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private final CompletableFuture<Void> release = new CompletableFuture<>();
+    private NioEventLoopGroup group;
+    private Channel server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        group = new NioEventLoopGroup(2);
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        accepted.incrementAndGet();
+                        channel.pipeline()
+                                .addLast(new HttpServerCodec())
+                                .addLast(new HttpObjectAggregator(1024))
+                                .addLast(new ServerHandler());
+                    }
+                })
+                .bind(new InetSocketAddress("localhost", 0))
+                .sync()
+                .channel();
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        release.complete(null);
+        server.close().sync();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    void testConfig() {
+        Config config = Config.create(ConfigSources.create(Map.of("max-connections-per-host", "4",
+                                                                  "max-pending-acquires", "16",
+                                                                  "acquire-timeout-millis", "500",
+                                                                  "idle-timeout-millis", "0",
+                                                                  "max-lifetime-millis", "60000")));
+        WebClientConnectionPool pool = WebClientConnectionPool.create(config);
+        assertThat(pool.maxConnectionsPerHost(), is(4));
+        assertThat(pool.maxPendingAcquires(), is(16));
+        assertThat(pool.acquireTimeout(), is(Duration.ofMillis(500)));
+        assertThat(pool.idleTimeout(), is(Duration.ZERO));
+        assertThat(pool.maxLifetime(), is(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void testInvalidMaxConnections() {
+        assertThrows(IllegalArgumentException.class, () -> WebClientConnectionPool.builder().maxConnectionsPerHost(0));
+    }
+
+    @Test
+    void testMaxConnectionsPerHost() {
+        WebClient client = client(WebClientConnectionPool.builder()
+                                          .maxConnectionsPerHost(2)
+                                          .build());
+        List<Single<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(client.get().path("/slow").request(String.class));
+        }
+        for (Single<String> response : responses) {
+            assertThat(response.await(10, TimeUnit.SECONDS), is("OK"));
+        }
+        assertThat(maxConcurrent.get(), is(lessThanOrEqualTo(2)));
+        assertThat(clientPorts.size(), is(lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    void testAcquireTimeout() {
+        long timeouts = WebClient.connectionPoolStats().acquireTimeouts();
+        WebClient client = client(WebClientConnectionPool.builder()
+                                          .maxConnectionsPerHost(1)
+                                          .acquireTimeout(Duration.ofMillis(200))
+                                          .build());
+        Single<String> blocked = client.get().path("/blocked").request(String.class);
+        CompletionException exception = assertThrows(CompletionException.class,
+                                                     () -> client.get()
+                                                             .path("/slow")
+                                                             .request(String.class)
+                                                             .await(10, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(WebClientException.class)));
+        assertThat(WebClient.connectionPoolStats().acquireTimeouts(), is(timeouts + 1));
+
+        release.complete(null);
+        assertThat(blocked.await(10, TimeUnit.SECONDS), is("OK"));
+        // the connection is reused once returned to the pool
+        assertThat(client.get().path("/slow").request(String.class).await(10, TimeUnit.SECONDS), is("OK"));
+        assertThat(clientPorts.size(), is(1));
+    }
+
+    @Test
+    void testMaxPendingAcquires() {
+        WebClient client = client(WebClientConnectionPool.builder()
+                                          .maxConnectionsPerHost(1)
+                                          .maxPendingAcquires(0)
+                                          .build());
+        Single<String> blocked = client.get().path("/blocked").request(String.class);
+        CompletionException exception = assertThrows(CompletionException.class,
+                                                     () -> client.get()
+                                                             .path("/slow")
+                                                             .request(String.class)
+                                                             .await(10, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(WebClientException.class)));
+
+        release.complete(null);
+        assertThat(blocked.await(10, TimeUnit.SECONDS), is("OK"));
+    }
+
+    @Test
+    void testWarmUp() {
+        WebClient client = client(WebClientConnectionPool.builder()
+                                          .maxConnectionsPerHost(3)
+                                          .build());
+        client.warmUp(5).await(10, TimeUnit.SECONDS);
+        assertThat(WebClient.connectionPoolStats().idleConnections(), is(greaterThanOrEqualTo(3)));
+
+        List<Single<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(client.get().path("/slow").request(String.class));
+        }
+        for (Single<String> response : responses) {
+            assertThat(response.await(10, TimeUnit.SECONDS), is("OK"));
+        }
+        // requests used the warmed up connections
+        assertThat(accepted.get(), is(3));
+        assertThat(clientPorts.size(), is(3));
+
+        client.warmUp(3).await(10, TimeUnit.SECONDS);
+        assertThat(accepted.get(), is(3));
+    }
+
+    @Test
+    void testUnusedPoolRemoved() throws InterruptedException {
+        WebClient client = client(WebClientConnectionPool.builder()
+                                          .idleTimeout(Duration.ofMillis(200))
+                                          .build());
+        assertThat(client.get().path("/slow").request(String.class).await(10, TimeUnit.SECONDS), is("OK"));
+        URI base = URI.create("http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort());
+        assertThat(ChannelPool.hosts(), hasItem(base));
+
+        // the pool is removed once the idle connection is closed
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (ChannelPool.hosts().contains(base) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertThat(ChannelPool.hosts(), not(hasItem(base)));
+
+        // a new pool is created on the next request
+        assertThat(client.get().path("/slow").request(String.class).await(10, TimeUnit.SECONDS), is("OK"));
+        assertThat(accepted.get(), is(2));
+    }
+
+    @Test
+    void testWarmUpFailure() {
+        WebClient client = WebClient.create();
+        assertThrows(CompletionException.class, () -> client.warmUp("http://localhost:1", 1)
+                .await(10, TimeUnit.SECONDS));
+    }
+
+    private WebClient client(WebClientConnectionPool connectionPool) {
+        return WebClient.builder()
+                .baseUri("http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort())
+                .connectionPool(connectionPool)
+                .build();
+    }
+
+    private class ServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            clientPorts.add(((InetSocketAddress) ctx.channel().remoteAddress()).getPort());
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            if (request.uri().startsWith("/blocked")) {
+                release.thenRun(() -> ctx.executor().execute(() -> respond(ctx)));
+            } else {
+                ctx.executor().schedule(() -> respond(ctx), 100, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void respond(ChannelHandlerContext ctx) {
+            concurrent.decrementAndGet();
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                                                                    HttpResponseStatus.OK,
+                                                                    Unpooled.copiedBuffer("OK", StandardCharsets.UTF_8));
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 2);
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.http.Http;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests removal of unused {@link Http2ChannelPool} instances.
+ */
+class Http2ChannelPoolTest {
+
+    private final AtomicInteger accepted = new AtomicInteger();
+    private NioEventLoopGroup group;
+
+    @BeforeEach
+    void createGroup() {
+        group = new NioEventLoopGroup(1);
+    }
+
+    @AfterEach
+    void shutdownGroup() throws Exception {
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    void testClosedConnectionRemoved() throws Exception {
+        Channel server = start(new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel channel) {
+                channel.pipeline()
+                        .addLast(Http2FrameCodecBuilder.forServer().build())
+                        .addLast(new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+                            @Override
+                            protected void initChannel(Http2StreamChannel stream) {
+                                stream.pipeline().addLast(new Http2Handler());
+                            }
+                        }));
+            }
+        });
+        WebClient client = client(server, true);
+        URI base = base(server);
+
+        assertThat(client.get().request(String.class).await(10, TimeUnit.SECONDS), is("OK"));
+        assertThat(Http2ChannelPool.hosts(), hasItem(base));
+
+        // the pool is removed once the idle connection is closed
+        awaitRemoved(base);
+        assertThat(client.get().request(String.class).await(10, TimeUnit.SECONDS), is("OK"));
+        assertThat(accepted.get(), is(2));
+        server.close().sync();
+    }
+
+    @Test
+    void testHttp1OnlyExpires() throws Exception {
+        Channel server = start(new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel channel) {
+                channel.pipeline()
+                        .addLast(new HttpServerCodec())
+                        .addLast(new HttpObjectAggregator(1024))
+                        .addLast(new Http1Handler());
+            }
+        });
+        WebClient client = client(server, false);
+        URI base = base(server);
+
+        // the upgrade is not accepted, the request is answered using HTTP/1.1
+        assertThat(client.get().request(String.class).await(10, TimeUnit.SECONDS), is("OK"));
+        assertThat(Http2ChannelPool.hosts(), hasItem(base));
+
+        // HTTP/2 is negotiated again once the idle timeout passes
+        awaitRemoved(base);
+        assertThat(client.get().request(String.class).await(10, TimeUnit.SECONDS), is("OK"));
+        assertThat(Http2ChannelPool.hosts(), hasItem(base));
+        server.close().sync();
+    }
+
+    private Channel start(ChannelHandler childHandler) throws InterruptedException {
+        return new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        accepted.incrementAndGet();
+                        channel.pipeline().addLast(childHandler);
+                    }
+                })
+                .bind(new InetSocketAddress("localhost", 0))
+                .sync()
+                .channel();
+    }
+
+    private static void awaitRemoved(URI base) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (Http2ChannelPool.hosts().contains(base) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertThat(Http2ChannelPool.hosts(), not(hasItem(base)));
+    }
+
+    private static URI base(Channel server) {
+        return URI.create("http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort());
+    }
+
+    private static WebClient client(Channel server, boolean priorKnowledge) {
+        return WebClient.builder()
+                .baseUri(base(server))
+                .httpVersion(Http.Version.V2_0)
+                .http2PriorKnowledge(priorKnowledge)
+                .connectionPool(WebClientConnectionPool.builder()
+                                        .idleTimeout(Duration.ofMillis(200))
+                                        .build())
+                .build();
+    }
+
+    private static final class Http2Handler extends SimpleChannelInboundHandler<Http2HeadersFrame> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Http2HeadersFrame frame) {
+            ctx.write(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().status("200")));
+            ctx.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.copiedBuffer("OK", StandardCharsets.UTF_8), true));
+        }
+    }
+
+    private static final class Http1Handler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                                                                    HttpResponseStatus.OK,
+                                                                    Unpooled.copiedBuffer("OK", StandardCharsets.UTF_8));
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 2);
+            ctx.writeAndFlush(response);
+        }
+    }
+}
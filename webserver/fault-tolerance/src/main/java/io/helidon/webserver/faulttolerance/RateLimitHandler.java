@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.faulttolerance;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import io.helidon.common.http.Http;
+import io.helidon.faulttolerance.KeyedRateLimiter;
+import io.helidon.faulttolerance.RateLimiter;
+import io.helidon.faulttolerance.RateLimiterException;
+import io.helidon.webserver.Handler;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+
+/**
+ * Routing handler that limits the rate of requests using a {@link io.helidon.faulttolerance.RateLimiter}.
+ * Requests within the rate continue to the next handler, requests over the rate end with
+ * {@link io.helidon.common.http.Http.Status#TOO_MANY_REQUESTS_429} and a {@code Retry-After} header.
+ * <p>
+ * Example limiting each client by a header:
+ * <pre>{@code
+ * KeyedRateLimiter<String> limiters = KeyedRateLimiter.create(RateLimiter.builder().limit(100)::build);
+ * Routing.builder()
+ *         .any(RateLimitHandler.create(limiters, req -> req.headers().first("X-Client-Id").orElse("")))
+ *         .get("/greet", greetHandler)
+ * }</pre>
+ */
+public final class RateLimitHandler implements Handler {
+    private final Function<ServerRequest, RateLimiter> limiters;
+
+    private RateLimitHandler(Function<ServerRequest, RateLimiter> limiters) {
+        this.limiters = limiters;
+    }
+
+    /**
+     * Create a handler limiting all requests with a single rate limiter.
+     *
+     * @param rateLimiter rate limiter to use
+     * @return a new handler
+     */
+    public static RateLimitHandler create(RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter, "Parameter 'rateLimiter' is null!");
+        return new RateLimitHandler(req -> rateLimiter);
+    }
+
+    /**
+     * Create a handler limiting requests with a separate rate limiter for each key, such as a client id.
+     *
+     * @param rateLimiters rate limiters per key
+     * @param keyFunction function to obtain the key of a request
+     * @param <K> type of the key
+     * @return a new handler
+     */
+    public static <K> RateLimitHandler create(KeyedRateLimiter<K> rateLimiters, Function<ServerRequest, K> keyFunction) {
+        Objects.requireNonNull(rateLimiters, "Parameter 'rateLimiters' is null!");
+        Objects.requireNonNull(keyFunction, "Parameter 'keyFunction' is null!");
+        return new RateLimitHandler(req -> rateLimiters.limiter(keyFunction.apply(req)));
+    }
+
+    @Override
+    public void accept(ServerRequest req, ServerResponse res) {
+        limiters.apply(req)
+                // only the permit is acquired by the limiter, the request continues outside of it,
+                // so failures of the next handlers are not mistaken for failures of the limiter
+                .invoke(() -> CompletableFuture.completedFuture(Boolean.TRUE))
+                .whenComplete((permitted, throwable) -> {
+                    if (throwable == null) {
+                        req.next();
+                    } else {
+                        limiterFailed(req, res, throwable);
+                    }
+                });
+    }
+
+    private static void limiterFailed(ServerRequest req, ServerResponse res, Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RateLimiterException) {
+            reject(res, (RateLimiterException) cause);
+        } else {
+            req.next(cause);
+        }
+    }
+
+    private static void reject(ServerResponse res, RateLimiterException exception) {
+        // Retry-After is in whole seconds, round up so the client does not retry too early
+        long millis = exception.retryAfter().toMillis();
+        long seconds = Math.max(1, (millis + 999) / 1000);
+        res.status(Http.Status.TOO_MANY_REQUESTS_429);
+        res.headers().put(Http.Header.RETRY_AFTER, String.valueOf(seconds));
+        res.send();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.faulttolerance;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.http.Http;
+import io.helidon.faulttolerance.KeyedRateLimiter;
+import io.helidon.faulttolerance.RateLimiter;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.testsupport.TestClient;
+import io.helidon.webserver.testsupport.TestResponse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class RateLimitHandlerTest {
+    private static final String CLIENT_ID = "X-Client-Id";
+
+    @Test
+    void testRejectOverLimit() throws Exception {
+        RateLimiter limiter = RateLimiter.builder()
+                .limit(2)
+                .period(Duration.ofMinutes(1))
+                .build();
+        TestClient client = TestClient.create(Routing.builder()
+                                                      .any(RateLimitHandler.create(limiter))
+                                                      .get("/", (req, res) -> res.send("ok")));
+
+        TestResponse response = client.path("/").get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.asString().get(), is("ok"));
+        assertThat(client.path("/").get().status(), is(Http.Status.OK_200));
+
+        response = client.path("/").get();
+        assertThat(response.status(), is(Http.Status.TOO_MANY_REQUESTS_429));
+        assertThat(response.headers().first(Http.Header.RETRY_AFTER), is(Optional.of("30")));
+    }
+
+    @Test
+    void testRejectPerKey() throws Exception {
+        RateLimiter.Builder builder = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofMinutes(1));
+        KeyedRateLimiter<String> limiters = KeyedRateLimiter.create(builder::build);
+        TestClient client = TestClient.create(Routing.builder()
+                                                      .any(RateLimitHandler.create(limiters,
+                                                                                   req -> req.headers()
+                                                                                           .first(CLIENT_ID)
+                                                                                           .orElse("")))
+                                                      .get("/", (req, res) -> res.send("ok")));
+
+        assertThat(client.path("/").header(CLIENT_ID, "first").get().status(), is(Http.Status.OK_200));
+        assertThat(client.path("/").header(CLIENT_ID, "first").get().status(), is(Http.Status.TOO_MANY_REQUESTS_429));
+        assertThat(client.path("/").header(CLIENT_ID, "second").get().status(), is(Http.Status.OK_200));
+    }
+
+    @Test
+    void testHandlerFailureRoutedOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        TestClient client = TestClient.create(Routing.builder()
+                                                      .any(RateLimitHandler.create(RateLimiter.builder().build()))
+                                                      .get("/", (req, res) -> {
+                                                          calls.incrementAndGet();
+                                                          throw new IllegalStateException("Handler failed");
+                                                      })
+                                                      .error(IllegalStateException.class, (req, res, ex) -> {
+                                                          errors.incrementAndGet();
+                                                          res.status(Http.Status.INTERNAL_SERVER_ERROR_500).send();
+                                                      }));
+
+        assertThat(client.path("/").get().status(), is(Http.Status.INTERNAL_SERVER_ERROR_500));
+        assertThat(calls.get(), is(1));
+        assertThat(errors.get(), is(1));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.grpc.server.GrpcRouting;
+import io.helidon.grpc.server.GrpcServer;
+import io.helidon.grpc.server.GrpcServerConfiguration;
+import io.helidon.grpc.server.internal.HandlerRegistryProvider;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+import io.helidon.webserver.Service;
+
+import io.grpc.HandlerRegistry;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+
+/**
+ * Serves the services of a {@link GrpcRouting} on the HTTP/2 connections of a WebServer.
+ * <p>
+ * The WebServer socket must have HTTP/2 enabled, see {@code io.helidon.webserver.Http2Configuration}.
+ * HTTP/2 requests with the {@code application/grpc} content type are dispatched to the gRPC services,
+ * any other request is forwarded to the next handler of the routing, so gRPC and HTTP share the port,
+ * the connections and the event loops:
+ * <pre>{@code
+ * Routing routing = Routing.builder()
+ *         .register(GrpcSupport.create(grpcRouting))
+ *         .get("/greet", greetHandler)
+ *         .build();
+ * }</pre>
+ * The services are deployed to a {@link GrpcServer} that is not started, and invoked with the same interceptors
+ * and executors as if the calls were received by that server. That server is shut down with the WebServer,
+ * which shuts down the executor service of its configuration.
+ * <p>
+ * The request messages of a call are delivered once the client half-closes the call, as the WebServer
+ * aggregates the content of each HTTP/2 request stream. Call deadlines and message compression are not supported.
+ */
+public final class GrpcSupport implements Service {
+    /**
+     * The default maximum size of a request message in bytes, the same as the default of gRPC.
+     */
+    public static final int DEFAULT_MAX_INBOUND_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(GrpcSupport.class.getName());
+
+    private final GrpcServer server;
+    private final HandlerRegistry registry;
+    private final int maxInboundMessageSize;
+
+    private GrpcSupport(Builder builder) {
+        this.server = GrpcServer.builder(builder.routing).config(builder.configuration).build();
+        // servers built by the gRPC server builder provide their registry
+        this.registry = ((HandlerRegistryProvider) server).handlerRegistry();
+        this.maxInboundMessageSize = builder.maxInboundMessageSize;
+    }
+
+    /**
+     * Create the support for the services of a routing.
+     *
+     * @param routing the routing of the gRPC services
+     * @return a new gRPC support
+     */
+    public static GrpcSupport create(GrpcRouting routing) {
+        return builder(routing).build();
+    }
+
+    /**
+     * Create the support for the services of a routing.
+     * Only the configuration of the services, such as the tracing and the executor of the calls, is used,
+     * the port and the transport configuration are ignored.
+     *
+     * @param configuration the gRPC server configuration
+     * @param routing the routing of the gRPC services
+     * @return a new gRPC support
+     */
+    public static GrpcSupport create(GrpcServerConfiguration configuration, GrpcRouting routing) {
+        return builder(routing)
+                .config(configuration)
+                .build();
+    }
+
+    /**
+     * Create a builder of the support for the services of a routing.
+     *
+     * @param routing the routing of the gRPC services
+     * @return a new builder
+     */
+    public static Builder builder(GrpcRouting routing) {
+        return new Builder(routing);
+    }
+
+    /**
+     * The gRPC server the services are deployed to. The server is not started by this support.
+     *
+     * @return the gRPC server
+     */
+    public GrpcServer server() {
+        return server;
+    }
+
+    @Override
+    public void update(Routing.Rules rules) {
+        LOGGER.fine(() -> "Serving gRPC services " + server.services().keySet());
+        rules.onNewWebServer(webServer -> webServer.whenShutdown().thenRun(server::shutdown));
+        rules.any(this::handle);
+    }
+
+    private void handle(ServerRequest req, ServerResponse res) {
+        if (req.version() != Http.Version.V2_0 || !req.headers().contentType().map(GrpcSupport::isGrpc).orElse(false)) {
+            req.next();
+            return;
+        }
+        // the path of a call is /<service>/<method>
+        String methodName = req.path().absolute().toString().substring(1);
+        ServerMethodDefinition<?, ?> method = registry.lookupMethod(methodName, req.headers()
+                .first(Http.Header.HOST)
+                .orElse(null));
+        if (method == null) {
+            WebServerCall.respond(res, Status.UNIMPLEMENTED.withDescription("Method not found: " + methodName));
+            return;
+        }
+        WebServerCall.start(req, res, method, maxInboundMessageSize);
+    }
+
+    private static boolean isGrpc(MediaType mediaType) {
+        String subtype = mediaType.subtype();
+        return "application".equals(mediaType.type())
+                && (subtype.equals("grpc") || subtype.startsWith("grpc+"));
+    }
+
+    /**
+     * Fluent API builder for {@link GrpcSupport}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<GrpcSupport> {
+        private final GrpcRouting routing;
+        private GrpcServerConfiguration configuration = GrpcServerConfiguration.create();
+        private int maxInboundMessageSize = DEFAULT_MAX_INBOUND_MESSAGE_SIZE;
+
+        private Builder(GrpcRouting routing) {
+            this.routing = Objects.requireNonNull(routing, "Parameter 'routing' must not be null!");
+        }
+
+        @Override
+        public GrpcSupport build() {
+            return new GrpcSupport(this);
+        }
+
+        /**
+         * Set the configuration of the gRPC server the services are deployed to.
+         * Only the configuration of the services, such as the tracing and the executor of the calls, is used,
+         * the port and the transport configuration are ignored.
+         *
+         * @param configuration the gRPC server configuration
+         * @return updated builder instance
+         */
+        public Builder config(GrpcServerConfiguration configuration) {
+            this.configuration = Objects.requireNonNull(configuration, "Parameter 'configuration' must not be null!");
+            return this;
+        }
+
+        /**
+         * Set the maximum size of a request message. Calls with a larger request message are closed with
+         * the {@code RESOURCE_EXHAUSTED} status before the message is read.
+         * Defaults to {@value GrpcSupport#DEFAULT_MAX_INBOUND_MESSAGE_SIZE} bytes.
+         *
+         * @param maxInboundMessageSize the maximum size of a request message in bytes
+         * @return updated builder instance
+         */
+        public Builder maxInboundMessageSize(int maxInboundMessageSize) {
+            if (maxInboundMessageSize <= 0) {
+                throw new IllegalArgumentException("Maximum inbound message size must be positive: " + maxInboundMessageSize);
+            }
+            this.maxInboundMessageSize = maxInboundMessageSize;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.common.context.Contexts;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.Parameters;
+import io.helidon.common.reactive.BufferedEmittingPublisher;
+import io.helidon.common.reactive.Multi;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+
+import io.grpc.Attributes;
+import io.grpc.Context;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+
+/**
+ * A gRPC call received as an HTTP/2 request of the WebServer.
+ * <p>
+ * The request messages are read on demand of the call, each response message is flushed as soon as it is sent,
+ * the response headers are sent with the first message, or with the trailers of a call without any message.
+ * The callbacks of the listener of the call are serialized, and run with the gRPC context of the call
+ * and the context of the request.
+ *
+ * @param <ReqT> type of the request messages
+ * @param <RespT> type of the response messages
+ */
+final class WebServerCall<ReqT, RespT> extends ServerCall<ReqT, RespT> {
+    private static final Logger LOGGER = Logger.getLogger(WebServerCall.class.getName());
+
+    private static final String CONTENT_TYPE = "application/grpc";
+    private static final String GRPC_STATUS = "grpc-status";
+    private static final String GRPC_MESSAGE = "grpc-message";
+    // prefix of the headers added by the conversion of the HTTP/2 request
+    private static final String EXTENSION_HEADER_PREFIX = "x-http2-";
+    // compressed flag and message length
+    private static final int HEADER_LENGTH = 5;
+
+    private final ServerRequest req;
+    private final ServerResponse res;
+    private final MethodDescriptor<ReqT, RespT> method;
+    private final int maxInboundMessageSize;
+    private final Parameters trailers;
+    private final Attributes attributes;
+    private final Context.CancellableContext context = Context.ROOT.withCancellation();
+    private final BufferedEmittingPublisher<DataChunk> emitter = BufferedEmittingPublisher.create();
+    private final Queue<Consumer<ServerCall.Listener<ReqT>>> callbacks = new ConcurrentLinkedQueue<>();
+    // the callbacks are only invoked once the call is started
+    private final AtomicInteger wip = new AtomicInteger(1);
+    // messages requested before the request content is subscribed to
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Flow.Subscription subscription;
+    private volatile boolean cancelled;
+    // cleared once the call is completed or cancelled
+    private volatile ServerCall.Listener<ReqT> listener;
+
+    private WebServerCall(ServerRequest req,
+                          ServerResponse res,
+                          MethodDescriptor<ReqT, RespT> method,
+                          int maxInboundMessageSize) {
+        this.req = req;
+        this.res = res;
+        this.method = method;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.trailers = res.trailers();
+        this.attributes = Attributes.newBuilder()
+                .set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, new InetSocketAddress(req.remoteAddress(), req.remotePort()))
+                .set(Grpc.TRANSPORT_ATTR_LOCAL_ADDR, new InetSocketAddress(req.localAddress(), req.localPort()))
+                .build();
+    }
+
+    /**
+     * Start a call of the method.
+     *
+     * @param req the request of the call
+     * @param res the response of the call
+     * @param definition the method
+     * @param maxInboundMessageSize the maximum size of a request message in bytes
+     * @param <ReqT> type of the request messages
+     * @param <RespT> type of the response messages
+     */
+    static <ReqT, RespT> void start(ServerRequest req,
+                                    ServerResponse res,
+                                    ServerMethodDefinition<ReqT, RespT> definition,
+                                    int maxInboundMessageSize) {
+        new WebServerCall<>(req, res, definition.getMethodDescriptor(), maxInboundMessageSize)
+                .start(definition.getServerCallHandler());
+    }
+
+    /**
+     * Respond with the status of a call that is not started.
+     *
+     * @param res the response
+     * @param status the status of the call
+     */
+    static void respond(ServerResponse res, Status status) {
+        res.status(Http.Status.OK_200);
+        res.headers().put(Http.Header.CONTENT_TYPE, CONTENT_TYPE);
+        status(res.trailers(), status);
+        res.send();
+    }
+
+    @Override
+    public void request(int numMessages) {
+        requested.addAndGet(numMessages);
+        requestPending();
+    }
+
+    @Override
+    public void sendHeaders(Metadata headers) {
+        copy(headers, (name, value) -> res.headers().add(name, value));
+    }
+
+    @Override
+    public void sendMessage(RespT message) {
+        if (closed.get()) {
+            throw new IllegalStateException("Call is closed");
+        }
+        byte[] bytes;
+        try (InputStream stream = method.streamResponse(message)) {
+            bytes = stream.readAllBytes();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Failed to serialize the response message").withCause(e).asRuntimeException();
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH)
+                .put((byte) 0)
+                .putInt(bytes.length)
+                .flip();
+        emitter.emit(DataChunk.create(true, header, ByteBuffer.wrap(bytes)));
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+        if (!closed.compareAndSet(false, true)) {
+            throw new IllegalStateException("Call already closed");
+        }
+        status(this.trailers, status);
+        copy(trailers, this.trailers::add);
+        emitter.complete();
+    }
+
+    @Override
+    public boolean isReady() {
+        return !closed.get() && !cancelled;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String getAuthority() {
+        return req.headers().first(Http.Header.HOST).orElse(null);
+    }
+
+    @Override
+    public MethodDescriptor<ReqT, RespT> getMethodDescriptor() {
+        return method;
+    }
+
+    private void start(ServerCallHandler<ReqT, RespT> handler) {
+        res.status(Http.Status.OK_200);
+        res.headers().put(Http.Header.CONTENT_TYPE, CONTENT_TYPE);
+        res.send(emitter).whenComplete((ignored, throwable) -> completed(throwable));
+
+        Metadata headers = headers(req);
+        try {
+            listener = context.call(() -> Contexts.runInContext(req.context(), () -> handler.startCall(this, headers)));
+        } catch (Throwable t) {
+            fail(Status.fromThrowable(t));
+        }
+        callbacks.add(ServerCall.Listener::onReady);
+        drain();
+
+        Deframer deframer = new Deframer(maxInboundMessageSize);
+        Multi.create(req.content())
+                // prefetch a single chunk, the next one is parsed once the messages of the previous one are requested
+                .flatMapIterable(deframer::parse, 1)
+                .onCompleteResumeWith(Multi.defer(deframer::end))
+                .subscribe(new RequestSubscriber());
+    }
+
+    private void requestPending() {
+        Flow.Subscription s = subscription;
+        if (s != null) {
+            long n = requested.getAndSet(0);
+            if (n > 0) {
+                s.request(n);
+            }
+        }
+    }
+
+    private void completed(Throwable throwable) {
+        if (throwable == null) {
+            invoke(l -> {
+                listener = null;
+                try {
+                    l.onComplete();
+                } finally {
+                    context.cancel(null);
+                }
+            });
+        } else {
+            LOGGER.log(Level.FINE, throwable, () -> "Failed to send the response of " + method.getFullMethodName());
+            closed.set(true);
+            cancel(throwable);
+        }
+    }
+
+    private void fail(Status status) {
+        if (closed.compareAndSet(false, true)) {
+            status(trailers, status);
+            emitter.complete();
+        }
+        cancel(status.asRuntimeException());
+    }
+
+    private void cancel(Throwable cause) {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        Flow.Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+        // promptly inform the users of the context that their work should be aborted
+        context.cancel(cause);
+        invoke(l -> {
+            listener = null;
+            l.onCancel();
+        });
+    }
+
+    private void invoke(Consumer<ServerCall.Listener<ReqT>> callback) {
+        callbacks.add(callback);
+        if (wip.getAndIncrement() == 0) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        do {
+            Consumer<ServerCall.Listener<ReqT>> callback = callbacks.poll();
+            ServerCall.Listener<ReqT> current = listener;
+            if (callback != null && current != null) {
+                try {
+                    context.run(() -> Contexts.runInContext(req.context(), () -> callback.accept(current)));
+                } catch (RuntimeException | Error e) {
+                    LOGGER.log(Level.FINE, e, () -> "Failed to process a call of " + method.getFullMethodName());
+                    fail(Status.UNKNOWN.withDescription("Application error processing RPC").withCause(e));
+                }
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private static Metadata headers(ServerRequest req) {
+        Metadata metadata = new Metadata();
+        req.headers().toMap().forEach((name, values) -> {
+            String key = name.toLowerCase(Locale.ROOT);
+            if (key.startsWith(":") || key.startsWith(EXTENSION_HEADER_PREFIX)) {
+                return;
+            }
+            try {
+                if (key.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                    Metadata.Key<byte[]> binaryKey = Metadata.Key.of(key, Metadata.BINARY_BYTE_MARSHALLER);
+                    for (String value : values) {
+                        for (String part : value.split(",")) {
+                            metadata.put(binaryKey, Base64.getDecoder().decode(part.trim()));
+                        }
+                    }
+                } else {
+                    Metadata.Key<String> asciiKey = Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER);
+                    values.forEach(value -> metadata.put(asciiKey, value));
+                }
+            } catch (IllegalArgumentException e) {
+                LOGGER.log(Level.FINE, e, () -> "Ignoring invalid header " + name);
+            }
+        });
+        return metadata;
+    }
+
+    private static void copy(Metadata metadata, BiConsumer<String, String> headers) {
+        for (String key : metadata.keys()) {
+            if (key.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                for (byte[] value : metadata.getAll(Metadata.Key.of(key, Metadata.BINARY_BYTE_MARSHALLER))) {
+                    headers.accept(key, Base64.getEncoder().withoutPadding().encodeToString(value));
+                }
+            } else {
+                for (String value : metadata.getAll(Metadata.Key.of(key, Metadata.ASCII_STRING_MARSHALLER))) {
+                    headers.accept(key, value);
+                }
+            }
+        }
+    }
+
+    private static void status(Parameters trailers, Status status) {
+        trailers.put(GRPC_STATUS, String.valueOf(status.getCode().value()));
+        String description = status.getDescription();
+        if (description != null) {
+            trailers.put(GRPC_MESSAGE, percentEncode(description));
+        }
+    }
+
+    private static String percentEncode(String value) {
+        StringBuilder encoded = new StringBuilder(value.length());
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            if (b >= ' ' && b <= '~' && b != '%') {
+                encoded.append((char) b);
+            } else {
+                encoded.append(String.format("%%%02X", b & 0xFF));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private final class RequestSubscriber implements Flow.Subscriber<byte[]> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            WebServerCall.this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            requestPending();
+        }
+
+        @Override
+        public void onNext(byte[] bytes) {
+            if (cancelled) {
+                return;
+            }
+            ReqT message;
+            try {
+                message = method.parseRequest(new ByteArrayInputStream(bytes));
+            } catch (RuntimeException e) {
+                fail(Status.INTERNAL.withDescription("Failed to parse the request message").withCause(e));
+                return;
+            }
+            invoke(l -> l.onMessage(message));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(Status.fromThrowable(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            invoke(ServerCall.Listener::onHalfClose);
+        }
+    }
+
+    /**
+     * Splits the request content into the length-prefixed messages.
+     * Chunks are released once all their bytes are copied. The buffer of a message grows with the bytes received,
+     * so that the declared length of a message is never allocated upfront.
+     */
+    private static final class Deframer {
+        private final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        private final int maxMessageSize;
+        private byte[] message;
+        // declared length of the current message, -1 when reading the header
+        private int length = -1;
+        private int position;
+
+        private Deframer(int maxMessageSize) {
+            this.maxMessageSize = maxMessageSize;
+        }
+
+        private List<byte[]> parse(DataChunk chunk) {
+            List<byte[]> messages = new ArrayList<>(1);
+            try {
+                for (ByteBuffer byteBuffer : chunk.data()) {
+                    ByteBuffer data = byteBuffer.duplicate();
+                    while (data.hasRemaining()) {
+                        if (length < 0 && !readHeader(data)) {
+                            break;
+                        }
+                        int count = Math.min(length - position, data.remaining());
+                        if (position + count > message.length) {
+                            message = Arrays.copyOf(message, Math.min(length, Math.max(position + count, message.length * 2)));
+                        }
+                        data.get(message, position, count);
+                        position += count;
+                        if (position == length) {
+                            messages.add(message);
+                            message = null;
+                            length = -1;
+                        }
+                    }
+                }
+            } finally {
+                chunk.release();
+            }
+            return messages;
+        }
+
+        private Multi<byte[]> end() {
+            if (length >= 0 || header.position() > 0) {
+                return Multi.error(Status.INTERNAL.withDescription("Incomplete request message").asRuntimeException());
+            }
+            return Multi.empty();
+        }
+
+        private boolean readHeader(ByteBuffer data) {
+            while (header.hasRemaining() && data.hasRemaining()) {
+                header.put(data.get());
+            }
+            if (header.hasRemaining()) {
+                return false;
+            }
+            header.flip();
+            if (header.get() != 0) {
+                throw Status.UNIMPLEMENTED.withDescription("Compressed messages are not supported").asRuntimeException();
+            }
+            // unsigned, a negative length exceeds any maximum size
+            long declared = header.getInt() & 0xFFFFFFFFL;
+            header.clear();
+            if (declared > maxMessageSize) {
+                throw Status.RESOURCE_EXHAUSTED
+                        .withDescription("Request message of " + declared + " bytes exceeds the maximum of "
+                                                 + maxMessageSize + " bytes")
+                        .asRuntimeException();
+            }
+            length = (int) declared;
+            message = new byte[Math.min(length, data.remaining())];
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * gRPC integration of the WebServer.
+ */
+module io.helidon.webserver.grpc {
+    requires java.logging;
+    requires transitive io.helidon.webserver;
+    requires transitive io.helidon.grpc.server;
+
+    requires io.helidon.common.context;
+    requires io.helidon.common.http;
+    requires io.helidon.common.reactive;
+
+    exports io.helidon.webserver.grpc;
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.grpc.server.GrpcRouting;
+import io.helidon.webserver.ExperimentalConfiguration;
+import io.helidon.webserver.Http2Configuration;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.WebServer;
+
+import io.grpc.BindableService;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests gRPC calls served by the WebServer on the same port as the HTTP routes.
+ */
+public class GrpcSupportTest {
+
+    private static final int MAX_MESSAGE_SIZE = 1024;
+    private static final MethodDescriptor.Marshaller<String> STRING_MARSHALLER = new StringMarshaller();
+    private static final MethodDescriptor<String, String> ECHO = method("Echo", MethodDescriptor.MethodType.UNARY);
+    private static final MethodDescriptor<String, String> SPLIT = method("Split", MethodDescriptor.MethodType.SERVER_STREAMING);
+    private static final MethodDescriptor<String, String> JOIN = method("Join", MethodDescriptor.MethodType.CLIENT_STREAMING);
+    private static final MethodDescriptor<String, String> FAIL = method("Fail", MethodDescriptor.MethodType.UNARY);
+    private static final MethodDescriptor<String, String> UNKNOWN = method("Unknown", MethodDescriptor.MethodType.UNARY);
+
+    private static WebServer webServer;
+    private static ManagedChannel channel;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        ServerServiceDefinition definition = ServerServiceDefinition.builder("test.Strings")
+                .addMethod(ECHO, ServerCalls.asyncUnaryCall((value, observer) -> {
+                    observer.onNext(value);
+                    observer.onCompleted();
+                }))
+                .addMethod(SPLIT, ServerCalls.asyncServerStreamingCall((value, observer) -> {
+                    for (String word : value.split(" ")) {
+                        observer.onNext(word);
+                    }
+                    observer.onCompleted();
+                }))
+                .addMethod(JOIN, ServerCalls.asyncClientStreamingCall(observer -> new StreamObserver<String>() {
+                    private final StringBuilder joined = new StringBuilder();
+
+                    @Override
+                    public void onNext(String value) {
+                        joined.append(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        observer.onNext(joined.toString());
+                        observer.onCompleted();
+                    }
+                }))
+                .addMethod(FAIL, ServerCalls.asyncUnaryCall((value, observer) -> observer.onError(
+                        Status.INVALID_ARGUMENT.withDescription("Invalid value: " + value).asRuntimeException())))
+                .build();
+        BindableService service = () -> definition;
+
+        webServer = WebServer.builder()
+                .experimental(ExperimentalConfiguration.builder()
+                                      .http2(Http2Configuration.builder().enable(true).build())
+                                      .build())
+                .routing(Routing.builder()
+                                 .register(GrpcSupport.builder(GrpcRouting.builder().register(service).build())
+                                                   .maxInboundMessageSize(MAX_MESSAGE_SIZE)
+                                                   .build())
+                                 .get("/hello", (req, res) -> res.send("Hello"))
+                                 .build())
+                .build()
+                .start()
+                .await(10, TimeUnit.SECONDS);
+
+        channel = ManagedChannelBuilder.forAddress("localhost", webServer.port())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterAll
+    public static void close() throws Exception {
+        if (channel != null) {
+            channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+        }
+        if (webServer != null) {
+            webServer.shutdown().await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testUnary() {
+        assertThat(ClientCalls.blockingUnaryCall(channel, ECHO, CallOptions.DEFAULT, "Hello gRPC"), is("Hello gRPC"));
+    }
+
+    @Test
+    public void testEmptyMessage() {
+        assertThat(ClientCalls.blockingUnaryCall(channel, ECHO, CallOptions.DEFAULT, ""), is(""));
+    }
+
+    @Test
+    public void testMessageTooLarge() {
+        String value = "a".repeat(MAX_MESSAGE_SIZE + 1);
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                                                () -> ClientCalls.blockingUnaryCall(channel, ECHO, CallOptions.DEFAULT, value));
+
+        assertThat(e.getStatus().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+        assertThat(ClientCalls.blockingUnaryCall(channel, ECHO, CallOptions.DEFAULT, "a".repeat(MAX_MESSAGE_SIZE)),
+                   is("a".repeat(MAX_MESSAGE_SIZE)));
+    }
+
+    @Test
+    public void testServerStreaming() {
+        List<String> words = new ArrayList<>();
+        Iterator<String> iterator = ClientCalls.blockingServerStreamingCall(channel, SPLIT, CallOptions.DEFAULT,
+                                                                            "one two three");
+        iterator.forEachRemaining(words::add);
+
+        assertThat(words, contains("one", "two", "three"));
+    }
+
+    @Test
+    public void testClientStreaming() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        StreamObserver<String> responses = new StreamObserver<>() {
+            @Override
+            public void onNext(String value) {
+                response.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+        StreamObserver<String> requests = ClientCalls.asyncClientStreamingCall(channel.newCall(JOIN, CallOptions.DEFAULT),
+                                                                               responses);
+        requests.onNext("one");
+        requests.onNext("");
+        requests.onNext("two");
+        requests.onNext("three");
+        requests.onCompleted();
+
+        assertThat(Single.create(response).await(10, TimeUnit.SECONDS), is("onetwothree"));
+    }
+
+    @Test
+    public void testStatus() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                                                () -> ClientCalls.blockingUnaryCall(channel, FAIL, CallOptions.DEFAULT,
+                                                                                    "100% wrong é"));
+
+        assertThat(e.getStatus().getCode(), is(Status.Code.INVALID_ARGUMENT));
+        assertThat(e.getStatus().getDescription(), is("Invalid value: 100% wrong é"));
+    }
+
+    @Test
+    public void testUnknownMethod() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                                                () -> ClientCalls.blockingUnaryCall(channel, UNKNOWN, CallOptions.DEFAULT,
+                                                                                    "Hello"));
+
+        assertThat(e.getStatus().getCode(), is(Status.Code.UNIMPLEMENTED));
+    }
+
+    @Test
+    public void testHttp() throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + webServer.port() + "/hello")
+                .openConnection();
+        try (InputStream is = connection.getInputStream()) {
+            assertThat(connection.getResponseCode(), is(200));
+            assertThat(new String(is.readAllBytes(), StandardCharsets.UTF_8), is("Hello"));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Test
+    public void testHttp1NotDispatched() throws Exception {
+        // the header set by the WebServer on the requests of HTTP/2 streams must not make an HTTP/1.1 request a call
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + webServer.port()
+                                                                           + "/test.Strings/Echo")
+                .openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/grpc");
+            connection.setRequestProperty("x-http2-stream-id", "3");
+            connection.setDoOutput(true);
+            try (OutputStream os = connection.getOutputStream()) {
+                os.write(new byte[] {0, 0, 0, 0, 0});
+            }
+            assertThat(connection.getResponseCode(), is(404));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static MethodDescriptor<String, String> method(String name, MethodDescriptor.MethodType type) {
+        return MethodDescriptor.<String, String>newBuilder()
+                .setFullMethodName(MethodDescriptor.generateFullMethodName("test.Strings", name))
+                .setType(type)
+                .setRequestMarshaller(STRING_MARSHALLER)
+                .setResponseMarshaller(STRING_MARSHALLER)
+                .build();
+    }
+
+    private static final class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            try {
+                return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
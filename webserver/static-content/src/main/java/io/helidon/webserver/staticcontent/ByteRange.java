@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A satisfiable byte range of a {@code Range} request header as specified by
+ * <a href="https://tools.ietf.org/html/rfc7233">RFC 7233</a>.
+ */
+final class ByteRange {
+
+    /**
+     * Maximal number of ranges served, requests with more ranges get the whole content.
+     */
+    static final int MAX_RANGES = 16;
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    private final long start;
+    private final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parse the value of a {@code Range} header.
+     * <p>
+     * Overlapping and adjacent ranges are coalesced and the ranges are sorted by their start.
+     *
+     * @param value         header value
+     * @param contentLength length of the content
+     * @return empty if the header should be ignored (unsupported unit, invalid syntax or too many ranges),
+     * otherwise the satisfiable ranges; an empty list if none of the ranges is satisfiable
+     */
+    static Optional<List<ByteRange>> parse(String value, long contentLength) {
+        if (value == null || !value.toLowerCase(Locale.ROOT).startsWith(BYTES_UNIT)) {
+            return Optional.empty();
+        }
+        String[] specs = value.substring(BYTES_UNIT.length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return Optional.empty();
+        }
+        List<ByteRange> ranges = new ArrayList<>(specs.length);
+        for (String spec : specs) {
+            spec = spec.trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return Optional.empty();
+            }
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            try {
+                if (first.isEmpty()) {
+                    // suffix range, last N bytes
+                    long suffix = parseLong(last);
+                    if (suffix == 0) {
+                        continue;
+                    }
+                    start = Math.max(0, contentLength - suffix);
+                    end = contentLength - 1;
+                } else {
+                    start = parseLong(first);
+                    if (last.isEmpty()) {
+                        end = contentLength - 1;
+                    } else {
+                        end = parseLong(last);
+                        if (end < start) {
+                            return Optional.empty();
+                        }
+                        end = Math.min(end, contentLength - 1);
+                    }
+                }
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+            if (start < contentLength) {
+                ranges.add(new ByteRange(start, end));
+            }
+        }
+        return Optional.of(coalesce(ranges));
+    }
+
+    private static long parseLong(String value) {
+        if (value.isEmpty() || value.charAt(0) == '+' || value.charAt(0) == '-') {
+            throw new NumberFormatException("Invalid range value: " + value);
+        }
+        return Long.parseLong(value);
+    }
+
+    private static List<ByteRange> coalesce(List<ByteRange> ranges) {
+        if (ranges.size() < 2) {
+            return ranges;
+        }
+        ranges.sort(Comparator.comparingLong(ByteRange::start));
+        List<ByteRange> result = new ArrayList<>(ranges.size());
+        ByteRange current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            ByteRange next = ranges.get(i);
+            if (next.start <= current.end + 1) {
+                current = new ByteRange(current.start, Math.max(current.end, next.end));
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        result.add(current);
+        return result;
+    }
+
+    /**
+     * Position of the first byte.
+     *
+     * @return first byte position
+     */
+    long start() {
+        return start;
+    }
+
+    /**
+     * Position of the last byte, inclusive.
+     *
+     * @return last byte position
+     */
+    long end() {
+        return end;
+    }
+
+    /**
+     * Number of bytes of this range.
+     *
+     * @return range length
+     */
+    long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Value of the {@code Content-Range} header for this range.
+     *
+     * @param contentLength length of the whole content
+     * @return header value
+     */
+    String contentRange(long contentLength) {
+        return "bytes " + start + "-" + end + "/" + contentLength;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ByteRange)) {
+            return false;
+        }
+        ByteRange other = (ByteRange) o;
+        return start == other.start && end == other.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(start) * 31 + Long.hashCode(end);
+    }
+
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+}
@@ -150,7 +150,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                     String requestedResource,
                     URL url,
                     ServerRequest request,
-                    ServerResponse response) {
+                    ServerResponse response) throws IOException {
 
         LOGGER.fine(() -> "Sending static content from classpath: " + url);
 
@@ -166,15 +166,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
 
         String entryName = (extrEntry.entryName == null) ? fileName(url) : extrEntry.entryName;
 
-        processContentType(entryName,
-                           request.headers(),
-                           response.headers());
-
-        if (method == Http.Method.HEAD) {
-            response.send();
-        } else {
-            send(response, extrEntry.tempFile);
-        }
+        send(method, extrEntry.tempFile, entryName, extrEntry.lastModified, request, response);
 
         return true;
     }
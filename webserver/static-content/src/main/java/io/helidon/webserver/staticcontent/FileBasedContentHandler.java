@@ -17,20 +17,36 @@
 package io.helidon.webserver.staticcontent;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.media.type.MediaTypes;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.ContentWriters;
 import io.helidon.media.common.DefaultMediaSupport;
 import io.helidon.media.common.MessageBodyWriter;
+import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.webserver.HttpException;
 import io.helidon.webserver.RequestHeaders;
 import io.helidon.webserver.ResponseHeaders;
@@ -40,13 +56,34 @@ import io.helidon.webserver.ServerResponse;
 abstract class FileBasedContentHandler extends StaticContentHandler {
     private static final Logger LOGGER = Logger.getLogger(FileBasedContentHandler.class.getName());
     private static final MessageBodyWriter<Path> PATH_WRITER = DefaultMediaSupport.pathWriter();
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+    private static final String BROTLI_EXTENSION = ".br";
+    private static final String GZIP_EXTENSION = ".gz";
 
     private final Map<String, MediaType> customMediaTypes;
+    private final MemoryCache memoryCache;
+    private final boolean precompressed;
 
     FileBasedContentHandler(StaticContentSupport.FileBasedBuilder<?> builder) {
         super(builder);
 
         this.customMediaTypes = builder.specificContentTypes();
+        this.precompressed = builder.precompressed();
+        if (builder.memoryCacheSize() > 0) {
+            this.memoryCache = new MemoryCache(builder.memoryCacheSize(),
+                                               builder.memoryCacheMaxFileSize(),
+                                               builder.memoryCacheTtl());
+        } else {
+            this.memoryCache = null;
+        }
+    }
+
+    @Override
+    void handle(Http.RequestMethod method, ServerRequest request, ServerResponse response) {
+        if (!sendCached(method, request, response)) {
+            super.handle(method, request, response);
+        }
     }
 
     static String fileName(Path path) {
@@ -85,19 +122,24 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
                             RequestHeaders requestHeaders,
                             ResponseHeaders responseHeaders) {
         // Try to get Content-Type
-        responseHeaders.contentType(detectType(filename, requestHeaders));
+        responseHeaders.contentType(contentType(detectType(filename), requestHeaders));
     }
 
-    private MediaType detectType(String fileName, RequestHeaders requestHeaders) {
+    private Optional<MediaType> detectType(String fileName) {
         Objects.requireNonNull(fileName);
-        Objects.requireNonNull(requestHeaders);
 
         // first try to see if we have an override
         // then find if we have a detected type
-        // then check the type is accepted by the request
         return findCustomMediaType(fileName)
                 .or(() -> MediaTypes.detectType(fileName)
-                        .map(MediaType::parse))
+                        .map(MediaType::parse));
+    }
+
+    private static MediaType contentType(Optional<MediaType> detectedType, RequestHeaders requestHeaders) {
+        Objects.requireNonNull(requestHeaders);
+
+        // check the type is accepted by the request
+        return detectedType
                 .map(it -> {
                     if (requestHeaders.isAccepted(it)) {
                         return it;
@@ -157,19 +199,84 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         }
 
         // Caching headers support
+        Instant lastMod = null;
         try {
-            Instant lastMod = Files.getLastModifiedTime(path).toInstant();
-            processEtag(String.valueOf(lastMod.toEpochMilli()), request.headers(), response.headers());
-            processModifyHeaders(lastMod, request.headers(), response.headers());
+            lastMod = Files.getLastModifiedTime(path).toInstant();
         } catch (IOException | SecurityException e) {
             // Cannot get mod time or size - well, we cannot tell if it was modified or not. Don't support cache headers
         }
 
-        processContentType(fileName(path), request.headers(), response.headers());
+        Path variant = precompressed ? precompressedVariant(path, lastMod, request, response) : null;
+        String encoding = (variant == null) ? null : contentEncoding(variant);
+        if (lastMod != null) {
+            // each representation has its own entity tag
+            String etag = String.valueOf(lastMod.toEpochMilli());
+            processEtag((encoding == null) ? etag : etag + "-" + encoding, request.headers(), response.headers());
+            processModifyHeaders(lastMod, request.headers(), response.headers());
+        }
+
+        if (variant == null) {
+            send(method, path, fileName(path), lastMod, request, response);
+        } else {
+            response.headers().put(Http.Header.CONTENT_ENCODING, encoding);
+            processContentType(fileName(path), request.headers(), response.headers());
+            if (method == Http.Method.HEAD) {
+                response.send();
+            } else {
+                send(response, variant);
+            }
+        }
+    }
+
+    /**
+     * Sends the file content, or only the ranges requested by the {@code Range} header of a {@code GET} request.
+     * The file is cached in memory if the memory cache is enabled and the file is small enough.
+     *
+     * @param method       an HTTP method
+     * @param path         a path of the file to send
+     * @param fileName     a file name used to detect the content type
+     * @param lastModified the last modification instant used to validate {@code If-Range}, may be {@code null}
+     * @param request      an HTTP request
+     * @param response     an HTTP response
+     * @throws IOException if the file size cannot be obtained
+     * @throws io.helidon.webserver.HttpException if none of the requested ranges is satisfiable
+     */
+    void send(Http.RequestMethod method,
+              Path path,
+              String fileName,
+              Instant lastModified,
+              ServerRequest request,
+              ServerResponse response) throws IOException {
+
+        if (memoryCache != null && method == Http.Method.GET && lastModified != null
+                // the memory cache only holds the identity representation and does not vary by encoding
+                && !(precompressed && hasVariant(path, lastModified))) {
+            MemoryCache.CachedFile cached = memoryCache.put(request.path().toString(),
+                                                            path,
+                                                            String.valueOf(lastModified.toEpochMilli()),
+                                                            lastModified,
+                                                            detectType(fileName));
+            if (cached != null) {
+                sendCached(method, cached, request, response);
+                return;
+            }
+        }
+
+        response.headers().put(Http.Header.ACCEPT_RANGES, "bytes");
+        List<ByteRange> ranges = List.of();
+        long contentLength = 0;
+        if (method == Http.Method.GET) {
+            contentLength = Files.size(path);
+            ranges = processRange(contentLength, lastModified, request.headers(), response.headers());
+        }
+
+        processContentType(fileName, request.headers(), response.headers());
         if (method == Http.Method.HEAD) {
             response.send();
-        } else {
+        } else if (ranges.isEmpty()) {
             send(response, path);
+        } else {
+            sendRanges(response, ranges, contentLength, (range, context) -> fileRegion(path, range, context));
         }
     }
 
@@ -177,5 +284,272 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         response.send(PATH_WRITER.marshall(path));
     }
 
+    /**
+     * Selects a precompressed variant of the file accepted by the request.
+     * Adds the {@code Vary} header if the file has a precompressed variant. Ranges are always
+     * served from the original file.
+     *
+     * @param path         a path of the original file
+     * @param lastModified the last modification instant of the original file, may be {@code null}
+     * @param request      an HTTP request
+     * @param response     an HTTP response
+     * @return path of the selected variant or {@code null} if the original file should be sent
+     */
+    private static Path precompressedVariant(Path path,
+                                             Instant lastModified,
+                                             ServerRequest request,
+                                             ServerResponse response) {
+        Path brotli = variant(path, BROTLI_EXTENSION, lastModified);
+        Path gzip = variant(path, GZIP_EXTENSION, lastModified);
+        if (brotli == null && gzip == null) {
+            return null;
+        }
+        response.headers().add(Http.Header.VARY, Http.Header.ACCEPT_ENCODING);
+        if (request.headers().first(Http.Header.RANGE).isPresent()) {
+            return null;
+        }
+        String encoding = contentEncoding(request.headers(), brotli != null, gzip != null);
+        if (encoding == null) {
+            return null;
+        }
+        return BROTLI.equals(encoding) ? brotli : gzip;
+    }
+
+    private static String contentEncoding(Path variant) {
+        return variant.getFileName().toString().endsWith(BROTLI_EXTENSION) ? BROTLI : GZIP;
+    }
+
+    private static boolean hasVariant(Path path, Instant lastModified) {
+        return variant(path, BROTLI_EXTENSION, lastModified) != null
+                || variant(path, GZIP_EXTENSION, lastModified) != null;
+    }
 
+    private static Path variant(Path path, String extension, Instant lastModified) {
+        Path variant = path.resolveSibling(path.getFileName() + extension);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(variant, BasicFileAttributes.class);
+            if (attributes.isRegularFile()
+                    && (lastModified == null || !attributes.lastModifiedTime().toInstant().isBefore(lastModified))) {
+                return variant;
+            }
+        } catch (IOException | SecurityException e) {
+            // no variant
+        }
+        return null;
+    }
+
+    /**
+     * Selects the preferred content coding accepted by the {@code Accept-Encoding} header.
+     *
+     * @param requestHeaders an HTTP request headers
+     * @param brotli         whether brotli variant is available
+     * @param gzip           whether gzip variant is available
+     * @return {@code br}, {@code gzip} or {@code null} if none of the available codings is accepted
+     */
+    static String contentEncoding(RequestHeaders requestHeaders, boolean brotli, boolean gzip) {
+        double brotliQuality = -1;
+        double gzipQuality = -1;
+        double anyQuality = -1;
+        for (String value : requestHeaders.values(Http.Header.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                double quality = 1;
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=") || param.startsWith("Q=")) {
+                        try {
+                            quality = Double.parseDouble(param.substring(2));
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                switch (name) {
+                case BROTLI:
+                    brotliQuality = quality;
+                    break;
+                case GZIP:
+                case "x-gzip":
+                    gzipQuality = Math.max(gzipQuality, quality);
+                    break;
+                case "*":
+                    anyQuality = quality;
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+        brotliQuality = (brotliQuality < 0) ? anyQuality : brotliQuality;
+        gzipQuality = (gzipQuality < 0) ? anyQuality : gzipQuality;
+        if (brotli && brotliQuality > 0 && (!gzip || brotliQuality >= gzipQuality)) {
+            return BROTLI;
+        }
+        if (gzip && gzipQuality > 0) {
+            return GZIP;
+        }
+        return null;
+    }
+
+    /**
+     * Sends the file from the memory cache, if cached and still valid.
+     *
+     * @param method   an HTTP method
+     * @param request  an HTTP request
+     * @param response an HTTP response
+     * @return {@code true} if the response was sent from the cache
+     * @throws io.helidon.webserver.HttpException if validation of the request headers fails
+     */
+    boolean sendCached(Http.RequestMethod method, ServerRequest request, ServerResponse response) {
+        if (memoryCache == null || (method != Http.Method.GET && method != Http.Method.HEAD)) {
+            return false;
+        }
+        MemoryCache.CachedFile cached = memoryCache.get(request.path().toString());
+        if (cached == null) {
+            return false;
+        }
+        processEtag(cached.etag(), request.headers(), response.headers());
+        processModifyHeaders(cached.lastModified(), request.headers(), response.headers());
+        sendCached(method, cached, request, response);
+        return true;
+    }
+
+    private void sendCached(Http.RequestMethod method,
+                            MemoryCache.CachedFile cached,
+                            ServerRequest request,
+                            ServerResponse response) {
+
+        response.headers().put(Http.Header.ACCEPT_RANGES, "bytes");
+        List<ByteRange> ranges = List.of();
+        if (method == Http.Method.GET) {
+            ranges = processRange(cached.size(), cached.lastModified(), request.headers(), response.headers());
+        }
+
+        response.headers().contentType(contentType(cached.contentType(), request.headers()));
+        if (method == Http.Method.HEAD) {
+            response.send();
+        } else if (ranges.isEmpty()) {
+            response.send(context -> {
+                context.contentLength(cached.size());
+                return context.applyFilters(Single.just(DataChunk.create(false, true, cached.content())));
+            });
+        } else {
+            sendRanges(response, ranges, cached.size(),
+                       (range, context) -> Single.just(DataChunk.create(false, true, cached.content(range))));
+        }
+    }
+
+    @Override
+    void releaseCache() {
+        if (memoryCache != null) {
+            memoryCache.clear();
+        }
+    }
+
+    @Override
+    public Optional<MemoryCacheStats> memoryCacheStats() {
+        return Optional.ofNullable(memoryCache);
+    }
+
+    /**
+     * Validates {@code Range} and {@code If-Range} headers and returns the ranges to send.
+     *
+     * @param contentLength   length of the whole content
+     * @param lastModified    the last modification instant, if {@code null} the {@code Range} header is ignored
+     * @param requestHeaders  an HTTP request headers
+     * @param responseHeaders an HTTP response headers
+     * @return ranges to send or an empty list if the whole content should be sent
+     * @throws io.helidon.webserver.HttpException if none of the requested ranges is satisfiable
+     */
+    static List<ByteRange> processRange(long contentLength,
+                                        Instant lastModified,
+                                        RequestHeaders requestHeaders,
+                                        ResponseHeaders responseHeaders) {
+        Optional<String> range = requestHeaders.first(Http.Header.RANGE);
+        if (range.isEmpty() || lastModified == null) {
+            return List.of();
+        }
+        Optional<String> ifRange = requestHeaders.first(Http.Header.IF_RANGE);
+        if (ifRange.isPresent() && !ifRangeMatches(ifRange.get().trim(), lastModified)) {
+            return List.of();
+        }
+        List<ByteRange> ranges = ByteRange.parse(range.get(), contentLength).orElse(null);
+        if (ranges == null) {
+            return List.of();
+        }
+        if (ranges.isEmpty()) {
+            responseHeaders.put(Http.Header.CONTENT_RANGE, "bytes */" + contentLength);
+            throw new HttpException("Not satisfiable Range header!", Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416);
+        }
+        return ranges;
+    }
+
+    private static boolean ifRangeMatches(String ifRange, Instant lastModified) {
+        if (ifRange.startsWith("\"")) {
+            // strong comparison, our ETag is derived from the last modification instant
+            return ifRange.equals("\"" + lastModified.toEpochMilli() + '"');
+        }
+        if (ifRange.startsWith("W/") || ifRange.startsWith("w/")) {
+            return false;
+        }
+        try {
+            return Http.DateTime.parse(ifRange).toEpochSecond() == lastModified.getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static void sendRanges(ServerResponse response,
+                                   List<ByteRange> ranges,
+                                   long contentLength,
+                                   BiFunction<ByteRange, MessageBodyWriterContext, Flow.Publisher<DataChunk>> content) {
+        response.status(Http.Status.PARTIAL_CONTENT_206);
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.headers().put(Http.Header.CONTENT_RANGE, range.contentRange(contentLength));
+            response.send(context -> {
+                context.contentLength(range.length());
+                return context.applyFilters(content.apply(range, context));
+            });
+            return;
+        }
+
+        String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        String contentType = response.headers().contentType()
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        response.headers().contentType(MediaType.builder()
+                                               .type("multipart")
+                                               .subtype("byteranges")
+                                               .addParameter("boundary", boundary)
+                                               .build());
+        response.send(context -> {
+            List<Flow.Publisher<DataChunk>> parts = new ArrayList<>(ranges.size() * 2 + 1);
+            long length = 0;
+            for (ByteRange range : ranges) {
+                byte[] partHeaders = ("\r\n--" + boundary + "\r\n"
+                                              + Http.Header.CONTENT_TYPE + ": " + contentType + "\r\n"
+                                              + Http.Header.CONTENT_RANGE + ": " + range.contentRange(contentLength)
+                                              + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+                parts.add(ContentWriters.writeBytes(partHeaders, false));
+                parts.add(Multi.defer(() -> content.apply(range, context)));
+                length += partHeaders.length + range.length();
+            }
+            byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+            parts.add(ContentWriters.writeBytes(end, false));
+            context.contentLength(length + end.length);
+            // one part at a time, in order
+            return context.applyFilters(Multi.create(parts).flatMap(Function.identity(), 1, false, 32));
+        });
+    }
+
+    private static Flow.Publisher<DataChunk> fileRegion(Path path, ByteRange range, MessageBodyWriterContext context) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            return ContentWriters.writeFileRegion(channel, range.start(), range.length(), context);
+        } catch (IOException e) {
+            return Single.error(e);
+        }
+    }
 }
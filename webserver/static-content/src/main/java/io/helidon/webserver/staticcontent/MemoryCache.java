@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import io.helidon.common.http.MediaType;
+
+/**
+ * Bounded in-memory cache of small static files, evicting the least recently used files
+ * once the configured byte budget is exceeded.
+ * <p>
+ * Cached files are revalidated against the last modification time and size of the source file
+ * once their time to live expires.
+ */
+final class MemoryCache implements StaticContentSupport.MemoryCacheStats {
+    private static final Logger LOGGER = Logger.getLogger(MemoryCache.class.getName());
+
+    private final long maxSize;
+    private final long maxFileSize;
+    private final long ttlNanos;
+    // access ordered, guarded by this
+    private final LinkedHashMap<String, CachedFile> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long size;
+
+    MemoryCache(long maxSize, long maxFileSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.maxFileSize = Math.min(maxFileSize, maxSize);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Get a cached file, revalidating it if its time to live expired.
+     *
+     * @param key cache key
+     * @return cached file or {@code null} if not cached or no longer valid
+     */
+    CachedFile get(String key) {
+        CachedFile cached;
+        synchronized (this) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            long now = System.nanoTime();
+            if (now - cached.validatedAt < ttlNanos || revalidate(cached, now)) {
+                hits.increment();
+                return cached;
+            }
+            remove(key, cached);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Read a file into memory and cache it, if it fits into the limits of this cache.
+     *
+     * @param key          cache key
+     * @param path         path of the file
+     * @param etag         ETag of the file
+     * @param lastModified last modification instant used for the response headers
+     * @param contentType  detected content type of the file
+     * @return cached file or {@code null} if the file is too large to be cached
+     * @throws IOException if the file cannot be read
+     */
+    CachedFile put(String key, Path path, String etag, Instant lastModified, Optional<MediaType> contentType)
+            throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long fileSize = attributes.size();
+        if (fileSize > maxFileSize) {
+            return null;
+        }
+
+        ByteBuffer content = ByteBuffer.allocateDirect((int) fileSize);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (content.hasRemaining()) {
+                if (channel.read(content) < 0) {
+                    // file was truncated while reading
+                    return null;
+                }
+            }
+        }
+        content.flip();
+
+        CachedFile cached = new CachedFile(path,
+                                           attributes.lastModifiedTime(),
+                                           content.asReadOnlyBuffer(),
+                                           etag,
+                                           lastModified,
+                                           contentType,
+                                           System.nanoTime());
+        synchronized (this) {
+            CachedFile previous = cache.put(key, cached);
+            if (previous != null) {
+                size -= previous.size();
+            }
+            size += cached.size();
+            Iterator<CachedFile> it = cache.values().iterator();
+            while (size > maxSize && it.hasNext()) {
+                CachedFile eldest = it.next();
+                it.remove();
+                size -= eldest.size();
+                evictions.increment();
+            }
+        }
+        LOGGER.finest(() -> "Cached static content " + key + " (" + fileSize + " bytes)");
+        return cached;
+    }
+
+    /**
+     * Remove all cached files.
+     */
+    synchronized void clear() {
+        cache.clear();
+        size = 0;
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public synchronized int entries() {
+        return cache.size();
+    }
+
+    @Override
+    public synchronized long size() {
+        return size;
+    }
+
+    private boolean revalidate(CachedFile cached, long now) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(cached.source, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().equals(cached.sourceModified)
+                    && attributes.size() == cached.size()) {
+                cached.validatedAt = now;
+                return true;
+            }
+        } catch (IOException | SecurityException e) {
+            // file no longer accessible
+        }
+        return false;
+    }
+
+    private synchronized void remove(String key, CachedFile cached) {
+        if (cache.remove(key, cached)) {
+            size -= cached.size();
+        }
+    }
+
+    /**
+     * A file cached in memory, with precomputed response headers.
+     */
+    static final class CachedFile {
+        private final Path source;
+        private final FileTime sourceModified;
+        private final ByteBuffer content;
+        private final String etag;
+        private final Instant lastModified;
+        private final Optional<MediaType> contentType;
+        private volatile long validatedAt;
+
+        private CachedFile(Path source,
+                           FileTime sourceModified,
+                           ByteBuffer content,
+                           String etag,
+                           Instant lastModified,
+                           Optional<MediaType> contentType,
+                           long validatedAt) {
+            this.source = source;
+            this.sourceModified = sourceModified;
+            this.content = content;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.validatedAt = validatedAt;
+        }
+
+        /**
+         * A new read-only buffer with the whole content of the file.
+         *
+         * @return content buffer
+         */
+        ByteBuffer content() {
+            return content.duplicate();
+        }
+
+        /**
+         * A new read-only buffer with a range of the file.
+         *
+         * @param range byte range
+         * @return content buffer
+         */
+        ByteBuffer content(ByteRange range) {
+            ByteBuffer buffer = content.duplicate();
+            buffer.position((int) range.start());
+            buffer.limit((int) range.end() + 1);
+            return buffer.slice();
+        }
+
+        long size() {
+            return content.capacity();
+        }
+
+        String etag() {
+            return etag;
+        }
+
+        Instant lastModified() {
+            return lastModified;
+        }
+
+        Optional<MediaType> contentType() {
+            return contentType;
+        }
+    }
+}
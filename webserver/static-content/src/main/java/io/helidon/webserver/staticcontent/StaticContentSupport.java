@@ -18,8 +18,10 @@ package io.helidon.webserver.staticcontent;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.Function;
 
@@ -121,6 +123,55 @@ public interface StaticContentSupport extends Service {
         return builder(root).build();
     }
 
+    /**
+     * Statistics of the in-memory cache, if {@link FileBasedBuilder#memoryCache(long) enabled}.
+     *
+     * @return cache statistics or empty if no in-memory cache is used
+     */
+    default Optional<MemoryCacheStats> memoryCacheStats() {
+        return Optional.empty();
+    }
+
+    /**
+     * Statistics of the in-memory cache of static content.
+     */
+    interface MemoryCacheStats {
+        /**
+         * Number of requests served from the cache.
+         *
+         * @return hit count
+         */
+        long hits();
+
+        /**
+         * Number of requests not found in the cache, including cached files that were modified.
+         *
+         * @return miss count
+         */
+        long misses();
+
+        /**
+         * Number of files evicted from the cache to keep it within its size limit.
+         *
+         * @return eviction count
+         */
+        long evictions();
+
+        /**
+         * Number of currently cached files.
+         *
+         * @return entry count
+         */
+        int entries();
+
+        /**
+         * Number of bytes currently cached.
+         *
+         * @return cache size in bytes
+         */
+        long size();
+    }
+
     /**
      * Fluent builder of the StaticContent detailed parameters.
      * @param <B> type of a subclass of a concrete builder
@@ -187,7 +238,17 @@ public interface StaticContentSupport extends Service {
      */
     @SuppressWarnings("unchecked")
     abstract class FileBasedBuilder<T extends FileBasedBuilder<T>> extends StaticContentSupport.Builder<FileBasedBuilder<T>> {
+        /**
+         * Default maximal size of a file cached in memory.
+         */
+        public static final int DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE = 64 * 1024;
+        private static final Duration DEFAULT_MEMORY_CACHE_TTL = Duration.ofSeconds(10);
+
         private final Map<String, MediaType> specificContentTypes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private long memoryCacheSize;
+        private int memoryCacheMaxFileSize = DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE;
+        private Duration memoryCacheTtl = DEFAULT_MEMORY_CACHE_TTL;
+        private boolean precompressed;
 
         /**
          * Maps a filename extension to the response content type.
@@ -217,9 +278,93 @@ public interface StaticContentSupport extends Service {
             return (T) this;
         }
 
+        /**
+         * Enables an in-memory cache of small files. Cached files are kept in memory together with
+         * their response headers and are served without accessing the file system, until their
+         * {@link #memoryCacheTtl(java.time.Duration) time to live} expires.
+         * The least recently used files are evicted once the cached content exceeds the given size.
+         * <p>
+         * The cache is disabled by default.
+         *
+         * @param maxSize maximal number of bytes of all cached files, {@code 0} to disable the cache
+         * @return updated builder
+         * @throws IllegalArgumentException if {@code maxSize} is negative
+         */
+        public T memoryCache(long maxSize) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("Memory cache size cannot be negative");
+            }
+            this.memoryCacheSize = maxSize;
+            return (T) this;
+        }
+
+        /**
+         * Maximal size of a file to be cached in memory. Larger files are always served from the file system.
+         * Defaults to {@value #DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE} bytes.
+         *
+         * @param maxFileSize maximal size of a cached file in bytes
+         * @return updated builder
+         * @throws IllegalArgumentException if {@code maxFileSize} is negative
+         */
+        public T memoryCacheMaxFileSize(int maxFileSize) {
+            if (maxFileSize < 0) {
+                throw new IllegalArgumentException("Memory cache maximal file size cannot be negative");
+            }
+            this.memoryCacheMaxFileSize = maxFileSize;
+            return (T) this;
+        }
+
+        /**
+         * Time after which a file cached in memory is checked for modification, comparing the last modification
+         * time and size of the file. Defaults to 10 seconds.
+         *
+         * @param ttl time to live of cached files
+         * @return updated builder
+         * @throws NullPointerException if {@code ttl} is {@code null}
+         */
+        public T memoryCacheTtl(Duration ttl) {
+            Objects.requireNonNull(ttl, "Parameter 'ttl' is null!");
+            this.memoryCacheTtl = ttl;
+            return (T) this;
+        }
+
+        /**
+         * Serves precompressed variants of files, if available. When a file {@code app.js} is requested and the
+         * request accepts the {@code br} or {@code gzip} content coding, a sibling file {@code app.js.br} or
+         * {@code app.js.gz} is sent instead, with the {@code Content-Encoding} header set. Variants older than the
+         * original file are ignored.
+         * <p>
+         * Precompressed variants of class path resources are only found for resources that are not packaged in a jar
+         * file. Files with precompressed variants are not cached in memory.
+         * Disabled by default.
+         *
+         * @param precompressed whether to serve precompressed variants
+         * @return updated builder
+         */
+        public T precompressed(boolean precompressed) {
+            this.precompressed = precompressed;
+            return (T) this;
+        }
+
         Map<String, MediaType> specificContentTypes() {
             return specificContentTypes;
         }
+
+        long memoryCacheSize() {
+            return memoryCacheSize;
+        }
+
+        int memoryCacheMaxFileSize() {
+            return memoryCacheMaxFileSize;
+        }
+
+        Duration memoryCacheTtl() {
+            return memoryCacheTtl;
+        }
+
+        boolean precompressed() {
+            return precompressed;
+        }
     }
 
     /**
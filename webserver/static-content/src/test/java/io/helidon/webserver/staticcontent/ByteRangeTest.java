@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link ByteRange}.
+ */
+class ByteRangeTest {
+
+    @Test
+    void testSingleRanges() {
+        assertRanges("bytes=0-9", 100, "0-9");
+        assertRanges("bytes=10-", 100, "10-99");
+        assertRanges("bytes=-10", 100, "90-99");
+        assertRanges("bytes=-200", 100, "0-99");
+        assertRanges("bytes=90-200", 100, "90-99");
+        assertRanges("Bytes= 5 - 6 ", 100, "5-6");
+    }
+
+    @Test
+    void testMultipleRanges() {
+        assertRanges("bytes=0-9,20-29", 100, "0-9", "20-29");
+        assertRanges("bytes=20-29,0-9", 100, "0-9", "20-29");
+        assertRanges("bytes=0-9,5-14,15-19", 100, "0-19");
+        assertRanges("bytes=0-9,200-300", 100, "0-9");
+    }
+
+    @Test
+    void testNotSatisfiable() {
+        assertRanges("bytes=100-", 100);
+        assertRanges("bytes=100-200,300-400", 100);
+        assertRanges("bytes=-0", 100);
+        assertRanges("bytes=0-", 0);
+    }
+
+    @Test
+    void testIgnored() {
+        assertThat(ByteRange.parse(null, 100), is(Optional.empty()));
+        assertThat(ByteRange.parse("items=0-9", 100), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=9-0", 100), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=a-b", 100), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=10", 100), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=--10", 100), is(Optional.empty()));
+        assertThat(ByteRange.parse("bytes=", 100), is(Optional.empty()));
+
+        StringBuilder tooMany = new StringBuilder("bytes=0-0");
+        for (int i = 1; i <= ByteRange.MAX_RANGES; i++) {
+            tooMany.append(',').append(i * 2).append('-').append(i * 2);
+        }
+        assertThat(ByteRange.parse(tooMany.toString(), 100), is(Optional.empty()));
+    }
+
+    @Test
+    void testContentRange() {
+        ByteRange range = ByteRange.parse("bytes=10-19", 100).orElseThrow().get(0);
+        assertThat(range.length(), is(10L));
+        assertThat(range.contentRange(100), is("bytes 10-19/100"));
+    }
+
+    private static void assertRanges(String header, long contentLength, String... expected) {
+        List<String> ranges = ByteRange.parse(header, contentLength)
+                .orElseThrow()
+                .stream()
+                .map(ByteRange::toString)
+                .collect(Collectors.toList());
+        assertThat(header, ranges, is(List.of(expected)));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import io.helidon.common.http.Http;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.testsupport.TestClient;
+import io.helidon.webserver.testsupport.TestResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the in-memory cache of {@link FileBasedContentHandler}.
+ */
+class MemoryCacheTest {
+
+    private Path root;
+
+    @BeforeEach
+    void createRoot() throws Exception {
+        root = Files.createTempDirectory("static-content");
+        Files.writeString(root.resolve("a.txt"), "aaaaaaaaaa");
+        Files.writeString(root.resolve("b.txt"), "bbbbbbbbbb");
+        Files.writeString(root.resolve("large.txt"), "x".repeat(100));
+    }
+
+    @AfterEach
+    void deleteRoot() throws Exception {
+        try (var files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(root);
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertThat(StaticContentSupport.create(root).memoryCacheStats(), is(Optional.empty()));
+    }
+
+    @Test
+    void testHitAndMiss() throws Exception {
+        StaticContentSupport support = StaticContentSupport.builder(root)
+                .memoryCache(1024)
+                .build();
+        TestClient client = TestClient.create(Routing.builder().register(support));
+        StaticContentSupport.MemoryCacheStats stats = support.memoryCacheStats().orElseThrow();
+
+        TestResponse response = client.path("/a.txt").get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.asString().get(), is("aaaaaaaaaa"));
+        assertThat(stats.misses(), is(1L));
+        assertThat(stats.hits(), is(0L));
+        assertThat(stats.entries(), is(1));
+        assertThat(stats.size(), is(10L));
+
+        response = client.path("/a.txt").get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of("text/plain")));
+        assertThat(response.headers().first(Http.Header.CONTENT_LENGTH), is(Optional.of("10")));
+        assertThat(response.headers().first(Http.Header.ETAG).isPresent(), is(true));
+        assertThat(response.asString().get(), is("aaaaaaaaaa"));
+        assertThat(stats.hits(), is(1L));
+
+        String etag = response.headers().first(Http.Header.ETAG).orElseThrow();
+        response = client.path("/a.txt")
+                .header(Http.Header.IF_NONE_MATCH, etag)
+                .get();
+        assertThat(response.status(), is(Http.Status.NOT_MODIFIED_304));
+
+        response = client.path("/a.txt")
+                .header(Http.Header.RANGE, "bytes=0-1,5-6")
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(stats.hits(), is(3L));
+    }
+
+    @Test
+    void testLargeFileNotCached() throws Exception {
+        StaticContentSupport support = StaticContentSupport.builder(root)
+                .memoryCache(1024)
+                .memoryCacheMaxFileSize(50)
+                .build();
+        TestClient client = TestClient.create(Routing.builder().register(support));
+        StaticContentSupport.MemoryCacheStats stats = support.memoryCacheStats().orElseThrow();
+
+        TestResponse response = client.path("/large.txt").get();
+        assertThat(response.asString().get(), is("x".repeat(100)));
+        response = client.path("/large.txt").get();
+        assertThat(response.asString().get(), is("x".repeat(100)));
+        assertThat(stats.entries(), is(0));
+        assertThat(stats.hits(), is(0L));
+    }
+
+    @Test
+    void testEviction() throws Exception {
+        StaticContentSupport support = StaticContentSupport.builder(root)
+                .memoryCache(15)
+                .build();
+        TestClient client = TestClient.create(Routing.builder().register(support));
+        StaticContentSupport.MemoryCacheStats stats = support.memoryCacheStats().orElseThrow();
+
+        client.path("/a.txt").get();
+        client.path("/b.txt").get();
+        assertThat(stats.evictions(), is(1L));
+        assertThat(stats.entries(), is(1));
+        assertThat(stats.size(), is(10L));
+
+        TestResponse response = client.path("/b.txt").get();
+        assertThat(response.asString().get(), is("bbbbbbbbbb"));
+        assertThat(stats.hits(), is(1L));
+    }
+
+    @Test
+    void testModifiedFile() throws Exception {
+        StaticContentSupport support = StaticContentSupport.builder(root)
+                .memoryCache(1024)
+                .memoryCacheTtl(Duration.ZERO)
+                .build();
+        TestClient client = TestClient.create(Routing.builder().register(support));
+        StaticContentSupport.MemoryCacheStats stats = support.memoryCacheStats().orElseThrow();
+
+        TestResponse response = client.path("/a.txt").get();
+        assertThat(response.asString().get(), is("aaaaaaaaaa"));
+        response = client.path("/a.txt").get();
+        assertThat(response.asString().get(), is("aaaaaaaaaa"));
+        assertThat(stats.hits(), is(1L));
+
+        Path file = root.resolve("a.txt");
+        Files.write(file, "changed".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+
+        response = client.path("/a.txt").get();
+        assertThat(response.asString().get(), is("changed"));
+        assertThat(stats.hits(), is(1L));
+        assertThat(stats.misses(), is(2L));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.common.http.Http;
+import io.helidon.webserver.RequestHeaders;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.testsupport.TestClient;
+import io.helidon.webserver.testsupport.TestResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests serving of precompressed variants by {@link FileBasedContentHandler}.
+ */
+class PrecompressedTest {
+
+    private static final String CONTENT = "function a() { return 'aaaaaaaaaa'; }";
+    private static final byte[] BROTLI_CONTENT = "brotli".getBytes(StandardCharsets.UTF_8);
+
+    private Path root;
+    private byte[] gzipContent;
+
+    @BeforeEach
+    void createRoot() throws Exception {
+        root = Files.createTempDirectory("static-content");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(baos)) {
+            out.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }
+        gzipContent = baos.toByteArray();
+
+        Files.writeString(root.resolve("a.js"), CONTENT);
+        Files.write(root.resolve("a.js.gz"), gzipContent);
+        Files.write(root.resolve("a.js.br"), BROTLI_CONTENT);
+        Files.writeString(root.resolve("b.js"), CONTENT);
+        Files.write(root.resolve("b.js.gz"), gzipContent);
+        Files.setLastModifiedTime(root.resolve("b.js"), FileTime.from(Instant.now().plusSeconds(60)));
+        Files.writeString(root.resolve("c.js"), CONTENT);
+    }
+
+    @AfterEach
+    void deleteRoot() throws Exception {
+        try (var files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(root);
+    }
+
+    @Test
+    void testContentEncoding() {
+        assertThat(FileBasedContentHandler.contentEncoding(headers("gzip, deflate, br"), true, true), is("br"));
+        assertThat(FileBasedContentHandler.contentEncoding(headers("gzip, deflate, br"), false, true), is("gzip"));
+        assertThat(FileBasedContentHandler.contentEncoding(headers("gzip;q=1.0, br;q=0.5"), true, true), is("gzip"));
+        assertThat(FileBasedContentHandler.contentEncoding(headers("br;q=0, gzip"), true, false), is((String) null));
+        assertThat(FileBasedContentHandler.contentEncoding(headers("*"), true, true), is("br"));
+        assertThat(FileBasedContentHandler.contentEncoding(headers("*;q=0.1, br;q=0"), true, true), is("gzip"));
+        assertThat(FileBasedContentHandler.contentEncoding(headers("identity"), true, true), is((String) null));
+    }
+
+    @Test
+    void testDisabledByDefault() throws Exception {
+        TestClient client = TestClient.create(Routing.builder().register(StaticContentSupport.create(root)));
+        TestResponse response = client.path("/a.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip, br")
+                .get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING), is(Optional.empty()));
+        assertThat(response.asString().get(), is(CONTENT));
+    }
+
+    @Test
+    void testPrecompressed() throws Exception {
+        TestClient client = client();
+
+        TestResponse response = client.path("/a.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip, br")
+                .get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING), is(Optional.of("br")));
+        assertThat(response.headers().first(Http.Header.VARY), is(Optional.of(Http.Header.ACCEPT_ENCODING)));
+        assertThat(response.headers().first(Http.Header.CONTENT_TYPE), is(Optional.of("text/javascript")));
+        assertThat(response.asBytes().get(), is(BROTLI_CONTENT));
+        String brotliEtag = response.headers().first(Http.Header.ETAG).orElseThrow();
+
+        response = client.path("/a.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING), is(Optional.of("gzip")));
+        assertThat(response.asBytes().get(), is(gzipContent));
+        assertThat(response.headers().first(Http.Header.ETAG).orElseThrow(), is(not(brotliEtag)));
+
+        response = client.path("/a.js")
+                .header(Http.Header.ACCEPT_ENCODING, "br")
+                .header(Http.Header.IF_NONE_MATCH, brotliEtag)
+                .get();
+        assertThat(response.status(), is(Http.Status.NOT_MODIFIED_304));
+    }
+
+    @Test
+    void testIdentity() throws Exception {
+        TestClient client = client();
+
+        TestResponse response = client.path("/a.js").get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING), is(Optional.empty()));
+        assertThat(response.headers().first(Http.Header.VARY), is(Optional.of(Http.Header.ACCEPT_ENCODING)));
+        assertThat(response.asString().get(), is(CONTENT));
+
+        response = client.path("/a.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip, br")
+                .header(Http.Header.RANGE, "bytes=0-7")
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING), is(Optional.empty()));
+        assertThat(response.asString().get(), is("function"));
+    }
+
+    @Test
+    void testStaleVariantIgnored() throws Exception {
+        TestClient client = client();
+
+        TestResponse response = client.path("/b.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING), is(Optional.empty()));
+        assertThat(response.headers().first(Http.Header.VARY), is(Optional.empty()));
+        assertThat(response.asString().get(), is(CONTENT));
+    }
+
+    @Test
+    void testNotCachedInMemory() throws Exception {
+        StaticContentSupport support = StaticContentSupport.builder(root)
+                .precompressed(true)
+                .memoryCache(1024)
+                .build();
+        TestClient client = TestClient.create(Routing.builder().register(support));
+
+        client.path("/a.js").get();
+        client.path("/c.js").get();
+        assertThat(support.memoryCacheStats().orElseThrow().entries(), is(1));
+
+        TestResponse response = client.path("/a.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .get();
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING), is(Optional.of("gzip")));
+        assertThat(response.asBytes().get(), is(gzipContent));
+    }
+
+    private TestClient client() {
+        return TestClient.create(Routing.builder()
+                                         .register(StaticContentSupport.builder(root)
+                                                           .precompressed(true)
+                                                           .build()));
+    }
+
+    private static RequestHeaders headers(String acceptEncoding) {
+        RequestHeaders headers = mock(RequestHeaders.class);
+        when(headers.values(Http.Header.ACCEPT_ENCODING)).thenReturn(List.of(acceptEncoding));
+        return headers;
+    }
+}
@@ -16,9 +16,11 @@
 
 package io.helidon.webserver.staticcontent;
 
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
 import io.helidon.webserver.Routing;
 import io.helidon.webserver.testsupport.TestClient;
 import io.helidon.webserver.testsupport.TestResponse;
@@ -30,6 +32,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class StaticContentTest {
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
     private static TestClient testClient;
 
     @BeforeAll
@@ -48,4 +52,105 @@ class StaticContentTest {
 
         assertThat(testResponse.status(), is(Http.Status.OK_200));
     }
+
+    @Test
+    void testAcceptRanges() throws Exception {
+        TestResponse testResponse = testClient.path("/classpath/ranges.txt")
+                .get();
+
+        assertThat(testResponse.status(), is(Http.Status.OK_200));
+        assertThat(testResponse.headers().first(Http.Header.ACCEPT_RANGES), is(Optional.of("bytes")));
+        assertThat(testResponse.asString().get(), is(CONTENT));
+    }
+
+    @Test
+    void testSingleRange() throws Exception {
+        TestResponse testResponse = testClient.path("/classpath/ranges.txt")
+                .header(Http.Header.RANGE, "bytes=10-15")
+                .get();
+
+        assertThat(testResponse.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(testResponse.headers().first(Http.Header.CONTENT_RANGE), is(Optional.of("bytes 10-15/36")));
+        assertThat(testResponse.headers().first(Http.Header.CONTENT_LENGTH), is(Optional.of("6")));
+        assertThat(testResponse.asString().get(), is("abcdef"));
+    }
+
+    @Test
+    void testSuffixRange() throws Exception {
+        TestResponse testResponse = testClient.path("/classpath/ranges.txt")
+                .header(Http.Header.RANGE, "bytes=-3")
+                .get();
+
+        assertThat(testResponse.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(testResponse.headers().first(Http.Header.CONTENT_RANGE), is(Optional.of("bytes 33-35/36")));
+        assertThat(testResponse.asString().get(), is("xyz"));
+    }
+
+    @Test
+    void testMultipleRanges() throws Exception {
+        TestResponse testResponse = testClient.path("/classpath/ranges.txt")
+                .header(Http.Header.RANGE, "bytes=0-1,10-11")
+                .get();
+
+        assertThat(testResponse.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        MediaType contentType = testResponse.headers()
+                .first(Http.Header.CONTENT_TYPE)
+                .map(MediaType::parse)
+                .orElseThrow();
+        assertThat(contentType.type(), is("multipart"));
+        assertThat(contentType.subtype(), is("byteranges"));
+        String boundary = contentType.parameters().get("boundary");
+        String body = testResponse.asString().get();
+        assertThat(body, is("\r\n--" + boundary + "\r\n"
+                                    + "Content-Type: text/plain\r\n"
+                                    + "Content-Range: bytes 0-1/36\r\n"
+                                    + "\r\n"
+                                    + "01"
+                                    + "\r\n--" + boundary + "\r\n"
+                                    + "Content-Type: text/plain\r\n"
+                                    + "Content-Range: bytes 10-11/36\r\n"
+                                    + "\r\n"
+                                    + "ab"
+                                    + "\r\n--" + boundary + "--\r\n"));
+        assertThat(testResponse.headers().first(Http.Header.CONTENT_LENGTH),
+                   is(Optional.of(String.valueOf(body.length()))));
+    }
+
+    @Test
+    void testNotSatisfiableRange() throws Exception {
+        TestResponse testResponse = testClient.path("/classpath/ranges.txt")
+                .header(Http.Header.RANGE, "bytes=100-")
+                .get();
+
+        assertThat(testResponse.status(), is(Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416));
+        assertThat(testResponse.headers().first(Http.Header.CONTENT_RANGE), is(Optional.of("bytes */36")));
+    }
+
+    @Test
+    void testIfRange() throws Exception {
+        TestResponse testResponse = testClient.path("/classpath/ranges.txt")
+                .get();
+        String etag = testResponse.headers().first(Http.Header.ETAG).orElseThrow();
+        String lastModified = testResponse.headers().first(Http.Header.LAST_MODIFIED).orElseThrow();
+
+        testResponse = testClient.path("/classpath/ranges.txt")
+                .header(Http.Header.RANGE, "bytes=0-1")
+                .header(Http.Header.IF_RANGE, etag)
+                .get();
+        assertThat(testResponse.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(testResponse.asString().get(), is("01"));
+
+        testResponse = testClient.path("/classpath/ranges.txt")
+                .header(Http.Header.RANGE, "bytes=0-1")
+                .header(Http.Header.IF_RANGE, lastModified)
+                .get();
+        assertThat(testResponse.status(), is(Http.Status.PARTIAL_CONTENT_206));
+
+        testResponse = testClient.path("/classpath/ranges.txt")
+                .header(Http.Header.RANGE, "bytes=0-1")
+                .header(Http.Header.IF_RANGE, "\"other\"")
+                .get();
+        assertThat(testResponse.status(), is(Http.Status.OK_200));
+        assertThat(testResponse.asString().get(), is(CONTENT));
+    }
 }
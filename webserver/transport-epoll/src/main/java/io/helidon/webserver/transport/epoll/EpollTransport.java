@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.transport.epoll;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import io.helidon.config.Config;
+import io.helidon.webserver.ServerConfiguration;
+import io.helidon.webserver.Transport;
+import io.helidon.webserver.WebServer;
+
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollServerSocketChannelConfig;
+
+/**
+ * Native epoll {@link Transport} of the Netty based {@link WebServer}, available on Linux.
+ * <p>
+ * When this module is on the classpath (or module path), the transport is used automatically if the native
+ * library can be loaded, and the server falls back to the NIO transport otherwise. It can also be configured
+ * explicitly using {@link WebServer.Builder#transport(Transport)}.
+ * <p>
+ * With more than one {@link Builder#acceptors(int) acceptor}, each server socket is bound several times to the same
+ * port using {@code SO_REUSEPORT}, and the kernel distributes incoming connections between the acceptors.
+ */
+public final class EpollTransport implements Transport {
+    private final int acceptors;
+    private final int tcpFastOpen;
+    private final EpollMode epollMode;
+
+    /**
+     * Create a transport with default configuration.
+     *
+     * @deprecated Only for {@link java.util.ServiceLoader}, use {@link #create()} or {@link #builder()}
+     */
+    @Deprecated
+    public EpollTransport() {
+        this(builder());
+    }
+
+    private EpollTransport(Builder builder) {
+        this.acceptors = builder.acceptors;
+        this.tcpFastOpen = builder.tcpFastOpen;
+        this.epollMode = builder.edgeTriggered ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+    }
+
+    /**
+     * Create a transport with default configuration.
+     *
+     * @return a new transport
+     */
+    public static EpollTransport create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a transport from configuration.
+     *
+     * @param config configuration
+     * @return a new transport
+     * @see Builder#config(Config)
+     */
+    public static EpollTransport create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * A fluent API builder for {@link EpollTransport}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether the native epoll transport can be used on this system.
+     *
+     * @return {@code true} if the native library is available
+     */
+    public static boolean isAvailable() {
+        return Epoll.isAvailable();
+    }
+
+    @Override
+    public boolean isAvailableFor(WebServer webserver) {
+        return isAvailable();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> createTransportArtifact(Class<T> artifactType,
+                                                   String artifactName,
+                                                   ServerConfiguration config) {
+        if (EventLoopGroup.class.isAssignableFrom(artifactType)) {
+            switch (artifactName) {
+            case "bossGroup":
+                return Optional.of((T) new EpollEventLoopGroup(config.sockets().size() * acceptors));
+            case "workerGroup":
+                return Optional.of((T) new EpollEventLoopGroup(Math.max(0, config.workersCount())));
+            default:
+                return Optional.empty();
+            }
+        } else if (ChannelFactory.class.isAssignableFrom(artifactType)) {
+            switch (artifactName) {
+            case "serverChannelFactory":
+                ChannelFactory<? extends ServerChannel> cf = this::serverChannel;
+                return Optional.of((T) cf);
+            default:
+                return Optional.empty();
+            }
+        } else if (Integer.class.equals(artifactType) && "acceptorCount".equals(artifactName)) {
+            return Optional.of((T) Integer.valueOf(acceptors));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EpollTransport{"
+                + "acceptors=" + acceptors
+                + ", tcpFastOpen=" + tcpFastOpen
+                + ", epollMode=" + epollMode
+                + '}';
+    }
+
+    private EpollServerSocketChannel serverChannel() {
+        EpollServerSocketChannel channel = new EpollServerSocketChannel();
+        EpollServerSocketChannelConfig config = channel.config();
+        config.setEpollMode(epollMode);
+        if (acceptors > 1) {
+            config.setReusePort(true);
+        }
+        if (tcpFastOpen > 0) {
+            config.setTcpFastopen(tcpFastOpen);
+        }
+        return channel;
+    }
+
+    /**
+     * Fluent API builder for {@link EpollTransport}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<EpollTransport> {
+        private int acceptors = 1;
+        private int tcpFastOpen;
+        private boolean edgeTriggered = true;
+
+        private Builder() {
+        }
+
+        @Override
+        public EpollTransport build() {
+            return new EpollTransport(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         * <p>
+         * Configuration options:
+         * <table class="config">
+         * <caption>Epoll transport configuration</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default value</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>acceptors</td>
+         *     <td>{@code 1}</td>
+         *     <td>Number of acceptors bound to each server socket, see {@link #acceptors(int)}</td>
+         * </tr>
+         * <tr>
+         *     <td>tcp-fast-open</td>
+         *     <td>{@code 0}</td>
+         *     <td>Length of the TCP Fast Open queue, see {@link #tcpFastOpen(int)}</td>
+         * </tr>
+         * <tr>
+         *     <td>epoll-mode</td>
+         *     <td>{@code edge-triggered}</td>
+         *     <td>{@code edge-triggered} or {@code level-triggered}, see {@link #edgeTriggered(boolean)}</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of the transport
+         * @return updated builder
+         */
+        public Builder config(Config config) {
+            config.get("acceptors").asInt().ifPresent(this::acceptors);
+            config.get("tcp-fast-open").asInt().ifPresent(this::tcpFastOpen);
+            config.get("epoll-mode").asString()
+                    .map(it -> it.toLowerCase(Locale.ROOT))
+                    .ifPresent(it -> {
+                        switch (it) {
+                        case "edge-triggered":
+                            edgeTriggered(true);
+                            break;
+                        case "level-triggered":
+                            edgeTriggered(false);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unsupported epoll mode: " + it);
+                        }
+                    });
+            return this;
+        }
+
+        /**
+         * Number of acceptors bound to each server socket. When more than one, the server sockets are bound using
+         * {@code SO_REUSEPORT} and accept connections in parallel.
+         * Defaults to {@code 1}.
+         *
+         * @param acceptors number of acceptors per server socket
+         * @return updated builder
+         */
+        public Builder acceptors(int acceptors) {
+            if (acceptors < 1) {
+                throw new IllegalArgumentException("Number of acceptors must be at least 1, but is: " + acceptors);
+            }
+            this.acceptors = acceptors;
+            return this;
+        }
+
+        /**
+         * Enable TCP Fast Open on the server sockets with the given length of the pending requests queue.
+         * Requires TCP Fast Open to be enabled in the kernel ({@code net.ipv4.tcp_fastopen}).
+         * Defaults to {@code 0} (disabled).
+         *
+         * @param queueLength length of the TCP Fast Open queue, {@code 0} to disable
+         * @return updated builder
+         */
+        public Builder tcpFastOpen(int queueLength) {
+            if (queueLength < 0) {
+                throw new IllegalArgumentException("TCP Fast Open queue length must not be negative, but is: "
+                                                           + queueLength);
+            }
+            this.tcpFastOpen = queueLength;
+            return this;
+        }
+
+        /**
+         * Whether the server sockets use edge-triggered epoll mode, or level-triggered mode.
+         * Defaults to {@code true}.
+         *
+         * @param edgeTriggered {@code true} for edge-triggered, {@code false} for level-triggered mode
+         * @return updated builder
+         */
+        public Builder edgeTriggered(boolean edgeTriggered) {
+            this.edgeTriggered = edgeTriggered;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.transport.epoll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.webclient.WebClient;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.WebServer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests {@link EpollTransport}.
+ */
+class EpollTransportTest {
+
+    @Test
+    void testConfig() {
+        Config config = Config.create(ConfigSources.create(Map.of("acceptors", "4",
+                                                                  "tcp-fast-open", "256",
+                                                                  "epoll-mode", "level-triggered")));
+        String transport = EpollTransport.create(config).toString();
+        assertThat(transport, containsString("acceptors=4"));
+        assertThat(transport, containsString("tcpFastOpen=256"));
+        assertThat(transport, containsString("epollMode=LEVEL_TRIGGERED"));
+    }
+
+    @Test
+    void testInvalidAcceptors() {
+        assertThrows(IllegalArgumentException.class, () -> EpollTransport.builder().acceptors(0));
+    }
+
+    @Test
+    void testServer() throws Exception {
+        assumeTrue(EpollTransport.isAvailable(), "Native epoll transport is not available");
+
+        testServer(EpollTransport.create(), 1);
+    }
+
+    @Test
+    void testServerReusePort() throws Exception {
+        assumeTrue(EpollTransport.isAvailable(), "Native epoll transport is not available");
+
+        testServer(EpollTransport.builder()
+                           .acceptors(4)
+                           .build(), 4);
+    }
+
+    private static void testServer(EpollTransport transport, int acceptors) throws Exception {
+        WebServer server = WebServer.builder()
+                .routing(Routing.builder()
+                                 .get("/hello", (req, res) -> res.send("Hello")))
+                .transport(transport)
+                .build()
+                .start()
+                .await(10, TimeUnit.SECONDS);
+        try {
+            assertThat(listeningSockets(server.port()), is(acceptors));
+
+            WebClient client = WebClient.builder()
+                    .baseUri("http://localhost:" + server.port())
+                    .build();
+            for (int i = 0; i < 10; i++) {
+                String response = client.get()
+                        .path("/hello")
+                        .request(String.class)
+                        .await(10, TimeUnit.SECONDS);
+                assertThat(response, is("Hello"));
+            }
+        } finally {
+            server.shutdown().await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // number of sockets listening on the port, as reported by the kernel
+    private static int listeningSockets(int port) throws IOException {
+        int count = 0;
+        for (String table : List.of("/proc/net/tcp", "/proc/net/tcp6")) {
+            Path path = Paths.get(table);
+            if (!Files.exists(path)) {
+                continue;
+            }
+            List<String> lines = Files.readAllLines(path);
+            // skip the header, columns are: sl local_address rem_address st ...
+            for (String line : lines.subList(1, lines.size())) {
+                String[] columns = line.trim().split("\\s+");
+                String localAddress = columns[1];
+                int localPort = Integer.parseInt(localAddress.substring(localAddress.lastIndexOf(':') + 1), 16);
+                // 0A is the LISTEN state
+                if (localPort == port && "0A".equals(columns[3])) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -73,6 +73,10 @@ class BareRequestImpl implements BareRequest {
 
     @Override
     public Http.Version version() {
+        // the requests of HTTP/2 streams are converted to HTTP/1.1 requests, the connection tells the actual version
+        if (ctx.pipeline().get(HelidonConnectionHandler.class) != null) {
+            return Http.Version.V2_0;
+        }
         return Http.Version.create(nettyRequest.protocolVersion().text());
     }
 
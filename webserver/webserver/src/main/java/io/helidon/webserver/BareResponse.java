@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Flow;
+import java.util.function.Supplier;
 
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.Http;
@@ -50,6 +51,19 @@ public interface BareResponse extends Flow.Subscriber<DataChunk> {
      */
     Single<BareResponse> whenHeadersCompleted();
 
+    /**
+     * Register the trailing headers to send once the response is completed. The supplier is called
+     * when the last content is written, unless the response is completed with an error.
+     * <p>
+     * Should be called before {@link #writeStatusAndHeaders(Http.ResponseStatus, Map)}, as trailers
+     * require the content to be sent without a content length.
+     * Implementations that do not support trailers ignore the supplier.
+     *
+     * @param trailers supplier of the trailing headers
+     */
+    default void trailers(Supplier<Map<String, List<String>>> trailers) {
+    }
+
     /**
      * Returns a {@link Single} of this response. The stage is completed when all response data are sent or response
      * channel is finished.
@@ -16,6 +16,8 @@
 
 package io.helidon.webserver;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -25,27 +27,38 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileRegionDataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.reactive.Single;
+import io.helidon.media.common.DataChunkFactory;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseEncoder;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 
@@ -63,6 +76,7 @@ class BareResponseImpl implements BareResponse {
     private static final String HTTP_2_HEADER_PREFIX = "x-http2";
     private static final String HTTP_2_STREAM_ID = "x-http2-stream-id";
     private static final SocketClosedException CLOSED = new SocketClosedException("Response channel is closed!");
+    private static final int FILE_REGION_CHUNK_SIZE = 8192;
 
     private final boolean keepAlive;
     private final ChannelHandlerContext ctx;
@@ -73,6 +87,10 @@ class BareResponseImpl implements BareResponse {
     private final BooleanSupplier requestContentConsumed;
     private final long requestId;
     private final String http2StreamId;
+    private final int streamId;
+    private final boolean fileRegionSupported;
+    private final boolean fileRegionChunked;
+    private final DataChunkFactory dataChunkFactory;
     private final HttpHeaders requestHeaders;
     private final ChannelFuture channelClosedFuture;
     private final GenericFutureListener<? extends Future<? super Void>> channelClosedListener;
@@ -83,6 +101,7 @@ class BareResponseImpl implements BareResponse {
     private CompletableFuture<?> prevRequestChunk;
 
     // Accessed by writeStatusHeaders(status, headers) method
+    private volatile Supplier<Map<String, List<String>>> trailers;
     private volatile boolean lengthOptimization;
     private volatile boolean isWebSocketUpgrade = false;
     private volatile DefaultHttpResponse response;
@@ -109,6 +128,26 @@ class BareResponseImpl implements BareResponse {
         this.prevRequestChunk = prevRequestChunk;
         this.http2StreamId = requestHeaders.get(HTTP_2_STREAM_ID);
 
+        // File regions are written as is by the HTTP/1.1 encoder, content compression would need the bytes.
+        // With TLS the content must be encrypted, so the file is read in chunks by ChunkedWriteHandler instead.
+        ChannelPipeline pipeline = ctx.pipeline();
+        this.fileRegionChunked = pipeline.get(SslHandler.class) != null;
+        this.fileRegionSupported = http2StreamId == null
+                && pipeline.get(HttpResponseEncoder.class) != null
+                && pipeline.get(HttpContentCompressor.class) == null
+                && (!fileRegionChunked || pipeline.get(ChunkedWriteHandler.class) != null);
+
+        // The content of HTTP/2 streams is tagged with the stream, as the responses of concurrent streams
+        // are interleaved on the connection.
+        this.streamId = http2StreamId != null && pipeline.get(HelidonConnectionHandler.class) != null
+                ? Integer.parseInt(http2StreamId)
+                : -1;
+
+        // Content encoded by the writers directly into pooled direct buffers is written without any copy.
+        this.dataChunkFactory = ctx.alloc().isDirectBufferPooled()
+                ? ByteBufDataChunkFactory.create(ctx.alloc())
+                : DataChunkFactory.heap();
+
         // We need to keep this listener so we can remove it when this response completes. If we don't, we leak
         // while the channel remains open since each response adds a new listener that references 'this'.
         // Use fields to avoid capturing lambdas.
@@ -146,6 +185,11 @@ class BareResponseImpl implements BareResponse {
         responseFuture.completeExceptionally(CLOSED);
     }
 
+    @Override
+    public void trailers(Supplier<Map<String, List<String>>> trailers) {
+        this.trailers = Objects.requireNonNull(trailers, "Parameter 'trailers' was null!");
+    }
+
     @Override
     public void writeStatusAndHeaders(Http.ResponseStatus status, Map<String, List<String>> headers) {
         Objects.requireNonNull(status, "Parameter 'statusCode' was null!");
@@ -172,7 +216,8 @@ class BareResponseImpl implements BareResponse {
             boolean lengthSet = HttpUtil.isContentLengthSet(response);
             if (!lengthSet) {
                 lengthOptimization = status.code() == Http.Status.OK_200.code()
-                        && !HttpUtil.isTransferEncodingChunked(response);
+                        && !HttpUtil.isTransferEncodingChunked(response)
+                        && trailers == null;
                 HttpUtil.setTransferEncodingChunked(response, true);
             }
         }
@@ -280,9 +325,11 @@ class BareResponseImpl implements BareResponse {
         if (lengthOptimization) {
             if (firstChunk != null) {
                 if (throwable == null) {
-                    HttpUtil.setTransferEncodingChunked(response, false);
-                    HttpUtil.setContentLength(response, firstChunk.remaining());
-                    chunked = false;
+                    if (trailers == null) {
+                        HttpUtil.setTransferEncodingChunked(response, false);
+                        HttpUtil.setContentLength(response, firstChunk.remaining());
+                        chunked = false;
+                    }
                 } else {
                     //headers not sent yet
                     response.setStatus(HttpResponseStatus.INTERNAL_SERVER_ERROR);
@@ -301,9 +348,11 @@ class BareResponseImpl implements BareResponse {
                         .set(Response.STREAM_STATUS, 500)
                         .set(Response.STREAM_RESULT, throwable);
                 LOGGER.severe(() -> log("Upstream error while sending response: %s", throwable));
+            } else if (trailers != null) {
+                trailers.get().forEach(lastHttpContent.trailingHeaders()::add);
             }
         }
-        ctx.writeAndFlush(lastHttpContent)
+        ctx.writeAndFlush(streamContent(lastHttpContent))
                 .addListener(completeOnFailureListener("An exception occurred when writing last http content."))
                 .addListener(completeOnSuccessListener(throwable))
                 .addListener(closeAction);
@@ -327,6 +376,25 @@ class BareResponseImpl implements BareResponse {
         };
     }
 
+    /**
+     * Whether {@link FileRegionDataChunk} can be written by this response without
+     * loading the file content into memory.
+     *
+     * @return {@code true} if file regions are supported
+     */
+    boolean fileRegionSupported() {
+        return fileRegionSupported;
+    }
+
+    /**
+     * Get the factory of the chunks written by this response.
+     *
+     * @return pooled direct buffer factory if the channel allocator pools direct buffers, heap factory otherwise
+     */
+    DataChunkFactory dataChunkFactory() {
+        return dataChunkFactory;
+    }
+
     @Override
     public void onSubscribe(Flow.Subscription subscription) {
         this.subscription = subscription;
@@ -336,6 +404,9 @@ class BareResponseImpl implements BareResponse {
     @Override
     public void onNext(DataChunk data) {
         if (internallyClosed.get()) {
+            if (data != null) {
+                data.release();
+            }
             throw new IllegalStateException("Response is already closed!");
         }
         if (data != null) {
@@ -404,8 +475,20 @@ class BareResponseImpl implements BareResponse {
     private ChannelFuture sendData(DataChunk data) {
         LOGGER.finest(() -> log("Sending data chunk"));
 
-        DefaultHttpContent httpContent;
-        if (data.isBackedBy(ByteBuf.class)) {
+        Object httpContent;
+        if (data instanceof FileRegionDataChunk) {
+            FileRegionDataChunk region = (FileRegionDataChunk) data;
+            if (fileRegionChunked) {
+                try {
+                    httpContent = new ChunkedNioFile(region.channel(), region.position(), region.count(),
+                                                     FILE_REGION_CHUNK_SIZE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else {
+                httpContent = new DefaultFileRegion(region.channel(), region.position(), region.count());
+            }
+        } else if (data.isBackedBy(ByteBuf.class)) {
             // DefaultHttpContent will call release, we retain to also call ours
             ByteBuf[] byteBufs = data.data(ByteBuf.class);
             if (byteBufs.length == 1) {
@@ -419,6 +502,9 @@ class BareResponseImpl implements BareResponse {
         } else {
             httpContent = new DefaultHttpContent(Unpooled.wrappedBuffer(data.data()));
         }
+        if (httpContent instanceof HttpContent) {
+            httpContent = streamContent((HttpContent) httpContent);
+        }
 
         LOGGER.finest(() -> log("Sending data chunk on event loop thread", ctx));
 
@@ -447,6 +533,16 @@ class BareResponseImpl implements BareResponse {
     }
 
 
+    /**
+     * Tag the content with the HTTP/2 stream of this response.
+     *
+     * @param content the content
+     * @return the content to write
+     */
+    private Object streamContent(HttpContent content) {
+        return streamId < 0 ? content : new HelidonConnectionHandler.StreamContent(streamId, content);
+    }
+
     @Override
     public void onError(Throwable thr) {
         completeInternal(thr);
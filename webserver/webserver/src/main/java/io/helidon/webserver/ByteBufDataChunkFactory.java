@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.charset.Charset;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.media.common.DataChunkFactory;
+import io.helidon.media.common.DataChunkOutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Factory of {@link ByteBufDataChunk}s allocated in the direct memory of a pooled {@link ByteBufAllocator}.
+ * The chunks are written by the transport without any copy, and their buffers are returned to the pool
+ * once the chunks are released after the write completes.
+ */
+final class ByteBufDataChunkFactory implements DataChunkFactory {
+
+    private final ByteBufAllocator allocator;
+
+    private ByteBufDataChunkFactory(ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Create a factory of chunks allocated by the given allocator.
+     *
+     * @param allocator the allocator, should pool direct buffers
+     * @return new factory
+     */
+    static ByteBufDataChunkFactory create(ByteBufAllocator allocator) {
+        return new ByteBufDataChunkFactory(allocator);
+    }
+
+    @Override
+    public DataChunkOutputStream outputStream(int sizeHint) {
+        return new PooledOutputStream(sizeHint > 0 ? allocator.directBuffer(sizeHint) : allocator.directBuffer());
+    }
+
+    private static final class PooledOutputStream extends DataChunkOutputStream {
+
+        private final ByteBuf byteBuf;
+
+        private PooledOutputStream(ByteBuf byteBuf) {
+            this.byteBuf = byteBuf;
+        }
+
+        @Override
+        public void write(CharSequence chars, Charset charset) {
+            // encodes UTF-8 and ASCII directly into the buffer
+            byteBuf.writeCharSequence(chars, charset);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            byteBuf.writeBytes(b, off, len);
+        }
+
+        @Override
+        public void write(int b) {
+            byteBuf.writeByte(b);
+        }
+
+        @Override
+        public DataChunk toDataChunk(boolean flush) {
+            // read only, the buffer must not be duplicated or exposed as an array
+            return ByteBufDataChunk.create(flush, true, byteBuf::release, byteBuf);
+        }
+
+        @Override
+        public void release() {
+            byteBuf.release();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,15 @@ package io.helidon.webserver;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpScheme;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http2.AbstractHttp2ConnectionHandlerBuilder;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
 import io.netty.handler.codec.http2.Http2ConnectionDecoder;
@@ -33,9 +37,12 @@ import io.netty.handler.codec.http2.Http2FrameListener;
 import io.netty.handler.codec.http2.Http2FrameLogger;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandler;
 import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapter;
 import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapterBuilder;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.PromiseCombiner;
 
 import static io.netty.handler.logging.LogLevel.DEBUG;
 
@@ -78,6 +85,48 @@ class HelidonConnectionHandler extends HttpToHttp2ConnectionHandler implements H
         super.userEventTriggered(ctx, evt);
     }
 
+    /**
+     * Writes the content of a stream to the stream it is tagged with. The superclass writes any content
+     * to the stream of the last written headers, which is only correct if the responses are not interleaved.
+     *
+     * @param ctx the channel handler context
+     * @param msg the message to write
+     * @param promise the promise of the write
+     */
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof StreamContent)) {
+            super.write(ctx, msg, promise);
+            return;
+        }
+        StreamContent streamContent = (StreamContent) msg;
+        HttpContent content = streamContent.content;
+        HttpHeaders trailers = content instanceof LastHttpContent
+                ? ((LastHttpContent) content).trailingHeaders()
+                : null;
+        boolean hasTrailers = trailers != null && !trailers.isEmpty();
+        try {
+            PromiseCombiner promiseCombiner = new PromiseCombiner(ctx.executor());
+            if (content.content().isReadable() || !hasTrailers) {
+                boolean endStream = trailers != null && !hasTrailers;
+                // the encoder releases the content
+                promiseCombiner.add(encoder().writeData(ctx, streamContent.streamId, content.content().retain(), 0,
+                                                        endStream, ctx.newPromise()));
+            }
+            if (hasTrailers) {
+                Http2Headers http2Trailers = HttpConversionUtil.toHttp2Headers(trailers, true);
+                promiseCombiner.add(encoder().writeHeaders(ctx, streamContent.streamId, http2Trailers, 0, true,
+                                                           ctx.newPromise()));
+            }
+            promiseCombiner.finish(promise);
+        } catch (Throwable t) {
+            onError(ctx, true, t);
+            promise.tryFailure(t);
+        } finally {
+            ReferenceCountUtil.release(content);
+        }
+    }
+
     @Override
     public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding,
                           boolean endOfStream) throws Http2Exception {
@@ -153,6 +202,19 @@ class HelidonConnectionHandler extends HttpToHttp2ConnectionHandler implements H
         inboundAdapter.onUnknownFrame(ctx, frameType, streamId, flags, payload);
     }
 
+    /**
+     * The content of a response, tagged with the HTTP/2 stream of the response.
+     */
+    static final class StreamContent {
+        private final int streamId;
+        private final HttpContent content;
+
+        StreamContent(int streamId, HttpContent content) {
+            this.streamId = streamId;
+            this.content = content;
+        }
+    }
+
     static final class HelidonHttp2ConnectionHandlerBuilder extends
             AbstractHttp2ConnectionHandlerBuilder<HelidonConnectionHandler, HelidonHttp2ConnectionHandlerBuilder> {
 
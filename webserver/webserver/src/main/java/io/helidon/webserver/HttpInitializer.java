@@ -51,6 +51,7 @@ import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
@@ -199,6 +200,11 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
                 LOGGER.finer(() -> log("Compression negotiation enabled (gzip, deflate)", ch));
                 p.addLast(new HttpContentCompressor());
             }
+
+            // File regions cannot be transferred directly over TLS, they are written in chunks instead
+            if (context != null) {
+                p.addLast(new ChunkedWriteHandler());
+            }
         }
 
         // Helidon's forwarding handler
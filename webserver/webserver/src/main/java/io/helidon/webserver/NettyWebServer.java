@@ -19,12 +19,15 @@ package io.helidon.webserver;
 import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -33,6 +36,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -78,6 +82,7 @@ class NettyWebServer implements WebServer {
     private final Transport transport;
     private final EventLoopGroup bossGroup;
     private final EventLoopGroup workerGroup;
+    private final int acceptorCount;
     private final Map<String, ServerBootstrap> bootstraps = new HashMap<>();
     private final ServerConfiguration configuration;
     private final CompletableFuture<WebServer> startFuture = new CompletableFuture<>();
@@ -118,6 +123,7 @@ class NettyWebServer implements WebServer {
         this.transport = acquireTransport();
         this.bossGroup = bossGroup();
         this.workerGroup = workerGroup();
+        this.acceptorCount = acceptorCount();
         this.readerContext = MessageBodyReaderContext.create(readerContext);
         this.writerContext = MessageBodyWriterContext.create(writerContext);
 
@@ -227,6 +233,7 @@ class NettyWebServer implements WebServer {
 
             Set<Map.Entry<String, ServerBootstrap>> bootstrapEntries = bootstraps.entrySet();
             int bootstrapsSize = bootstrapEntries.size();
+            AtomicInteger channelsStarted = new AtomicInteger();
             for (Map.Entry<String, ServerBootstrap> entry : bootstrapEntries) {
                 ServerBootstrap bootstrap = entry.getValue();
                 String name = entry.getKey();
@@ -289,12 +296,18 @@ class NettyWebServer implements WebServer {
 
                         if (channelsUpFuture.isCompletedExceptionally()) {
                             channel.close();
+                            return;
                         }
 
-                        if (channels.size() >= bootstrapsSize) {
-                            LOGGER.finer(() -> "All channels started: " + channels.size());
-                            channelsUpFuture.complete(this);
-                        }
+                        bindAcceptors(name, bootstrap, channel).whenComplete((ignored, throwable) -> {
+                            if (throwable != null) {
+                                // closes all the channels, including this one and its acceptors
+                                channelsUpFuture.completeExceptionally(throwable.getCause());
+                            } else if (channelsStarted.incrementAndGet() >= bootstrapsSize) {
+                                LOGGER.finer(() -> "All channels started: " + channels.size());
+                                channelsUpFuture.complete(this);
+                            }
+                        });
                     });
                 } catch (RejectedExecutionException e) {
                     if (shutdownThreadGroupsInitiated.get()) {
@@ -312,6 +325,38 @@ class NettyWebServer implements WebServer {
         return Single.create(startFuture);
     }
 
+    /**
+     * Binds additional acceptor channels to the address of an already bound channel, if the transport
+     * supports more acceptors per socket (such as with {@code SO_REUSEPORT}).
+     * The additional channels are closed together with the bound channel.
+     *
+     * @return future completed once all the acceptors are bound, or exceptionally if any of them failed to bind
+     */
+    private CompletableFuture<Void> bindAcceptors(String name, ServerBootstrap bootstrap, Channel channel) {
+        SocketAddress address = channel.localAddress();
+        List<CompletableFuture<Void>> acceptors = new ArrayList<>();
+        for (int i = 1; i < acceptorCount; i++) {
+            CompletableFuture<Void> acceptorUp = new CompletableFuture<>();
+            acceptors.add(acceptorUp);
+            bootstrap.bind(address).addListener(channelFuture -> {
+                if (channelFuture.isSuccess()) {
+                    Channel acceptor = ((ChannelFuture) channelFuture).channel();
+                    LOGGER.fine(() -> "Channel '" + name + "' acceptor started: " + acceptor);
+                    channel.closeFuture().addListener(future -> acceptor.close());
+                    acceptorUp.complete(null);
+                } else {
+                    LOGGER.info(() -> "Channel '" + name + "' acceptor startup failed with message '"
+                            + channelFuture.cause().getMessage() + "'.");
+                    acceptorUp.completeExceptionally(new IllegalStateException("Channel startup failed: " + name
+                                                                                       + ", failed to start an additional "
+                                                                                       + "acceptor on " + address,
+                                                                               channelFuture.cause()));
+                }
+            });
+        }
+        return CompletableFuture.allOf(acceptors.toArray(new CompletableFuture[0]));
+    }
+
     private void started(WebServer server) {
         if (EXIT_ON_STARTED) {
             LOGGER.info(String.format("Exiting, -D%s set.", EXIT_ON_STARTED_KEY));
@@ -446,12 +491,23 @@ class NettyWebServer implements WebServer {
     }
 
     private Transport acquireTransport() {
-        Transport transport = configuration.transport().orElse(new NioTransport());
+        Transport transport = configuration.transport().orElseGet(this::loadTransport);
         // (Note that an NioTransport's isAvailableFor() method will
         // always return true when passed this.)
         return transport.isAvailableFor(this) ? transport : new NioTransport();
     }
 
+    private Transport loadTransport() {
+        // the first available transport on the classpath, such as the native epoll transport on Linux
+        for (Transport transport : ServiceLoader.load(Transport.class)) {
+            if (transport.isAvailableFor(this)) {
+                LOGGER.fine(() -> "Using webserver transport " + transport);
+                return transport;
+            }
+        }
+        return new NioTransport();
+    }
+
     private Transport transport() {
         return transport;
     }
@@ -477,6 +533,12 @@ class NettyWebServer implements WebServer {
             .orElseThrow(() -> noSuchTransportArtifact("serverChannelFactory"));
     }
 
+    private int acceptorCount() {
+        return transport()
+            .createTransportArtifact(Integer.class, "acceptorCount", configuration)
+            .orElse(1);
+    }
+
     private NoSuchElementException noSuchTransportArtifact(String name) {
         return new NoSuchElementException("The current webserver transport, "
                                           + transport() + ", could not supply "
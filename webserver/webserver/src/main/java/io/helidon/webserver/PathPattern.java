@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,11 @@
 
 package io.helidon.webserver;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -84,6 +86,7 @@ final class PathPattern {
         boolean isRegexp = false;
         boolean escape = false;
         boolean optionalSequence = false;
+        String literalPrefix = null;
         int paramCounter = 0;
         Map<String, String> paramToGroupName = new HashMap<>();
 
@@ -105,6 +108,9 @@ final class PathPattern {
                                                               pattern.toString(),
                                                               iter.index() - 1);
                     } else {
+                        if (literalPrefix == null) {
+                            literalPrefix = canonical.toString();
+                        }
                         optionalSequence = true;
                         isRegexp = true;
                         regexp.append('(');
@@ -119,6 +125,9 @@ final class PathPattern {
                     }
                     break;
                 case '{':
+                    if (literalPrefix == null) {
+                        literalPrefix = canonical.toString();
+                    }
                     isRegexp = true;
                     String name = parseParameter(iter, regexp, paramCounter);
                     if (name.length() > 0) {
@@ -144,7 +153,11 @@ final class PathPattern {
         }
         try {
             if (isRegexp) {
-                return new RegexpPathMatcher(regexp.toString(), paramToGroupName);
+                SegmentPathMatcher segmentMatcher = SegmentPathMatcher.create(pattern);
+                if (segmentMatcher != null) {
+                    return segmentMatcher;
+                }
+                return new RegexpPathMatcher(regexp.toString(), paramToGroupName, literalPrefix);
             } else {
                 return new CanonicalPathMatcher(canonical.toString());
             }
@@ -153,6 +166,48 @@ final class PathPattern {
         }
     }
 
+    /**
+     * Returns leading URI path segments which must be present in every path accepted by the provided matcher.
+     * Only whole literal segments are returned, so the result is empty for matchers which are not created by
+     * this class or which start with a parameter or an optional sequence.
+     *
+     * @param pathMatcher a path matcher, may be {@code null}
+     * @return literal segments, never {@code null}
+     */
+    static List<String> literalSegments(PathMatcher pathMatcher) {
+        String prefix;
+        if (pathMatcher instanceof CanonicalPathMatcher) {
+            prefix = ((CanonicalPathMatcher) pathMatcher).pattern;
+        } else if (pathMatcher instanceof RegexpPathMatcher) {
+            // the last segment of the literal prefix is not complete - cut it
+            String literalPrefix = ((RegexpPathMatcher) pathMatcher).literalPrefix;
+            prefix = literalPrefix.substring(0, Math.max(0, literalPrefix.lastIndexOf('/')));
+        } else if (pathMatcher instanceof SegmentPathMatcher) {
+            String literalPrefix = ((SegmentPathMatcher) pathMatcher).literals[0];
+            prefix = literalPrefix.substring(0, Math.max(0, literalPrefix.lastIndexOf('/')));
+        } else {
+            return Collections.emptyList();
+        }
+        if (prefix.isEmpty() || prefix.charAt(0) != '/') {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        int start = 1;
+        while (start < prefix.length()) {
+            int end = prefix.indexOf('/', start);
+            if (end < 0) {
+                end = prefix.length();
+            }
+            if (end == start) {
+                // empty segment, be conservative
+                break;
+            }
+            result.add(prefix.substring(start, end));
+            start = end + 1;
+        }
+        return result;
+    }
+
     private static void escapeIfNeeded(char ch, StringBuilder builder) {
         if (Arrays.binarySearch(REGEXP_META_CHARACTERS, ch) < 0) {
             builder.append(ch);
@@ -339,6 +394,196 @@ final class PathPattern {
         }
     }
 
+    /**
+     * Matcher of patterns where every parameter takes a whole path segment and no custom regular expression
+     * or optional sequence is used, e.g. {@code /api/{id}/items/{itemId}} or {@code /static/{+path}}.
+     * Matches using index arithmetic, without regular expressions, and allocates nothing when the path doesn't
+     * match. Its results are the same as results of the {@link RegexpPathMatcher} created for the same pattern.
+     */
+    static class SegmentPathMatcher implements PathMatcher {
+
+        private final String pattern;
+        // literal parts surrounding parameters, always one more than parameters
+        private final String[] literals;
+        // parameter names, null for a nameless parameter
+        private final String[] names;
+        // the last parameter can be greedy ({+var})
+        private final boolean greedyTail;
+
+        private SegmentPathMatcher(String pattern, String[] literals, String[] names, boolean greedyTail) {
+            this.pattern = pattern;
+            this.literals = literals;
+            this.names = names;
+            this.greedyTail = greedyTail;
+        }
+
+        /**
+         * Creates new instance if the provided pattern is supported by this matcher.
+         *
+         * @param pattern a valid path pattern
+         * @return new instance or {@code null} if pattern must be matched as a regular expression
+         */
+        static SegmentPathMatcher create(CharSequence pattern) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            boolean greedyTail = false;
+            int length = pattern.length();
+            int index = 0;
+            while (index < length) {
+                char ch = pattern.charAt(index++);
+                switch (ch) {
+                case '\\':
+                    if (index < length) {
+                        literal.append(pattern.charAt(index++));
+                    }
+                    break;
+                case '[':
+                    return null;
+                case '{':
+                    boolean segmentStart = literal.length() == 0
+                            ? names.isEmpty() && index == 1
+                            : literal.charAt(literal.length() - 1) == '/';
+                    int end = indexOf(pattern, '}', index);
+                    if (!segmentStart || greedyTail || end < 0) {
+                        return null;
+                    }
+                    String name = pattern.subSequence(index, end).toString();
+                    index = end + 1;
+                    if (name.indexOf(':') >= 0 || name.indexOf('{') >= 0) {
+                        // custom regexp
+                        return null;
+                    }
+                    if (name.startsWith("+")) {
+                        greedyTail = true;
+                        name = name.substring(1);
+                    }
+                    if (index < length && (greedyTail || pattern.charAt(index) != '/')) {
+                        return null;
+                    }
+                    name = name.trim();
+                    names.add(name.isEmpty() ? null : name);
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    break;
+                default:
+                    literal.append(ch);
+                }
+            }
+            literals.add(literal.toString());
+            return new SegmentPathMatcher(pattern.toString(),
+                                          literals.toArray(new String[0]),
+                                          names.toArray(new String[0]),
+                                          greedyTail);
+        }
+
+        private static int indexOf(CharSequence seq, char ch, int fromIndex) {
+            for (int i = fromIndex; i < seq.length(); i++) {
+                if (seq.charAt(i) == ch) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Result match(CharSequence path) {
+            String p = path.toString();
+            if (matchEnd(p, null) == p.length()) {
+                Map<String, String> params = new HashMap<>(names.length);
+                matchEnd(p, params);
+                return new PositiveResult(params);
+            } else {
+                return NOT_MATCHED_RESULT;
+            }
+        }
+
+        @Override
+        public PrefixResult prefixMatch(CharSequence path) {
+            String p = path.toString();
+            int end = matchEnd(p, null);
+            if (end < 0) {
+                return NOT_MATCHED_RESULT;
+            }
+            String rightPart;
+            if (end == p.length()) {
+                rightPart = "/";
+            } else if (p.charAt(end) == '/' && end + 1 < p.length() && noLineTerminator(p, end + 1, p.length())) {
+                rightPart = p.substring(end);
+            } else {
+                return NOT_MATCHED_RESULT;
+            }
+            Map<String, String> params = new HashMap<>(names.length);
+            matchEnd(p, params);
+            return new PositiveResult(params, rightPart);
+        }
+
+        /**
+         * Matches the pattern against the beginning of the path.
+         *
+         * @param path   a path
+         * @param params map to put resolved parameters into, or {@code null} to not resolve parameters
+         * @return index of the first not matched character or {@code -1} if the path doesn't match
+         */
+        private int matchEnd(String path, Map<String, String> params) {
+            int index = 0;
+            for (int i = 0; i < names.length; i++) {
+                String literal = literals[i];
+                if (!path.startsWith(literal, index)) {
+                    return -1;
+                }
+                index += literal.length();
+                int end;
+                if (greedyTail && i == names.length - 1) {
+                    end = path.length();
+                    if (!noLineTerminator(path, index, end)) {
+                        return -1;
+                    }
+                } else {
+                    end = path.indexOf('/', index);
+                    if (end < 0) {
+                        end = path.length();
+                    }
+                }
+                if (end == index) {
+                    return -1;
+                }
+                if (params != null && names[i] != null) {
+                    params.put(names[i], path.substring(index, end));
+                }
+                index = end;
+            }
+            String literal = literals[names.length];
+            if (!path.startsWith(literal, index)) {
+                return -1;
+            }
+            return index + literal.length();
+        }
+
+        // the '.' regexp construct doesn't match line terminators
+        private static boolean noLineTerminator(String path, int from, int to) {
+            for (int i = from; i < to; i++) {
+                switch (path.charAt(i)) {
+                case '\n':
+                case '\r':
+                case '\u0085':
+                case '\u2028':
+                case '\u2029':
+                    return false;
+                default:
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "SegmentPathMatcher{"
+                    + "pattern='" + pattern + '\''
+                    + '}';
+        }
+    }
+
     /**
      * Regular expression based matcher.
      */
@@ -349,17 +594,20 @@ final class PathPattern {
         private final Map<String, String> paramToGroupName;
         private final Pattern pattern;
         private final Pattern leftPattern;
+        private final String literalPrefix;
 
         /**
          * Creates new instance.
          *
          * @param regexp an regular expression.
          * @param paramToGroupName a map of pattern parameter names and it's regexp matching group names.
+         * @param literalPrefix a literal (not escaped) part of the original pattern preceding the first regexp construct.
          * @throws NullPointerException  In case of {@code null} regexp parameter.
          * @throws PatternSyntaxException If the expression's syntax is invalid.
          */
-        RegexpPathMatcher(String regexp, Map<String, String> paramToGroupName) {
+        RegexpPathMatcher(String regexp, Map<String, String> paramToGroupName, String literalPrefix) {
             Objects.requireNonNull(regexp, "Parameter 'pattern' is null!");
+            this.literalPrefix = literalPrefix == null ? "" : literalPrefix;
             this.pattern = Pattern.compile(regexp);
             this.leftPattern = Pattern.compile(regexp + "(?<" + RIGHT_PART_PARAM_NAME + ">/.+)?");
             if (paramToGroupName == null) {
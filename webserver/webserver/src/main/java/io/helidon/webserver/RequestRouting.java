@@ -122,9 +122,10 @@ class RequestRouting implements Routing {
     /**
      * A deep 'iterator' without a {@code hasNext()} method for a tree of {@link Route routes} based on the routing criteria.
      */
-    private static class Crawler {
+    static class Crawler {
 
-        private final List<Route> routes;
+        private final RouteList routes;
+        private final int[] candidates;
         private final Request.Path contextPath;
         private final String path;
         private final String rawPath;
@@ -142,9 +143,10 @@ class RequestRouting implements Routing {
          * @param rawPath     not decoded URI path to route.
          * @param method      an HTTP method to route.
          */
-        private Crawler(List<Route> routes, Request.Path contextPath, String path, String rawPath,
+        private Crawler(RouteList routes, Request.Path contextPath, String path, String rawPath,
                         Http.RequestMethod method) {
             this.routes = routes;
+            this.candidates = routes.candidates(path, method);
             this.path = path;
             this.rawPath = rawPath;
             this.contextPath = contextPath;
@@ -159,7 +161,7 @@ class RequestRouting implements Routing {
          * @param rawPath not decoded URI path to route.
          * @param method an HTTP method to route.
          */
-        Crawler(List<Route> routes, String path, String rawPath, Http.RequestMethod method) {
+        Crawler(RouteList routes, String path, String rawPath, Http.RequestMethod method) {
             this(routes, null, path, rawPath, method);
         }
 
@@ -170,7 +172,8 @@ class RequestRouting implements Routing {
          * @return a next item.
          */
         public Item next() {
-            while ((subCrawler != null) || (++index < routes.size())) {
+            int size = candidates == null ? routes.size() : candidates.length;
+            while ((subCrawler != null) || (++index < size)) {
                 if (subCrawler != null) {
                     Item result = subCrawler.next();
                     if (result != null) {
@@ -179,7 +182,7 @@ class RequestRouting implements Routing {
                         subCrawler = null;
                     }
                 } else {
-                    Route route = routes.get(index);
+                    Route route = routes.get(candidates == null ? index : candidates[index]);
                     if (route.accepts(method)) {
                         if (route instanceof HandlerRoute) {
                             HandlerRoute hr = (HandlerRoute) route;
@@ -190,8 +193,8 @@ class RequestRouting implements Routing {
                         } else if (route instanceof RouteList) {
                             RouteList rl = (RouteList) route;
                             PathMatcher.PrefixResult prefixMatch = rl.prefixMatch(path);
-                            PathMatcher.PrefixResult rawPrefixMatch = rl.prefixMatch(rawPath);
                             if (prefixMatch.matches()) {
+                                PathMatcher.PrefixResult rawPrefixMatch = rl.prefixMatch(rawPath);
                                 subCrawler = new Crawler(rl,
                                                          Request.Path.create(contextPath, path, rawPath, prefixMatch.params()),
                                                          prefixMatch.remainingPart(),
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,13 +21,16 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
+import io.helidon.common.http.Parameters;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.MessageBodyContext;
 import io.helidon.media.common.MessageBodyFilter;
@@ -55,6 +58,8 @@ abstract class Response implements ServerResponse {
     private final WebServer webServer;
     private final BareResponse bareResponse;
     private final HashResponseHeaders headers;
+    // created on demand, as trailers prevent the content length optimization
+    private final AtomicReference<HashParameters> trailers;
 
     private final CompletionStage<ServerResponse> completionStage;
     private final MessageBodyWriterContext writerContext;
@@ -73,10 +78,16 @@ abstract class Response implements ServerResponse {
         this.webServer = webServer;
         this.bareResponse = bareResponse;
         this.headers = new HashResponseHeaders(bareResponse);
+        this.trailers = new AtomicReference<>();
         this.completionStage = bareResponse.whenCompleted().thenApply(a -> this);
         this.sendLockSupport = new SendLockSupport();
         this.eventListener = new MessageBodyEventListener();
         this.writerContext = MessageBodyWriterContext.create(webServer.writerContext(), eventListener, headers, acceptedTypes);
+        this.writerContext.fileRegionSupported(bareResponse instanceof BareResponseImpl
+                                                       && ((BareResponseImpl) bareResponse).fileRegionSupported());
+        if (bareResponse instanceof BareResponseImpl) {
+            this.writerContext.dataChunkFactory(((BareResponseImpl) bareResponse).dataChunkFactory());
+        }
     }
 
     /**
@@ -88,6 +99,7 @@ abstract class Response implements ServerResponse {
         this.webServer = response.webServer;
         this.bareResponse = response.bareResponse;
         this.headers = response.headers;
+        this.trailers = response.trailers;
         this.completionStage = response.completionStage;
         this.sendLockSupport = response.sendLockSupport;
         this.writerContext = response.writerContext;
@@ -128,6 +140,25 @@ abstract class Response implements ServerResponse {
         return headers;
     }
 
+    @Override
+    public Parameters trailers() {
+        HashParameters result = trailers.get();
+        if (result != null) {
+            return result;
+        }
+        HashParameters created = HashParameters.create();
+        if (!trailers.compareAndSet(null, created)) {
+            return trailers.get();
+        }
+        try {
+            bareResponse.trailers(created::toMap);
+        } catch (UnsupportedOperationException e) {
+            trailers.set(null);
+            throw e;
+        }
+        return created;
+    }
+
     @Override
     public MessageBodyWriterContext writerContext() {
         return writerContext;
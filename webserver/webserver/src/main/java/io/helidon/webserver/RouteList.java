@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,7 @@ class RouteList extends ArrayList<Route> implements Route {
     // must declare transient, as ArrayList is Serializable (and we are not)
     private final transient PathMatcher pathContext;
     private final transient HttpMethodPredicate methodPredicate;
+    private transient RouteTrie trie;
 
     /**
      * Creates new instance.
@@ -103,6 +104,30 @@ class RouteList extends ArrayList<Route> implements Route {
         return pathContext == null ? EMPTY_PATH_MATCHER.prefixMatch(path) : pathContext.prefixMatch(path);
     }
 
+    /**
+     * Builds a {@link RouteTrie} for this and all nested route lists. It must be called before this instance
+     * is published to request processing.
+     */
+    void compile() {
+        for (Route route : this) {
+            if (route instanceof RouteList) {
+                ((RouteList) route).compile();
+            }
+        }
+        this.trie = RouteTrie.create(this);
+    }
+
+    /**
+     * Returns indexes of routes which may accept provided path and method.
+     *
+     * @param path   resolved and normalized URI path
+     * @param method an HTTP method
+     * @return sorted indexes of candidate routes or {@code null} if this list is not {@link #compile() compiled}
+     */
+    int[] candidates(String path, Http.RequestMethod method) {
+        return trie == null ? null : trie.candidates(path, method);
+    }
+
     // ***********************************
     // ***    Make a list immutable.   ***
     // ***********************************
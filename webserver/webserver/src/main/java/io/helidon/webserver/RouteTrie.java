@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.http.Http;
+
+/**
+ * A segment trie of {@link Route routes} of a single {@link RouteList}.
+ * <p>
+ * Each route is placed in the node identified by the literal segments its path pattern starts with. Routes
+ * starting with a parameter, an optional sequence or using a custom {@link PathMatcher} stay in the root node.
+ * Every node keeps the indexes of its own routes together with the routes of all its ancestors in the original
+ * registration order, so a lookup only walks down the trie and returns the deepest node reached. Returned
+ * routes are only <i>candidates</i>, they must still be matched, but routes which cannot accept the path are
+ * never tested.
+ */
+final class RouteTrie {
+
+    private static final Http.Method[] METHODS = Http.Method.values();
+
+    private final Node root;
+
+    private RouteTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Creates a trie for provided routes.
+     *
+     * @param routes routes to index
+     * @return a new trie
+     */
+    static RouteTrie create(List<Route> routes) {
+        Node root = new Node();
+        for (int i = 0; i < routes.size(); i++) {
+            Node node = root;
+            for (String segment : PathPattern.literalSegments(pathMatcher(routes.get(i)))) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.own.add(i);
+        }
+        root.compile(routes, new int[0]);
+        return new RouteTrie(root);
+    }
+
+    /**
+     * Returns indexes of routes which may accept provided path and method, in registration order.
+     *
+     * @param path   resolved and normalized URI path
+     * @param method an HTTP method
+     * @return sorted indexes of candidate routes
+     */
+    int[] candidates(String path, Http.RequestMethod method) {
+        Node node = root;
+        int length = path.length();
+        if (length > 0 && path.charAt(0) == '/') {
+            int start = 1;
+            while (start < length && !node.children.isEmpty()) {
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                Node child = node.children.get(path.substring(start, end));
+                if (child == null) {
+                    break;
+                }
+                node = child;
+                start = end + 1;
+            }
+        }
+        if (method instanceof Http.Method) {
+            return node.byMethod[((Http.Method) method).ordinal()];
+        }
+        return node.candidates;
+    }
+
+    private static PathMatcher pathMatcher(Route route) {
+        if (route instanceof HandlerRoute) {
+            return ((HandlerRoute) route).pathMatcher();
+        } else if (route instanceof RouteList) {
+            return ((RouteList) route).pathContext();
+        }
+        return null;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Integer> own = new ArrayList<>();
+        private int[] candidates;
+        private int[][] byMethod;
+
+        private void compile(List<Route> routes, int[] inherited) {
+            candidates = Arrays.copyOf(inherited, inherited.length + own.size());
+            for (int i = 0; i < own.size(); i++) {
+                candidates[inherited.length + i] = own.get(i);
+            }
+            Arrays.sort(candidates);
+
+            byMethod = new int[METHODS.length][];
+            for (Http.Method method : METHODS) {
+                byMethod[method.ordinal()] = Arrays.stream(candidates)
+                        .filter(index -> routes.get(index).accepts(method))
+                        .toArray();
+            }
+
+            for (Node child : children.values()) {
+                child.compile(routes, candidates);
+            }
+        }
+    }
+}
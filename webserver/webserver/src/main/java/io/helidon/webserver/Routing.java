@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -437,6 +437,7 @@ public interface Routing {
         private final RouteListRoutingRules delegate = new RouteListRoutingRules();
         private final List<RequestRouting.ErrorHandlerRecord<?>> errorHandlerRecords = new ArrayList<>();
         private boolean tracingRegistered;
+        private boolean compiled;
 
         /**
          * Creates new instance.
@@ -687,6 +688,22 @@ public interface Routing {
 
         // --------------- BUILD API
 
+        /**
+         * Whether to compile registered routes into a path segment trie when the routing is built.
+         * <p>
+         * Compiled routing evaluates only routes whose leading literal path segments and HTTP method can accept
+         * the request, instead of testing every registered route. Routes are still evaluated in the order
+         * of registration, so the routing semantics are the same. Useful for routings with many routes.
+         * Defaults to {@code false}.
+         *
+         * @param compiled {@code true} to compile the routing
+         * @return an updated builder
+         */
+        public Builder compiled(boolean compiled) {
+            this.compiled = compiled;
+            return this;
+        }
+
         /**
          * Builds a new routing instance.
          *
@@ -697,6 +714,9 @@ public interface Routing {
                 register(WebTracingConfig.create());
             }
             RouteListRoutingRules.Aggregation aggregate = delegate.aggregate();
+            if (compiled) {
+                aggregate.routeList().compile();
+            }
             return new RequestRouting(aggregate.routeList(), errorHandlerRecords, aggregate.newWebServerCallbacks());
         }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,8 +25,10 @@ import java.util.function.Predicate;
 
 import io.helidon.common.http.AlreadyCompletedException;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
+import io.helidon.common.http.Parameters;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.MessageBodyFilter;
 import io.helidon.media.common.MessageBodyFilters;
@@ -93,6 +95,20 @@ public interface ServerResponse extends MessageBodyFilters, MessageBodyWriters {
      */
     ResponseHeaders headers();
 
+    /**
+     * Returns the trailing headers sent once the content of the response is completed.
+     * They can be modified until the content is completed.
+     * <p>
+     * Trailers are sent in the last chunk of a chunked HTTP/1.1 response, or in the trailing
+     * headers frame of an HTTP/2 stream. Responses with trailers are never sent with a content length.
+     * Implementations that do not support trailers return new empty parameters on each call, which are never sent.
+     *
+     * @return the response trailers
+     */
+    default Parameters trailers() {
+        return HashParameters.create();
+    }
+
     /**
      * Get the writer context used to marshall data.
      *
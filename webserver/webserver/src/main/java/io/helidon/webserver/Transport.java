@@ -35,6 +35,11 @@ import java.util.Optional;
  * <p>It is not expected or required that implementations of this
  * interface be safe for concurrent use by multiple threads.</p>
  *
+ * <p>If no {@link Transport} is {@linkplain WebServer.Builder#transport(Transport)
+ * configured}, the first {@link Transport} implementation found by
+ * {@link java.util.ServiceLoader} that is {@linkplain #isAvailableFor(WebServer)
+ * available} is used.</p>
+ *
  * @see #isAvailableFor(WebServer)
  *
  * @see #createTransportArtifact(Class, String, ServerConfiguration)
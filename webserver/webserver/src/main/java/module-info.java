@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,4 +41,6 @@ module io.helidon.webserver {
     requires io.netty.codec.http2;
 
     exports io.helidon.webserver;
+
+    uses io.helidon.webserver.Transport;
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.DataChunkOutputStream;
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientResponse;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link ByteBufDataChunkFactory} and the response content written into pooled direct buffers.
+ */
+public class ByteBufDataChunkFactoryTest {
+
+    private static final String FACTORY_HEADER = "X-Data-Chunk-Factory";
+
+    private static String content;
+    private static WebServer server;
+    private static WebClient client;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        content = "pooled \u010d\n".repeat(10_000);
+
+        server = WebServer.builder(routing())
+                .port(0)
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        client = WebClient.builder()
+                .baseUri("http://localhost:" + server.port())
+                .build();
+    }
+
+    @AfterAll
+    public static void close() throws Exception {
+        if (server != null) {
+            server.shutdown()
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Routing routing() {
+        return Routing.builder()
+                .get("/string", (req, res) -> {
+                    res.headers().add(FACTORY_HEADER, res.writerContext().dataChunkFactory().getClass().getSimpleName());
+                    res.send(content);
+                })
+                .get("/stream", (req, res) -> res.send(Multi.just(content.split("\n")).map(line -> line + "\n"), String.class))
+                .get("/filtered", (req, res) -> {
+                    res.registerFilter(publisher -> publisher);
+                    res.send(content);
+                })
+                .build();
+    }
+
+    @Test
+    public void testOutputStream() {
+        ByteBufDataChunkFactory factory = ByteBufDataChunkFactory.create(PooledByteBufAllocator.DEFAULT);
+        DataChunkOutputStream out = factory.outputStream(0);
+        out.write("ab\u010d", StandardCharsets.UTF_8);
+        out.write('c');
+        out.write(new byte[] {'d', 'e', 'f'}, 1, 2);
+
+        DataChunk chunk = out.toDataChunk(true);
+        assertThat(chunk.isBackedBy(ByteBuf.class), is(true));
+        assertThat(chunk.isReadOnly(), is(true));
+        assertThat(chunk.flush(), is(true));
+        ByteBuf byteBuf = chunk.data(ByteBuf.class)[0];
+        assertThat(byteBuf.isDirect(), is(true));
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("ab\u010dcef"));
+
+        chunk.release();
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+
+    @Test
+    public void testReleasedOnce() {
+        DataChunkOutputStream out = ByteBufDataChunkFactory.create(PooledByteBufAllocator.DEFAULT).outputStream(16);
+        out.write("abc", StandardCharsets.US_ASCII);
+        DataChunk chunk = out.toDataChunk(false);
+        ByteBuf byteBuf = chunk.data(ByteBuf.class)[0];
+        byteBuf.retain();
+
+        chunk.release();
+        chunk.release();
+        assertThat(byteBuf.refCnt(), is(1));
+        byteBuf.release();
+    }
+
+    @Test
+    public void testString() throws Exception {
+        WebClientResponse response = get("/string");
+        assertThat(response.headers().first(FACTORY_HEADER).orElse(null), is(ByteBufDataChunkFactory.class.getSimpleName()));
+        assertContent(response);
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        assertContent(get("/stream"));
+    }
+
+    @Test
+    public void testFiltered() throws Exception {
+        assertContent(get("/filtered"));
+    }
+
+    private static WebClientResponse get(String path) throws Exception {
+        return client.get()
+                .path(path)
+                .request()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static void assertContent(WebClientResponse response) throws Exception {
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.content().as(String.class).toCompletableFuture().get(10, TimeUnit.SECONDS), is(content));
+    }
+}
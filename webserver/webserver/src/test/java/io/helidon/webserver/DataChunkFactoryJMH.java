@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.media.common.CharBuffer;
+import io.helidon.media.common.DataChunkFactory;
+import io.helidon.media.common.DataChunkOutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Heap allocation of encoding response content into heap chunks, copied to direct memory by the transport,
+ * or directly into pooled direct buffers. Run with the GC profiler, see {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Thread)
+public class DataChunkFactoryJMH {
+
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+    @Param({"1024", "65536", "1048576"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean pooled;
+
+    private DataChunkFactory factory;
+    private String content;
+    private char[] chars;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(DataChunkFactoryJMH.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        factory = pooled ? ByteBufDataChunkFactory.create(ALLOCATOR) : DataChunkFactory.heap();
+        content = "{\"title\":\"Book\"}".repeat(size / 16);
+        chars = content.toCharArray();
+    }
+
+    @Benchmark
+    public void writeCharBuffer(Blackhole bh) {
+        CharBuffer buffer = new CharBuffer();
+        buffer.write(chars, 0, chars.length);
+        write(buffer.encode(StandardCharsets.UTF_8, factory, false), bh);
+    }
+
+    @Benchmark
+    public void writeCharSequence(Blackhole bh) {
+        DataChunkOutputStream out = factory.outputStream(content.length());
+        out.write(content, StandardCharsets.UTF_8);
+        write(out.toDataChunk(false), bh);
+    }
+
+    // what the transport does with the chunk, heap buffers are copied into direct memory before written
+    private static void write(DataChunk chunk, Blackhole bh) {
+        ByteBuf byteBuf;
+        if (chunk.isBackedBy(ByteBuf.class)) {
+            byteBuf = chunk.data(ByteBuf.class)[0].retain();
+        } else {
+            ByteBuf heap = Unpooled.wrappedBuffer(chunk.data());
+            byteBuf = ALLOCATOR.directBuffer(heap.readableBytes());
+            byteBuf.writeBytes(heap);
+            heap.release();
+        }
+        bh.consume(byteBuf.readableBytes());
+        byteBuf.release();
+        chunk.release();
+    }
+}
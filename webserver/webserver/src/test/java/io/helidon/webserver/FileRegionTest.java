@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.configurable.Resource;
+import io.helidon.common.http.Http;
+import io.helidon.common.pki.KeyConfig;
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientResponse;
+import io.helidon.webclient.WebClientTls;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests sending of {@link Path} and {@link java.io.File} content as file regions.
+ */
+public class FileRegionTest {
+
+    private static final String FILE_REGION_HEADER = "X-File-Region";
+
+    private static Path file;
+    private static String content;
+    private static WebServer plainServer;
+    private static WebServer tlsServer;
+    private static WebClient client;
+
+    @BeforeAll
+    public static void startServers() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            sb.append("line ").append(i).append('\n');
+        }
+        content = sb.toString();
+        file = Files.createTempFile("file-region", ".txt");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+        plainServer = WebServer.builder(routing())
+                .port(0)
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        tlsServer = WebServer.builder(routing())
+                .port(0)
+                .tls(WebServerTls.builder()
+                             .privateKey(KeyConfig.pemBuilder()
+                                                 .key(Resource.create("ssl/key.pkcs8.pem"))
+                                                 .certChain(Resource.create("ssl/certificate.pem"))
+                                                 .build()))
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        client = WebClient.builder()
+                .tls(WebClientTls.builder()
+                             .trustAll(true)
+                             .build())
+                .build();
+    }
+
+    @AfterAll
+    public static void close() throws Exception {
+        if (plainServer != null) {
+            plainServer.shutdown()
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+        }
+        if (tlsServer != null) {
+            tlsServer.shutdown()
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+        }
+        Files.deleteIfExists(file);
+    }
+
+    private static Routing routing() {
+        return Routing.builder()
+                .get("/path", (req, res) -> {
+                    res.headers().add(FILE_REGION_HEADER, String.valueOf(res.writerContext().fileRegionSupported()));
+                    res.send(file);
+                })
+                .get("/file", (req, res) -> res.send(file.toFile()))
+                .get("/filtered", (req, res) -> {
+                    res.registerFilter(publisher -> publisher);
+                    res.send(file);
+                })
+                .build();
+    }
+
+    @Test
+    public void testPlainPath() throws Exception {
+        WebClientResponse response = get("http://localhost:" + plainServer.port() + "/path");
+        assertThat(response.headers().first(FILE_REGION_HEADER).orElse(null), is("true"));
+        assertContent(response);
+    }
+
+    @Test
+    public void testPlainFile() throws Exception {
+        assertContent(get("http://localhost:" + plainServer.port() + "/file"));
+    }
+
+    @Test
+    public void testPlainFiltered() throws Exception {
+        assertContent(get("http://localhost:" + plainServer.port() + "/filtered"));
+    }
+
+    @Test
+    public void testTlsPath() throws Exception {
+        WebClientResponse response = get("https://localhost:" + tlsServer.port() + "/path");
+        assertThat(response.headers().first(FILE_REGION_HEADER).orElse(null), is("true"));
+        assertContent(response);
+    }
+
+    @Test
+    public void testTlsFile() throws Exception {
+        assertContent(get("https://localhost:" + tlsServer.port() + "/file"));
+    }
+
+    private static WebClientResponse get(String uri) throws Exception {
+        return client.get()
+                .uri(uri)
+                .request()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static void assertContent(WebClientResponse response) throws Exception {
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().contentLength().orElse(-1L), is((long) content.length()));
+        assertThat(response.content().as(String.class).toCompletableFuture().get(10, TimeUnit.SECONDS), is(content));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.Http;
+import io.helidon.webclient.WebClient;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares request latency of the {@link WebClient} over HTTP/1.1 and HTTP/2 with many concurrent callers.
+ * The number of open connections at the end of the measurement is reported as the {@code connections} counter.
+ */
+@State(Scope.Benchmark)
+public class Http2ClientJMH {
+
+    @Param({"HTTP/1.1", "HTTP/2.0"})
+    String version;
+
+    private WebServer webServer;
+    private WebClient client;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(Http2ClientJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        webServer = WebServer.builder()
+                .experimental(ExperimentalConfiguration.builder()
+                                      .http2(Http2Configuration.builder().enable(true).build())
+                                      .build())
+                .routing(Routing.builder()
+                                 .get("/hello", (req, res) -> res.send("Hello"))
+                                 .build())
+                .build()
+                .start()
+                .await(10, TimeUnit.SECONDS);
+        client = WebClient.builder()
+                .baseUri("http://localhost:" + webServer.port())
+                .httpVersion(Http.Version.create(version))
+                .http2PriorKnowledge(true)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        webServer.shutdown().await(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void request(Blackhole bh, Connections connections) {
+        bh.consume(client.get()
+                           .path("/hello")
+                           .request(String.class)
+                           .await(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Open connections of the client. Aux counters are summed over threads and iterations, so the value is recorded
+     * by the first thread only, at the end of the last measurement iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Connections {
+        public int connections;
+        private int iterations;
+
+        @TearDown(Level.Iteration)
+        public void record(ThreadParams thread, IterationParams iteration) {
+            if (thread.getThreadIndex() == 0
+                    && iteration.getType() == IterationType.MEASUREMENT
+                    && ++iterations == iteration.getCount()) {
+                connections = WebClient.connectionPoolStats().connections();
+            }
+        }
+    }
+}
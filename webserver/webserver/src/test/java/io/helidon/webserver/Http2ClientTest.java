@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.configurable.Resource;
+import io.helidon.common.http.Http;
+import io.helidon.common.pki.KeyConfig;
+import io.helidon.common.reactive.Single;
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientException;
+import io.helidon.webclient.WebClientResponse;
+import io.helidon.webclient.WebClientTls;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests HTTP/2 support of the {@link WebClient} against an HTTP/2 enabled server.
+ */
+public class Http2ClientTest {
+
+    private static final CompletableFuture<Void> FIRST_STARTED = new CompletableFuture<>();
+    private static final CompletableFuture<Void> SECOND_SENT = new CompletableFuture<>();
+
+    private static WebServer webServer;
+    private static WebServer tlsWebServer;
+    private static NioEventLoopGroup stubGroup;
+    private static Channel stubServer;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        webServer = WebServer.builder()
+                .experimental(ExperimentalConfiguration.builder()
+                                      .http2(Http2Configuration.builder().enable(true).build())
+                                      .build())
+                .routing(Routing.builder()
+                                 .get("/hello", (req, res) -> res.send("Hello"))
+                                 .post("/echo", (req, res) -> req.content()
+                                         .as(String.class)
+                                         .thenAccept(res::send))
+                                 .build())
+                .build()
+                .start()
+                .await(10, TimeUnit.SECONDS);
+        tlsWebServer = WebServer.builder()
+                .experimental(ExperimentalConfiguration.builder()
+                                      .http2(Http2Configuration.builder().enable(true).build())
+                                      .build())
+                .tls(WebServerTls.builder()
+                             .privateKey(KeyConfig.pemBuilder()
+                                                 .key(Resource.create("ssl/key.pkcs8.pem"))
+                                                 .certChain(Resource.create("ssl/certificate.pem"))
+                                                 .build()))
+                .routing(Routing.builder()
+                                 .get("/hello", (req, res) -> res.send("Hello"))
+                                 .build())
+                .build()
+                .start()
+                .await(10, TimeUnit.SECONDS);
+        // the web server reads the next stream of a connection once the current response is sent,
+        // responses are interleaved by a plain Netty HTTP/2 server
+        stubGroup = new NioEventLoopGroup(1);
+        stubServer = new ServerBootstrap()
+                .group(stubGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline()
+                                .addLast(Http2FrameCodecBuilder.forServer().build())
+                                .addLast(new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+                                    @Override
+                                    protected void initChannel(Http2StreamChannel stream) {
+                                        stream.pipeline().addLast(new InterleavingHandler());
+                                    }
+                                }));
+                    }
+                })
+                .bind(new InetSocketAddress("localhost", 0))
+                .sync()
+                .channel();
+    }
+
+    @AfterAll
+    public static void close() throws Exception {
+        if (webServer != null) {
+            webServer.shutdown().await(10, TimeUnit.SECONDS);
+        }
+        if (tlsWebServer != null) {
+            tlsWebServer.shutdown().await(10, TimeUnit.SECONDS);
+        }
+        if (stubServer != null) {
+            stubServer.close().sync();
+        }
+        if (stubGroup != null) {
+            stubGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        }
+    }
+
+    @Test
+    public void testUpgrade() {
+        testClient(client(false));
+    }
+
+    @Test
+    public void testPriorKnowledge() {
+        testClient(client(true));
+    }
+
+    @Test
+    public void testPost() {
+        String response = client(true).post()
+                .path("/echo")
+                .submit("Hello HTTP/2", String.class)
+                .await(10, TimeUnit.SECONDS);
+        assertThat(response, is("Hello HTTP/2"));
+    }
+
+    @Test
+    public void testMultiplexing() {
+        WebClient client = client(true);
+        // open the connection first, so that all requests share it
+        testClient(client);
+        int connections = WebClient.connectionPoolStats().connections();
+
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(client.get()
+                                  .path("/hello")
+                                  .request(String.class)
+                                  .toCompletableFuture());
+        }
+        for (CompletableFuture<String> response : responses) {
+            assertThat(Single.create(response).await(10, TimeUnit.SECONDS), is("Hello"));
+        }
+        assertThat(WebClient.connectionPoolStats().connections(), lessThanOrEqualTo(connections));
+    }
+
+    @Test
+    public void testInterleavedResponses() {
+        WebClient client = WebClient.builder()
+                .baseUri("http://localhost:" + ((InetSocketAddress) stubServer.localAddress()).getPort())
+                .httpVersion(Http.Version.V2_0)
+                .http2PriorKnowledge(true)
+                .build();
+
+        CompletableFuture<String> first = client.get()
+                .path("/first")
+                .request(String.class)
+                .toCompletableFuture();
+        Single.create(FIRST_STARTED, true).await(10, TimeUnit.SECONDS);
+        // sent on the same connection, while the response of the first stream is not complete
+        String second = client.get()
+                .path("/second")
+                .request(String.class)
+                .await(10, TimeUnit.SECONDS);
+
+        assertThat(second, is("second"));
+        assertThat(Single.create(first).await(10, TimeUnit.SECONDS), is("first-1first-2"));
+    }
+
+    @Test
+    public void testWarmUp() {
+        WebClient client = client(false);
+        client.warmUp(1).await(10, TimeUnit.SECONDS);
+        testClient(client);
+    }
+
+    @Test
+    public void testAlpn() {
+        testClient(WebClient.builder()
+                           .baseUri("https://localhost:" + tlsWebServer.port())
+                           .httpVersion(Http.Version.V2_0)
+                           .tls(WebClientTls.builder()
+                                        .trustAll(true)
+                                        .build())
+                           .build());
+    }
+
+    @Test
+    public void testAlpnTimeout() throws Exception {
+        // connections are accepted by the backlog of the socket, but nothing is ever read or written
+        try (ServerSocket silent = new ServerSocket(0)) {
+            WebClient client = WebClient.builder()
+                    .baseUri("https://localhost:" + silent.getLocalPort())
+                    .httpVersion(Http.Version.V2_0)
+                    .readTimeout(1, TimeUnit.SECONDS)
+                    .tls(WebClientTls.builder()
+                                 .trustAll(true)
+                                 .build())
+                    .build();
+
+            CompletionException e = assertThrows(CompletionException.class, () -> client.get()
+                    .path("/hello")
+                    .request(String.class)
+                    .await(5, TimeUnit.SECONDS));
+            assertThat(e.getCause(), instanceOf(WebClientException.class));
+        }
+    }
+
+    @Test
+    public void testUpgradeTimeout() throws Exception {
+        try (ServerSocket silent = new ServerSocket(0)) {
+            WebClient client = WebClient.builder()
+                    .baseUri("http://localhost:" + silent.getLocalPort())
+                    .httpVersion(Http.Version.V2_0)
+                    .readTimeout(1, TimeUnit.SECONDS)
+                    .build();
+
+            // the upgrade times out, and so does the request sent using HTTP/1.1 instead
+            CompletionException e = assertThrows(CompletionException.class, () -> client.get()
+                    .path("/hello")
+                    .request(String.class)
+                    .await(5, TimeUnit.SECONDS));
+            assertThat(e.getCause(), instanceOf(ReadTimeoutException.class));
+        }
+    }
+
+    @Test
+    public void testHttp1() {
+        WebClientResponse response = WebClient.builder()
+                .baseUri("http://localhost:" + webServer.port())
+                .build()
+                .get()
+                .path("/hello")
+                .request()
+                .await(10, TimeUnit.SECONDS);
+        try {
+            assertThat(response.version(), is(Http.Version.V1_1));
+        } finally {
+            response.close();
+        }
+    }
+
+    private static void testClient(WebClient client) {
+        WebClientResponse response = client.get()
+                .path("/hello")
+                .request()
+                .await(10, TimeUnit.SECONDS);
+        try {
+            assertThat(response.status(), is(Http.Status.OK_200));
+            assertThat(response.version(), is(Http.Version.V2_0));
+            assertThat(response.content().as(String.class).await(10, TimeUnit.SECONDS), is("Hello"));
+        } finally {
+            response.close();
+        }
+    }
+
+    private static Http2DataFrame data(String content, boolean endStream) {
+        return new DefaultHttp2DataFrame(Unpooled.copiedBuffer(content, StandardCharsets.UTF_8), endStream);
+    }
+
+    private static WebClient client(boolean priorKnowledge) {
+        return WebClient.builder()
+                .baseUri("http://localhost:" + webServer.port())
+                .httpVersion(Http.Version.V2_0)
+                .http2PriorKnowledge(priorKnowledge)
+                .build();
+    }
+
+    /**
+     * Sends the response of {@code /first} in two parts, the second one once the response of {@code /second}
+     * is sent.
+     */
+    private static final class InterleavingHandler extends SimpleChannelInboundHandler<Http2HeadersFrame> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Http2HeadersFrame frame) {
+            ctx.write(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().status("200")));
+            if ("/first".contentEquals(frame.headers().path())) {
+                ctx.writeAndFlush(data("first-1", false))
+                        .addListener(future -> FIRST_STARTED.complete(null));
+                SECOND_SENT.thenRun(() -> ctx.executor().execute(() -> ctx.writeAndFlush(data("first-2", true))));
+            } else {
+                ctx.writeAndFlush(data("second", true))
+                        .addListener(future -> SECOND_SENT.complete(null));
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.webserver;
 
 import java.net.InetAddress;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow.Subscription;
@@ -34,6 +35,10 @@ import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.reactive.Multi;
 
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
 import org.hamcrest.collection.IsCollectionWithSize;
 import org.hamcrest.core.Is;
 import org.junit.jupiter.api.Test;
@@ -207,6 +212,16 @@ public class NettyWebServerTest {
         assertStartFailure(webServer);
     }
 
+    @Test
+    public void testAcceptorBindFailure() {
+        // additional acceptors cannot bind to the same port without SO_REUSEPORT
+        WebServer webServer = WebServer.builder()
+                .transport(new AcceptorsTransport(2))
+                .build();
+
+        assertStartFailure(webServer);
+    }
+
     private void assertStartFailure(WebServer webServer) {
 
         try {
@@ -268,4 +283,37 @@ public class NettyWebServerTest {
 
         assertThat(webServer.configuration().namedSocket("matched"), present());
     }
+
+    /**
+     * NIO transport with more acceptors per socket.
+     */
+    private static final class AcceptorsTransport implements Transport {
+        private final int acceptors;
+
+        private AcceptorsTransport(int acceptors) {
+            this.acceptors = acceptors;
+        }
+
+        @Override
+        public boolean isAvailableFor(WebServer webserver) {
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Optional<T> createTransportArtifact(Class<T> artifactType, String artifactName, ServerConfiguration config) {
+            switch (artifactName) {
+            case "bossGroup":
+            case "workerGroup":
+                return Optional.of((T) new NioEventLoopGroup(1));
+            case "serverChannelFactory":
+                ChannelFactory<? extends ServerChannel> channelFactory = NioServerSocketChannel::new;
+                return Optional.of((T) channelFactory);
+            case "acceptorCount":
+                return Optional.of((T) Integer.valueOf(acceptors));
+            default:
+                return Optional.empty();
+            }
+        }
+    }
 }
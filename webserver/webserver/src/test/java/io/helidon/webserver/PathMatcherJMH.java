@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares {@link PathPattern.SegmentPathMatcher} with {@link PathPattern.RegexpPathMatcher}.
+ */
+@State(Scope.Thread)
+public class PathMatcherJMH {
+
+    private static final String PATTERN = "/api/{id}/items/{itemId}";
+    private static final String MATCHING_PATH = "/api/42/items/4242";
+    private static final String NOT_MATCHING_PATH = "/api/42/orders/4242";
+
+    @Param({"segment", "regexp"})
+    String matcherType;
+
+    private PathMatcher matcher;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(PathMatcherJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        // an empty optional sequence forces the regular expression matcher with the same semantics
+        matcher = PathPattern.compile("segment".equals(matcherType) ? PATTERN : PATTERN + "[]");
+    }
+
+    @Benchmark
+    public void match(Blackhole bh) {
+        bh.consume(matcher.match(MATCHING_PATH));
+    }
+
+    @Benchmark
+    public void miss(Blackhole bh) {
+        bh.consume(matcher.match(NOT_MATCHING_PATH));
+    }
+
+    @Benchmark
+    public void prefixMatch(Blackhole bh) {
+        bh.consume(matcher.prefixMatch(MATCHING_PATH));
+    }
+}
@@ -27,7 +27,9 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
@@ -108,6 +110,24 @@ public class ResponseTest {
 
     }
 
+    @Test
+    public void trailers() {
+        Response response = new ResponseImpl(new NoOpBareResponse(null));
+        assertThrows(UnsupportedOperationException.class, response::trailers);
+
+        AtomicReference<Supplier<Map<String, List<String>>>> registered = new AtomicReference<>();
+        response = new ResponseImpl(new NoOpBareResponse(null) {
+            @Override
+            public void trailers(Supplier<Map<String, List<String>>> trailers) {
+                registered.set(trailers);
+            }
+        });
+        response.trailers().add("grpc-status", "0");
+
+        assertThat(response.trailers().first("grpc-status"), is(Optional.of("0")));
+        assertThat(registered.get().get(), is(Map.of("grpc-status", List.of("0"))));
+    }
+
     private static void assertHeaders(ResponseHeaders headers, String headerName, String... expectedValues) {
         final List<String> actualValues = headers.all(headerName);
         assertThat("Value count doesn't match for header: " + headerName, actualValues, hasSize(expectedValues.length));
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.List;
+
+import io.helidon.common.http.Http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link RouteTrie}.
+ */
+public class RouteTrieTest {
+
+    private static final Handler VOID_HANDLER = (req, res) -> {};
+
+    @Test
+    public void testLiteralSegments() {
+        assertThat(PathPattern.literalSegments(PathPattern.compile("/")), is(List.of()));
+        assertThat(PathPattern.literalSegments(PathPattern.compile("/a/b")), is(List.of("a", "b")));
+        assertThat(PathPattern.literalSegments(PathPattern.compile("/a/{id}/c")), is(List.of("a")));
+        assertThat(PathPattern.literalSegments(PathPattern.compile("/a/b{id}")), is(List.of("a")));
+        assertThat(PathPattern.literalSegments(PathPattern.compile("/a[/b]")), is(List.of()));
+        assertThat(PathPattern.literalSegments(PathPattern.compile("/{+}")), is(List.of()));
+        assertThat(PathPattern.literalSegments(PathPattern.compile("a/b")), is(List.of()));
+        assertThat(PathPattern.literalSegments(null), is(List.of()));
+    }
+
+    @Test
+    public void testCandidates() {
+        RouteTrie trie = RouteTrie.create(List.of(
+                route("/a/b", Http.Method.GET),                 // 0
+                route("/{id}", Http.Method.GET),                // 1
+                route("/a/{id}", Http.Method.POST),             // 2
+                route(null, Http.Method.GET),                   // 3
+                route("/c", Http.Method.GET),                   // 4
+                route("/a/b/{id}", Http.Method.GET)));          // 5
+
+        assertCandidates(trie.candidates("/a/b", Http.Method.GET), 0, 1, 3, 5);
+        assertCandidates(trie.candidates("/a/b/x", Http.Method.GET), 0, 1, 3, 5);
+        assertCandidates(trie.candidates("/a/x", Http.Method.GET), 1, 3);
+        assertCandidates(trie.candidates("/a/x", Http.Method.POST), 2);
+        assertCandidates(trie.candidates("/c", Http.Method.GET), 1, 3, 4);
+        assertCandidates(trie.candidates("/", Http.Method.GET), 1, 3);
+        assertCandidates(trie.candidates("/a/b", Http.RequestMethod.create("FOO")), 0, 1, 2, 3, 5);
+    }
+
+    @Test
+    public void testNestedRouteList() {
+        RouteList nested = new RouteList(PathPattern.compile("/a"), List.of(route("/b", Http.Method.GET)));
+        RouteList routes = new RouteList(List.of(route("/x", Http.Method.GET), nested));
+        routes.compile();
+
+        assertCandidates(routes.candidates("/a/b", Http.Method.GET), 1);
+        assertCandidates(routes.candidates("/x", Http.Method.GET), 0);
+        assertCandidates(nested.candidates("/b", Http.Method.GET), 0);
+        assertCandidates(nested.candidates("/c", Http.Method.GET));
+    }
+
+    private static HandlerRoute route(String pattern, Http.Method method) {
+        return new HandlerRoute(null, pattern == null ? null : PathPattern.compile(pattern), VOID_HANDLER, method);
+    }
+
+    private static void assertCandidates(int[] candidates, int... expected) {
+        assertThat(candidates, is(expected));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import io.helidon.common.http.Http;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares route lookup of the linear {@link RequestRouting.Crawler} with the compiled {@link RouteTrie}.
+ */
+@State(Scope.Thread)
+public class RoutingJMH {
+
+    private static final Handler VOID_HANDLER = (req, res) -> {};
+
+    @Param({"10", "100", "1000"})
+    int routeCount;
+
+    @Param({"false", "true"})
+    boolean compiled;
+
+    private RouteList routes;
+    private String firstPath;
+    private String lastPath;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(RoutingJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        RouteListRoutingRules rules = new RouteListRoutingRules();
+        for (int i = 0; i < routeCount; i++) {
+            rules.get("/api/resource" + i + "/{id}", VOID_HANDLER);
+            rules.post("/api/resource" + i + "/{id}/items/{itemId}", VOID_HANDLER);
+        }
+        routes = rules.aggregate().routeList();
+        if (compiled) {
+            routes.compile();
+        }
+        firstPath = "/api/resource0/42";
+        lastPath = "/api/resource" + (routeCount - 1) + "/42";
+    }
+
+    @Benchmark
+    public void firstRoute(Blackhole bh) {
+        bh.consume(new RequestRouting.Crawler(routes, firstPath, firstPath, Http.Method.GET).next());
+    }
+
+    @Benchmark
+    public void lastRoute(Blackhole bh) {
+        bh.consume(new RequestRouting.Crawler(routes, lastPath, lastPath, Http.Method.GET).next());
+    }
+
+    @Benchmark
+    public void notFound(Blackhole bh) {
+        bh.consume(new RequestRouting.Crawler(routes, "/api/unknown/42", "/api/unknown/42", Http.Method.GET).next());
+    }
+}
@@ -122,6 +122,48 @@ public class RoutingTest {
         assertThat(checker.handlersInvoked(), is("createUser"));
     }
 
+    @Test
+    public void compiledRouting() {
+        final RoutingChecker checker = new RoutingChecker();
+        Routing routing = Routing.builder()
+                .compiled(true)
+                .any((req, resp) -> {
+                    checker.handlerInvoked("anyPath");
+                    req.next();
+                })
+                .get("/{name}/user", (req, resp) -> {
+                    checker.handlerInvoked("nameUser");
+                })
+                .any("/admin", (req, resp) -> {
+                    checker.handlerInvoked("anyAdmin");
+                    req.next();
+                })
+                .get("/admin/user/{name}", (req, resp) -> {
+                    checker.handlerInvoked("getAdminUser");
+                    req.next();
+                })
+                .register("/admin", (rules) -> {
+                    rules.get("/user/{name}", (req, res) -> {
+                        checker.handlerInvoked("subGetAdminUser");
+                    });
+                })
+                .get("/other", (req, resp) -> {
+                    checker.handlerInvoked("other");
+                })
+                .build();
+
+        routing.route(mockRequest("/admin/user/john", Http.Method.GET), mockResponse());
+        assertThat(checker.handlersInvoked(), is("anyPath,getAdminUser,subGetAdminUser"));
+
+        checker.reset();
+        routing.route(mockRequest("/admin/user", Http.Method.GET), mockResponse());
+        assertThat(checker.handlersInvoked(), is("anyPath,nameUser"));
+
+        checker.reset();
+        routing.route(mockRequest("/other", Http.Method.GET), mockResponse());
+        assertThat(checker.handlersInvoked(), is("anyPath,other"));
+    }
+
     static BareRequest mockRequest(String path, Http.Method method) {
         BareRequest bareRequestMock = mock(BareRequest.class);
         doReturn(URI.create("http://0.0.0.0:1234/" + path)).when(bareRequestMock).uri();
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link PathPattern.SegmentPathMatcher}.
+ */
+public class SegmentPathMatcherTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "/api/{id}",
+            "/api/{id}/items/{itemId}",
+            "/api/{}/items",
+            "/{name}",
+            "/{a}/{b}",
+            "/static/{+path}",
+            "/static/{+}",
+            "/fo\\o/{id}",
+            "{id}");
+
+    private static final List<String> PATHS = List.of(
+            "/",
+            "/api",
+            "/api/1",
+            "/api/1/items",
+            "/api/1/items/2",
+            "/api/1/items/2/3",
+            "/api/1/itemsx/2",
+            "/api/1/ite",
+            "/static/a",
+            "/static/a/b/c",
+            "/static/a\nb",
+            "/foo/bar",
+            "/foo/bar/baz",
+            "/api/a\nb/items",
+            "/api/1/items/a\nb");
+
+    @Test
+    public void testSupportedPatterns() {
+        for (String pattern : PATTERNS) {
+            assertThat(pattern, PathPattern.compile(pattern), instanceOf(PathPattern.SegmentPathMatcher.class));
+        }
+    }
+
+    @Test
+    public void testUnsupportedPatterns() {
+        assertThat(PathPattern.compile("/api/{id:\\d+}"), instanceOf(PathPattern.RegexpPathMatcher.class));
+        assertThat(PathPattern.compile("/api/a{id}"), instanceOf(PathPattern.RegexpPathMatcher.class));
+        assertThat(PathPattern.compile("/api/{id}a"), instanceOf(PathPattern.RegexpPathMatcher.class));
+        assertThat(PathPattern.compile("/api/{a}{b}"), instanceOf(PathPattern.RegexpPathMatcher.class));
+        assertThat(PathPattern.compile("/api/{+path}/x"), instanceOf(PathPattern.RegexpPathMatcher.class));
+        assertThat(PathPattern.compile("/api[/{id}]"), instanceOf(PathPattern.RegexpPathMatcher.class));
+    }
+
+    @Test
+    public void testParams() {
+        PathMatcher.Result result = PathPattern.compile("/api/{id}/items/{itemId}").match("/api/1/items/2");
+        assertThat(result.matches(), is(true));
+        assertThat(result.params(), is(Map.of("id", "1", "itemId", "2")));
+
+        PathMatcher.PrefixResult prefixResult = PathPattern.compile("/api/{id}").prefixMatch("/api/1/items/2");
+        assertThat(prefixResult.matches(), is(true));
+        assertThat(prefixResult.params(), is(Map.of("id", "1")));
+        assertThat(prefixResult.remainingPart(), is("/items/2"));
+
+        result = PathPattern.compile("/static/{+path}").match("/static/a/b");
+        assertThat(result.matches(), is(true));
+        assertThat(result.param("path"), is("a/b"));
+    }
+
+    @Test
+    public void testSameResultsAsRegexp() {
+        for (String pattern : PATTERNS) {
+            PathMatcher segment = PathPattern.compile(pattern);
+            // an empty optional sequence forces the regular expression matcher with the same semantics
+            PathMatcher regexp = PathPattern.compile(pattern + "[]");
+            assertThat(regexp, instanceOf(PathPattern.RegexpPathMatcher.class));
+            for (String path : PATHS) {
+                String message = pattern + " -> " + path;
+                assertThat(message, segment.match(path), is(regexp.match(path)));
+                assertThat(message, segment.prefixMatch(path), is(regexp.prefixMatch(path)));
+            }
+        }
+    }
+}
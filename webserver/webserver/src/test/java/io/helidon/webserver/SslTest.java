@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import io.helidon.common.configurable.Resource;
 import io.helidon.common.pki.KeyConfig;
 import io.helidon.webclient.WebClientTls;
 import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientConnectionPoolStats;
 import io.helidon.webclient.WebClientRequestBuilder;
 
 import org.junit.jupiter.api.AfterAll;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 /**
  * The test of SSL Netty layer.
@@ -109,6 +111,23 @@ public class SslTest {
                 .get();
     }
 
+    @Test
+    public void warmUp() {
+        String uri = "https://localhost:" + webServer.port();
+        client.warmUp(uri, 2).await(10, TimeUnit.SECONDS);
+        WebClientConnectionPoolStats stats = WebClient.connectionPoolStats();
+        int connections = stats.connections();
+        assertThat(stats.idleConnections(), is(greaterThanOrEqualTo(2)));
+
+        String response = client.get()
+                .uri(uri)
+                .request(String.class)
+                .await(10, TimeUnit.SECONDS);
+        assertThat(response, is("It works!"));
+        // the request reused a connection opened by the warm up
+        assertThat(stats.connections(), is(connections));
+    }
+
     @BeforeAll
     public static void startServer() throws Exception {
         // start the server at a free port